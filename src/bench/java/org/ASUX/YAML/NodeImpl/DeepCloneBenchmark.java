@@ -0,0 +1,91 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package org.ASUX.YAML.NodeImpl;
+
+import org.ASUX.yaml.YAML_Libraries;
+
+import org.yaml.snakeyaml.nodes.Node;
+
+/** <p>Compares {@link NodeTools#deepClone(Node)} with the old text-based {@link NodeTools#deepCloneViaText(Node)} - on any YAML file.</p>
+ *  <p>Usage: <code>java org.ASUX.YAML.NodeImpl.DeepCloneBenchmark file.yaml [iterations]</code></p>
+ *  <p>Each implementation is warmed up first (same # of iterations), then timed.  Use <code>-Dorg.ASUX.YAML.NodeImpl.validateDeepClone=true</code> to validate the clones as well (see {@link NodeTools#DEEPCLONE_VALIDATION_PROPERTY}).</p>
+ */
+public class DeepCloneBenchmark {
+
+    public static final String CLASSNAME = DeepCloneBenchmark.class.getName();
+
+    /** Prevents the JIT from eliminating the clones */
+    private static int sink = 0;
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** @return nanoseconds per clone */
+    private static double time( final Node _doc, final int _iterations, final boolean _viaText ) throws Exception {
+        final long start = System.nanoTime();
+        for ( int ix = 0; ix < _iterations; ix ++ ) {
+            final Node clone = _viaText ? NodeTools.deepCloneViaText( _doc ) : NodeTools.deepClone( _doc );
+            sink += System.identityHashCode( clone ) & 1;
+        }
+        return ( System.nanoTime() - start ) / (double) _iterations;
+    }
+
+    public static void main( String[] args ) {
+        if ( args.length < 1 ) {
+            System.err.println( "Usage: java "+ CLASSNAME +" file.yaml [iterations]" );
+            System.exit(1);
+        }
+        try {
+            final int iterations = ( args.length > 1 ) ? Integer.parseInt( args[1] ) : 200;
+            final GenericYAMLScanner scanner = new GenericYAMLScanner( false );
+            scanner.setYAMLLibrary( YAML_Libraries.SNAKEYAML_Library );
+            final Node doc = scanner.load( new java.io.FileReader( args[0] ) );
+
+            // warm up both, before timing either
+            time( doc, iterations, true );
+            time( doc, iterations, false );
+
+            final double viaText = time( doc, iterations, true );
+            final double structural = time( doc, iterations, false );
+            System.out.printf( "deepCloneViaText: %,.0f ns/clone%n", viaText );
+            System.out.printf( "deepClone       : %,.0f ns/clone%n", structural );
+            System.out.printf( "speedup         : %.1fx  (%d iterations each, %s)%n", viaText / structural, iterations, ( sink >= 0 ) ? args[0] : "" );
+        } catch (Exception e) {
+            e.printStackTrace(System.err); // main() for unit testing
+            System.exit(2);
+        }
+    }
+
+}
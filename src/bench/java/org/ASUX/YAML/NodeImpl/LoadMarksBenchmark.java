@@ -0,0 +1,127 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package org.ASUX.YAML.NodeImpl;
+
+import org.ASUX.yaml.YAML_Libraries;
+
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+
+/** <p>Measures the heap retained by a loaded Node-tree - for each of the {@link MarkStrippingParser.Mode}s - on any YAML file.</p>
+ *  <p>Usage: <code>java org.ASUX.YAML.NodeImpl.LoadMarksBenchmark file.yaml</code></p>
+ *  <p>Each mode is loaded into a fresh heap-baseline (after a few System.gc()), and the Node-tree is held on to until the heap is measured again.  So, run this with a -Xmx large enough for a single Node-tree, and NOT with -XX:+UseEpsilonGC.</p>
+ */
+public class LoadMarksBenchmark {
+
+    public static final String CLASSNAME = LoadMarksBenchmark.class.getName();
+
+    /** Keeps the Node-tree reachable, until after the heap is measured */
+    private static Node sink = null;
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** @return bytes in use, after trying hard to collect all garbage */
+    private static long usedHeap() throws InterruptedException {
+        final Runtime rt = Runtime.getRuntime();
+        for ( int ix = 0; ix < 5; ix ++ ) {
+            System.gc();
+            Thread.sleep( 100 );
+        }
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    /** @return the # of Nodes (keys included) in _n.  Aliased Nodes are counted once per reference */
+    private static long countNodes( final Node _n ) {
+        long count = 0;
+        final java.util.ArrayDeque<Node> stack = new java.util.ArrayDeque<>();
+        final java.util.IdentityHashMap<Node,Boolean> visited = new java.util.IdentityHashMap<>();
+        stack.push( _n );
+        while ( ! stack.isEmpty() ) {
+            final Node n = stack.pop();
+            count ++;
+            if ( visited.put( n, Boolean.TRUE ) != null ) continue; // recursive aliases
+            if ( n instanceof MappingNode ) {
+                for ( NodeTuple kv: ((MappingNode) n).getValue() ) {
+                    stack.push( kv.getKeyNode() );
+                    stack.push( kv.getValueNode() );
+                }
+            } else if ( n instanceof SequenceNode ) {
+                for ( Node item: ((SequenceNode) n).getValue() )
+                    stack.push( item );
+            }
+        }
+        return count;
+    }
+
+    /** @return bytes retained by the Node-tree */
+    private static long measure( final String _file, final MarkStrippingParser.Mode _mode ) throws Exception {
+        final GenericYAMLScanner scanner = new GenericYAMLScanner( false );
+        scanner.setYAMLLibrary( YAML_Libraries.SNAKEYAML_Library );
+        scanner.setLoadMarks( _mode );
+        final long before = usedHeap();
+        try ( java.io.Reader rdr = new java.io.BufferedReader( new java.io.FileReader( _file ) ) ) {
+            sink = scanner.load( rdr );
+        }
+        final long after = usedHeap();
+        return after - before;
+    }
+
+    public static void main( String[] args ) {
+        if ( args.length < 1 ) {
+            System.err.println( "Usage: java "+ CLASSNAME +" file.yaml" );
+            System.exit(1);
+        }
+        try {
+            measure( args[0], MarkStrippingParser.Mode.FULL ); // warm up (class-loading, JIT) before measuring anything
+            sink = null;
+            long full = 0;
+            for ( MarkStrippingParser.Mode mode: MarkStrippingParser.Mode.values() ) {
+                final long bytes = measure( args[0], mode );
+                final long nodes = countNodes( sink );
+                sink = null;
+                if ( mode == MarkStrippingParser.Mode.FULL ) full = bytes;
+                System.out.printf( "%-5s: %,14d bytes retained, %,10d nodes, %6.1f bytes/node, saves %6.1f bytes/node%n",
+                                    mode, bytes, nodes, bytes / (double) nodes, ( full - bytes ) / (double) nodes );
+            }
+        } catch (Exception e) {
+            e.printStackTrace(System.err); // main() for unit testing
+            System.exit(2);
+        }
+    }
+
+}
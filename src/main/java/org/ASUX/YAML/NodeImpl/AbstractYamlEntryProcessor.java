@@ -36,13 +36,15 @@ import org.ASUX.yaml.YAMLPath;
 
 import java.util.LinkedList;
 
-import java.util.regex.*;
-
 // https://yaml.org/spec/1.2/spec.html#id2762107
 import org.yaml.snakeyaml.nodes.*;
 // import org.yaml.snakeyaml.nodes.Tag;
 import org.yaml.snakeyaml.DumperOptions;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
 import static org.junit.Assert.*;
 
 /** <p>This abstract class was written to re-use code to query/traverse a YAML file.</p>
@@ -68,12 +70,65 @@ public abstract class AbstractYamlEntryProcessor {
      */
     public final boolean showStats;
 
+    /** <p>All the verbose/debug-output of the traversal goes thru this.  When the user did NOT ask for --verbose, NO debug-strings are built at all.</p>
+     */
+    protected final Tracer trace;
+
     /** All the subclasses use this to help create NEW ScalarNodes, SequenceNodes and MappingNodes, as SnakeYaml creates immutable Nodes.. so, any changes to YAML requires creating new Nodes
     */
     public final DumperOptions dumperoptions;
 
     private YAMLPath yp = null;
 
+    /** The YAML-Path-elements of 'this.yp' pre-compiled ONCE per search.  See {@link #getCompiledYAMLPath(YAMLPath)} */
+    private CompiledYAMLPath compiledYP = null;
+
+    /** All the positions within 'this.compiledYP' computed ONCE per search.  See {@link #getYAMLPathCursor(YAMLPath)} */
+    private YAMLPathCursor startCursor = null;
+
+    /** <p>The default for {@link #setParallelTraversal(boolean)}.  MappingNodes and SequenceNodes with more children than this, are searched in parallel.</p> */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1024;
+
+    /** If &lt;= 0, the traversal is single-threaded (the default).  See {@link #setParallelTraversal(boolean, int)} */
+    private int parallelThreshold = 0;
+
+    private ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+
+    /** If &gt; 0, the traversal stops as soon as this many end2end matches have happened.  See {@link #setMaxMatches(int)} */
+    private int maxMatches = 0;
+
+    /** # of end2end matches so far (that the sub-class accepted, by returning true).  Reset by {@link #searchYamlForPattern(Node, String, String)} */
+    private int matchCount = 0;
+
+    /** <p>Name of the Java system-property, to fall back to the (older) recursive traversal by default.  Example: <code>-Dorg.ASUX.YAML.NodeImpl.recursiveTraversal=true</code></p>
+     *  <p>See {@link #setIterativeTraversal(boolean)}</p>
+     */
+    public static final String RECURSIVE_TRAVERSAL_PROPERTY = "org.ASUX.YAML.NodeImpl.recursiveTraversal";
+
+    /** See {@link #setIterativeTraversal(boolean)} */
+    private boolean iterativeTraversal = ! Boolean.getBoolean( RECURSIVE_TRAVERSAL_PROPERTY );
+
+    /** The frames of {@link #iterativeSearch}, re-used across searches. */
+    private final java.util.ArrayList<Frame> frameStack = new java.util.ArrayList<>();
+    private boolean frameStackInUse = false;
+
+    /** Not null ONLY during a single-threaded search, for sub-classes that allow it.  See {@link #getCallbackSubscriptions()} */
+    private SubtreeMemo memo = null;
+
+    /** Not null ONLY during a search (single-threaded or parallel).  See {@link MappingNodeIndex} */
+    private MappingNodeIndex.Scope mappingNodeIndexes = null;
+
+    /** <p>Name of the Java system-property, to change the default budget for expanding YAML-aliases again.  Example: <code>-Dorg.ASUX.YAML.NodeImpl.aliasExpansionBudget=500</code></p>
+     *  <p>See {@link #setAliasExpansionBudget(int)}</p>
+     */
+    public static final String ALIAS_EXPANSION_BUDGET_PROPERTY = "org.ASUX.YAML.NodeImpl.aliasExpansionBudget";
+
+    /** See {@link #setAliasExpansionBudget(int)} */
+    private int aliasExpansionBudget = Integer.getInteger( ALIAS_EXPANSION_BUDGET_PROPERTY, AliasTracker.DEFAULT_BUDGET );
+
+    /** Not null ONLY during a single-threaded search.  See {@link #setAliasExpansionBudget(int)}.  For parallel traversal, each ForkJoin-task has its own (See {@link MatchBuffer#getAliasTracker()}) */
+    private AliasTracker aliases = null;
+
     /** The only Constructor.
      *  @param _verbose Whether you want deluge of debug-output onto System.out
      *  @param _showStats Whether you want a final summary onto console / System.out
@@ -83,6 +138,7 @@ public abstract class AbstractYamlEntryProcessor {
         this.verbose = _verbose;
         this.showStats = _showStats || _verbose;
         this.dumperoptions = _d;
+        this.trace = Tracer.get( _verbose );
     }
 
     /**
@@ -92,22 +148,165 @@ public abstract class AbstractYamlEntryProcessor {
 
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
 
+    /** <p>Only those sub-classes that do NOT alter the YAML while traversing (like READ, LIST and TABLE commands) should override this to return true.</p>
+     *  <p>In addition, such sub-classes must NOT rely on the return-values of onPartialMatch() and onEnd2EndMatch() to influence the traversal.  In parallel mode, all callbacks are invoked AFTER the traversal (in document order, on the invoking thread) - and are assumed to have returned true.</p>
+     *  @return false by default
+     */
+    protected boolean supportsParallelTraversal() {
+        return false;
+    }
+
+    /** <p>Sub-classes that alter the YAML in place (like DELETE, INSERT and REPLACE commands) should override this to return true.</p>
+     *  <p>If so, {@link #searchYamlForPattern(Node, String, String)} first invokes {@link CopyOnWrite#writable(Node)} on its input.  That is, if any part of the input is shared (for example, with the output of a READ command, or with something saved into memory), a private copy is searched and altered instead.  Sub-classes must then hand out the Node passed to {@link #atEndOfInput(Node, YAMLPath)} as their output - and NOT the Node passed to searchYamlForPattern().</p>
+     *  @return false by default
+     */
+    protected boolean altersYAML() {
+        return false;
+    }
+
+    /** <p>Same as <code>setParallelTraversal( _enable, DEFAULT_PARALLEL_THRESHOLD )</code></p>
+     *  @param _enable true to search large MappingNodes and SequenceNodes in parallel
+     *  @throws UnsupportedOperationException if _enable is true, but {@link #supportsParallelTraversal()} returns false
+     */
+    public void setParallelTraversal( final boolean _enable ) {
+        this.setParallelTraversal( _enable, DEFAULT_PARALLEL_THRESHOLD );
+    }
+
+    /** <p>Whether {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)} should split large MappingNodes and SequenceNodes into java.util.concurrent.ForkJoinPool tasks.</p>
+     *  <p>Each task buffers the callbacks (onPartialMatch(), onEnd2EndMatch(), etc..) it would have invoked.  The buffers are merged in document order.  So, the output (for example {@link ReadYamlEntry#getOutput()}) is identical to that of the single-threaded traversal.</p>
+     *  @param _enable true to search large MappingNodes and SequenceNodes in parallel
+     *  @param _threshold MappingNodes and SequenceNodes with more children than this, are split into ForkJoin-tasks (each with no more than _threshold children)
+     *  @throws UnsupportedOperationException if _enable is true, but {@link #supportsParallelTraversal()} returns false
+     */
+    public void setParallelTraversal( final boolean _enable, final int _threshold ) {
+        if ( _enable && ! this.supportsParallelTraversal() )
+            throw new UnsupportedOperationException( CLASSNAME +": setParallelTraversal(): "+ this.getClass().getName() +" does NOT support parallel traversal (it may alter the YAML, while traversing)." );
+        this.parallelThreshold = _enable ? Math.max( 2, _threshold ) : 0;
+    }
+
+    /** @param _pool NotNull.  By default, ForkJoinPool.commonPool() is used. */
+    public void setForkJoinPool( final ForkJoinPool _pool ) {
+        assertTrue( _pool != null );
+        this.forkJoinPool = _pool;
+    }
+
+    /** @return true if {@link #setParallelTraversal(boolean, int)} was invoked to enable parallel traversal */
+    public boolean isParallelTraversal() {
+        return this.parallelThreshold > 0;
+    }
+
+    /** <p>Whether the single-threaded traversal uses an explicit (re-used) stack of frames - instead of Java-recursion, one call per level of the YAML.  The sequence of callbacks is identical either way.</p>
+     *  <p>The iterative traversal is the default, unless the Java system-property {@link #RECURSIVE_TRAVERSAL_PROPERTY} is set to true.  Parallel traversal (see {@link #setParallelTraversal(boolean, int)}) is always recursive, within each ForkJoin-task.</p>
+     *  @param _iterative false to fall back to the recursive traversal
+     */
+    public void setIterativeTraversal( final boolean _iterative ) {
+        this.iterativeTraversal = _iterative;
+    }
+
+    /** @return true (the default) if the single-threaded traversal is iterative.  See {@link #setIterativeTraversal(boolean)} */
+    public boolean isIterativeTraversal() {
+        return this.iterativeTraversal;
+    }
+
+    /** <p>SnakeYAML resolves every <code>*alias</code> to the very same Node as the anchor.  So, the single-threaded traversal keeps track (by identity) of the anchored Nodes it has searched - at each position within the YAML-Path.</p>
+     *  <p>A recursive YAML-alias (a Node that contains an alias to itself) is reported on System.err, and is NOT searched again (it would never end).</p>
+     *  <p>A YAML-alias that must be searched again (that is, NOT replayed from {@link SubtreeMemo} - see {@link #getCallbackSubscriptions()}) WITHIN the repeat-search of another alias, counts against this budget (a flat re-use of an alias, however often, does NOT).  Once the budget is used up, the search fails with a {@link AliasTracker.AliasBudgetExceededException} - instead of going on for ever, for YAML with lots of nested aliases.</p>
+     *  <p>The default is {@link AliasTracker#DEFAULT_BUDGET}, unless the Java system-property {@link #ALIAS_EXPANSION_BUDGET_PROPERTY} is set.  Parallel traversal (see {@link #setParallelTraversal(boolean, int)}) keeps track within each ForkJoin-task (see {@link AliasTracker#forkPath()}), and all the tasks share the budget.</p>
+     *  @param _budget max # of times that (within a single search) YAML-aliases nested within other aliases can be searched again.  Integer.MAX_VALUE for NO limit.
+     */
+    public void setAliasExpansionBudget( final int _budget ) {
+        this.aliasExpansionBudget = _budget;
+    }
+
+    /** @return See {@link #setAliasExpansionBudget(int)} */
+    public int getAliasExpansionBudget() {
+        return this.aliasExpansionBudget;
+    }
+
+    /** <p>Stop the traversal as soon as _max end2end matches have happened (example: 1, if all you need is to check whether something exists).  The rest of the YAML is NOT visited.</p>
+     *  <p>Only end2end matches that the sub-class accepts (by returning true from onEnd2EndMatch() or onEnd2EndMatchNewIndex()) are counted.  Once the limit is reached, NO more callbacks are invoked.</p>
+     *  <p>Meant for the READ, LIST and TABLE commands.  If a limit is set, the traversal is always single-threaded (see {@link #setParallelTraversal(boolean, int)}) - so that the matches are the FIRST ones in document order.</p>
+     *  @param _max 0 (the default) for NO limit.  Otherwise, the max # of end2end matches.
+     */
+    public void setMaxMatches( final int _max ) {
+        assertTrue( _max >= 0 );
+        this.maxMatches = _max;
+    }
+
+    /** @return 0 if there's NO limit.  See {@link #setMaxMatches(int)} */
+    public int getMaxMatches() {
+        return this.maxMatches;
+    }
+
+    /** @return true if {@link #setMaxMatches(int)} was invoked, and that many end2end matches have happened */
+    boolean isMatchLimitReached() {
+        return this.maxMatches > 0 && this.matchCount >= this.maxMatches;
+    }
+
+    /** Keeps count of end2end matches (for {@link #setMaxMatches(int)})
+     *  @param _accepted the return-value of onEnd2EndMatch() or onEnd2EndMatchNewIndex()
+     *  @return _accepted as-is
+     */
+    boolean countMatch( final boolean _accepted ) {
+        if ( _accepted ) this.matchCount ++;
+        return _accepted;
+    }
+
+    /** See {@link #getCallbackSubscriptions()}: the sub-class needs {@link #onPartialMatch(Node, YAMLPath, String, Node, Breadcrumbs)} */
+    public static final int CALLBACK_PARTIAL_MATCH = 0x1;
+
+    /** See {@link #getCallbackSubscriptions()}: the sub-class needs {@link #onMatchFail(YAMLPath, Node, Node, Object, Breadcrumbs)} */
+    public static final int CALLBACK_MATCH_FAIL = 0x2;
+
+    /** See {@link #getCallbackSubscriptions()}: the sub-class needs ONLY onEnd2EndMatch() and onEnd2EndMatchNewIndex() - which are always invoked */
+    public static final int CALLBACKS_NONE = 0;
+
+    /** See {@link #getCallbackSubscriptions()} */
+    public static final int CALLBACKS_ALL = CALLBACK_PARTIAL_MATCH | CALLBACK_MATCH_FAIL;
+
+    /** What {@link #getCallbackSubscriptions()} returned, at the start of the current search */
+    private int callbackSubscriptions = CALLBACKS_ALL;
+
+    /** <p>Which of the optional callbacks this sub-class consumes: a bit-mask of {@link #CALLBACK_PARTIAL_MATCH} and {@link #CALLBACK_MATCH_FAIL} (or {@link #CALLBACKS_NONE}).  The traversal does NOT invoke (nor buffer, nor compute the arguments for) the others.  onEnd2EndMatch() and onEnd2EndMatchNewIndex() are always invoked.</p>
+     *  <p>onMatchFail() is invoked for EVERY key and Sequence-item that does NOT match.  Sub-classes whose onMatchFail() does nothing, should NOT subscribe to it.  If so, for a literal YAML-Path-element (like 'paths' or '/pet'), a large MappingNode is searched via {@link MappingNodeIndex} - visiting ONLY the tuple with that key - instead of iterating over ALL the tuples.</p>
+     *  <p>Sub-classes whose onPartialMatch() does nothing (other than returning true), should NOT subscribe to it.  If so - and if {@link #supportsParallelTraversal()} and NOT subscribed to onMatchFail() either - a YAML-subtree that is reachable via many YAML-aliases is searched just ONCE per position within the YAML-Path.  For every repeat, its end2end matches are replayed (in the same order).  See {@link SubtreeMemo}</p>
+     *  @return {@link #CALLBACKS_ALL} by default
+     */
+    protected int getCallbackSubscriptions() {
+        return CALLBACKS_ALL;
+    }
+
+    /** @return true if the sub-class subscribed to onMatchFail().  See {@link #getCallbackSubscriptions()} */
+    protected final boolean needsMatchFailCallbacks() {
+        return ( this.getCallbackSubscriptions() & CALLBACK_MATCH_FAIL ) != 0;
+    }
+
+    /** @return true if the sub-class subscribed to onPartialMatch().  See {@link #getCallbackSubscriptions()} */
+    protected final boolean needsPartialMatchCallbacks() {
+        return ( this.getCallbackSubscriptions() & CALLBACK_PARTIAL_MATCH ) != 0;
+    }
+
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+
     /** <p>This function will be called when a partial match of a YAML path-expression happens.</p>
      * <p>Example: if the YAML-Path-regexp is <code>paths.*.*.responses.200.description</code></p>
      * <p>This function will be called for: <code>paths./pet   paths./pet.put   paths./pet.put.responses paths./pet.put.responses.200</code></p>
      * <p>Note: This function will NOT be invoked for a full/end2end match for <code>paths./pet.put.responses.200.description</code></p>
      * <p>That full/end2end match will trigger the other function "onEnd2EndMatch()".</p>
      *
+     * <p>By default, this invokes the (abstract) variant that takes a java.util.LinkedList (see {@link #toList(Breadcrumbs)}) - which is what sub-classes written before {@link Breadcrumbs} implement.  The sub-classes within this library override this variant instead.</p>
      * <p>Do NOT fuck with (a.k.a alter) the contents of any of the parameters passed.   Use the parameters ONLY in Read-only manner.  Got itchy fingers?  Then, Deepclone both the parameters.  YAMLPath class has a static member-function to make it easy to deepClone.</p>
      *  @param _node This contains the org.yaml.snakeyaml.nodes.Node (created by SnakeYAML library) containing the YAML SUB-tree (Note: Sub-tree) of the YAML file, as pointed to by "_yamlPath" and "_keyStr".
      *  @param _yamlPath See the class YAMLPath @see org.ASUX.yaml.YAMLPath
      *  @param _keyStr The value (typically a String) is what matched the _yamlPath.  Use it to get the "rhs" of the YAML element pointed to by _keyStr
      *  @param _parentNode A Placeholder to be used in the future.  Right now it's = null
-     *  @param _end2EndPaths for _yamlPathStr, this java.util.LinkedList shows the "stack of matches".   Example:  ["paths", "/pet", "get", "responses", "200"]
+     *  @param _end2EndPaths for _yamlPathStr, this {@link Breadcrumbs} shows the "stack of matches".   Example:  ["paths", "/pet", "get", "responses", "200"]
      *  @return The concrete sub-class can return false, to STOP any further progress on this partial match
      *  @throws Exception To allow for sub-classes (Example: see @see org.ASUX.yaml.TableYamlQuery - which will throw if data-issues while trying to query YAML for a nice 2-D tabular output)
      */
-    protected abstract boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final LinkedList<String> _end2EndPaths ) throws Exception;
+    protected boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final Breadcrumbs _end2EndPaths ) throws Exception {
+        return this.onPartialMatch( _node, _yamlPath, _keyStr, _parentNode, toList( _end2EndPaths ) );
+    }
 
     //-------------------------------------
     /** <p>This function will be called when a full/end2end match of a YAML path-expression happens.</p>
@@ -117,17 +316,20 @@ public abstract class AbstractYamlEntryProcessor {
      * <p>The words "onFullMatch" * "onCompleteMatch()" are confusing from user/regexp perspective.
      *  Hence the choice of onEnd2EndMath() as the function name.</p>
      *
+     * <p>By default, this invokes the (abstract) variant that takes a java.util.LinkedList (see {@link #toList(Breadcrumbs)}) - which is what sub-classes written before {@link Breadcrumbs} implement.  The sub-classes within this library override this variant instead.</p>
      * <p>Do NOT fuck with (a.k.a alter) the contents of any of the parameters passed.   Use the parameters ONLY in Read-only manner.  Got itchy fingers?  Then, Deepclone both the parameters.  YAMLPath class has a static member-function to make it easy to deepClone.</p>
      *  @param _yamlPath See the class YAMLPath @see org.ASUX.yaml.YAMLPath
      *  @param _key The value (typically a String) is what matched the _yamlPath.  For "YAML Query", the "rhs" of the YAML element pointed to by _key is what you're looking for.  For "YAML Delete" or "YAML Replace", you do Not care about the "rhs".. just use the _key to remove the entry/replace the "rhs".
      *  @param _keyNode This contains the org.yaml.snakeyaml.nodes.Node (created by SnakeYAML library) containing the KEY (LHS) of the "bottom-most" YAML SUB-tree (Note: Sub-tree) of the YAML file.  This map could be potentially represent a simple YAML element like "name: petid"
      *  @param _valNode This contains the org.yaml.snakeyaml.nodes.Node (created by SnakeYAML library) containing the CONTENTs (RHS) of the "bottom-most" YAML SUB-tree (Note: Sub-tree) of the YAML file, as pointed to by "_yamlPath" and "_key".  This map could be potentially represent a simple YAML element like "name: petid"
      *  @param _parentNode A Placeholder to be used in the future.  Right now it's = null
-     *  @param _end2EndPaths for _yamlPathStr, this java.util.LinkedList shows the "stack of matches".   Example:  ["paths", "/pet", "get", "responses", "200"]
+     *  @param _end2EndPaths for _yamlPathStr, this {@link Breadcrumbs} shows the "stack of matches".   Example:  ["paths", "/pet", "get", "responses", "200"]
      *  @return The concrete sub-class can return false, to STOP any further progress on this partial match
      *  @throws Exception To allow for sub-classes (Example: see @see org.ASUX.yaml.TableYamlQuery - which will throw if data-issues while trying to query YAML for a nice 2-D tabular output)
      */
-    protected abstract boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final LinkedList<String> _end2EndPaths ) throws Exception;
+    protected boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final Breadcrumbs _end2EndPaths ) throws Exception {
+        return this.onEnd2EndMatch( _yamlPath, _key, _keyNode, _valNode, _parentNode, toList( _end2EndPaths ) );
+    }
 
     //-------------------------------------
     /** <p>This function will be called when a full/end2end match of a YAML path-expression (that ends in an INDEX) happens.</p>
@@ -136,24 +338,24 @@ public abstract class AbstractYamlEntryProcessor {
      * <p>This method is only useful for 2 specific YAML commands (insert and replace) - that is, specifically the subclasses {@link InsertYamlEntry} and {@link ReplaceYamlEntry}</p>
      * <p>This is a very specialized function, that supports very rare use-cases.</p>
      *
+     * <p>By default, this invokes the (abstract) variant that takes a java.util.LinkedList (see {@link #toList(Breadcrumbs)}) - which is what sub-classes written before {@link Breadcrumbs} implement.  The sub-classes within this library override this variant instead.</p>
      * <p>Do NOT fuck with (a.k.a alter) the contents of any of the parameters passed.   Use the parameters ONLY in Read-only manner.  Got itchy fingers?  Then, Deepclone both the parameters.  YAMLPath class has a static member-function to make it easy to deepClone.</p>
      *  @param _yamlPath See the class YAMLPath @see org.ASUX.yaml.YAMLPath
      *  @param _newIndex the index of a YAML-SequenceNode that the user has provided in YAML-Path, but which is &gt; the # of elements of that YAML-SequenceNode
      *  @param _parentSeqNode Will be a Not-Null reference to a org.yaml.snakeyaml.nodes.SequenceNode instance
-     *  @param _end2EndPaths for _yamlPathStr, this java.util.LinkedList shows the "stack of matches".   Example:  ["paths", "/pet", "get", "responses", "200"]
+     *  @param _end2EndPaths for _yamlPathStr, this {@link Breadcrumbs} shows the "stack of matches".   Example:  ["paths", "/pet", "get", "responses", "200"]
      *  @return The concrete sub-class can return false, to STOP any further progress on this partial match
      *  @throws Exception To allow for sub-classes (Example: see @see org.ASUX.yaml.TableYamlQuery - which will throw if data-issues while trying to query YAML for a nice 2-D tabular output)
      */
-    protected boolean onEnd2EndMatchNewIndex( final YAMLPath _yamlPath, final int _newIndex, final SequenceNode _parentSeqNode, final LinkedList<String> _end2EndPaths ) throws Exception {
-        final String HDR = CLASSNAME +" onEnd2EndMatchNewIndex("+ _yamlPath +","+ _newIndex +",_parentSeqNode,"+ _end2EndPaths +"): ";
-        if ( this.verbose ) System.out.println( HDR +"Hmmm. Sub-class did not override this method.  SequenceNode Index in YAML-Path for Read/List commands?");
-        return false;
+    protected boolean onEnd2EndMatchNewIndex( final YAMLPath _yamlPath, final int _newIndex, final SequenceNode _parentSeqNode, final Breadcrumbs _end2EndPaths ) throws Exception {
+        return this.onEnd2EndMatchNewIndex( _yamlPath, _newIndex, _parentSeqNode, toList( _end2EndPaths ) );
     }
 
     //-------------------------------------
     /** <p>This function will be called whenever the YAML path-expression fails to match.</p>
      * <p>This will be called way too often.  It's only interesting if you want a "negative" match scenario (as in show all rows that do Not match)</p>
      *
+     * <p>By default, this invokes the (abstract) variant that takes a java.util.LinkedList (see {@link #toList(Breadcrumbs)}) - which is what sub-classes written before {@link Breadcrumbs} implement.  The sub-classes within this library override this variant instead.</p>
      * <p>Do NOT fuck with (a.k.a alter) the contents of any of the parameters passed.   Use the parameters ONLY in Read-only manner.  Got itchy fingers?  Then, Deepclone both the parameters.  YAMLPath class has a static member-function to make it easy to deepClone.</p>
      * <p>Note: Unlike the other abstract methods of this Abstract class, this does NOT have a return-value.</p>
      *
@@ -161,11 +363,129 @@ public abstract class AbstractYamlEntryProcessor {
      *  @param _yamlPath See the class YAMLPath @see org.ASUX.yaml.YAMLPath
      *  @param _key The value (typically a String) is what *FAILED* to match the _yamlPath.
      *  @param _parentNode A Placeholder to be used in the future.  Right now it's = null
-     *  @param _end2EndPaths for _yamlPathStr, this java.util.LinkedList shows the "stack of matches".   Example:  ["paths", "/pet", "get", "responses", "200"]
+     *  @param _end2EndPaths for _yamlPathStr, this {@link Breadcrumbs} shows the "stack of matches".   Example:  ["paths", "/pet", "get", "responses", "200"].  Can be null (when NOTHING at all matched beneath _parentNode).
      *  @throws Exception To allow for sub-classes (Example: see @see org.ASUX.yaml.TableYamlQuery - which will throw if data-issues while trying to query YAML for a nice 2-D tabular output)
      */
+    protected void onMatchFail( final YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final Breadcrumbs _end2EndPaths ) throws Exception {
+        this.onMatchFail( _yamlPath, _parentNode, _nodeNoMatch, _key, toList( _end2EndPaths ) );
+    }
+
+    //-------------------------------------
+    /** <p>The original signatures of the 4 callbacks above - with the "stack of matches" as a java.util.LinkedList, instead of a {@link Breadcrumbs}.  These are what every sub-class MUST implement (just as before {@link Breadcrumbs}).</p>
+     *  <p>Sub-classes written against these signatures continue to work as-is: the Breadcrumbs-variants above (by default) invoke these, with a fresh copy via {@link #toList(Breadcrumbs)}.  That copy costs O(depth) per callback.  Hence, the sub-classes within this library ALSO override the Breadcrumbs-variants - and implement these by simply invoking those (via {@link #toBreadcrumbs(LinkedList)}).</p>
+     *  @param _node See {@link #onPartialMatch(Node, YAMLPath, String, Node, Breadcrumbs)}
+     *  @param _yamlPath See {@link #onPartialMatch(Node, YAMLPath, String, Node, Breadcrumbs)}
+     *  @param _keyStr See {@link #onPartialMatch(Node, YAMLPath, String, Node, Breadcrumbs)}
+     *  @param _parentNode See {@link #onPartialMatch(Node, YAMLPath, String, Node, Breadcrumbs)}
+     *  @param _end2EndPaths for _yamlPathStr, this java.util.LinkedList shows the "stack of matches".   Example:  ["paths", "/pet", "get", "responses", "200"]
+     *  @return See {@link #onPartialMatch(Node, YAMLPath, String, Node, Breadcrumbs)}
+     *  @throws Exception See {@link #onPartialMatch(Node, YAMLPath, String, Node, Breadcrumbs)}
+     */
+    protected abstract boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final LinkedList<String> _end2EndPaths ) throws Exception;
+
+    /** See {@link #onEnd2EndMatch(YAMLPath, Object, Node, Node, Node, Breadcrumbs)} and {@link #onPartialMatch(Node, YAMLPath, String, Node, LinkedList)}
+     *  @param _yamlPath See {@link #onEnd2EndMatch(YAMLPath, Object, Node, Node, Node, Breadcrumbs)}
+     *  @param _key See {@link #onEnd2EndMatch(YAMLPath, Object, Node, Node, Node, Breadcrumbs)}
+     *  @param _keyNode See {@link #onEnd2EndMatch(YAMLPath, Object, Node, Node, Node, Breadcrumbs)}
+     *  @param _valNode See {@link #onEnd2EndMatch(YAMLPath, Object, Node, Node, Node, Breadcrumbs)}
+     *  @param _parentNode See {@link #onEnd2EndMatch(YAMLPath, Object, Node, Node, Node, Breadcrumbs)}
+     *  @param _end2EndPaths for _yamlPathStr, this java.util.LinkedList shows the "stack of matches".   Example:  ["paths", "/pet", "get", "responses", "200"]
+     *  @return See {@link #onEnd2EndMatch(YAMLPath, Object, Node, Node, Node, Breadcrumbs)}
+     *  @throws Exception See {@link #onEnd2EndMatch(YAMLPath, Object, Node, Node, Node, Breadcrumbs)}
+     */
+    protected abstract boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final LinkedList<String> _end2EndPaths ) throws Exception;
+
+    /** See {@link #onEnd2EndMatchNewIndex(YAMLPath, int, SequenceNode, Breadcrumbs)} and {@link #onPartialMatch(Node, YAMLPath, String, Node, LinkedList)}
+     *  @param _yamlPath See {@link #onEnd2EndMatchNewIndex(YAMLPath, int, SequenceNode, Breadcrumbs)}
+     *  @param _newIndex See {@link #onEnd2EndMatchNewIndex(YAMLPath, int, SequenceNode, Breadcrumbs)}
+     *  @param _parentSeqNode See {@link #onEnd2EndMatchNewIndex(YAMLPath, int, SequenceNode, Breadcrumbs)}
+     *  @param _end2EndPaths for _yamlPathStr, this java.util.LinkedList shows the "stack of matches".   Example:  ["paths", "/pet", "get", "responses", "200"]
+     *  @return See {@link #onEnd2EndMatchNewIndex(YAMLPath, int, SequenceNode, Breadcrumbs)}
+     *  @throws Exception See {@link #onEnd2EndMatchNewIndex(YAMLPath, int, SequenceNode, Breadcrumbs)}
+     */
+    protected boolean onEnd2EndMatchNewIndex( final YAMLPath _yamlPath, final int _newIndex, final SequenceNode _parentSeqNode, final LinkedList<String> _end2EndPaths ) throws Exception {
+        this.trace.println( () -> CLASSNAME +" onEnd2EndMatchNewIndex("+ _yamlPath +","+ _newIndex +",_parentSeqNode,"+ _end2EndPaths +"): " +"Hmmm. Sub-class did not override this method.  SequenceNode Index in YAML-Path for Read/List commands?");
+        return false;
+    }
+
+    /** See {@link #onMatchFail(YAMLPath, Node, Node, Object, Breadcrumbs)} and {@link #onPartialMatch(Node, YAMLPath, String, Node, LinkedList)}
+     *  @param _yamlPath See {@link #onMatchFail(YAMLPath, Node, Node, Object, Breadcrumbs)}
+     *  @param _parentNode See {@link #onMatchFail(YAMLPath, Node, Node, Object, Breadcrumbs)}
+     *  @param _nodeNoMatch See {@link #onMatchFail(YAMLPath, Node, Node, Object, Breadcrumbs)}
+     *  @param _key See {@link #onMatchFail(YAMLPath, Node, Node, Object, Breadcrumbs)}
+     *  @param _end2EndPaths for _yamlPathStr, this java.util.LinkedList shows the "stack of matches".   Example:  ["paths", "/pet", "get", "responses", "200"].  Can be null (when NOTHING at all matched beneath _parentNode).
+     *  @throws Exception See {@link #onMatchFail(YAMLPath, Node, Node, Object, Breadcrumbs)}
+     */
     protected abstract void onMatchFail( final YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final LinkedList<String> _end2EndPaths ) throws Exception;
 
+    /** @param _end2EndPaths can be null
+     *  @return null if _end2EndPaths is null.  Otherwise, a fresh java.util.LinkedList (See {@link Breadcrumbs#toList()})
+     */
+    protected static LinkedList<String> toList( final Breadcrumbs _end2EndPaths ) {
+        return ( _end2EndPaths == null ) ? null : _end2EndPaths.toList();
+    }
+
+    /** @param _end2EndPaths can be null
+     *  @return null if _end2EndPaths is null.  Otherwise, the equivalent {@link Breadcrumbs} (See {@link Breadcrumbs#of(Iterable)})
+     */
+    protected static Breadcrumbs toBreadcrumbs( final LinkedList<String> _end2EndPaths ) {
+        return ( _end2EndPaths == null ) ? null : Breadcrumbs.of( _end2EndPaths );
+    }
+
+    //-------------------------------------
+    /** <p>{@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)} invokes these 4 variants - that take a {@link YAMLPathCursor} instead of a {@link YAMLPath}.</p>
+     *  <p>By default, they simply invoke the YAMLPath-variants above, passing {@link YAMLPathCursor#asYAMLPath()} (which is NOT a copy).  So, existing sub-classes continue to work as-is.</p>
+     *  <p>Override these, if a sub-class needs the current position within the YAML-Path without any YAMLPath-object.</p>
+     *  @param _node See {@link #onPartialMatch(Node, YAMLPath, String, Node, Breadcrumbs)}
+     *  @param _cursor current position within the YAML-Path.  Immutable.
+     *  @param _keyStr See {@link #onPartialMatch(Node, YAMLPath, String, Node, Breadcrumbs)}
+     *  @param _parentNode See {@link #onPartialMatch(Node, YAMLPath, String, Node, Breadcrumbs)}
+     *  @param _end2EndPaths See {@link #onPartialMatch(Node, YAMLPath, String, Node, Breadcrumbs)}
+     *  @return See {@link #onPartialMatch(Node, YAMLPath, String, Node, Breadcrumbs)}
+     *  @throws Exception See {@link #onPartialMatch(Node, YAMLPath, String, Node, Breadcrumbs)}
+     */
+    protected boolean onPartialMatch( final Node _node, final YAMLPathCursor _cursor, final String _keyStr, final Node _parentNode, final Breadcrumbs _end2EndPaths ) throws Exception {
+        return this.onPartialMatch( _node, _cursor.asYAMLPath(), _keyStr, _parentNode, _end2EndPaths );
+    }
+
+    /** See {@link #onEnd2EndMatch(YAMLPath, Object, Node, Node, Node, Breadcrumbs)} and {@link #onPartialMatch(Node, YAMLPathCursor, String, Node, Breadcrumbs)}
+     *  @param _cursor current position within the YAML-Path.  Immutable.
+     *  @param _key See {@link #onEnd2EndMatch(YAMLPath, Object, Node, Node, Node, Breadcrumbs)}
+     *  @param _keyNode See {@link #onEnd2EndMatch(YAMLPath, Object, Node, Node, Node, Breadcrumbs)}
+     *  @param _valNode See {@link #onEnd2EndMatch(YAMLPath, Object, Node, Node, Node, Breadcrumbs)}
+     *  @param _parentNode See {@link #onEnd2EndMatch(YAMLPath, Object, Node, Node, Node, Breadcrumbs)}
+     *  @param _end2EndPaths See {@link #onEnd2EndMatch(YAMLPath, Object, Node, Node, Node, Breadcrumbs)}
+     *  @return See {@link #onEnd2EndMatch(YAMLPath, Object, Node, Node, Node, Breadcrumbs)}
+     *  @throws Exception See {@link #onEnd2EndMatch(YAMLPath, Object, Node, Node, Node, Breadcrumbs)}
+     */
+    protected boolean onEnd2EndMatch( final YAMLPathCursor _cursor, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final Breadcrumbs _end2EndPaths ) throws Exception {
+        return this.onEnd2EndMatch( _cursor.asYAMLPath(), _key, _keyNode, _valNode, _parentNode, _end2EndPaths );
+    }
+
+    /** See {@link #onEnd2EndMatchNewIndex(YAMLPath, int, SequenceNode, Breadcrumbs)} and {@link #onPartialMatch(Node, YAMLPathCursor, String, Node, Breadcrumbs)}
+     *  @param _cursor current position within the YAML-Path.  Immutable.
+     *  @param _newIndex See {@link #onEnd2EndMatchNewIndex(YAMLPath, int, SequenceNode, Breadcrumbs)}
+     *  @param _parentSeqNode See {@link #onEnd2EndMatchNewIndex(YAMLPath, int, SequenceNode, Breadcrumbs)}
+     *  @param _end2EndPaths See {@link #onEnd2EndMatchNewIndex(YAMLPath, int, SequenceNode, Breadcrumbs)}
+     *  @return See {@link #onEnd2EndMatchNewIndex(YAMLPath, int, SequenceNode, Breadcrumbs)}
+     *  @throws Exception See {@link #onEnd2EndMatchNewIndex(YAMLPath, int, SequenceNode, Breadcrumbs)}
+     */
+    protected boolean onEnd2EndMatchNewIndex( final YAMLPathCursor _cursor, final int _newIndex, final SequenceNode _parentSeqNode, final Breadcrumbs _end2EndPaths ) throws Exception {
+        return this.onEnd2EndMatchNewIndex( _cursor.asYAMLPath(), _newIndex, _parentSeqNode, _end2EndPaths );
+    }
+
+    /** See {@link #onMatchFail(YAMLPath, Node, Node, Object, Breadcrumbs)} and {@link #onPartialMatch(Node, YAMLPathCursor, String, Node, Breadcrumbs)}
+     *  @param _cursor current position within the YAML-Path.  Immutable.
+     *  @param _parentNode See {@link #onMatchFail(YAMLPath, Node, Node, Object, Breadcrumbs)}
+     *  @param _nodeNoMatch See {@link #onMatchFail(YAMLPath, Node, Node, Object, Breadcrumbs)}
+     *  @param _key See {@link #onMatchFail(YAMLPath, Node, Node, Object, Breadcrumbs)}
+     *  @param _end2EndPaths See {@link #onMatchFail(YAMLPath, Node, Node, Object, Breadcrumbs)}
+     *  @throws Exception See {@link #onMatchFail(YAMLPath, Node, Node, Object, Breadcrumbs)}
+     */
+    protected void onMatchFail( final YAMLPathCursor _cursor, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final Breadcrumbs _end2EndPaths ) throws Exception {
+        this.onMatchFail( _cursor.asYAMLPath(), _parentNode, _nodeNoMatch, _key, _end2EndPaths );
+    }
+
     //-------------------------------------
     /** <p>This function will be called when processing has ended.</p>
      *  <p>After this function returns, the AbstractYamlEntryProcessor class is done!</p>
@@ -182,7 +502,7 @@ public abstract class AbstractYamlEntryProcessor {
 
     /** <p>Internal Note: This is <b>NOT NOT NOT NOT NOT</b> ........ a RECURSIVE-FUNCTION.</p>
      *  <p>This is a simple way to invoke the real-recursive function {@link #recursiveSearch}.</p>
-     *  @param _node This contains the org.yaml.snakeyaml.nodes.Node (created by SnakeYAML library) containing the entire Tree representing the YAML file.
+     *  @param _node This contains the org.yaml.snakeyaml.nodes.Node (created by SnakeYAML library) containing the entire Tree representing the YAML file.  If {@link #altersYAML()}, this is NOT altered in place if any part of it is shared (see {@link CopyOnWrite}).
      *  @param _yamlPathStr Example: "<code>paths.*.*.responses.200</code>" - <b>ATTENTION: This is a human readable pattern, NOT a proper RegExp-pattern</b>
      *  @param _delim pass in a value like '.'  '\t'   ','   .. such a character as a string-parameter (being flexible in case delimiters can be more than a single character)
      *  @return true = whether at least one match happened.
@@ -192,41 +512,76 @@ public abstract class AbstractYamlEntryProcessor {
     public boolean searchYamlForPattern( Node _node, String _yamlPathStr, final String _delim)
                 throws YAMLPath.YAMLPathException, Exception
     {
-        this.reset();
-        final LinkedList<String> end2EndPaths = new LinkedList<>();
-        this.yp = new YAMLPath( this.verbose, _yamlPathStr, _delim );
+        final Breadcrumbs end2EndPaths = Breadcrumbs.EMPTY;
+        final YAMLPathCursor startingCursor = this.beginSearch( _yamlPathStr, _delim );
+        final Node node = this.altersYAML() ? CopyOnWrite.writable( _node ) : _node; // copy-on-write.  See altersYAML()
         boolean retval;
-        if ( YAMLPath.ROOTLEVEL.equals( this.yp.getRaw() ) ) {
+        if ( startingCursor == null ) {
             retval = true;
-            if ( this.verbose ) System.out.println( CLASSNAME +": searchYamlForPattern("+ _yamlPathStr +"):  Skipping this.recursiveSearch() as the YAML-Path pattern is ROOT-ELEM" );
         } else {
-            if ( this.verbose ) System.out.println( CLASSNAME +": searchYamlForPattern("+ _yamlPathStr +"):  invoking this.recursiveSearch().. .." );
-            retval = this.recursiveSearch( _node, this.yp, null, end2EndPaths );
+            retval = this.recursiveSearch( node, startingCursor, null, end2EndPaths );
         }
-        atEndOfInput( _node, this.yp );
+        this.endSearch( node );
 //  ???? What should be done if atEndOfInput returns false.. ??? by the sub-classes?
         return retval;
     }
 
-    //==============================================================================
-    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
-    //==============================================================================
+    /** <p>The 1st half of {@link #searchYamlForPattern(Node, String, String)}: reset() this instance and compile the YAML-Path.</p>
+     *  <p>Also used by {@link MultiPatternSearch} - which does a single traversal on behalf of many instances of this class.</p>
+     *  @param _yamlPathStr See {@link #searchYamlForPattern(Node, String, String)}
+     *  @param _delim See {@link #searchYamlForPattern(Node, String, String)}
+     *  @return the starting position within the YAML-Path, or null if the YAML-Path pattern is the ROOT-ELEM (so, nothing to search)
+     *  @throws YAMLPath.YAMLPathException if Pattern for YAML-Path provided is either semantically empty or is NOT java.util.Pattern compatible.
+     */
+    YAMLPathCursor beginSearch( final String _yamlPathStr, final String _delim ) throws YAMLPath.YAMLPathException
+    {
+        this.reset();
+        this.matchCount = 0;
+        this.yp = new YAMLPath( this.verbose, _yamlPathStr, _delim );
+        if ( YAMLPath.ROOTLEVEL.equals( this.yp.getRaw() ) ) {
+            if ( this.verbose ) System.out.println( CLASSNAME +": searchYamlForPattern("+ _yamlPathStr +"):  Skipping this.recursiveSearch() as the YAML-Path pattern is ROOT-ELEM" );
+            return null;
+        } else {
+            if ( this.verbose ) System.out.println( CLASSNAME +": searchYamlForPattern("+ _yamlPathStr +"):  invoking this.recursiveSearch().. .." );
+            this.compiledYP = CompiledYAMLPath.compile( this.yp );
+            return this.getYAMLPathCursor( this.yp );
+        }
+    }
 
-    /**
-     * A convenience function, to cut down on code-size within recursiveSearch() below.. especially avoiding the SuppressWarnings("unchecked")
-     * If null, you'll get an empty NEW LinkedList<String> object.
-     * If Not null, the LinkedList<String> is SHALLOW-cloned, but obviously, the String objects are shared.  Not an issue as String is immutable.
-     * @ param pass in an object of type LinkedList<String>  (null is ok)
+    /** <p>The 2nd half of {@link #searchYamlForPattern(Node, String, String)}: invokes {@link #atEndOfInput(Node, YAMLPath)}.</p>
+     *  @param _node the topmost Node that was searched
+     *  @throws Exception See {@link #atEndOfInput(Node, YAMLPath)}
      */
-    private LinkedList<String> clone( final LinkedList<String> _orig ) {
-        if ( _orig == null ) return new LinkedList<> ();
+    void endSearch( final Node _node ) throws Exception
+    {
+        this.atEndOfInput( _node, this.yp );
+    }
 
-        @SuppressWarnings("unchecked")
-        final LinkedList<String> clone = (LinkedList<String>) _orig.clone();
+    /** <p>For {@link MultiPatternSearch}: the same set-up that {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)} does for a single-threaded traversal.  Must be followed by {@link #endSharedTraversal()}.</p>
+     *  <p>Thereafter, the traversal is driven from outside - one Node at a time - via {@link #enterChild}, {@link #nextChild}, {@link #childDone} and {@link #endNode}.</p>
+     *  @param _indexes NotNull.  The indexes of large MappingNodes - shared by all the instances that take part in the same traversal.
+     */
+    void beginSharedTraversal( final MappingNodeIndex.Scope _indexes )
+    {
+        assertTrue( _indexes != null );
+        this.callbackSubscriptions = this.getCallbackSubscriptions();
+        this.mappingNodeIndexes = _indexes;
+        this.memo = ( this.supportsParallelTraversal() && this.callbackSubscriptions == CALLBACKS_NONE ) ? new SubtreeMemo() : null;
+        this.aliases = new AliasTracker( this.aliasExpansionBudget );
+    }
 
-        return clone;
+    /** See {@link #beginSharedTraversal(MappingNodeIndex.Scope)} */
+    void endSharedTraversal()
+    {
+        this.mappingNodeIndexes = null;
+        this.memo = null;
+        this.aliases = null;
     }
 
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
 
     /**
@@ -237,254 +592,565 @@ public abstract class AbstractYamlEntryProcessor {
         return YAMLPath.deepClone( this.yp );
     }
 
+    /**
+     * <p>The YAML-Path-elements are compiled ONCE (within {@link #searchYamlForPattern(Node, String, String)}) and then re-used at every level of recursion.</p>
+     * <p>Sub-classes (like ReadYamlEntry for --projection) invoke {@link #recursiveSearch} directly with their own YAMLPath.  In that case, it's compiled upon first use.</p>
+     * @param _yamlPath NotNull YAML-Path that is currently being used by recursiveSearch()
+     * @return a NotNull instance, that matches the YAML-Path-elements of _yamlPath
+     */
+    protected CompiledYAMLPath getCompiledYAMLPath( final YAMLPath _yamlPath ) {
+        if ( this.compiledYP == null || ! this.compiledYP.isCompiledFrom( _yamlPath ) )
+            this.compiledYP = CompiledYAMLPath.compile( _yamlPath );
+        return this.compiledYP;
+    }
+
+    /**
+     * <p>Like {@link #getCompiledYAMLPath(YAMLPath)}, the positions within the YAML-Path are computed ONCE and re-used at every level of recursion (and across invocations, for the same YAML-Path).</p>
+     * @param _yamlPath NotNull and valid YAML-Path.  It is NOT altered.
+     * @return a NotNull instance, representing the current position of _yamlPath
+     */
+    protected YAMLPathCursor getYAMLPathCursor( final YAMLPath _yamlPath ) {
+        final CompiledYAMLPath cyp = this.getCompiledYAMLPath( _yamlPath );
+        if ( this.startCursor == null || this.startCursor.compiled != cyp || ! this.startCursor.isStartOf( _yamlPath ) )
+            this.startCursor = YAMLPathCursor.start( _yamlPath, cyp );
+        return this.startCursor;
+    }
+
     //==============================================================================
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
     //==============================================================================
 
-    /** <p>This is a RECURSIVE-FUNCTION.  Make sure to pass in the right parameters.</p>
-     *  <p><b>Don't tell me I did NOT warn you!</b>  Use the {@link #searchYamlForPattern(Node, String, String)} } function instead.</p>
-     *  <p>This function returns true, if the invocation (or it's recursion) did find a match (partial or end2end).<br>
-     *  For now, I'm Not using the return value ANYWHERE.   Either I will - or - will refactor the return as Void.</p>
+    /** Used ONLY within the lambdas passed to this.trace (and for error-messages), so that this header-string is NOT built for every invocation of {@link #recursiveSearch}
+     *  @param _cursor current position within the YAML-Path (can be null)
+     *  @return a Not-Null string to prefix debug-output with
+     */
+    private static String HDR( final YAMLPathCursor _cursor ) {
+        return CLASSNAME +" recursiveSearch("+_cursor+"): ";
+    }
+
+    //==============================================================================
+
+    /** <p>This is a simple way to invoke the real-recursive function {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}, for those (like sub-classes) that have a {@link YAMLPath}.</p>
+     *  <p>The positions of _yamlPath are computed ONCE (see {@link YAMLPathCursor}) and re-used, if invoked repeatedly with an equivalent YAML-Path.</p>
      *  @param _node This contains the org.yaml.snakeyaml.nodes.Node (created by SnakeYAML library) containing the entire Tree representing the YAML file.
-     *  @param _yamlPath This is the {@link YAMLPath} class consstructed using example strings like "<code>paths.*.*.responses.200</code>" - <b>ATTENTION: This string is a human readable pattern, NOT a proper RegExp-pattern</b>
+     *  @param _yamlPath This is the {@link YAMLPath} class consstructed using example strings like "<code>paths.*.*.responses.200</code>" - <b>ATTENTION: This string is a human readable pattern, NOT a proper RegExp-pattern</b>.  It is NOT altered.
      *  @param _parentNode can be null, but is parentNode (useful to identify WHERE the matches-failed or YAML-exceptions occured)
-     *  @param _end2EndPaths for _yamlPathStr, this java.util.LinkedList shows the "stack of matches".   Example:  ["paths", "/pet", "get", "responses", "200"]
+     *  @param _end2EndPaths for _yamlPathStr, this {@link Breadcrumbs} shows the "stack of matches".   Example:  ["paths", "/pet", "get", "responses", "200"]
      *  @return true = whether at least one match happened.
      *  @throws java.util.regex.PatternSyntaxException - this is thrown the innocuous String.match(regexp)
      *  @throws Exception any errors/troubles noted from within the subclasses, especially TableCmdProcessor.java
      */
-    public boolean recursiveSearch( Node _node, final YAMLPath _yamlPath, final Node _parentNode, final LinkedList<String> _end2EndPaths )
+    public boolean recursiveSearch( Node _node, final YAMLPath _yamlPath, final Node _parentNode, final Breadcrumbs _end2EndPaths )
                     throws java.util.regex.PatternSyntaxException, Exception
     {
-        final String HDR = CLASSNAME +" recursiveSearch("+_yamlPath+"): ";
-        if ( this.verbose ) System.out.println( HDR +" @ very top: Nulls? _node: "+(_node==null)+" _yamlPath: "+ (_yamlPath==null) +" _end2EndPaths="+ _end2EndPaths +" " );
-        if ( this.verbose && _yamlPath!=null ) System.out.println( HDR +" @ very top: checks? _yamlPath.isValid: "+ _yamlPath.isValid +" _yamlPath.hasNext(): "+ _yamlPath.hasNext() +" " );
+        this.trace.println( () -> CLASSNAME +" recursiveSearch("+_yamlPath+"): @ very top: Nulls? _node: "+(_node==null)+" _yamlPath: "+ (_yamlPath==null) +" _end2EndPaths="+ _end2EndPaths +" " );
         if ( (_node==null) || (_yamlPath==null) ) return true; // returning TRUE helps with a cleaner recursion logic
         if (  ! _yamlPath.isValid ) return false;
-        if ( ! _yamlPath.hasNext() ) return true; // YAML path has ended.  So, must be a good thing, as we got this far down the YAML-Path
+        return this.recursiveSearch( _node, this.getYAMLPathCursor( _yamlPath ), _parentNode, _end2EndPaths );
+    }
 
-        if ( this.verbose ) System.out.println( HDR +"YAML to be searched = "+ _node +"\n"+ NodeTools.Node2YAMLString( _node ) +" " );
+    /** <p>The original signature of {@link #recursiveSearch(Node, YAMLPath, Node, Breadcrumbs)} - for those that have the "stack of matches" as a java.util.LinkedList.</p>
+     *  @param _node See {@link #recursiveSearch(Node, YAMLPath, Node, Breadcrumbs)}
+     *  @param _yamlPath See {@link #recursiveSearch(Node, YAMLPath, Node, Breadcrumbs)}
+     *  @param _parentNode See {@link #recursiveSearch(Node, YAMLPath, Node, Breadcrumbs)}
+     *  @param _end2EndPaths for _yamlPathStr, this java.util.LinkedList shows the "stack of matches".   Example:  ["paths", "/pet", "get", "responses", "200"].  It is NOT altered.
+     *  @return See {@link #recursiveSearch(Node, YAMLPath, Node, Breadcrumbs)}
+     *  @throws java.util.regex.PatternSyntaxException - this is thrown the innocuous String.match(regexp)
+     *  @throws Exception any errors/troubles noted from within the subclasses, especially TableCmdProcessor.java
+     */
+    public boolean recursiveSearch( Node _node, final YAMLPath _yamlPath, final Node _parentNode, final LinkedList<String> _end2EndPaths )
+                    throws java.util.regex.PatternSyntaxException, Exception
+    {
+        return this.recursiveSearch( _node, _yamlPath, _parentNode, toBreadcrumbs( _end2EndPaths ) );
+    }
 
-        //--------------------------
-        final String yamlPathElemStr = _yamlPath.get(); // current path-element (a substring of full yamlPath)
-        final Pattern yamlPElemPatt = java.util.regex.Pattern.compile( yamlPathElemStr.equals("**") ? ".*" : yamlPathElemStr ); // This should Not throw, per precautions in YAMLPath class
+    //==============================================================================
 
-        boolean aMatchFound = false;
+    /** <p>This function returns true, if the search (or it's recursion) did find a match (partial or end2end).<br>
+     *  <b>Don't tell me I did NOT warn you!</b>  Use the {@link #searchYamlForPattern(Node, String, String)} } function instead.</p>
+     *  <p>By default, the YAML is traversed iteratively - with an explicit stack of {@link Frame}s instead of Java-recursion (see {@link #setIterativeTraversal(boolean)}).  Either way, the sub-class sees the very same sequence of callbacks.</p>
+     *  <p>For now, I'm Not using the return value ANYWHERE.   Either I will - or - will refactor the return as Void.</p>
+     *  @param _node This contains the org.yaml.snakeyaml.nodes.Node (created by SnakeYAML library) containing the entire Tree representing the YAML file.
+     *  @param _cursor the current position within the YAML-Path.  Immutable, so it's passed as-is into recursion (No deepclone needed).
+     *  @param _parentNode can be null, but is parentNode (useful to identify WHERE the matches-failed or YAML-exceptions occured)
+     *  @param _breadcrumbs for _yamlPathStr, this {@link Breadcrumbs} shows the "stack of matches".   Example:  ["paths", "/pet", "get", "responses", "200"]
+     *  @return true = whether at least one match happened.
+     *  @throws java.util.regex.PatternSyntaxException - this is thrown the innocuous String.match(regexp)
+     *  @throws Exception any errors/troubles noted from within the subclasses, especially TableCmdProcessor.java
+     */
+    public boolean recursiveSearch( Node _node, final YAMLPathCursor _cursor, final Node _parentNode, final Breadcrumbs _breadcrumbs )
+                    throws java.util.regex.PatternSyntaxException, Exception
+    {
+        this.callbackSubscriptions = this.getCallbackSubscriptions();
+        // The indexes of large MappingNodes live ONLY as long as this search.  So, NO index can outlive (or go stale after) any alteration of the YAML.
+        final MappingNodeIndex.Scope outerIndexes = this.mappingNodeIndexes;
+        this.mappingNodeIndexes = new MappingNodeIndex.Scope();
+        try {
+            return this.searchWithinScope( _node, _cursor, _parentNode, _breadcrumbs );
+        } finally {
+            this.mappingNodeIndexes = outerIndexes;
+        }
+    }
 
-        // public enum org.yaml.snakeyaml.nodes.NodeId = scalar, sequence, mapping, anchor
-        // final NodeId nid = _node.getNodeId(); // https://bitbucket.org/asomov/snakeyaml/src/default/src/main/java/org/yaml/snakeyaml/nodes/NodeId.java
-        if ( this.verbose ) System.out.println( HDR +"@top, node-id = ["+ _node.getNodeId() + "]" );
+    /** See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)} */
+    private boolean searchWithinScope( Node _node, final YAMLPathCursor _cursor, final Node _parentNode, final Breadcrumbs _breadcrumbs ) throws Exception
+    {
+        if ( ! this.isParallelTraversal() || this.maxMatches > 0 ) { // See setMaxMatches()
+            // In case a sub-class invokes recursiveSearch() from within a callback (on this very same instance), that nested search gets its own memo (and its own AliasTracker).
+            final SubtreeMemo outerMemo = this.memo;
+            final AliasTracker outerAliases = this.aliases;
+            this.memo = ( this.supportsParallelTraversal() && this.callbackSubscriptions == CALLBACKS_NONE ) ? new SubtreeMemo() : null;
+            this.aliases = new AliasTracker( this.aliasExpansionBudget );
+            try {
+                if ( this.iterativeTraversal )
+                    return this.iterativeSearch( _node, _cursor, _parentNode, _breadcrumbs );
+                else
+                    return this.recursiveSearch( _node, _cursor, _parentNode, _breadcrumbs, null );
+            } finally {
+                this.memo = outerMemo;
+                this.aliases = outerAliases;
+            }
+        }
 
-        //--------------------------
-        if ( _node.getNodeId() == NodeId.mapping && _node instanceof MappingNode ) {
+        // Parallel traversal: ALL callbacks are buffered (one buffer per ForkJoin-task, merged in document order).
+        // Then, they are replayed - right here on the invoking thread - in exactly the same sequence, as a single-threaded traversal would have invoked them.
+        final MatchBuffer buf = new MatchBuffer( new AliasTracker( this.aliasExpansionBudget ) );
+        final boolean retval = this.recursiveSearch( _node, _cursor, _parentNode, _breadcrumbs, buf );
+        this.trace.println( () -> HDR( _cursor ) +" parallel-traversal done.  Replaying "+ buf.size() +" callbacks.." );
+        buf.replay( this );
+        return retval;
+    }
 
-            final MappingNode mapNode = (MappingNode) _node;
+    //==============================================================================
 
-            final java.util.List<NodeTuple> tuples = mapNode.getValue();
-            final Object rhs = mapNode.getValue(); // for debug-printing purposes ONLY
-            final String rhsStr = tuples.toString(); // to make verbose logging code simplified
+    /** <p>This is the REAL RECURSIVE-FUNCTION.  See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}.</p>
+     *  <p>Used for parallel traversal (within each ForkJoin-task) - and - if {@link #setIterativeTraversal(boolean)} was invoked with false.</p>
+     *  <p>All the real work happens within {@link #beginNode}, {@link #nextChild}, {@link #childDone} and {@link #endNode} - which are shared with {@link #iterativeSearch}.</p>
+     *  @param _node See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _cursor See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _parentNode See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _breadcrumbs See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _buf null, if the callbacks are to be invoked right away (single-threaded traversal).  Otherwise, ALL callbacks are added to this buffer (see {@link #setParallelTraversal(boolean, int)})
+     *  @return true = whether at least one match happened.
+     *  @throws java.util.regex.PatternSyntaxException - this is thrown the innocuous String.match(regexp)
+     *  @throws Exception any errors/troubles noted from within the subclasses, especially TableCmdProcessor.java
+     */
+    private boolean recursiveSearch( Node _node, final YAMLPathCursor _cursor, final Node _parentNode, final Breadcrumbs _breadcrumbs, final MatchBuffer _buf )
+                    throws java.util.regex.PatternSyntaxException, Exception
+    {
+        if ( this.isNothingToSearch( _node, _cursor, _breadcrumbs ) ) return true; // returning TRUE helps with a cleaner recursion logic
+        final Boolean memoized = ( _buf == null ) ? this.replayMemoized( _node, _cursor, _breadcrumbs ) : null;
+        if ( memoized != null ) return memoized;
+        if ( ! this.enterAlias( this.aliasTracker( _buf ), _node, _cursor, _breadcrumbs ) ) return false; // a recursive YAML-alias
+
+        final Frame frame = new Frame();
+        this.beginNode( frame, _node, _cursor, _parentNode, _breadcrumbs, _buf );
+        while ( this.nextChild( frame ) )
+            this.childDone( frame, this.recursiveSearch( frame.childNode, frame.childCursor, frame.node, frame.childBreadcrumbs, _buf ) ); // recursion call
+        return this.endNode( frame );
+    } // function
 
-            String rhsStrDump2Output = rhsStr.substring(0, rhsStr.length() > 361 ? 360 : rhsStr.length());
-            if ( this.verbose ) System.out.println( "\n"+ HDR +"tuples= "+ rhsStrDump2Output + " " );
+    //==============================================================================
 
-            for( NodeTuple kv: tuples ) {
-                final Node keyNode = kv.getKeyNode();
-                assertTrue( keyNode instanceof ScalarNode );
-                // assertTrue( keyNode.getNodeId() == NodeId.scalar ); // if this ass-ert fails, what scenario does that represent?
-                // @SuppressWarnings("unchecked")
-                final ScalarNode scalarKey = (ScalarNode) keyNode;
-                final String keyAsStr = scalarKey.getValue();
-                final String keytag = scalarKey.getTag().getValue();  //tag:yaml.org,2002:str   --or--  !XYZ
-
-                final Node valNode = kv.getValueNode();
-                final String rhsStr2 = valNode.toString(); // to make verbose logging code simplified
-                if ( this.verbose ) System.out.println( HDR +"found keyAsStr=["+ keyAsStr +"] & LHS, keyTag & RHS = ["+ keyNode + "] !"+ keytag + " : "+ rhsStr2.substring(0,rhsStr2.length()>361?360:rhsStr2.length()) + " ;" );
-
-                //-----------------
-                boolean hasThisKeyEntryMatched;
-                boolean hasThisYamlLineLiterallyMatched = ! yamlPathElemStr.equals("**");
-                if ( yamlPathElemStr.equals("**") ) {
-                    // hasThisYamlLineLiterallyMatched = false; // redundant
-                    hasThisKeyEntryMatched = true;
+    /** <p>The iterative equivalent of {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs, MatchBuffer)} - for the single-threaded traversal ONLY.</p>
+     *  <p>Instead of a Java-recursion call per YAML-level, there's an explicit stack of {@link Frame}s.  The frames are re-used (across YAML-levels and across searches).  So, deeply-nested YAML can NOT overflow the thread's stack, and NO objects are allocated per Node visited.</p>
+     *  @param _node See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _cursor See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _parentNode See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _breadcrumbs See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @return true = whether at least one match happened.
+     *  @throws Exception any errors/troubles noted from within the subclasses, especially TableCmdProcessor.java
+     */
+    private boolean iterativeSearch( final Node _node, final YAMLPathCursor _cursor, final Node _parentNode, final Breadcrumbs _breadcrumbs ) throws Exception
+    {
+        if ( this.isNothingToSearch( _node, _cursor, _breadcrumbs ) ) return true;
+        final Boolean memoized = this.replayMemoized( _node, _cursor, _breadcrumbs );
+        if ( memoized != null ) return memoized;
+        if ( ! this.enterAlias( this.aliases, _node, _cursor, _breadcrumbs ) ) return false; // a recursive YAML-alias
+
+        // In case a sub-class invokes recursiveSearch() from within a callback (on this very same instance), that nested search gets its own stack.
+        final boolean nested = this.frameStackInUse;
+        final java.util.ArrayList<Frame> stack = nested ? new java.util.ArrayList<>() : this.frameStack;
+        this.frameStackInUse = true;
+        int top = 0;
+        try {
+            this.beginNode( getFrame( stack, top ), _node, _cursor, _parentNode, _breadcrumbs, null );
+            while ( true ) {
+                final Frame frame = stack.get( top );
+                if ( this.nextChild( frame ) ) {
+                    // the equivalent of the recursion call
+                    final Boolean skipped = this.enterChild( getFrame( stack, top + 1 ), frame );
+                    if ( skipped != null )
+                        this.childDone( frame, skipped );
+                    else
+                        top ++;
                 } else {
-                    hasThisYamlLineLiterallyMatched = yamlPElemPatt.matcher( keyAsStr ).matches();
-                    hasThisKeyEntryMatched = hasThisYamlLineLiterallyMatched;
+                    // the equivalent of returning from the recursion call
+                    final boolean aMatchFound = this.endNode( frame );
+                    frame.clear();
+                    if ( top == 0 ) return aMatchFound;
+                    top --;
+                    this.childDone( stack.get( top ), aMatchFound );
                 }
-                // One more check: If current YamlLine's keyNode did NOT match, but is there a "**" for a "greedy-match"
-                if ( ! hasThisKeyEntryMatched && _yamlPath.hasWildcardPrefix() ) {
-                    hasThisKeyEntryMatched = true;
-                    hasThisYamlLineLiterallyMatched = false;
-                }
-                if ( this.verbose ) System.out.println( HDR +" hasThisKeyEntryMatched="+ hasThisKeyEntryMatched + ", hasThisYamlLineLiterallyMatched="+ hasThisYamlLineLiterallyMatched + " " );
+            } // while
+        } finally {
+            // So that the re-used frames do NOT hold on to any Nodes (especially, if an Exception was thrown)
+            for ( int ix = 0; ix <= top && ix < stack.size(); ix ++ )
+                stack.get( ix ).clear();
+            if ( ! nested ) this.frameStackInUse = false;
+        }
+    }
 
-                if ( hasThisKeyEntryMatched ) {
-                    if ( this.verbose ) System.out.println( HDR +" matched("+ hasThisYamlLineLiterallyMatched+ ") '"+ keyNode +"':\t"+ rhsStrDump2Output +"\t\t of type '"+rhs.getClass().getName() +"'");
+    /** @return the frame at _depth within _stack (creating it, upon first use) */
+    static Frame getFrame( final java.util.ArrayList<Frame> _stack, final int _depth ) {
+        if ( _depth == _stack.size() )
+            _stack.add( new Frame() );
+        return _stack.get( _depth );
+    }
 
-                    _end2EndPaths.add( keyAsStr ); // _end2EndPaths keeps the breadcrumbs
+    /** <p>The equivalent of the recursion call for _parent.childNode (as set by {@link #nextChild}) - minus the recursion.  Single-threaded traversal ONLY.</p>
+     *  @param _child the (re-used) frame for _parent.childNode.  NOT altered, unless this returns null.
+     *  @param _parent the frame whose {@link #nextChild} just returned true
+     *  @return null, if _child was begun (and {@link #endNode} must be invoked for it, once {@link #nextChild} returns false).  Otherwise, the result to be passed to {@link #childDone} right away (the child need NOT be searched: memoized, recursive YAML-alias, etc..)
+     *  @throws Exception See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     */
+    Boolean enterChild( final Frame _child, final Frame _parent ) throws Exception
+    {
+        if ( this.isNothingToSearch( _parent.childNode, _parent.childCursor, _parent.childBreadcrumbs ) ) return Boolean.TRUE;
+        final Boolean memoized = this.replayMemoized( _parent.childNode, _parent.childCursor, _parent.childBreadcrumbs );
+        if ( memoized != null ) return memoized;
+        if ( ! this.enterAlias( this.aliases, _parent.childNode, _parent.childCursor, _parent.childBreadcrumbs ) ) return Boolean.FALSE; // a recursive YAML-alias
+        this.beginNode( _child, _parent.childNode, _parent.childCursor, _parent.node, _parent.childBreadcrumbs, null );
+        return null;
+    }
 
-                    //------------------------------------------------------
-                    assertTrue(_yamlPath.hasNext()); // why on earth would this ass-ertion fail - see checks @ top of function.
+    /** <p>For {@link MultiPatternSearch}: the equivalent of {@link #enterChild}, for the topmost Node.</p>
+     *  @param _frame the (re-used) frame for _node.  NOT altered, unless this returns null.
+     *  @param _node See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _cursor See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @return See {@link #enterChild}
+     *  @throws Exception See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     */
+    Boolean enterTopmost( final Frame _frame, final Node _node, final YAMLPathCursor _cursor ) throws Exception
+    {
+        if ( this.isNothingToSearch( _node, _cursor, Breadcrumbs.EMPTY ) ) return Boolean.TRUE;
+        if ( ! this.enterAlias( this.aliases, _node, _cursor, Breadcrumbs.EMPTY ) ) return Boolean.FALSE;
+        this.beginNode( _frame, _node, _cursor, null, Breadcrumbs.EMPTY, null );
+        return null;
+    }
 
-                    final YAMLPath lookForwardYAMLPath = YAMLPath.deepClone(_yamlPath); // to keep _yamlPath intact as we recurse in & out of sub-yaml-elements
-                    if (  hasThisYamlLineLiterallyMatched ||  !  _yamlPath.hasWildcardPrefix() )
-                        lookForwardYAMLPath.next(); // _yamlPath.get() should continue to have "**" as previous element.
+    //==============================================================================
 
-                    final LinkedList<String> cloneOfE2EPaths = this.clone( _end2EndPaths );
+    /** <p>See {@link #setAliasExpansionBudget(int)}.  If this returns true, {@link #endNode} must be invoked for _node.</p>
+     *  @param _aliases See {@link #aliasTracker(MatchBuffer)}.  If null, nothing is tracked.
+     *  @param _node See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _cursor See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _breadcrumbs See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @return false if _node is a recursive YAML-alias (already being searched at this very position within the YAML-Path), which must NOT be searched.
+     *  @throws AliasTracker.AliasBudgetExceededException if the budget is used up
+     */
+    private boolean enterAlias( final AliasTracker _aliases, final Node _node, final YAMLPathCursor _cursor, final Breadcrumbs _breadcrumbs ) throws AliasTracker.AliasBudgetExceededException
+    {
+        if ( _aliases == null || _aliases.enter( _node, _cursor ) ) return true;
+        System.err.println( HDR( _cursor ) +" recursive YAML-alias *"+ _node.getAnchor() +" @ "+ _breadcrumbs +" is NOT searched again (it would never end)." );
+        return false;
+    }
 
-                    if ( this.verbose ) System.out.println( HDR +" @ whether to recurse: deepcloned-YamlPath(lookForwardYAMLPath) " + lookForwardYAMLPath +" -- lookForwardYAMLPath.hasNext()='"+ lookForwardYAMLPath.hasNext()
-                                                +"'  _yamlPath.hasWildcardPrefix()='"+ _yamlPath.hasWildcardPrefix() +"' cloneOfE2EPaths=''"+ cloneOfE2EPaths +"' " );
+    /** @param _buf See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs, MatchBuffer)}
+     *  @return the AliasTracker of the single-threaded search (if _buf is null) - or - of the ForkJoin-task that fills _buf
+     */
+    private AliasTracker aliasTracker( final MatchBuffer _buf ) {
+        return ( _buf == null ) ? this.aliases : _buf.getAliasTracker();
+    }
 
-                    if ( ! lookForwardYAMLPath.hasNext() ) {
-                        // NO more recursion feasible!
-                        // well! we've matched end2end .. to a "Map" element (instead of String elem)!
-                        aMatchFound = true;
+    /** <p>If _node was already searched at this very position within the YAML-Path (during this search), replay its end2end matches - instead of searching it again.  See {@link SubtreeMemo}</p>
+     *  @param _node See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _cursor See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _breadcrumbs See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @return null, if _node must be searched.  Otherwise, what the search of _node returned (the 1st time)
+     *  @throws Exception any errors/troubles noted from within the subclasses
+     */
+    private Boolean replayMemoized( final Node _node, final YAMLPathCursor _cursor, final Breadcrumbs _breadcrumbs ) throws Exception
+    {
+        if ( this.memo == null || ! SubtreeMemo.isMemoizable( _node ) ) return null;
+        final Breadcrumbs newBase = ( _breadcrumbs == null ) ? Breadcrumbs.EMPTY : _breadcrumbs;
+        final SubtreeMemo.Entry entry = this.memo.get( _node, _cursor, newBase );
+        if ( entry == null ) return null;
+
+        this.trace.println( () -> HDR( _cursor ) +" already searched (anchor &"+ _node.getAnchor() +").  Replaying "+ (entry.to - entry.from) +" end2end matches, for breadcrumbs="+ newBase );
+        for ( int ix = entry.from; ix < entry.to; ix ++ ) {
+            if ( this.isMatchLimitReached() ) break; // See setMaxMatches()
+            final SubtreeMemo.Event e = this.memo.event( ix );
+            final Breadcrumbs end2EndPaths = e.end2EndPaths.rebase( entry.base, newBase );
+            if ( e.newIndex < 0 )
+                this.fireEnd2EndMatch( null, e.cursor, e.key, e.keyNode, e.valNode, e.parentNode, end2EndPaths );
+            else
+                this.fireEnd2EndMatchNewIndex( null, e.cursor, e.newIndex, (SequenceNode) e.parentNode, end2EndPaths );
+        }
+        return entry.aMatchFound;
+    }
 
-                        // let sub-classes determine what to do here
-                        // final boolean callbkRet3 =
-                        onEnd2EndMatch( _yamlPath, keyAsStr, keyNode, valNode, mapNode, cloneOfE2EPaths ); // location #1 for end2end match
+    //==============================================================================
 
-                        _end2EndPaths.removeLast(); // undo the effect of '_end2EndPaths.add( keyAsStr )' -- see about 20 lines above
-                        if ( this.verbose ) System.out.println( HDR +" End2End Match#1 in YAML-file: "+ _yamlPath.getPrefix() +" "+ keyNode  +":\t"+ rhsStrDump2Output +"\t\t type '"+rhs.getClass().getName() +"'");
+    /** <p>The checks at the very top of recursiveSearch(), common to both the recursive and iterative traversals.</p>
+     *  @param _node See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _cursor See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _breadcrumbs See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @return true if there is nothing to search (and recursiveSearch() should return true right away)
+     */
+    private boolean isNothingToSearch( final Node _node, final YAMLPathCursor _cursor, final Breadcrumbs _breadcrumbs )
+    {
+        this.trace.println( () -> HDR( _cursor ) +" @ very top: Nulls? _node: "+(_node==null)+" _cursor: "+ (_cursor==null) +" _breadcrumbs="+ _breadcrumbs +" " );
+        if ( _cursor!=null ) this.trace.println( () -> HDR( _cursor ) +" @ very top: checks? _cursor.hasNext: "+ _cursor.hasNext +" " );
+        if ( (_node==null) || (_cursor==null) ) return true;
+        if ( ! _cursor.hasNext ) return true; // YAML path has ended.  So, must be a good thing, as we got this far down the YAML-Path
+        if ( this.isMatchLimitReached() ) return true; // unwind right away.  See setMaxMatches()
+        return false;
+    }
 
-                        // if ( ! callbkRet3 ) continue; // Pretend as if match failed.
-                        // continue; // outermost for-loop ( NodeTuple kv: tuples )
+    //==============================================================================
 
-                    } else {
-                        //------------------------------------------------------
-                        // .. continue below.
-
-                        // If we're here, it means INCOMPLETE match..
-
-                        // let sub-classes determine what to do here
-                        final boolean callbkRet2 = onPartialMatch( keyNode, _yamlPath, keyAsStr, mapNode, _end2EndPaths );
-                        if ( ! callbkRet2 ) continue; // If so, STOP  any further matching DOWN/BENEATH that partial-match
-
-                        if ( this.verbose ) System.out.println( HDR +" recursing with lookForwardYAMLPath=" + lookForwardYAMLPath +": ... @ YAML-file-location: '"+ keyNode +"': "+ rhsStrDump2Output);
-
-                        //--------------------------------------------------------
-                        // if we are here, we've only a PARTIAL match.
-                        // So.. we need to keep recursing (specifically for Map & Sequence YAML elements)
-                        if ( valNode.getNodeId() == NodeId.scalar && valNode instanceof ScalarNode ) {
-                            final ScalarNode scalarN = (ScalarNode) valNode;
-                            // final String valtag = scalarN.getTag().getValue();  //tag:yaml.org,2002:str   --or--  !XYZ
-                            if ( this.verbose ) System.out.println( HDR +" @ ScalarNode="+scalarN+"  _yamlPath.hasNext()="+ _yamlPath.hasNext() );
-
-                            if ( _yamlPath.hasNext() ) {
-                                // then it's --NOT-- an end2end match, at least it's a partial match.. (perhaps)
-                                // Here's the tricky concept for SnakeYAML structure:-
-                                // If hasThisKeyEntryMatched==true and we have a ScalarNode as RHS..
-                                // then, well, there's a 99.99999% chance that the ENCLOSING FOR-Loop: for( NodeTuple kv: tuples )
-                                // has just one iteration.
-                                // Just one iteration/loop ==> implies we have a Match-Fail.
-                                onMatchFail( _yamlPath, mapNode, keyNode, keyAsStr, _end2EndPaths); // location #1 for failure-2-match
-                                // fall thru towards end of the FOR-LOOP - to execute some important steps before another iteration of FOR LOOP begins.
-                            } else {
-                                // yeah! We found a full end2end match!  Also, No more recursion is feasible.
-                                // let sub-classes determine what to do here
-                                final boolean callbkRet5 = onEnd2EndMatch( _yamlPath, keyAsStr, keyNode, valNode, mapNode, cloneOfE2EPaths); // location #2 for end2end match
-                                if ( this.verbose ) System.out.println( HDR +" callbkRet5="+callbkRet5+" End2End Match#2 @ YAML-File: "+ keyNode +": "+ rhsStrDump2Output);
-                                if ( ! callbkRet5 ) continue; // Pretend as if match failed and continue to next peer YAML element.
-                                _end2EndPaths.clear();
-                                aMatchFound = true;
-                            }
-
-                        } else if ( valNode.getNodeId() == NodeId.mapping && valNode instanceof MappingNode ) {
-                            // @SuppressWarnings("unchecked")
-                            // final MappingNode rhs2 = (MappingNode) valNode;
-                            aMatchFound = this.recursiveSearch( valNode, lookForwardYAMLPath, mapNode, cloneOfE2EPaths ); // recursion call
-                            // we do Not know how deep the recursion is.
-                            // once recursion call returns, we happily go back to the UNTOUCHED _yamlPath & to _end2EndPaths  - which is still intact for use by the FOR loop.
-
-                        } else if ( valNode.getNodeId() == NodeId.sequence && valNode instanceof SequenceNode ) {
-                            aMatchFound = this.recursiveSearch( valNode, lookForwardYAMLPath, mapNode, cloneOfE2EPaths ); // recursion call
-                            // we do Not know how deep the recursion is.
-                            // once recursion call returns, we happily go back to the UNTOUCHED _yamlPath & to _end2EndPaths  - which is still intact for use by the FOR loop.
+    private enum FrameKind { LEAF, MAPPING, SEQUENCE }
 
-                        } else {
-                            System.err.println( HDR +" incomplete code: Unable to handle rhs of Node-type '"+ valNode.getNodeId() +" and className='"+ rhs.getClass().getName() +"'");
-                            onMatchFail( _yamlPath, mapNode, keyNode, keyAsStr, _end2EndPaths); // location #3 for failure-2-match
-                        } // if-else   rhs instanceof   Map/Array/String/.. ..
+    /** <p>ALL the state of ONE level of the traversal (that is, of one invocation of recursiveSearch() - what used to be its local-variables).</p>
+     *  <p>Mutable, so that {@link #iterativeSearch} (and {@link MultiPatternSearch}) can re-use the frames.  See {@link #clear()}</p>
+     */
+    static final class Frame {
+        FrameKind kind = FrameKind.LEAF;
+        Node node;
+        Node parentNode;
+        YAMLPathCursor cursor;
+        CompiledYAMLPath.ElemMatcher matcher;
+        MatchBuffer buf;
+
+        /** the breadcrumbs for CURRENT recursion-level only.  Immutable.  So, it's passed as-is (no cloning) to callbacks & recursion. */
+        Breadcrumbs end2EndPaths;
+
+        /** null, if 'aMatchFound' has NOT been assigned (yet).  Otherwise, the last value assigned. */
+        Boolean aMatchFound;
+
+        // MappingNode: the tuples that are yet to be searched
+        MappingNode mapNode;
+        java.util.Iterator<NodeTuple> tuples;
+        /** the position (within mapNode) of the next tuple from 'tuples' */
+        int tuplePos;
+
+        // SequenceNode: the items [ix, to) that are yet to be searched - and what is computed ONCE, before iterating over those items.
+        SequenceNode seqNode;
+        int ix;
+        int to;
+        /** null, unless seqNode's list is NOT java.util.RandomAccess (like a LinkedList) - where get(ix) is O(ix).  If so, positioned at item ix. */
+        java.util.Iterator<Node> items;
+        YAMLPathCursor lookForwardYAMLPath;
+        YAMLPathCursor nonStarLookFwdYAMLPath;
+        boolean bWildcard;
+        boolean bMatchAny;
+        String upcomingPathElem;
+        CompiledYAMLPath.ElemMatcher upcomingMatcher;
+
+        // See SubtreeMemo: if memoFrom >= 0, the outcome of searching this Node is memoized by endNode()
+        int memoFrom = -1;
+        Breadcrumbs memoBase;
+
+        // Set by nextChild(): the child to be searched next (a.k.a. the recursion call) - and its position within node
+        Node childNode;
+        YAMLPathCursor childCursor;
+        Breadcrumbs childBreadcrumbs;
+        int childPos;
+
+        /** So that this frame can be re-used (and does NOT hold on to any Nodes, meanwhile) */
+        void clear() {
+            this.kind = FrameKind.LEAF;
+            this.node = this.parentNode = null;
+            this.cursor = null;
+            this.matcher = null;
+            this.buf = null;
+            this.end2EndPaths = null;
+            this.aMatchFound = null;
+            this.mapNode = null;
+            this.tuples = null;
+            this.tuplePos = 0;
+            this.seqNode = null;
+            this.ix = this.to = 0;
+            this.items = null;
+            this.lookForwardYAMLPath = this.nonStarLookFwdYAMLPath = null;
+            this.bWildcard = this.bMatchAny = false;
+            this.upcomingPathElem = null;
+            this.upcomingMatcher = null;
+            this.memoFrom = -1;
+            this.memoBase = null;
+            this.clearChild();
+        }
 
-                    } // if-else lookForwardYAMLPath.hasNext()
+        void clearChild() {
+            this.childNode = null;
+            this.childCursor = null;
+            this.childBreadcrumbs = null;
+            this.childPos = -1;
+        }
 
-                    // As we've had AT-LEAST a PARTIAL-MATCH, in CURRENT-ITERATION (of FOR-LOOP).. ..
-                    // we need to "undo" that for next iteration (of FOR) for the next-peer YAML-element
-                    if ( _end2EndPaths.size() > 0 )
-                        _end2EndPaths.removeLast();
+        /** For the ForkJoin-tasks: a copy of everything that was computed ONCE for a SequenceNode (_other is NOT altered) */
+        void copySequenceSetup( final Frame _other ) {
+            this.kind = _other.kind;
+            this.node = _other.node;
+            this.parentNode = _other.parentNode;
+            this.cursor = _other.cursor;
+            this.matcher = _other.matcher;
+            this.end2EndPaths = _other.end2EndPaths;
+            this.seqNode = _other.seqNode;
+            this.lookForwardYAMLPath = _other.lookForwardYAMLPath;
+            this.nonStarLookFwdYAMLPath = _other.nonStarLookFwdYAMLPath;
+            this.bWildcard = _other.bWildcard;
+            this.bMatchAny = _other.bMatchAny;
+            this.upcomingPathElem = _other.upcomingPathElem;
+            this.upcomingMatcher = _other.upcomingMatcher;
+        }
+    }
 
-                } else {
-                    // false == foundAMatch  -- -- i.e., FAILED to match YAML-Path pattern.
-                    onMatchFail( _yamlPath, mapNode, keyNode, keyAsStr, _end2EndPaths); // location #4 for failure-2-match
+    //==============================================================================
+
+    /** <p>The part of recursiveSearch() BEFORE the loop over the children of _node.  For a ScalarNode (No children), that's everything other than {@link #endNode}.</p>
+     *  @param _frame the (re-used) frame to initialize for _node
+     *  @param _node See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _cursor See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _parentNode See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _breadcrumbs See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _buf See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs, MatchBuffer)}
+     *  @throws Exception See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     */
+    private void beginNode( final Frame _frame, final Node _node, final YAMLPathCursor _cursor, final Node _parentNode, final Breadcrumbs _breadcrumbs, final MatchBuffer _buf )
+                    throws Exception
+    {
+        _frame.clear();
+        _frame.node = _node;
+        _frame.parentNode = _parentNode;
+        _frame.cursor = _cursor;
+        _frame.buf = _buf;
+
+        // Immutable.  So, this keeps the breadcrumbs for CURRENT recursion-level only.  It's passed as-is (no cloning) to callbacks & recursion.
+        _frame.end2EndPaths = ( _breadcrumbs == null ) ? Breadcrumbs.EMPTY : _breadcrumbs;
+
+        if ( _buf == null && this.memo != null && SubtreeMemo.isMemoizable( _node ) ) {
+            _frame.memoFrom = this.memo.logSize();
+            _frame.memoBase = _frame.end2EndPaths;
+        }
+
+        this.trace.println( () -> HDR( _cursor ) +"YAML to be searched = "+ _node +"\n"+ Tracer.toYAMLString( _node ) +" " );
+
+        //--------------------------
+        final CompiledYAMLPath.ElemMatcher yamlPElemMatcher = _cursor.matcher(); // current path-element (a substring of full yamlPath) - pre-compiled
+        _frame.matcher = yamlPElemMatcher;
 
-                }// if-else hasThisKeyEntryMatched
+        // public enum org.yaml.snakeyaml.nodes.NodeId = scalar, sequence, mapping, anchor
+        // final NodeId nid = _node.getNodeId(); // https://bitbucket.org/asomov/snakeyaml/src/default/src/main/java/org/yaml/snakeyaml/nodes/NodeId.java
+        this.trace.println( () -> HDR( _cursor ) +"@top, node-id = ["+ _node.getNodeId() + "]" );
 
-            } // for loop   NodeTuple kv: tuples
+        //--------------------------
+        if ( _node.getNodeId() == NodeId.mapping && _node instanceof MappingNode ) {
+
+            final MappingNode mapNode = (MappingNode) _node;
+            _frame.kind = FrameKind.MAPPING;
+            _frame.mapNode = mapNode;
+
+            final java.util.List<NodeTuple> tuples = mapNode.getValue();
+            this.trace.println( () -> "\n"+ HDR( _cursor ) +"tuples= "+ Tracer.abbreviate( tuples ) + " " );
+
+            final int numTuples = tuples.size();
+            final Breadcrumbs startingPaths = _frame.end2EndPaths; // effectively-final copy, for use within lambda below
+            // If the YAML-Path-element is a literal (and there's NO '**' before it), only the tuple with that key can match.
+            // If the other tuples are NOT needed for onMatchFail(), then .. a hash-lookup instead of iterating over ALL tuples.
+            final MappingNodeIndex index = ( yamlPElemMatcher.kind == CompiledYAMLPath.Kind.LITERAL && ! _cursor.wildcardPrefix && ( this.callbackSubscriptions & CALLBACK_MATCH_FAIL ) == 0 )
+                                            ? this.mappingNodeIndexes.get( mapNode ) : null;
+            if ( index != null && ! index.hasDuplicateKeys() ) {
+                final int pos = index.getFirstPos( yamlPElemMatcher.raw );
+                this.trace.println( () -> HDR( _cursor ) +"indexed lookup of '"+ yamlPElemMatcher.raw +"' found="+ (pos >= 0) );
+                _frame.tuples = ( pos < 0 ) ? java.util.Collections.<NodeTuple>emptyIterator() : java.util.Collections.singletonList( tuples.get( pos ) ).iterator();
+                _frame.tuplePos = pos;
+            } else if ( _buf != null && numTuples > this.parallelThreshold ) {
+                // See comments within nextTuple(), re: how the breadcrumbs are altered by each tuple that's an end2end match
+                final int[] popsBefore = countEnd2EndKeyMatches( tuples, yamlPElemMatcher, _cursor );
+                _frame.aMatchFound = this.forkJoin( numTuples, _buf,
+                                ( from, to, buf ) -> this.searchMappingRange( mapNode, yamlPElemMatcher, _cursor, startingPaths.pop( popsBefore[from] ), tuples.subList( from, to ), buf ) );
+                _frame.tuples = java.util.Collections.<NodeTuple>emptyIterator(); // all done (in parallel)
+            } else {
+                _frame.tuples = tuples.iterator();
+            }
 
         } else if ( _node.getNodeId() == NodeId.scalar && _node instanceof ScalarNode ) {
 
             final ScalarNode scalarN = (ScalarNode) _node;
-            final String rhsStr = scalarN.getValue(); // for debug-printing purposes ONLY, to make verbose logging code simplified
             // final String valtag = scalarN.getTag().getValue();  //tag:yaml.org,2002:str   --or--  !XYZ
 
-            if (   !   yamlPElemPatt.matcher( scalarN.getValue() ).matches() || _yamlPath.hasNext() ) { // then it's --NOT-- an end2end match
-                if ( _end2EndPaths.size() > 0 )
-                    _end2EndPaths.removeLast();
-                // drop out of nested-IFs and continue below. .. .. to bottom of this method
+            if (   !   yamlPElemMatcher.matches( scalarN.getValue() ) || _cursor.hasNext ) { // then it's --NOT-- an end2end match
+                if ( _frame.end2EndPaths.size() > 0 )
+                    _frame.end2EndPaths = _frame.end2EndPaths.pop();
+                // drop out of nested-IFs and continue below. .. .. to endNode()
             } else {
                 // yeah! We found a full end2end match!  Also, No more recursion is feasible.
                 // let sub-classes determine what to do here
-                final LinkedList<String> cloneOfE2EPaths = this.clone( _end2EndPaths );
-                final boolean callbkRet8 = onEnd2EndMatch( _yamlPath, scalarN.getValue(), scalarN, null, _parentNode, cloneOfE2EPaths); // location #2 for end2end match
-                if ( this.verbose ) System.out.println( HDR +" callbkRet8="+callbkRet8+" End2End Match#2 @ YAML-File: "+ scalarN +": "+ rhsStr.substring(0,rhsStr.length()>361?360:rhsStr.length()) );
+                final Breadcrumbs cloneOfE2EPaths = _frame.end2EndPaths;
+                final boolean callbkRet8 = this.fireEnd2EndMatch( _buf, _cursor, scalarN.getValue(), scalarN, null, _parentNode, cloneOfE2EPaths); // location #2 for end2end match
+                this.trace.println( () -> HDR( _cursor ) +" callbkRet8="+callbkRet8+" End2End Match#2 @ YAML-File: "+ scalarN +": "+ Tracer.abbreviate( scalarN.getValue() ) );
                 if ( callbkRet8 ) {
-                    _end2EndPaths.clear();
-                    aMatchFound = true;
+                    _frame.end2EndPaths = Breadcrumbs.EMPTY;
+                    _frame.aMatchFound = Boolean.TRUE;
                 }
                 // else .. continue thru below .. // Pretend as if match failed and continue to next peer YAML element.
             }
 
         } else if ( _node.getNodeId() == NodeId.sequence && _node instanceof SequenceNode ) {
 
-            assertTrue(_yamlPath.hasNext()); // why on earth would this ass-ertion fail - see checks @ top of function.
+            assertTrue(_cursor.hasNext); // why on earth would this ass-ertion fail - see checks @ top of function.
 
-            final YAMLPath lookForwardYAMLPath = YAMLPath.deepClone(_yamlPath); // to keep _yamlPath intact as we recurse in & out of sub-yaml-elements
+            final YAMLPathCursor lookForwardYAMLPath = _cursor; // immutable.  So, _cursor stays intact as we recurse in & out of sub-yaml-elements
 
             //------------------------------------------------------
             //------------------------------------------------------
             // Let's check: whether a wildcard('**'), or we have a '*' for current path-element
-            boolean bMatchAny = false;
-            boolean bWildcard = false;
-            boolean bLetsIterate;
-            String upcomingPathElem = null;
-            YAMLPath nonStarLookFwdYAMLPath = null;
-            if (  lookForwardYAMLPath.hasWildcardPrefix() ) {
+            final boolean bMatchAny;
+            final boolean bWildcard;
+            final boolean bLetsIterate;
+            final String upcomingPathElem;
+            final CompiledYAMLPath.ElemMatcher upcomingMatcher;
+            final YAMLPathCursor nonStarLookFwdYAMLPath;
+            if (  lookForwardYAMLPath.wildcardPrefix ) {
                 // of course! we should loop thru each element of the array below.
                 // WildCard is so powerful a concept, and like the Greedy-Algorithms of RegExp '*'-matcher.. it will 'match anything'
                 // So, we'll continue 'recursion' in code below - assuming the next non-WildCard element is STILL this WildCard element (that is what 'greedy matching means!)
                 nonStarLookFwdYAMLPath = lookForwardYAMLPath;
-                upcomingPathElem = lookForwardYAMLPath.get(); 
+                upcomingPathElem = lookForwardYAMLPath.elem;
+                upcomingMatcher = lookForwardYAMLPath.matcher();
                 bWildcard = true;
+                bMatchAny = false;
                 bLetsIterate = true;
             } else {
-                if ( lookForwardYAMLPath.get().equals( YAMLPath.MATCHANYSINGLEPATHELEMENT ) ) {
+                if ( lookForwardYAMLPath.matcher().isMatchAny() ) {
                     // We've a '*'/'.*'.. .. so, let's clone .. to SAFELY see one step ahead.
                     // make 'nonStarLookFwdYAMLPath' point to the YAML-Path-Pattern-element !!!that exists RIGHT AFTER!!! the current '.*'/'*'
                     // After testing successfully, I can say that it's OK to assume that anything following a '*'/'.*' is a NON-Star element ---- especially, if the user entered patterns like 'xyz.abc.*.*.qqq' ??? Hmmmmm.
-                    nonStarLookFwdYAMLPath = YAMLPath.deepClone(lookForwardYAMLPath); // to keep _yamlPath intact as we recurse in & out of sub-yaml-elements
-                    nonStarLookFwdYAMLPath.next(); // let's see what the next yaml-element is.  We know this will succeed.
-                    upcomingPathElem = nonStarLookFwdYAMLPath.get();
+                    nonStarLookFwdYAMLPath = lookForwardYAMLPath.next(); // let's see what the next yaml-element is.  We know this will succeed.
+                    upcomingPathElem = nonStarLookFwdYAMLPath.elem;
+                    upcomingMatcher = nonStarLookFwdYAMLPath.matcher(); // null, if upcomingPathElem == null
+                    bWildcard = false;
                     bMatchAny = true;
                     bLetsIterate = true;
                 } else {
-                    if ( lookForwardYAMLPath.get().matches( "\\[?[0-9][0-9]*\\]?" ) ) {
-                        // Clearly.. We should definitely check out each item in the array 
+                    if ( lookForwardYAMLPath.matcher().isIndex() ) { // like '3' '[3]' or '[0-3]'
+                        // Clearly.. We should definitely check out each item in the array
                         // Make 'nonStarLookFwdYAMLPath' point to the YAML-Path-Pattern-element !!!that exists RIGHT AFTER!!! the 0
-                        nonStarLookFwdYAMLPath = YAMLPath.deepClone(lookForwardYAMLPath); // to keep _yamlPath intact as we recurse in & out of sub-yaml-elements
-                        nonStarLookFwdYAMLPath.next(); // let's see what the next yaml-element is.  We know this will succeed.
-                        upcomingPathElem = lookForwardYAMLPath.get();
+                        nonStarLookFwdYAMLPath = lookForwardYAMLPath.next(); // let's see what the next yaml-element is.  We know this will succeed.
+                        upcomingPathElem = lookForwardYAMLPath.elem;
+                        upcomingMatcher = lookForwardYAMLPath.matcher();
+                        bWildcard = false;
+                        bMatchAny = false;
                         bLetsIterate = true;
                     } else {
                         // No point loopoing thru the array.
+                        nonStarLookFwdYAMLPath = null;
+                        upcomingPathElem = null;
+                        upcomingMatcher = null;
+                        bWildcard = false;
+                        bMatchAny = false;
                         bLetsIterate = false;
                     }
                 }
@@ -495,123 +1161,592 @@ public abstract class AbstractYamlEntryProcessor {
             final SequenceNode seqNode = (SequenceNode) _node;
 
             final java.util.List<Node> seqs = seqNode.getValue();
-            final String rhsStr = seqNode.toString(); // to make verbose logging code simplified
-            final String rhsStrDump = rhsStr.substring(0,rhsStr.length()>361?360:rhsStr.length());
-            if ( this.verbose ) System.out.println( HDR +"SEQUENCE-node = ["+ rhsStrDump + "]" );
-
-            // ATTENTION: if bLetsIterate === false, we'll NOT be entering this loop.
-            for ( int ix=0;  bLetsIterate && ix < seqs.size(); ix ++ ) {
-
-                final Node seqItemNode = seqs.get(ix);
-                final String rhsStr22 = seqItemNode.toString(); // to make verbose logging code simplified
-                final String rhsStr22Dump = rhsStr22.substring(0,rhsStr22.length()>361?360:rhsStr22.length());
-                if ( this.verbose ) System.out.println( HDR +"SSUUBB_SEQITEM-node = ["+ rhsStr22Dump + "]" );
-
-                final LinkedList<String> cloneOfE2EPaths = this.clone( _end2EndPaths );
-
-                // if have a '**' or *' for current path-element..  variable 'upcomingPathElem' will point to the next yaml-element within the YAML-Path-PATTERN is.
-                // otherwise variable 'upcomingPathElem' will point to CURRENT yaml-element.
-                if ( this.verbose ) System.out.println( HDR +" bWildcard="+ bWildcard +" bMatchAny="+ bMatchAny +" upcomingPathElem="+ upcomingPathElem +" ix="+ix );
-                if ( this.verbose ) System.out.println( HDR +" Integer.valueOf(ix).toString().matches(upcomingPathElem)="+ Integer.valueOf(ix).toString().matches(upcomingPathElem) );
-
-                if ( bWildcard || bMatchAny || Integer.valueOf(ix).toString().matches(upcomingPathElem) ) {
-                    if ( this.verbose ) System.out.println( HDR +" nonStarLookFwdYAMLPath.hasNext()="+ nonStarLookFwdYAMLPath.hasNext() );
-                    if (   !   nonStarLookFwdYAMLPath.hasNext() ) {
-                        // yeah! We found a !!!full!!! end2end match!  Reason:- No more recursion is feasible.
-                        final LinkedList<String> clone222OfE2EPaths = this.clone( cloneOfE2EPaths ); // to keep _yamlPath intact as we ITERATE thru this ARRAY LIST.
-                        clone222OfE2EPaths.add("["+ix+"]"); // add the index like [1] into the discovered yaml-path
-                        // let sub-classes determine what to do here
-                        final boolean callbkRet6 = onEnd2EndMatch( lookForwardYAMLPath, ix, null, seqItemNode, seqNode, clone222OfE2EPaths); // location #2 for end2end match
-                        // we do Not know how deep the recursion is.
-                        // once recursion call returns, we happily go back to the UNTOUCHED _yamlPath & to _end2EndPaths  - which is still intact for use by the FOR loop.
-                        if ( this.verbose ) System.out.println( HDR +" callbkRet6="+callbkRet6+" End2End Match#2 @ YAML-File: "+ seqItemNode +": "+ rhsStrDump );
-                        if ( ! callbkRet6 ) continue; // Pretend that EVEN IF match failed (per sub-class), continue to next peer YAML element.
-                        aMatchFound = true;
-                        continue; // for loop over Array
-                    // } else {
-                    //     // Ok. We're FORCED to "move to" next element of YAML-Path-PATTERN.. .. (that is, nonStarLookFwdYAMLPath.next())
-                    //     // !!!!!!!!!!!!! ATTENTION !!!!!!!!!!!!!
-                    //     // THIS IS THE ONLY IF-ELSE EXECUTION-BRANCH that will .. Fall thru out of this nested-IF into rest of FOR-Loop body.
-                    }
-                    // else fall through.
+            this.trace.println( () -> HDR( _cursor ) +"SEQUENCE-node = ["+ Tracer.abbreviate( seqNode ) + "]" );
+
+            _frame.kind = FrameKind.SEQUENCE;
+            _frame.seqNode = seqNode;
+            _frame.lookForwardYAMLPath = lookForwardYAMLPath;
+            _frame.nonStarLookFwdYAMLPath = nonStarLookFwdYAMLPath;
+            _frame.bWildcard = bWildcard;
+            _frame.bMatchAny = bMatchAny;
+            _frame.upcomingPathElem = upcomingPathElem;
+            _frame.upcomingMatcher = upcomingMatcher;
+            _frame.ix = 0;
+            // ATTENTION: if bLetsIterate === false, we'll NOT be entering the loop (within nextItem()).
+            _frame.to = bLetsIterate ? seqs.size() : 0;
+            _frame.items = itemsIterator( seqs, 0 );
+
+            if ( bLetsIterate && _buf != null && seqs.size() > this.parallelThreshold ) {
+                final Frame setup = _frame; // Read-ONLY within the ForkJoin-tasks (as this thread waits for them to finish)
+                _frame.aMatchFound = this.forkJoin( seqs.size(), _buf, ( from, to, buf ) -> this.searchSequenceRange( setup, from, to, buf ) );
+                _frame.to = 0; // all done (in parallel)
+            }
 
-                } else {
-                    continue; // move on to next Array YAML element in 'seqs' (next iteration of innermost-enclosing FOR-LOOP)
-                    // Why? Because when matching array-indices, it's very simple (black-n-white) whether a possible match or No possible match.
-                }
+        } else {
+            System.err.println( HDR( _cursor ) +" incomplete code: Unable to handle Node-type '"+ _node.getNodeId() +" and className='"+ _node.getClass().getName() +"'");
+            // onMatchFail( _cursor, _parentNode, _node, "Unknown-Node-Type "+_node.getNodeId(), end2EndPaths); // location #10 for failure-2-match
+        }
+    }
 
-                // If we're here.. then, We've got an INCOMPLETE-Match: Either via a wildcard('**'), or we have a '*' for current path-element or.. potentially we've a INCORRECT INDEX-LEVEL match.
-                //-------------------------------
-                if ( seqItemNode instanceof ScalarNode && seqItemNode.getNodeId() == NodeId.scalar) {
-                    // can't be a match, as it's a simple Scalar - as in, Not even in the format   "rhs: lhs"
-                    onMatchFail( _yamlPath, seqNode, seqItemNode, ix, _end2EndPaths); // location #5 for failure-2-match
-
-                } else if ( seqItemNode instanceof MappingNode && seqItemNode.getNodeId() == NodeId.mapping ) { // if the array-yaml-element is Not a simple string.
-                    // @SuppressWarnings("unchecked")
-                    // final MappingNode lhmp2 = (MappingNode) seqItemNode;
-                    // Let's prepare for recursion .. clone all modifiaable-variables being passed.
-                    final YAMLPath recursionYamlPath = YAMLPath.deepClone( nonStarLookFwdYAMLPath );
-                    final LinkedList<String> clone333OfE2EPaths = this.clone( cloneOfE2EPaths ); // to keep _yamlPath intact as we ITERATE thru this ARRAY LIST.
-                    clone333OfE2EPaths.add("["+ix+"]"); // add the index like [1] into the discovered yaml-path
-                    aMatchFound = this.recursiveSearch( seqItemNode, recursionYamlPath, seqNode, clone333OfE2EPaths); // recursion call
-                    // we do Not know how deep the recursion is.
-                    // once recursion call returns, we happily go back to the UNTOUCHED _yamlPath/nonStarLookFwdYAMLPath & to _end2EndPaths/cloneOfE2EPaths   - which is still intact for use by the FOR loop.
+    //==============================================================================
 
-                } else if ( seqItemNode instanceof SequenceNode && seqItemNode.getNodeId() == NodeId.sequence ) {
-                    System.err.println( HDR +" incomplete code: WTF? YAML-Array consisting of Arrays??? Let me think about it .. on how to implement this! w Node-type "+ seqItemNode.getNodeId() +" and className='"+ seqItemNode.getClass().getName() +"'" );
-                    onMatchFail( _yamlPath, seqNode, seqItemNode, ix, _end2EndPaths); // location #6 for failure-2-match
-                } else {
-                    System.err.println( HDR +" incomplete code: failure w Node-type "+ seqItemNode.getNodeId() +" and className='"+ seqItemNode.getClass().getName() +"'" );
-                    onMatchFail( _yamlPath, seqNode, seqItemNode, ix, _end2EndPaths); // location #7 for failure-2-match
+    /** <p>Continues the loop over the children of a MappingNode or SequenceNode (where it left off), until a child needs to be searched (a.k.a. the recursion call).</p>
+     *  @param _frame see {@link #beginNode}
+     *  @return true if _frame.childNode, _frame.childCursor and _frame.childBreadcrumbs are set - and the result of searching that child must be passed to {@link #childDone}.  false, if the loop is done.
+     *  @throws Exception See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     */
+    boolean nextChild( final Frame _frame ) throws Exception
+    {
+        switch ( _frame.kind ) {
+            case MAPPING:   return this.nextTuple( _frame );
+            case SEQUENCE:  return this.nextItem( _frame );
+            default:        return false; // No children
+        }
+    }
 
-                } // if-Else   seqItemNode instanceof Map - (WITHIN FOR-LOOP)
+    /** <p>What happens within the loop over the children of a MappingNode or SequenceNode, after the recursion call returns.</p>
+     *  @param _frame see {@link #beginNode}
+     *  @param _childMatchFound the return-value of the recursion call
+     */
+    void childDone( final Frame _frame, final boolean _childMatchFound )
+    {
+        _frame.aMatchFound = _childMatchFound;
+        _frame.clearChild();
+        // we do Not know how deep the recursion was.
+        // once recursion call returns, we happily go back to the UNTOUCHED _yamlPath & to _end2EndPaths  - which is still intact for use by the FOR loop.
+        if ( _frame.kind == FrameKind.MAPPING ) {
+            // See the bottom of nextTuple()
+            if ( _frame.end2EndPaths.size() > 0 )
+                _frame.end2EndPaths = _frame.end2EndPaths.pop();
+        }
+    }
 
-            } // FOR-LOOP seqItemNode: seqs
+    /** <p>The part of recursiveSearch() AFTER the loop over the children of _node.</p>
+     *  @param _frame see {@link #beginNode}
+     *  @return true = whether at least one match happened.
+     *  @throws Exception See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     */
+    boolean endNode( final Frame _frame ) throws Exception
+    {
+        final YAMLPathCursor _cursor = _frame.cursor;
 
+        if ( _frame.kind == FrameKind.SEQUENCE ) {
+            final SequenceNode seqNode = _frame.seqNode;
+            final java.util.List<Node> seqs = seqNode.getValue();
+            final String upcomingPathElem = _frame.upcomingPathElem;
+            final CompiledYAMLPath.ElemMatcher upcomingMatcher = _frame.upcomingMatcher;
             //-------------------------------
             //-------------------------------
-            if ( upcomingPathElem != null && upcomingPathElem.matches("\\[[0-9]+\\]") ) {
+            if ( upcomingMatcher != null && upcomingMatcher.exactBracketedIndex >= 0 ) {
                 // upcomingPathElem is _NOT_ a wildcard like [0-3] etc..
                 // upcomingPathElem is precisely a specific number like [28]
-                final int newIndex = Integer.parseInt( upcomingPathElem.substring( upcomingPathElem.indexOf('[')+1, upcomingPathElem.indexOf(']') )  );
-                if ( this.verbose ) System.out.println( HDR +"upcomingPathElem="+ upcomingPathElem+" converted into numeric-index = "+ newIndex );
+                final int newIndex = upcomingMatcher.exactBracketedIndex;
+                this.trace.println( () -> HDR( _cursor ) +"upcomingPathElem="+ upcomingPathElem+" converted into numeric-index = "+ newIndex );
                 if ( seqs.size() <= newIndex ) {
                     // yeah! We __SORT__ of found a end2end match!  But, the sub-class must know how to deal with it (especially, Insert/Replace).
-                    final LinkedList<String> clone777OfE2EPaths = this.clone( _end2EndPaths ); // to keep _yamlPath intact as we ITERATE thru this ARRAY LIST.
-                    clone777OfE2EPaths.add("["+newIndex+"]"); // add the index like [1] into the discovered yaml-path
+                    final Breadcrumbs clone777OfE2EPaths = _frame.end2EndPaths.push( "["+newIndex+"]" ); // add the index like [1] into the discovered yaml-path.  end2EndPaths is NOT altered.
                     // let sub-classes determine what to do here
-                    final boolean callbkRet7 = this.onEnd2EndMatchNewIndex( lookForwardYAMLPath, newIndex, seqNode, clone777OfE2EPaths); // location #2 for end2end match
-                    // we do Not know how deep the recursion is.
-                    // once recursion call returns, we happily go back to the UNTOUCHED _yamlPath & to _end2EndPaths  - which is still intact for use by the FOR loop.
-                    if ( this.verbose ) System.out.println( HDR +" callbkRet7="+callbkRet7+" onEnd2EndMatchNewIndex @ YAML-File: "+ rhsStrDump );
+                    final boolean callbkRet7 = this.fireEnd2EndMatchNewIndex( _frame.buf, _frame.lookForwardYAMLPath, newIndex, seqNode, clone777OfE2EPaths); // location #2 for end2end match
+                    this.trace.println( () -> HDR( _cursor ) +" callbkRet7="+callbkRet7+" onEnd2EndMatchNewIndex @ YAML-File: "+ Tracer.abbreviate( seqNode ) );
                     // if ( ! callbkRet7 ) do nothing ..; // Pretend that EVEN IF match failed (per sub-class), continue to next peer YAML element.
-                    aMatchFound = true;
+                    _frame.aMatchFound = Boolean.TRUE;
                 }
             }
-
-        } else {
-            System.err.println( HDR +" incomplete code: Unable to handle Node-type '"+ _node.getNodeId() +" and className='"+ _node.getClass().getName() +"'");
-            // onMatchFail( _yamlPath, _parentNode, _node, "Unknown-Node-Type "+_node.getNodeId(), _end2EndPaths); // location #10 for failure-2-match
         }
 
         //------------------------------------------------------
         //------------------------------------------------------
 
+        final boolean aMatchFound = ( _frame.aMatchFound != null ) && _frame.aMatchFound;
         if (  !   aMatchFound ) {
             // Not a single end2end match.  At best .. we can HOPE THAT we only had partial matches.
             // Specifically, when the YAMLPath is A.B.C.D (4-levels deep) and the YAML itself it < 4-levels deep.. we need to address such a scenario.
             // This above scenario.. in case of InsertYamlProcessor.java.. allows it to do the equivalent of 'mkdir -p'.
-            if ( this.verbose ) System.out.println( HDR +" Not a single match for '"+ _yamlPath.toString() +"'");
-            onMatchFail( _yamlPath, _parentNode, _node, _yamlPath.yamlElemArr[ _yamlPath.yamlElemArr.length - 1 ], null); // location #11 for failure-2-match
+            this.trace.println( () -> HDR( _cursor ) +" Not a single match for '"+ _cursor.toString() +"'");
+            if ( ( this.callbackSubscriptions & CALLBACK_MATCH_FAIL ) != 0 )
+                this.fireMatchFail( _frame.buf, _cursor, _frame.parentNode, _frame.node, _cursor.asYAMLPath().yamlElemArr[ _cursor.asYAMLPath().yamlElemArr.length - 1 ], null); // location #11 for failure-2-match
             // final YAMLPath ypNoMatches = YAMLPath.deepClone(_yamlPath); // to keep _yamlPath intact within this function.. as it's passed by reference into this function.
             // ypNoMatches.skip2end();
             // onMatchFail( ypNoMatches, _parentNode, _node, ypNoMatches.yamlElemArr[ ypNoMatches.yamlElemArr.length - 1 ], null ); // location #12 for failure-2-match
         }
 
         // Now that we looped thru all keys at current recursion level..
-        // .. for now nothing to do here.
+        // If the limit (see setMaxMatches()) cut this short, do NOT memoize.
+        if ( _frame.memoFrom >= 0 && ! this.isMatchLimitReached() )
+            this.memo.put( _frame.node, _cursor, _frame.memoBase, _frame.memoFrom, aMatchFound );
+        final AliasTracker aliases = this.aliasTracker( _frame.buf );
+        if ( aliases != null )
+            aliases.exit( _frame.node, _cursor );
 
         return aMatchFound;
-    } // function
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    // The following 4 methods: If _buf == null, invoke the callback right-away.  Otherwise, add it to the buffer (to be replayed later) and pretend the callback returned true.
+    // Once the limit set via setMaxMatches() is reached, NO callbacks are invoked (as if they returned false).
+    // If there's a memo (single-threaded traversal ONLY), the end2end matches are logged as well (see SubtreeMemo).
+    // onPartialMatch() and onMatchFail() are skipped, unless the sub-class subscribed to them (see getCallbackSubscriptions()).  A skipped onPartialMatch() is as if it returned true.
+
+    private boolean firePartialMatch( final MatchBuffer _buf, final Node _node, final YAMLPathCursor _cursor, final String _keyStr, final Node _parentNode, final Breadcrumbs _end2EndPaths ) throws Exception {
+        if ( this.isMatchLimitReached() ) return false;
+        if ( ( this.callbackSubscriptions & CALLBACK_PARTIAL_MATCH ) == 0 ) return true;
+        if ( _buf == null ) return this.onPartialMatch( _node, _cursor, _keyStr, _parentNode, _end2EndPaths );
+        _buf.addPartialMatch( _node, _cursor, _keyStr, _parentNode, _end2EndPaths );
+        return true;
+    }
+
+    private boolean fireEnd2EndMatch( final MatchBuffer _buf, final YAMLPathCursor _cursor, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final Breadcrumbs _end2EndPaths ) throws Exception {
+        if ( this.isMatchLimitReached() ) return false;
+        if ( _buf == null ) {
+            if ( this.memo != null ) this.memo.logEnd2EndMatch( _cursor, _key, _keyNode, _valNode, _parentNode, _end2EndPaths );
+            return this.countMatch( this.onEnd2EndMatch( _cursor, _key, _keyNode, _valNode, _parentNode, _end2EndPaths ) );
+        }
+        _buf.addEnd2EndMatch( _cursor, _key, _keyNode, _valNode, _parentNode, _end2EndPaths );
+        return true;
+    }
+
+    private boolean fireEnd2EndMatchNewIndex( final MatchBuffer _buf, final YAMLPathCursor _cursor, final int _newIndex, final SequenceNode _parentSeqNode, final Breadcrumbs _end2EndPaths ) throws Exception {
+        if ( this.isMatchLimitReached() ) return false;
+        if ( _buf == null ) {
+            if ( this.memo != null ) this.memo.logEnd2EndMatchNewIndex( _cursor, _newIndex, _parentSeqNode, _end2EndPaths );
+            return this.countMatch( this.onEnd2EndMatchNewIndex( _cursor, _newIndex, _parentSeqNode, _end2EndPaths ) );
+        }
+        _buf.addEnd2EndMatchNewIndex( _cursor, _newIndex, _parentSeqNode, _end2EndPaths );
+        return true;
+    }
+
+    private void fireMatchFail( final MatchBuffer _buf, final YAMLPathCursor _cursor, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final Breadcrumbs _end2EndPaths ) throws Exception {
+        if ( ( this.callbackSubscriptions & CALLBACK_MATCH_FAIL ) == 0 || this.isMatchLimitReached() )
+            return;
+        if ( _buf == null )
+            this.onMatchFail( _cursor, _parentNode, _nodeNoMatch, _key, _end2EndPaths );
+        else
+            _buf.addMatchFail( _cursor, _parentNode, _nodeNoMatch, _key, _end2EndPaths );
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** Searches the children [_from, _to) of a MappingNode or SequenceNode, adding all callbacks to _buf.  See {@link #searchMappingRange} and {@link #searchSequenceRange} */
+    private interface RangeSearch {
+        Boolean search( final int _from, final int _to, final MatchBuffer _buf ) throws Exception;
+    }
+
+    /** <p>Wraps any (checked) Exception thrown within a ForkJoin-task.  Unwrapped by {@link #forkJoin}, so that the callers see the original Exception</p> */
+    private static class ParallelSearchException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        public ParallelSearchException( final Exception _e ) { super( _e ); }
+    }
+
+    /** <p>Splits [_from, _to) into halves, until each half has no more than 'threshold' children.  The results (the buffered callbacks) are merged in document order.</p> */
+    private static class RangeTask extends RecursiveTask<RangeTask> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient RangeSearch search;
+        /** NOT altered.  The AliasTracker of the ForkJoin-task that split the MappingNode/SequenceNode.  See {@link AliasTracker#forkPath()} */
+        private final transient AliasTracker aliases;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        /** the result: see {@link #searchMappingRange} */
+        private Boolean aMatchFound = null;
+        /** the result: all the callbacks for [from, to) in document order */
+        private transient MatchBuffer buf = null;
+
+        RangeTask( final RangeSearch _search, final AliasTracker _aliases, final int _from, final int _to, final int _threshold ) {
+            this.search = _search;
+            this.aliases = _aliases;
+            this.from = _from;
+            this.to = _to;
+            this.threshold = _threshold;
+        }
+
+        @Override
+        protected RangeTask compute() {
+            if ( this.to - this.from <= this.threshold ) {
+                this.buf = new MatchBuffer( this.aliases.forkPath() );
+                try {
+                    this.aMatchFound = this.search.search( this.from, this.to, this.buf );
+                } catch( Exception e ) {
+                    throw new ParallelSearchException( e );
+                }
+            } else {
+                final int mid = ( this.from + this.to ) >>> 1;
+                final RangeTask left = new RangeTask( this.search, this.aliases, this.from, mid, this.threshold );
+                final RangeTask right = new RangeTask( this.search, this.aliases, mid, this.to, this.threshold );
+                left.fork();
+                right.compute();
+                left.join();
+                this.buf = left.buf;
+                this.buf.append( right.buf );
+                // the LAST assignment (in document order) is what matters.  See searchMappingRange()
+                this.aMatchFound = ( right.aMatchFound != null ) ? right.aMatchFound : left.aMatchFound;
+            }
+            return this;
+        }
+    }
+
+    /** <p>Searches ALL the _size children of a MappingNode or SequenceNode in parallel - using this.forkJoinPool.</p>
+     *  @param _size # of children of the MappingNode or SequenceNode
+     *  @param _buf NotNull.  All the callbacks (in document order) are appended to this.
+     *  @param _search the range-search to be run in parallel
+     *  @return See {@link #searchMappingRange}
+     *  @throws Exception whatever exception was thrown by _search (or by the callbacks)
+     */
+    private Boolean forkJoin( final int _size, final MatchBuffer _buf, final RangeSearch _search ) throws Exception {
+        final RangeTask task = new RangeTask( _search, _buf.getAliasTracker(), 0, _size, this.parallelThreshold );
+        try {
+            // If we're already within a ForkJoin-task (nested MappingNodes/SequenceNodes), run within the same pool.
+            if ( ForkJoinTask.inForkJoinPool() )
+                task.invoke();
+            else
+                this.forkJoinPool.invoke( task );
+        } catch( RuntimeException e ) {
+            for ( Throwable t = e; t != null; t = t.getCause() )
+                if ( t instanceof ParallelSearchException && t.getCause() instanceof Exception )
+                    throw (Exception) t.getCause();
+            throw e;
+        }
+        _buf.append( task.buf );
+        return task.aMatchFound;
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** <p>Searches a range of the tuples of a MappingNode - for parallel traversal (within a ForkJoin-task).</p>
+     *  <p>Note: A tuple that is a end2end match (location #1 within {@link #nextTuple}) removes the last TWO breadcrumbs.  So, each subsequent peer-tuple sees one less breadcrumb.  Hence the need for {@link #countEnd2EndKeyMatches}, to figure out the breadcrumbs at the start of each range.</p>
+     *  @param mapNode the MappingNode being searched
+     *  @param yamlPElemMatcher _cursor.matcher()
+     *  @param _cursor See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _breadcrumbs the breadcrumbs as-of the first tuple within _range
+     *  @param _range a sub-list of mapNode's tuples
+     *  @param _buf See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs, MatchBuffer)}
+     *  @return null if this range did NOT alter the 'aMatchFound' of the enclosing recursiveSearch().  Otherwise the last value it assigned.
+     *  @throws Exception See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     */
+    private Boolean searchMappingRange( final MappingNode mapNode, final CompiledYAMLPath.ElemMatcher yamlPElemMatcher, final YAMLPathCursor _cursor,
+                                        final Breadcrumbs _breadcrumbs, final java.util.List<NodeTuple> _range, final MatchBuffer _buf ) throws Exception
+    {
+        final Frame frame = new Frame();
+        frame.kind = FrameKind.MAPPING;
+        frame.node = frame.mapNode = mapNode;
+        frame.cursor = _cursor;
+        frame.matcher = yamlPElemMatcher;
+        frame.buf = _buf;
+        frame.end2EndPaths = _breadcrumbs;
+        frame.tuples = _range.iterator();
+        while ( this.nextChild( frame ) )
+            this.childDone( frame, this.recursiveSearch( frame.childNode, frame.childCursor, frame.node, frame.childBreadcrumbs, _buf ) ); // recursion call
+        return frame.aMatchFound;
+    }
+
+    /** <p>The body of the FOR-LOOP over the tuples of a MappingNode.  See {@link #nextChild}.</p>
+     *  @param _frame see {@link #beginNode}
+     *  @return See {@link #nextChild}
+     *  @throws Exception See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     */
+    private boolean nextTuple( final Frame _frame ) throws Exception
+    {
+        final MappingNode mapNode = _frame.mapNode;
+        final CompiledYAMLPath.ElemMatcher yamlPElemMatcher = _frame.matcher;
+        final YAMLPathCursor _cursor = _frame.cursor;
+        final MatchBuffer _buf = _frame.buf;
+        final java.util.List<NodeTuple> tuples = mapNode.getValue();
+        final Object rhs = tuples; // for debug-printing purposes ONLY
+
+        while ( _frame.tuples.hasNext() ) {
+            if ( this.isMatchLimitReached() ) break; // See setMaxMatches()
+            final NodeTuple kv = _frame.tuples.next();
+            final int pos = _frame.tuplePos ++;
+            final Node keyNode = kv.getKeyNode();
+            assertTrue( keyNode instanceof ScalarNode );
+            // assertTrue( keyNode.getNodeId() == NodeId.scalar ); // if this ass-ert fails, what scenario does that represent?
+            // @SuppressWarnings("unchecked")
+            final ScalarNode scalarKey = (ScalarNode) keyNode;
+            final String keyAsStr = scalarKey.getValue();
+            final String keytag = scalarKey.getTag().getValue();  //tag:yaml.org,2002:str   --or--  !XYZ
+
+            final Node valNode = kv.getValueNode();
+            this.trace.println( () -> HDR( _cursor ) +"found keyAsStr=["+ keyAsStr +"] & LHS, keyTag & RHS = ["+ keyNode + "] !"+ keytag + " : "+ Tracer.abbreviate( valNode ) + " ;" );
+
+            //-----------------
+            final boolean hasThisKeyEntryMatched;
+            final boolean hasThisYamlLineLiterallyMatched;
+            if ( yamlPElemMatcher.isGreedyWildcard() ) {
+                hasThisYamlLineLiterallyMatched = false;
+                hasThisKeyEntryMatched = true;
+            } else if ( yamlPElemMatcher.matches( keyAsStr ) ) {
+                hasThisYamlLineLiterallyMatched = true;
+                hasThisKeyEntryMatched = true;
+            } else if ( _cursor.wildcardPrefix ) {
+                // One more check: If current YamlLine's keyNode did NOT match, but is there a "**" for a "greedy-match"
+                hasThisYamlLineLiterallyMatched = false;
+                hasThisKeyEntryMatched = true;
+            } else {
+                hasThisYamlLineLiterallyMatched = false;
+                hasThisKeyEntryMatched = false;
+            }
+            this.trace.println( () -> HDR( _cursor ) +" hasThisKeyEntryMatched="+ hasThisKeyEntryMatched + ", hasThisYamlLineLiterallyMatched="+ hasThisYamlLineLiterallyMatched + " " );
+
+            if ( hasThisKeyEntryMatched ) {
+                this.trace.println( () -> HDR( _cursor ) +" matched("+ hasThisYamlLineLiterallyMatched+ ") '"+ keyNode +"':\t"+ Tracer.abbreviate( tuples ) +"\t\t of type '"+rhs.getClass().getName() +"'");
+
+                _frame.end2EndPaths = _frame.end2EndPaths.push( keyAsStr ); // end2EndPaths keeps the breadcrumbs
+
+                //------------------------------------------------------
+                assertTrue(_cursor.hasNext); // why on earth would this ass-ertion fail - see checks @ top of function.
+
+                // _cursor is immutable.  So, _cursor is intact as we recurse in & out of sub-yaml-elements
+                // if NOT moving forward, _cursor.elem should continue to have "**" as previous element.
+                final YAMLPathCursor lookForwardYAMLPath = (  hasThisYamlLineLiterallyMatched ||  !  _cursor.wildcardPrefix ) ? _cursor.next() : _cursor;
+
+                final Breadcrumbs cloneOfE2EPaths = _frame.end2EndPaths; // immutable.  No need to clone.
+
+                this.trace.println( () -> HDR( _cursor ) +" @ whether to recurse: lookForwardYAMLPath " + lookForwardYAMLPath +" -- lookForwardYAMLPath.hasNext='"+ lookForwardYAMLPath.hasNext
+                                            +"'  _cursor.wildcardPrefix='"+ _cursor.wildcardPrefix +"' cloneOfE2EPaths=''"+ cloneOfE2EPaths +"' " );
+
+                if ( ! lookForwardYAMLPath.hasNext ) {
+                    // NO more recursion feasible!
+                    // well! we've matched end2end .. to a "Map" element (instead of String elem)!
+                    _frame.aMatchFound = Boolean.TRUE;
+
+                    // let sub-classes determine what to do here
+                    // final boolean callbkRet3 =
+                    this.fireEnd2EndMatch( _buf, _cursor, keyAsStr, keyNode, valNode, mapNode, cloneOfE2EPaths ); // location #1 for end2end match
+
+                    _frame.end2EndPaths = _frame.end2EndPaths.pop(); // undo the effect of 'end2EndPaths.push( keyAsStr )' -- see about 20 lines above
+                    this.trace.println( () -> HDR( _cursor ) +" End2End Match#1 in YAML-file: "+ _cursor.asYAMLPath().getPrefix() +" "+ keyNode  +":\t"+ Tracer.abbreviate( tuples ) +"\t\t type '"+rhs.getClass().getName() +"'");
+
+                    // if ( ! callbkRet3 ) continue; // Pretend as if match failed.
+                    // continue; // outermost for-loop ( NodeTuple kv: tuples )
+
+                } else {
+                    //------------------------------------------------------
+                    // .. continue below.
+
+                    // If we're here, it means INCOMPLETE match..
+
+                    // let sub-classes determine what to do here
+                    final boolean callbkRet2 = this.firePartialMatch( _buf, keyNode, _cursor, keyAsStr, mapNode, _frame.end2EndPaths );
+                    if ( ! callbkRet2 ) continue; // If so, STOP  any further matching DOWN/BENEATH that partial-match
+
+                    this.trace.println( () -> HDR( _cursor ) +" recursing with lookForwardYAMLPath=" + lookForwardYAMLPath +": ... @ YAML-file-location: '"+ keyNode +"': "+ Tracer.abbreviate( tuples ) );
+
+                    //--------------------------------------------------------
+                    // if we are here, we've only a PARTIAL match.
+                    // So.. we need to keep recursing (specifically for Map & Sequence YAML elements)
+                    if ( valNode.getNodeId() == NodeId.scalar && valNode instanceof ScalarNode ) {
+                        final ScalarNode scalarN = (ScalarNode) valNode;
+                        // final String valtag = scalarN.getTag().getValue();  //tag:yaml.org,2002:str   --or--  !XYZ
+                        this.trace.println( () -> HDR( _cursor ) +" @ ScalarNode="+scalarN+"  _cursor.hasNext="+ _cursor.hasNext );
+
+                        if ( _cursor.hasNext ) {
+                            // then it's --NOT-- an end2end match, at least it's a partial match.. (perhaps)
+                            // Here's the tricky concept for SnakeYAML structure:-
+                            // If hasThisKeyEntryMatched==true and we have a ScalarNode as RHS..
+                            // then, well, there's a 99.99999% chance that the ENCLOSING FOR-Loop: for( NodeTuple kv: tuples )
+                            // has just one iteration.
+                            // Just one iteration/loop ==> implies we have a Match-Fail.
+                            this.fireMatchFail( _buf, _cursor, mapNode, keyNode, keyAsStr, _frame.end2EndPaths); // location #1 for failure-2-match
+                            // fall thru towards end of the FOR-LOOP - to execute some important steps before another iteration of FOR LOOP begins.
+                        } else {
+                            // yeah! We found a full end2end match!  Also, No more recursion is feasible.
+                            // let sub-classes determine what to do here
+                            final boolean callbkRet5 = this.fireEnd2EndMatch( _buf, _cursor, keyAsStr, keyNode, valNode, mapNode, cloneOfE2EPaths); // location #2 for end2end match
+                            this.trace.println( () -> HDR( _cursor ) +" callbkRet5="+callbkRet5+" End2End Match#2 @ YAML-File: "+ keyNode +": "+ Tracer.abbreviate( tuples ) );
+                            if ( ! callbkRet5 ) continue; // Pretend as if match failed and continue to next peer YAML element.
+                            _frame.end2EndPaths = Breadcrumbs.EMPTY;
+                            _frame.aMatchFound = Boolean.TRUE;
+                        }
+
+                    } else if (    ( valNode.getNodeId() == NodeId.mapping && valNode instanceof MappingNode )
+                                || ( valNode.getNodeId() == NodeId.sequence && valNode instanceof SequenceNode ) ) {
+                        // recursion call: see childDone() for what happens after it returns (that is, the rest of this FOR-LOOP's body)
+                        _frame.childNode = valNode;
+                        _frame.childCursor = lookForwardYAMLPath;
+                        _frame.childBreadcrumbs = cloneOfE2EPaths;
+                        _frame.childPos = pos;
+                        return true;
+
+                    } else {
+                        System.err.println( HDR( _cursor ) +" incomplete code: Unable to handle rhs of Node-type '"+ valNode.getNodeId() +" and className='"+ rhs.getClass().getName() +"'");
+                        this.fireMatchFail( _buf, _cursor, mapNode, keyNode, keyAsStr, _frame.end2EndPaths); // location #3 for failure-2-match
+                    } // if-else   rhs instanceof   Map/Array/String/.. ..
+
+                } // if-else lookForwardYAMLPath.hasNext
+
+                // As we've had AT-LEAST a PARTIAL-MATCH, in CURRENT-ITERATION (of FOR-LOOP).. ..
+                // we need to "undo" that for next iteration (of FOR) for the next-peer YAML-element
+                if ( _frame.end2EndPaths.size() > 0 )
+                    _frame.end2EndPaths = _frame.end2EndPaths.pop();
+
+            } else {
+                // false == foundAMatch  -- -- i.e., FAILED to match YAML-Path pattern.
+                this.fireMatchFail( _buf, _cursor, mapNode, keyNode, keyAsStr, _frame.end2EndPaths); // location #4 for failure-2-match
+
+            }// if-else hasThisKeyEntryMatched
+
+        } // for loop   NodeTuple kv: tuples
+
+        return false;
+    }
+
+    //==============================================================================
+
+    /** <p>How many of the tuples of a MappingNode (BEFORE each index) are end2end matches, for the YAML-Path-element at _cursor.  Needed ONLY for parallel traversal.</p>
+     *  <p>This replicates the logic of {@link #searchMappingRange} re: 'hasThisKeyEntryMatched' and 'lookForwardYAMLPath' (but without invoking any callbacks).</p>
+     *  @param _tuples the tuples of a MappingNode
+     *  @param _matcher _cursor.matcher()
+     *  @param _cursor current position within the YAML-Path
+     *  @return array of size (_tuples.size() + 1), where [ix] is the # of end2end matches within _tuples[0 .. ix-1]
+     */
+    private static int[] countEnd2EndKeyMatches( final java.util.List<NodeTuple> _tuples, final CompiledYAMLPath.ElemMatcher _matcher, final YAMLPathCursor _cursor ) {
+        final int[] popsBefore = new int[ _tuples.size() + 1 ];
+        int ix = 0;
+        for( NodeTuple kv: _tuples ) {
+            boolean isEnd2End = false;
+            if ( kv.getKeyNode() instanceof ScalarNode ) {
+                final String keyAsStr = ((ScalarNode) kv.getKeyNode()).getValue();
+                final boolean literally = ( ! _matcher.isGreedyWildcard() ) && _matcher.matches( keyAsStr );
+                if ( literally || _matcher.isGreedyWildcard() || _cursor.wildcardPrefix ) {
+                    final YAMLPathCursor lookFwd = ( literally || ! _cursor.wildcardPrefix ) ? _cursor.next() : _cursor;
+                    isEnd2End = ! lookFwd.hasNext;
+                }
+            }
+            popsBefore[ ix + 1 ] = popsBefore[ ix ] + ( isEnd2End ? 1 : 0 );
+            ix ++;
+        }
+        return popsBefore;
+    }
+
+    //==============================================================================
+
+    /** <p>SequenceNodes created by this library are backed by a java.util.ArrayList.  But, others (for example, created by older code or other libraries) may be backed by a LinkedList - where get(ix) within a loop is O(n<sup>2</sup>).</p>
+     *  @param _seqs the items of a SequenceNode
+     *  @param _from index of the 1st item to iterate over
+     *  @return null if _seqs is java.util.RandomAccess (so, use get(ix) instead).  Otherwise, an iterator positioned at item _from
+     */
+    static java.util.Iterator<Node> itemsIterator( final java.util.List<Node> _seqs, final int _from ) {
+        return ( _seqs instanceof java.util.RandomAccess ) ? null : _seqs.listIterator( _from );
+    }
+
+    /** <p>Searches the items [_from, _to) of a SequenceNode - for parallel traversal (within a ForkJoin-task).</p>
+     *  @param _setup NOT altered.  What {@link #beginNode} computed ONCE for the SequenceNode, before iterating over its items.
+     *  @param _from index of first item to search (inclusive)
+     *  @param _to index of last item to search (exclusive)
+     *  @param _buf See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs, MatchBuffer)}
+     *  @return null if this range did NOT alter the 'aMatchFound' of the enclosing recursiveSearch().  Otherwise the last value it assigned.
+     *  @throws Exception See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     */
+    private Boolean searchSequenceRange( final Frame _setup, final int _from, final int _to, final MatchBuffer _buf ) throws Exception
+    {
+        final Frame frame = new Frame();
+        frame.copySequenceSetup( _setup );
+        frame.buf = _buf;
+        frame.ix = _from;
+        frame.to = _to;
+        frame.items = itemsIterator( frame.seqNode.getValue(), _from );
+        while ( this.nextChild( frame ) )
+            this.childDone( frame, this.recursiveSearch( frame.childNode, frame.childCursor, frame.node, frame.childBreadcrumbs, _buf ) ); // recursion call
+        return frame.aMatchFound;
+    }
+
+    /** <p>The body of the FOR-LOOP over the items of a SequenceNode.  See {@link #nextChild}.</p>
+     *  @param _frame see {@link #beginNode}
+     *  @return See {@link #nextChild}
+     *  @throws Exception See {@link #recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     */
+    private boolean nextItem( final Frame _frame ) throws Exception
+    {
+        final SequenceNode seqNode = _frame.seqNode;
+        final java.util.List<Node> seqs = seqNode.getValue();
+        final YAMLPathCursor _cursor = _frame.cursor;
+        final MatchBuffer _buf = _frame.buf;
+        final Breadcrumbs end2EndPaths = _frame.end2EndPaths; // this loop does NOT alter the breadcrumbs
+        final YAMLPathCursor lookForwardYAMLPath = _frame.lookForwardYAMLPath;
+        final YAMLPathCursor nonStarLookFwdYAMLPath = _frame.nonStarLookFwdYAMLPath;
+        final boolean bWildcard = _frame.bWildcard;
+        final boolean bMatchAny = _frame.bMatchAny;
+        final String upcomingPathElem = _frame.upcomingPathElem;
+        final CompiledYAMLPath.ElemMatcher upcomingMatcher = _frame.upcomingMatcher;
+
+        while ( _frame.ix < _frame.to ) {
+            if ( this.isMatchLimitReached() ) break; // See setMaxMatches()
+            final int ix = _frame.ix ++; // effectively-final copy, so that it can be used within the lambdas passed to this.trace
+
+            final Node seqItemNode = ( _frame.items != null ) ? _frame.items.next() : seqs.get(ix);
+            this.trace.println( () -> HDR( _cursor ) +"SSUUBB_SEQITEM-node = ["+ Tracer.abbreviate( seqItemNode ) + "]" );
+
+            final Breadcrumbs cloneOfE2EPaths = end2EndPaths; // immutable.  No need to clone.
+
+            // if have a '**' or *' for current path-element..  variable 'upcomingPathElem' will point to the next yaml-element within the YAML-Path-PATTERN is.
+            // otherwise variable 'upcomingPathElem' will point to CURRENT yaml-element.
+            this.trace.println( () -> HDR( _cursor ) +" bWildcard="+ bWildcard +" bMatchAny="+ bMatchAny +" upcomingPathElem="+ upcomingPathElem +" ix="+ix );
+            if ( upcomingMatcher != null ) this.trace.println( () -> HDR( _cursor ) +" upcomingMatcher.matchesIndex(ix)="+ upcomingMatcher.matchesIndex(ix) );
+
+            if ( bWildcard || bMatchAny || upcomingMatcher.matchesIndex(ix) ) {
+                this.trace.println( () -> HDR( _cursor ) +" nonStarLookFwdYAMLPath.hasNext="+ nonStarLookFwdYAMLPath.hasNext );
+                if (   !   nonStarLookFwdYAMLPath.hasNext ) {
+                    // yeah! We found a !!!full!!! end2end match!  Reason:- No more recursion is feasible.
+                    final Breadcrumbs clone222OfE2EPaths = cloneOfE2EPaths.push( "["+ix+"]" ); // add the index like [1] into the discovered yaml-path.  cloneOfE2EPaths is NOT altered.
+                    // let sub-classes determine what to do here
+                    final boolean callbkRet6 = this.fireEnd2EndMatch( _buf, lookForwardYAMLPath, ix, null, seqItemNode, seqNode, clone222OfE2EPaths); // location #2 for end2end match
+                    // we do Not know how deep the recursion is.
+                    // once recursion call returns, we happily go back to the UNTOUCHED _yamlPath & to _end2EndPaths  - which is still intact for use by the FOR loop.
+                    this.trace.println( () -> HDR( _cursor ) +" callbkRet6="+callbkRet6+" End2End Match#2 @ YAML-File: "+ seqItemNode +": "+ Tracer.abbreviate( seqNode ) );
+                    if ( ! callbkRet6 ) continue; // Pretend that EVEN IF match failed (per sub-class), continue to next peer YAML element.
+                    _frame.aMatchFound = Boolean.TRUE;
+                    continue; // for loop over Array
+                // } else {
+                //     // Ok. We're FORCED to "move to" next element of YAML-Path-PATTERN.. .. (that is, nonStarLookFwdYAMLPath.next())
+                //     // !!!!!!!!!!!!! ATTENTION !!!!!!!!!!!!!
+                //     // THIS IS THE ONLY IF-ELSE EXECUTION-BRANCH that will .. Fall thru out of this nested-IF into rest of FOR-Loop body.
+                }
+                // else fall through.
+
+            } else {
+                continue; // move on to next Array YAML element in 'seqs' (next iteration of innermost-enclosing FOR-LOOP)
+                // Why? Because when matching array-indices, it's very simple (black-n-white) whether a possible match or No possible match.
+            }
+
+            // If we're here.. then, We've got an INCOMPLETE-Match: Either via a wildcard('**'), or we have a '*' for current path-element or.. potentially we've a INCORRECT INDEX-LEVEL match.
+            //-------------------------------
+            if ( seqItemNode instanceof ScalarNode && seqItemNode.getNodeId() == NodeId.scalar) {
+                // can't be a match, as it's a simple Scalar - as in, Not even in the format   "rhs: lhs"
+                this.fireMatchFail( _buf, _cursor, seqNode, seqItemNode, ix, end2EndPaths); // location #5 for failure-2-match
+
+            } else if ( seqItemNode instanceof MappingNode && seqItemNode.getNodeId() == NodeId.mapping ) { // if the array-yaml-element is Not a simple string.
+                // @SuppressWarnings("unchecked")
+                // final MappingNode lhmp2 = (MappingNode) seqItemNode;
+                // Let's prepare for recursion .. clone all modifiaable-variables being passed.
+                final YAMLPathCursor recursionYamlPath = nonStarLookFwdYAMLPath; // immutable.  No need to clone.
+                final Breadcrumbs clone333OfE2EPaths = cloneOfE2EPaths.push( "["+ix+"]" ); // add the index like [1] into the discovered yaml-path.  cloneOfE2EPaths is NOT altered.
+                // recursion call: see childDone().  _frame.ix already points to the next item.
+                _frame.childNode = seqItemNode;
+                _frame.childCursor = recursionYamlPath;
+                _frame.childBreadcrumbs = clone333OfE2EPaths;
+                _frame.childPos = ix;
+                return true;
+
+            } else if ( seqItemNode instanceof SequenceNode && seqItemNode.getNodeId() == NodeId.sequence ) {
+                System.err.println( HDR( _cursor ) +" incomplete code: WTF? YAML-Array consisting of Arrays??? Let me think about it .. on how to implement this! w Node-type "+ seqItemNode.getNodeId() +" and className='"+ seqItemNode.getClass().getName() +"'" );
+                this.fireMatchFail( _buf, _cursor, seqNode, seqItemNode, ix, end2EndPaths); // location #6 for failure-2-match
+            } else {
+                System.err.println( HDR( _cursor ) +" incomplete code: failure w Node-type "+ seqItemNode.getNodeId() +" and className='"+ seqItemNode.getClass().getName() +"'" );
+                this.fireMatchFail( _buf, _cursor, seqNode, seqItemNode, ix, end2EndPaths); // location #7 for failure-2-match
+
+            } // if-Else   seqItemNode instanceof Map - (WITHIN FOR-LOOP)
+
+        } // FOR-LOOP seqItemNode: seqs
+
+        return false;
+    }
 
 }
@@ -0,0 +1,184 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package org.ASUX.YAML.NodeImpl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+
+/** <p>Identity-based tracking of the YAML-aliases that a single traversal expands.</p>
+ *  <p>SnakeYAML's Composer resolves every <code>*alias</code> to the very same Node-instance as the anchor (<code>&amp;anchor</code>).  So, a traversal that does NOT keep track, walks that Node again - from scratch - for each alias.  Nested aliases multiply that.  And a recursive alias (a Node that contains an alias to itself, which SnakeYAML does allow) never ends.</p>
+ *  <p>For each anchored MappingNode/SequenceNode and each 'state' of the traversal (like the position within the YAML-Path), this keeps track of whether it's currently being expanded (that is, a recursive alias) - or - was expanded before.</p>
+ *  <p>Expanding an alias again is normal (think: thousands of entries, each an alias to the same 'defaults').  That's linear in the size of the YAML, and is NOT limited.  Only a repeat-expansion WITHIN another repeat-expansion counts against the budget - that is, aliases nested within aliases, whose cost multiplies with each level of nesting.</p>
+ *  <p>Not thread-safe.  Create one per traversal - and, for parallel traversal, one per ForkJoin-task (see {@link #forkPath()}).</p>
+ */
+public final class AliasTracker {
+
+    public static final String CLASSNAME = AliasTracker.class.getName();
+
+    /** The default # of times, that already-expanded YAML-aliases can be expanded again WITHIN the repeat-expansion of another alias (within a single traversal) */
+    public static final int DEFAULT_BUDGET = 10000;
+
+    /** <p>Thrown when a single traversal has to expand already-expanded YAML-aliases more than the budget allows.</p> */
+    public static class AliasBudgetExceededException extends Exception {
+        private static final long serialVersionUID = 1L;
+        public AliasBudgetExceededException( final String _s ) { super( _s ); }
+    }
+
+    /** org.yaml.snakeyaml.nodes.Node's equals() and hashCode() are final &amp; identity-based.  The state is compared by identity as well. */
+    private static final class Key {
+        final Node node;
+        final Object state;
+
+        Key( final Node _node, final Object _state ) {
+            this.node = _node;
+            this.state = _state;
+        }
+
+        @Override
+        public boolean equals( final Object _o ) {
+            if ( ! ( _o instanceof Key ) ) return false;
+            final Key other = (Key) _o;
+            return this.node == other.node && this.state == other.state;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode( this.node ) * 31 + System.identityHashCode( this.state );
+        }
+    }
+
+    private final int budget;
+    private int reExpansions = 0;
+    private final AtomicInteger nestedReExpansions; // shared with all the trackers created via forkPath()
+    private int reExpanding = 0; // # of repeat-expansions in progress (that is, nested within one another)
+
+    /** The anchored Nodes (and states) being expanded right now: from the outermost to the innermost.  See {@link #forkPath()} */
+    private final ArrayList<Key> path = new ArrayList<>();
+
+    private static final Integer EXPANDING = 1;     // being expanded right now, for the 1st time
+    private static final Integer REEXPANDING = 2;   // being expanded right now, again
+    private static final Integer DONE = 0;          // expanded before (and done)
+    private final HashMap<Key, Integer> expanded = new HashMap<>();
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** @param _budget max # of times that already-expanded YAML-aliases can be expanded again, within the repeat-expansion of another alias (Integer.MAX_VALUE for NO limit) */
+    public AliasTracker( final int _budget ) {
+        this( _budget, new AtomicInteger( 0 ) );
+    }
+
+    private AliasTracker( final int _budget, final AtomicInteger _nestedReExpansions ) {
+        this.budget = _budget;
+        this.nestedReExpansions = _nestedReExpansions;
+    }
+
+    /** <p>For parallel traversal: a new tracker for a ForkJoin-task, that continues from where this tracker is right now.  That is, the anchored Nodes being expanded right now (the ancestors of the ForkJoin-task's Nodes) are being expanded within the new tracker too.  So, a recursive alias is detected, even if it spans ForkJoin-tasks.</p>
+     *  <p>The budget is shared with this tracker (and all the others forked from it).  What was expanded before (and is done) is NOT copied: each ForkJoin-task sees its own first expansions.</p>
+     *  <p>This tracker must NOT be altered, while this is invoked.  Invoking this concurrently (from many ForkJoin-tasks) is fine.</p>
+     *  @return a NotNull new instance
+     */
+    public AliasTracker forkPath() {
+        final AliasTracker fork = new AliasTracker( this.budget, this.nestedReExpansions );
+        for ( Key key: this.path ) {
+            fork.expanded.put( key, this.expanded.get( key ) );
+            fork.path.add( key );
+        }
+        fork.reExpanding = this.reExpanding;
+        return fork;
+    }
+
+    /** @param _node can be null
+     *  @return true if YAML-aliases may refer to _node: that is, an anchored MappingNode or SequenceNode
+     */
+    public static boolean isAnchored( final Node _node ) {
+        return _node != null && _node.getAnchor() != null && ! ( _node instanceof ScalarNode );
+    }
+
+    //==============================================================================
+
+    /** <p>Invoke this BEFORE expanding _node (and if this returns true, invoke {@link #exit(Node, Object)} once done).  Nodes that are NOT anchored are NOT tracked (and this returns true).</p>
+     *  @param _node NotNull
+     *  @param _state what else (other than _node) determines the outcome of the expansion (example: position within the YAML-Path).  Can be null.
+     *  @return false if _node is already being expanded (for the same _state).  That is, a recursive YAML-alias - which must NOT be expanded.
+     *  @throws AliasBudgetExceededException if _node (for the same _state) was expanded before, while within the repeat-expansion of another alias - and the budget is used up
+     */
+    public boolean enter( final Node _node, final Object _state ) throws AliasBudgetExceededException {
+        if ( ! isAnchored( _node ) ) return true;
+        final Key key = new Key( _node, _state );
+        final Integer prev = this.expanded.get( key );
+        if ( prev == null ) {
+            this.expanded.put( key, EXPANDING );
+            this.path.add( key );
+            return true;
+        }
+        if ( ! DONE.equals( prev ) ) return false; // being expanded right now.  That is, a recursive alias.
+        this.reExpansions ++;
+        if ( this.reExpanding > 0 && this.nestedReExpansions.incrementAndGet() > this.budget )
+            throw new AliasBudgetExceededException( "YAML-alias *"+ _node.getAnchor() +" (and others like it, nested within other aliases) were expanded again & again, more than "+ this.budget +" times.  The YAML has too many nested aliases to process." );
+        this.expanded.put( key, REEXPANDING );
+        this.path.add( key );
+        this.reExpanding ++;
+        return true;
+    }
+
+    /** @param _node NotNull.  See {@link #enter(Node, Object)}
+     *  @param _state See {@link #enter(Node, Object)}
+     */
+    public void exit( final Node _node, final Object _state ) {
+        if ( ! isAnchored( _node ) ) return;
+        final Key key = new Key( _node, _state );
+        if ( REEXPANDING.equals( this.expanded.put( key, DONE ) ) )
+            this.reExpanding --;
+        // Nodes are exited in the reverse order that they were entered.  So, it's the last one (unless an Exception skipped some exits).
+        final int ix = this.path.lastIndexOf( key );
+        if ( ix >= 0 ) this.path.remove( ix );
+    }
+
+    /** @return # of times, that already-expanded YAML-aliases were expanded again */
+    public int getReExpansions() {
+        return this.reExpansions;
+    }
+
+    /** @return # of those {@link #getReExpansions()}, that happened within the repeat-expansion of another alias (these count against the budget) */
+    public int getNestedReExpansions() {
+        return this.nestedReExpansions.get();
+    }
+
+}
@@ -191,7 +191,7 @@ public class BatchCmdProcessor extends org.ASUX.yaml.BatchCmdProcessor<Node> {
     {
         assertTrue( _batchCmds != null );
         assertTrue( _input != null );
-        final String HDR = CLASSNAME +": processBatch(recursion="+ _bInRecursion +","+ _batchCmds.getCmdType().toString() +"): ";
+        // invoked once per batch-command; the HDR-string is only needed for the (rare) error-path below
         Node inputNode = null;
 
         if ( _input == null ) { // if the user specified /dev/null as --inputfile via command line, then _input===null
@@ -207,6 +207,7 @@ public class BatchCmdProcessor extends org.ASUX.yaml.BatchCmdProcessor<Node> {
         // } else if ( _input instanceof String ) {
         //     // WARNING: THIS IS NOT NEGOTIABLE .. I do NOT (can NOT) have an Input-Map (non-Scalar) as parameter !!!!!!!!!!!!!!!!!!!!!
         } else {
+            final String HDR = CLASSNAME +": processBatch(recursion="+ _bInRecursion +","+ _batchCmds.getCmdType().toString() +"): ";
             throw new BatchFileException( HDR +"INTERNAL ERROR: _input is Neither Map nor String:  while processing "+ _batchCmds.getState() +" .. unknown object of type ["+ _input.getClass().getName() +"]" );
         }
 
@@ -217,6 +218,76 @@ public class BatchCmdProcessor extends org.ASUX.yaml.BatchCmdProcessor<Node> {
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
     //=============================================================================
 
+    /**
+     *  <p>Same as running each of _cmds (one after the other) against the very same _input.  But, _input is traversed ONCE for all the commands (see {@link MultiPatternSearch}).</p>
+     *  <p>Meant for a series of consecutive READ, LIST and TABLE commands within a batch-file, that query the same input (as none of them alters it).</p>
+     *  @param _cmds NotNull list of READ, LIST and/or TABLE commands
+     *  @param _input the input YAML to ALL the commands.  It is NOT altered.
+     *  @return the outputs (each a org.yaml.snakeyaml.nodes.Node), in the same order as _cmds
+     *  @throws InvalidCmdLineArgumentException if any of the commands is NOT a READ, LIST or TABLE command
+     *  @throws YAMLPath.YAMLPathException if Pattern for YAML-Path provided is either semantically empty or is NOT java.util.Pattern compatible.
+     *  @throws Exception any errors/troubles noted from within the commands, especially TableCmdProcessor.java
+     */
+    public java.util.List<Node> processReadOnlyCmds( final java.util.List<CmdLineArgsCommon> _cmds, final Node _input )
+                throws InvalidCmdLineArgumentException, YAMLPath.YAMLPathException, Exception
+    {
+        final String HDR = CLASSNAME +": processReadOnlyCmds(#"+ _cmds.size() +",_input): ";
+        assertTrue( _input != null );
+
+        final MultiPatternSearch mps = new MultiPatternSearch( this.cmdLineArgs.verbose );
+        final java.util.List<AbstractYamlEntryProcessor> processors = new ArrayList<>( _cmds.size() );
+        for ( CmdLineArgsCommon cmd: _cmds ) {
+            // the DumperOptions are shared by all commands.  So, a command with its own quoteType gets its own copy.
+            final DumperOptions dopt;
+            if ( cmd.quoteType != Enums.ScalarStyle.UNDEFINED ) {
+                dopt = NodeTools.deepClone( this.dumperoptions );
+                NodeTools.updateDumperOptions( dopt, cmd.quoteType );
+            } else {
+                dopt = this.dumperoptions;
+            }
+            switch ( cmd.cmdType ) {
+            case READ:
+                final CmdLineArgsReadCmd claRead = (CmdLineArgsReadCmd) cmd;
+                final ReadYamlEntry readcmd = new ReadYamlEntry( claRead, dopt );
+                mps.add( readcmd, claRead.yamlRegExpStr, claRead.yamlPatternDelimiter );
+                processors.add( readcmd );
+                break;
+            case LIST:
+                final CmdLineArgsRegExp claList = (CmdLineArgsRegExp) cmd;
+                final ListYamlEntry listcmd = new ListYamlEntry( claList.verbose, claList.showStats, dopt, " , " );
+                mps.add( listcmd, claList.yamlRegExpStr, claList.yamlPatternDelimiter );
+                processors.add( listcmd );
+                break;
+            case TABLE:
+                final CmdLineArgsTableCmd claTbl = (CmdLineArgsTableCmd) cmd;
+                final TableYamlQuery tblcmd = new TableYamlQuery( claTbl, dopt );
+                mps.add( tblcmd, claTbl.yamlRegExpStr, claTbl.yamlPatternDelimiter );
+                processors.add( tblcmd );
+                break;
+            default:
+                throw new InvalidCmdLineArgumentException( HDR +"command '"+ cmd.cmdType +"' is NOT a read-only command (READ, LIST or TABLE)." );
+            }
+        }
+        if ( this.cmdLineArgs.verbose ) System.out.println( HDR +" searching for "+ mps.size() +" patterns, in ONE traversal of the input." );
+
+        mps.searchYamlForPatterns( _input ); // ONE traversal for all the commands
+
+        final java.util.List<Node> outputs = new ArrayList<>( processors.size() );
+        for ( AbstractYamlEntryProcessor processor: processors ) {
+            if ( processor instanceof ReadYamlEntry )
+                outputs.add( ((ReadYamlEntry) processor).getOutput() );
+            else if ( processor instanceof ListYamlEntry )
+                outputs.add( ((ListYamlEntry) processor).getOutput() );
+            else
+                outputs.add( ((TableYamlQuery) processor).getOutput() );
+        }
+        return outputs;
+    }
+
+    //=============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //=============================================================================
+
     /**
      *  Based on command type, process the inputNode and produce an output - for that specific command
      *  @param _batchCmds Non-Null instance of {@link BatchFileGrammer}
@@ -0,0 +1,177 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.ASUX.YAML.NodeImpl;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+
+/** <p>The "stack of matches" (a.k.a. breadcrumbs) - like ["paths", "/pet", "get", "responses", "200"] - that {@link AbstractYamlEntryProcessor#recursiveSearch} passes to the callbacks (onPartialMatch(), onEnd2EndMatch() etc..)</p>
+ *  <p>Previously this was a java.util.LinkedList&lt;String&gt;, that was shallow-cloned for every matched key and for every item of every SequenceNode.  That is, O(depth) allocation for every YAML-node visited.</p>
+ *  <p>Instead, this is an IMMUTABLE &amp; persistent parent-linked list.  Pushing a level is ONE small object, that shares the entire parent-chain.  So, no cloning is ever required.</p>
+ *  <p>A java.util.LinkedList is built only if a sub-class asks for one (see {@link #toList()}).  For everything else, this is Iterable (from top-most element to bottom-most element).</p>
+ */
+public final class Breadcrumbs implements Iterable<String> {
+
+    public static final String CLASSNAME = Breadcrumbs.class.getName();
+
+    /** The empty stack (the top-most YAML level).  Use {@link #push(String)} to create non-empty ones */
+    public static final Breadcrumbs EMPTY = new Breadcrumbs( null, null );
+
+    private final Breadcrumbs parent;
+    private final String crumb;
+    private final int size;
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    private Breadcrumbs( final Breadcrumbs _parent, final String _crumb ) {
+        this.parent = _parent;
+        this.crumb = _crumb;
+        this.size = ( _parent == null ) ? 0 : _parent.size + 1;
+    }
+
+    /** <p>Convenience method, for those who have a list of YAML-Path-elements already</p>
+     *  @param _list can be null (which is the same as an empty list)
+     *  @return a NotNull instance
+     */
+    public static Breadcrumbs of( final Iterable<String> _list ) {
+        Breadcrumbs retval = EMPTY;
+        if ( _list != null )
+            for ( String s: _list )
+                retval = retval.push( s );
+        return retval;
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** @param _crumb the YAML-element (like a key or an index like '[1]') that was just matched
+     *  @return a NEW instance (this instance is NOT altered) */
+    public Breadcrumbs push( final String _crumb ) {
+        return new Breadcrumbs( this, _crumb );
+    }
+
+    /** @return the parent (this instance is NOT altered).  If this is already empty, returns EMPTY */
+    public Breadcrumbs pop() {
+        return ( this.parent == null ) ? EMPTY : this.parent;
+    }
+
+    /** @param _count how many times to {@link #pop()}
+     *  @return the ancestor _count levels up (this instance is NOT altered).  If there are fewer levels, returns EMPTY */
+    public Breadcrumbs pop( final int _count ) {
+        Breadcrumbs b = this;
+        for ( int ix = 0; ix < _count && b.parent != null; ix ++ )
+            b = b.parent;
+        return b;
+    }
+
+    /** <p>This instance was derived from _oldBase (by pushes and pops - or - by starting over from EMPTY).  Returns the equivalent, had it been derived from _newBase instead.  Used by {@link SubtreeMemo}.</p>
+     *  @param _oldBase NotNull
+     *  @param _newBase NotNull, and of the same size() as _oldBase
+     *  @return a NotNull instance (this instance is NOT altered)
+     */
+    Breadcrumbs rebase( final Breadcrumbs _oldBase, final Breadcrumbs _newBase ) {
+        final LinkedList<String> pushed = new LinkedList<>();
+        Breadcrumbs b = this;
+        for ( ; b.size > _oldBase.size; b = b.parent )
+            pushed.addFirst( b.crumb );
+        // Walk up both, until reaching the level that this instance was derived from (EMPTY, at worst)
+        Breadcrumbs old = _oldBase.pop( _oldBase.size - b.size );
+        while ( b != old ) {
+            pushed.addFirst( b.crumb );
+            b = b.parent;
+            old = old.parent;
+        }
+        Breadcrumbs retval = _newBase.pop( _newBase.size - b.size );
+        for ( String s: pushed )
+            retval = retval.push( s );
+        return retval;
+    }
+
+    /** @return the # of YAML-elements in this stack */
+    public int size() { return this.size; }
+
+    /** @return true, if the size() is 0 */
+    public boolean isEmpty() { return this.size == 0; }
+
+    /** @return the bottom-most YAML-element (the one most recently pushed).  Null, if this is empty */
+    public String last() { return this.crumb; }
+
+    //==============================================================================
+
+    /** @return a NotNull Array, from top-most element to bottom-most element */
+    public String[] toArray() {
+        final String[] arr = new String[ this.size ];
+        Breadcrumbs b = this;
+        for ( int ix = this.size - 1; ix >= 0; ix --, b = b.parent )
+            arr[ix] = b.crumb;
+        return arr;
+    }
+
+    /** <p>Use ONLY if a java.util.List is really needed.  A new list is created for every invocation.</p>
+     *  @return a NEW NotNull LinkedList, from top-most element to bottom-most element */
+    public LinkedList<String> toList() {
+        final LinkedList<String> list = new LinkedList<>();
+        for ( Breadcrumbs b = this; b.parent != null; b = b.parent )
+            list.addFirst( b.crumb );
+        return list;
+    }
+
+    /** @return iterates from top-most element to bottom-most element */
+    public Iterator<String> iterator() {
+        final String[] arr = this.toArray();
+        return new Iterator<String>() {
+            private int ix = 0;
+            public boolean hasNext() { return this.ix < arr.length; }
+            public String next() {
+                if ( this.ix >= arr.length ) throw new NoSuchElementException( CLASSNAME +": iterator(): size="+ arr.length );
+                return arr[ this.ix ++ ];
+            }
+        };
+    }
+
+    /** @return same format as java.util.LinkedList.toString() - as in: [paths, /pet, get] */
+    public String toString() {
+        final StringBuilder buf = new StringBuilder( "[" );
+        final String[] arr = this.toArray();
+        for ( int ix = 0; ix < arr.length; ix ++ ) {
+            if ( ix > 0 ) buf.append( ", " );
+            buf.append( arr[ix] );
+        }
+        return buf.append( "]" ).toString();
+    }
+
+}
@@ -74,6 +74,51 @@ public class Cmd {
 
     public static final String CLASSNAME = Cmd.class.getName();
 
+    /** cmdline option (for READ, LIST and TABLE commands) to stop after the 1st match.  Same as '--max-matches 1' */
+    public static final String FIRSTMATCH = "--first-match";
+
+    /** cmdline option (for READ, LIST and TABLE commands) to stop after N matches, for example: '--max-matches 10' */
+    public static final String MAXMATCHES = "--max-matches";
+
+    /** cmdline option to write the output as JSON (instead of YAML) - streamed straight from the Node-tree.  See {@link NodeJSONWriter} */
+    public static final String OUTPUTJSON = "--output-json";
+
+    /** See {@link #extractNodeImplOptions(String[])}.  0 implies NO limit. */
+    private static int maxMatches = 0;
+
+    /** See {@link #extractNodeImplOptions(String[])} */
+    private static boolean jsonOutput = false;
+
+    /** cmdline option (for READ, LIST and TABLE commands) to search MappingNodes and SequenceNodes with more than N children in parallel, for example: '--parallel 1000'.  See {@link AbstractYamlEntryProcessor#setParallelTraversal(boolean, int)} */
+    public static final String PARALLEL = "--parallel";
+
+    /** See {@link #extractNodeImplOptions(String[])}.  0 implies single-threaded. */
+    private static int parallelThreshold = 0;
+
+    /** cmdline option to de-duplicate repeated keys and short values, while loading the input YAML.  See {@link GenericYAMLScanner#setInternScalars(boolean)} */
+    public static final String INTERNSCALARS = "--intern-scalars";
+
+    /** See {@link #extractNodeImplOptions(String[])} */
+    private static boolean internScalars = false;
+
+    /** cmdline option to NOT retain the full position-info (a.k.a. Marks) within every loaded Node, for example: '--load-marks none' or '--load-marks lines'.  See {@link GenericYAMLScanner#setLoadMarks(MarkStrippingParser.Mode)} */
+    public static final String LOADMARKS = "--load-marks";
+
+    /** See {@link #extractNodeImplOptions(String[])}.  null implies: whatever {@link GenericYAMLScanner#LOAD_MARKS_PROPERTY} says. */
+    private static MarkStrippingParser.Mode loadMarks = null;
+
+    /** cmdline option to run the command once per YAML-document of a multi-document input (like Kubernetes manifests), streaming each result out as it's ready.  See {@link #goPerDocument} */
+    public static final String PERDOCUMENT = "--per-document";
+
+    /** See {@link #extractNodeImplOptions(String[])} */
+    private static boolean perDocument = false;
+
+    /** cmdline option (for READ and LIST commands) to search the input's YAML-events as they're parsed - WITHOUT loading the entire input into memory.  See {@link EventDrivenSearch} */
+    public static final String EVENTDRIVEN = "--event-driven";
+
+    /** See {@link #extractNodeImplOptions(String[])} */
+    private static boolean eventDriven = false;
+
     // private static final String TMP FILE = System.getProperty("java.io.tmpdir") +"/org.ASUX.yaml.STDOUT.txt";
 
     //=================================================================================
@@ -105,6 +150,9 @@ public class Cmd {
         nt.setYAMLWriter ( new GenericYAMLWriter ( _cmdLineArgs.verbose ) );
         nt.getYAMLScanner().setYAMLLibrary( YAML_Libraries.SNAKEYAML_Library );
         nt.getYAMLWriter().setYAMLLibrary ( YAML_Libraries.SNAKEYAML_Library );
+        nt.getYAMLScanner().setShowStats( _cmdLineArgs.showStats );
+        if ( internScalars ) nt.getYAMLScanner().setInternScalars( true ); // else, See GenericYAMLScanner.INTERN_SCALARS_PROPERTY
+        if ( loadMarks != null ) nt.getYAMLScanner().setLoadMarks( loadMarks ); // else, See GenericYAMLScanner.LOAD_MARKS_PROPERTY
         nt.setDumperOptions( NodeTools.getDefaultDumperOptions() );
 
         // Store this YAML-implementor code .. for anyone to 'lookup' (including 20 lines below at the bottom of this method itself)
@@ -154,6 +202,8 @@ public class Cmd {
         try {
             // Step 1: create 'cmdinvoker'
             org.ASUX.YAML.NodeImpl.CmdInvoker cmdinvoker = new org.ASUX.YAML.NodeImpl.CmdInvoker( _cmdLineArgs );
+            cmdinvoker.setMaxMatches( maxMatches ); // See extractNodeImplOptions()
+            cmdinvoker.setParallelTraversal( parallelThreshold ); // See extractNodeImplOptions()
             if (_cmdLineArgs.verbose) System.out.println( HDR +"getting started with cmdline args = " + _cmdLineArgs + " " );
 
             // Steps 2 & 3: Startup the factory for YAML-implementation.
@@ -166,39 +216,52 @@ public class Cmd {
 
             // read input, whether it's System.in -or- an actual input-file
             if (_cmdLineArgs.verbose) System.out.println( HDR +" about to load file: " + _cmdLineArgs.inputFilePath );
-            final java.io.InputStream is1 = ( _cmdLineArgs.inputFilePath.equals("-") ) ? System.in
-                    : new java.io.FileInputStream(_cmdLineArgs.inputFilePath);
-            final java.io.Reader filereader = new java.io.InputStreamReader(is1);
-
-            final Node inputNode = cmdinvoker.getYAMLImplementation().load( filereader );
-
-            if (_cmdLineArgs.verbose) System.out.println( HDR +" loaded data = " + inputNode + " " );
-            if (_cmdLineArgs.verbose) System.out.println( HDR +" loaded data of type [" + inputNode.getType() + "]" );
-
-            // -----------------------
-            // PRE YAML-Cmd processing
-            switch ( _cmdLineArgs.cmdType ) {
-                case READ:
-                case LIST:
-                case DELETE:
-                case INSERT:
-                case REPLACE:
-                case TABLE:
-                case MACRO:
-                case MACROYAML:
-                case BATCH:
-                    break; // do nothing for now.
+            final YAMLInputReader filereader = YAMLInputReader.open( _cmdLineArgs.inputFilePath ); // memory-mapped, if a large file.  Else buffered.
+
+            if ( perDocument ) { // See extractNodeImplOptions()
+                goPerDocument( _cmdLineArgs, cmdinvoker, filereader );
+                if ( _cmdLineArgs.showStats ) System.out.println( filereader.getStats() );
+                if ( _cmdLineArgs.showStats && ParsedFileCache.getHits() + ParsedFileCache.getMisses() > 0 ) System.out.println( ParsedFileCache.getStats() );
+                return;
             }
 
-            //======================================================================
-            // run the command requested by user
-            final Object outputAsIs = cmdinvoker.processCommand( _cmdLineArgs, inputNode );
+            // For READ & LIST commands only: null, if the command can NOT be run off the YAML-events (in which case, filereader was NOT read at all)
+            Object outputAsIs = eventDriven ? cmdinvoker.processCommandOverEvents( _cmdLineArgs, filereader ) : null; // See extractNodeImplOptions()
+
+            if ( outputAsIs == null ) {
+                final Node inputNode = cmdinvoker.loadInputFor( _cmdLineArgs, filereader ); // for READ, LIST & TABLE: only the relevant slice of the input
+
+                if (_cmdLineArgs.verbose) System.out.println( HDR +" loaded data = " + inputNode + " " );
+                if (_cmdLineArgs.verbose) System.out.println( HDR +" loaded data of type [" + inputNode.getType() + "]" );
+
+                // -----------------------
+                // PRE YAML-Cmd processing
+                switch ( _cmdLineArgs.cmdType ) {
+                    case READ:
+                    case LIST:
+                    case DELETE:
+                    case INSERT:
+                    case REPLACE:
+                    case TABLE:
+                    case MACRO:
+                    case MACROYAML:
+                    case BATCH:
+                        break; // do nothing for now.
+                }
+
+                //======================================================================
+                // run the command requested by user
+                outputAsIs = cmdinvoker.processCommand( _cmdLineArgs, inputNode );
+            }
+            if ( _cmdLineArgs.showStats ) System.out.println( filereader.getStats() );
+            if ( _cmdLineArgs.showStats && ParsedFileCache.getHits() + ParsedFileCache.getMisses() > 0 ) System.out.println( ParsedFileCache.getStats() );
             final NodeTools nodetools =(NodeTools) cmdinvoker.getYAMLImplementation();
             final Object output = (outputAsIs != null) ? outputAsIs : NodeTools.getEmptyYAML( nodetools.getDumperOptions() );
             if (_cmdLineArgs.verbose) System.out.println( HDR +" processing of entire command returned [" + (output.getClass().getName()) + "]" );
 
             //======================================================================
-            final java.io.Writer javawriter = ( _cmdLineArgs.outputFilePath.equals("-") )
+            final boolean bJSON = jsonOutput && output instanceof Node; // See extractNodeImplOptions()
+            final java.io.Writer javawriter = ( _cmdLineArgs.outputFilePath.equals("-") || bJSON ) // JSON-files are written to by NodeJSONWriter itself
                     ? stdoutSurrogate // new java.io.FileWriter(TMP FILE)
                     : new java.io.FileWriter(_cmdLineArgs.outputFilePath);
 
@@ -208,7 +271,13 @@ public class Cmd {
 
             //======================================================================
             // post-completion of YAML-Cmd processing
-            if ( output != null ) {
+            if ( bJSON ) {
+                if (_cmdLineArgs.verbose) System.out.println( HDR +" writing final output as JSON" );
+                if ( _cmdLineArgs.outputFilePath.equals("-") )
+                    NodeJSONWriter.write( (Node) output, javawriter );
+                else
+                    NodeJSONWriter.write( (Node) output, _cmdLineArgs.outputFilePath );
+            } else if ( output != null ) {
                 switch ( _cmdLineArgs.cmdType ) {
                     case DELETE:
                     case INSERT:
@@ -275,6 +344,52 @@ public class Cmd {
 
     } // go()
 
+    //=================================================================================
+
+    /**
+     * <p>The {@value #PERDOCUMENT} flavor of {@link #go(org.ASUX.yaml.CmdLineArgsCommon)}.  The input is a stream of YAML-documents (separated by '---' lines).  The command is run on each document in turn (see {@link GenericYAMLScanner#loadDocuments(java.io.Reader)}), and each document's output is written out (and flushed) before the next document is even parsed.  So, memory is bounded by the largest single document, rather than the entire input.</p>
+     * <p>YAML outputs are separated by '---' lines.  With {@value #OUTPUTJSON}, each output is a single line of JSON instead.</p>
+     * @param _cmdLineArgs user's commandline arguments
+     * @param _cmdinvoker NotNull, already started via {@link #startYAMLImplementation}
+     * @param _filereader the input
+     * @throws Exception same as what {@link #go(org.ASUX.yaml.CmdLineArgsCommon)} handles
+     */
+    private static void goPerDocument( final org.ASUX.yaml.CmdLineArgsCommon _cmdLineArgs, final org.ASUX.YAML.NodeImpl.CmdInvoker _cmdinvoker, final java.io.Reader _filereader ) throws Exception
+    {
+        final String HDR = CLASSNAME + ": goPerDocument(): ";
+        final NodeTools nodetools = (NodeTools) _cmdinvoker.getYAMLImplementation();
+        final boolean bStdout = _cmdLineArgs.outputFilePath.equals("-");
+        final java.io.Writer javawriter = new java.io.BufferedWriter( bStdout ? new java.io.OutputStreamWriter( System.out ) : new java.io.FileWriter( _cmdLineArgs.outputFilePath ) );
+
+        try {
+            final java.util.Iterator<Node> docs = nodetools.getYAMLScanner().loadDocuments( _filereader );
+            int count = 0;
+            while ( docs.hasNext() ) {
+                final Node inputNode = docs.next();
+                final Object outputAsIs = _cmdinvoker.processCommand( _cmdLineArgs, inputNode );
+                final Object output = (outputAsIs != null) ? outputAsIs : NodeTools.getEmptyYAML( nodetools.getDumperOptions() );
+                if (_cmdLineArgs.verbose) System.out.println( HDR +" document # "+ count +" returned [" + (output.getClass().getName()) + "]" );
+
+                if ( jsonOutput && output instanceof Node ) { // See extractNodeImplOptions()
+                    NodeJSONWriter.write( (Node) output, javawriter );
+                    javawriter.write( "\n" );
+                } else {
+                    if ( count > 0 ) javawriter.write( "---\n" );
+                    nodetools.write( javawriter, output );
+                }
+                javawriter.flush(); // Do NOT wait for the rest of the input
+                count ++;
+            }
+            if (_cmdLineArgs.verbose) System.out.println( HDR +" processed "+ count +" documents" );
+        } finally {
+            if ( bStdout )
+                javawriter.flush();
+            else
+                javawriter.close();
+        }
+        nodetools.close();
+    }
+
     //=================================================================================
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
     //=================================================================================
@@ -285,7 +400,63 @@ public class Cmd {
      */
     public static void main( String[] args )
     {
-        org.ASUX.yaml.Cmd.main( args );
+        org.ASUX.yaml.Cmd.main( extractNodeImplOptions( args ) );
     } // main()
 
+    /**
+     * <p>The {@value #MAXMATCHES} N, {@value #FIRSTMATCH} and {@value #PARALLEL} N options (for READ, LIST and TABLE commands) and the {@value #OUTPUTJSON}, {@value #INTERNSCALARS}, {@value #LOADMARKS}, {@value #PERDOCUMENT} and {@value #EVENTDRIVEN} options are NOT known to the common command-line parser in org.ASUX.yaml.  So, they're extracted here - before the rest of the command-line is parsed - and applied within {@link #go(org.ASUX.yaml.CmdLineArgsCommon)}.</p>
+     * @param _args user's commandline arguments
+     * @return _args, minus the {@value #MAXMATCHES} N, {@value #FIRSTMATCH}, {@value #PARALLEL} N, {@value #OUTPUTJSON}, {@value #INTERNSCALARS}, {@value #LOADMARKS}, {@value #PERDOCUMENT} and {@value #EVENTDRIVEN} options
+     */
+    private static String[] extractNodeImplOptions( final String[] _args )
+    {
+        final java.util.ArrayList<String> remaining = new java.util.ArrayList<>( _args.length );
+        for ( int ix = 0; ix < _args.length; ix ++ ) {
+            if ( FIRSTMATCH.equals( _args[ix] ) ) {
+                maxMatches = 1;
+            } else if ( OUTPUTJSON.equals( _args[ix] ) ) {
+                jsonOutput = true;
+            } else if ( INTERNSCALARS.equals( _args[ix] ) ) {
+                internScalars = true;
+            } else if ( PERDOCUMENT.equals( _args[ix] ) ) {
+                perDocument = true;
+            } else if ( EVENTDRIVEN.equals( _args[ix] ) ) {
+                eventDriven = true;
+            } else if ( LOADMARKS.equals( _args[ix] ) ) {
+                final String m = ( ix + 1 < _args.length ) ? _args[ ++ix ] : "";
+                try {
+                    loadMarks = GenericYAMLScanner.parseLoadMarks( m );
+                } catch ( IllegalArgumentException e ) {
+                    System.err.println( "\n\nUser Error in command-line input: "+ LOADMARKS +" must be followed by one of: full, lines or none - instead of '"+ m +"'.\n" );
+                    System.exit(6);
+                }
+            } else if ( MAXMATCHES.equals( _args[ix] ) ) {
+                final String n = ( ix + 1 < _args.length ) ? _args[ ++ix ] : "";
+                try {
+                    maxMatches = Integer.parseInt( n );
+                } catch ( NumberFormatException e ) {
+                    maxMatches = -1;
+                }
+                if ( maxMatches < 1 ) {
+                    System.err.println( "\n\nUser Error in command-line input: "+ MAXMATCHES +" must be followed by a positive integer, instead of '"+ n +"'.\n" );
+                    System.exit(6);
+                }
+            } else if ( PARALLEL.equals( _args[ix] ) ) {
+                final String n = ( ix + 1 < _args.length ) ? _args[ ++ix ] : "";
+                try {
+                    parallelThreshold = Integer.parseInt( n );
+                } catch ( NumberFormatException e ) {
+                    parallelThreshold = -1;
+                }
+                if ( parallelThreshold < 2 ) {
+                    System.err.println( "\n\nUser Error in command-line input: "+ PARALLEL +" must be followed by an integer (2 or more), instead of '"+ n +"'.\n" );
+                    System.exit(6);
+                }
+            } else {
+                remaining.add( _args[ix] );
+            }
+        }
+        return remaining.toArray( new String[ remaining.size() ] );
+    }
+
 }
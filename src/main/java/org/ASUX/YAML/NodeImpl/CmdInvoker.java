@@ -86,6 +86,12 @@ public class CmdInvoker extends org.ASUX.yaml.CmdInvoker<Node> {
 
     public static final String CLASSNAME = CmdInvoker.class.getName();
 
+    /** For READ, LIST and TABLE commands: if &gt; 0, stop after these many matches.  See {@link AbstractYamlEntryProcessor#setMaxMatches(int)} */
+    private int maxMatches = 0;
+
+    /** For READ, LIST and TABLE commands: if &gt; 0, search large MappingNodes and SequenceNodes in parallel.  See {@link AbstractYamlEntryProcessor#setParallelTraversal(boolean, int)} */
+    private int parallelThreshold = 0;
+
     //=================================================================================
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
     //=================================================================================
@@ -116,6 +122,32 @@ public class CmdInvoker extends org.ASUX.yaml.CmdInvoker<Node> {
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
     //=================================================================================
 
+    /**
+     *  <p>For READ, LIST and TABLE commands: stop the traversal of the input as soon as _max matches are found (the --max-matches and --first-match cmdline options).</p>
+     *  @param _max 0 (the default) for NO limit.  See {@link AbstractYamlEntryProcessor#setMaxMatches(int)}
+     */
+    public void setMaxMatches( final int _max ) {
+        this.maxMatches = _max;
+    }
+
+    /** @return 0 if there's NO limit.  See {@link #setMaxMatches(int)} */
+    public int getMaxMatches() {
+        return this.maxMatches;
+    }
+
+    /**
+     *  <p>For READ, LIST and TABLE commands: split MappingNodes and SequenceNodes with more than _threshold children into java.util.concurrent.ForkJoinPool tasks (the --parallel cmdline option).</p>
+     *  @param _threshold 0 (the default) for the single-threaded traversal.  See {@link AbstractYamlEntryProcessor#setParallelTraversal(boolean, int)}
+     */
+    public void setParallelTraversal( final int _threshold ) {
+        this.parallelThreshold = _threshold;
+    }
+
+    /** @return 0 if the traversal is single-threaded.  See {@link #setParallelTraversal(int)} */
+    public int getParallelTraversal() {
+        return this.parallelThreshold;
+    }
+
     //=================================================================================
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
     //=================================================================================
@@ -152,6 +184,8 @@ public class CmdInvoker extends org.ASUX.yaml.CmdInvoker<Node> {
         case READ:
             final org.ASUX.yaml.CmdLineArgsReadCmd claRead = (org.ASUX.yaml.CmdLineArgsReadCmd) _clArgs;
             ReadYamlEntry readcmd = new ReadYamlEntry( claRead, nodetools.getDumperOptions() );
+            readcmd.setMaxMatches( this.maxMatches );
+            if ( this.parallelThreshold > 0 ) readcmd.setParallelTraversal( true, this.parallelThreshold );
             readcmd.searchYamlForPattern( _inputNode, claRead.yamlRegExpStr, claRead.yamlPatternDelimiter );
             final Node outputStr = readcmd.getOutput();
             return outputStr;
@@ -159,6 +193,8 @@ public class CmdInvoker extends org.ASUX.yaml.CmdInvoker<Node> {
         case LIST:
             final org.ASUX.yaml.CmdLineArgsRegExp claList = (org.ASUX.yaml.CmdLineArgsRegExp) _clArgs;
             ListYamlEntry listcmd = new ListYamlEntry( claList.verbose, claList.showStats, nodetools.getDumperOptions(), " , " );
+            listcmd.setMaxMatches( this.maxMatches );
+            if ( this.parallelThreshold > 0 ) listcmd.setParallelTraversal( true, this.parallelThreshold );
             listcmd.searchYamlForPattern( _inputNode, claList.yamlRegExpStr, claList.yamlPatternDelimiter );
             final Node outputStr2 = listcmd.getOutput();
             return outputStr2;
@@ -168,12 +204,14 @@ public class CmdInvoker extends org.ASUX.yaml.CmdInvoker<Node> {
             if ( claDel.verbose ) System.out.println( HDR +" about to start DELETE command");
             DeleteYamlEntry delcmd = new DeleteYamlEntry( claDel.verbose, claDel.showStats, nodetools.getDumperOptions() );
             delcmd.searchYamlForPattern( _inputNode, claDel.yamlRegExpStr, claDel.yamlPatternDelimiter );
-            return _inputNode;
+            return delcmd.getOutput(); // Not necessarily _inputNode.  See CopyOnWrite
 
         case TABLE:
             final CmdLineArgsTableCmd claTbl = (CmdLineArgsTableCmd) _clArgs;
             if (claTbl.verbose) System.out.println( HDR +" claTbl.yamlRegExpStr="+ claTbl.yamlRegExpStr +" & tableColumns=[" + claTbl.tableColumns +"]" );
             TableYamlQuery tblcmd = new TableYamlQuery( claTbl, nodetools.getDumperOptions() );
+            tblcmd.setMaxMatches( this.maxMatches );
+            if ( this.parallelThreshold > 0 ) tblcmd.setParallelTraversal( true, this.parallelThreshold );
             tblcmd.searchYamlForPattern( _inputNode, claTbl.yamlRegExpStr, claTbl.yamlPatternDelimiter );
             final Node output = tblcmd.getOutput();
             return output;
@@ -258,6 +296,82 @@ public class CmdInvoker extends org.ASUX.yaml.CmdInvoker<Node> {
         // return null; // should Not reach here!
     }
 
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /**
+     *  <p>Same as {@link #processCommand} for READ (without --projection) and LIST commands.  But, the command is run straight off the input's YAML-events - WITHOUT ever loading the entire input into memory (see {@link EventDrivenSearch}).</p>
+     *  @param _clArgs Everything passed as commandline arguments to the Java program {@link org.ASUX.yaml.CmdLineArgsCommon}
+     *  @param _inreader the YAML input.  It is NOT closed by this method.
+     *  @return null if _clArgs is NOT such a command (_inreader is then NOT read at all - use {@link #processCommand} instead).  Otherwise, a org.yaml.snakeyaml.nodes.Node (same as processCommand)
+     *  @throws YAMLPath.YAMLPathException if Pattern for YAML-Path provided is either semantically empty or is NOT java.util.Pattern compatible.
+     *  @throws Exception if the YAML is invalid or has multiple documents, or any errors/troubles noted from within the commands
+     */
+    public Object processCommandOverEvents( final org.ASUX.yaml.CmdLineArgsCommon _clArgs, final java.io.Reader _inreader )
+                throws YAMLPath.YAMLPathException, Exception
+    {
+        final String HDR = CLASSNAME + ": processCommandOverEvents("+ _clArgs.cmdType +",_inreader): ";
+        final NodeTools nodetools = (NodeTools) super.getYAMLImplementation();
+        assertNotNull( nodetools );
+        NodeTools.updateDumperOptions( nodetools.getDumperOptions(), _clArgs.quoteType ); // Important <<---------- <<---------- <<-----------
+
+        final AbstractYamlEntryProcessor processor;
+        final org.ASUX.yaml.CmdLineArgsRegExp claRegExp;
+        switch ( _clArgs.cmdType ) {
+        case READ:
+            final org.ASUX.yaml.CmdLineArgsReadCmd claRead = (org.ASUX.yaml.CmdLineArgsReadCmd) _clArgs;
+            processor = new ReadYamlEntry( claRead, nodetools.getDumperOptions() );
+            claRegExp = claRead;
+            break;
+        case LIST:
+            final org.ASUX.yaml.CmdLineArgsRegExp claList = (org.ASUX.yaml.CmdLineArgsRegExp) _clArgs;
+            processor = new ListYamlEntry( claList.verbose, claList.showStats, nodetools.getDumperOptions(), " , " );
+            claRegExp = claList;
+            break;
+        default:
+            return null;
+        }
+        if (  !  EventDrivenSearch.isSupported( processor ) ) {
+            if ( _clArgs.verbose ) System.out.println( HDR +" needs the entire input loaded into memory." );
+            return null;
+        }
+
+        processor.setMaxMatches( this.maxMatches );
+        new EventDrivenSearch( _clArgs.verbose, nodetools.getYAMLScanner() ).searchYamlForPattern( processor, _inreader, claRegExp.yamlRegExpStr, claRegExp.yamlPatternDelimiter );
+        return ( processor instanceof ReadYamlEntry ) ? ((ReadYamlEntry) processor).getOutput() : ((ListYamlEntry) processor).getOutput();
+    }
+
+    /**
+     *  <p>Loads the input for {@link #processCommand}.  For READ, LIST and TABLE commands, ONLY the slice of the input that the command's YAML-Path can possibly match is composed into Nodes (see {@link GenericYAMLScanner#load(java.io.Reader, CompiledYAMLPath, int)}).  For all other commands, the entire input is loaded (as they output the entire YAML).</p>
+     *  <p>A TABLE command (and a READ command with --projection) also looks at the parent of each match.  So, the last YAML-Path-element is NOT used to filter, for those.</p>
+     *  @param _clArgs Everything passed as commandline arguments to the Java program {@link org.ASUX.yaml.CmdLineArgsCommon}
+     *  @param _inreader the YAML input.  It is NOT closed by this method.
+     *  @return a NotNull org.yaml.snakeyaml.nodes.Node, to be passed to {@link #processCommand} along with the SAME _clArgs
+     *  @throws YAMLPath.YAMLPathException if Pattern for YAML-Path provided is either semantically empty or is NOT java.util.Pattern compatible.
+     *  @throws Exception if the YAML is invalid or has multiple documents
+     */
+    public Node loadInputFor( final org.ASUX.yaml.CmdLineArgsCommon _clArgs, final java.io.Reader _inreader )
+                throws YAMLPath.YAMLPathException, Exception
+    {
+        final NodeTools nodetools = (NodeTools) super.getYAMLImplementation();
+        assertNotNull( nodetools );
+        final int depthToSpare;
+        switch ( _clArgs.cmdType ) {
+        case READ:      depthToSpare = ( ((org.ASUX.yaml.CmdLineArgsReadCmd) _clArgs).projectionPath == null ) ? 0 : 1; break;
+        case LIST:      depthToSpare = 0; break;
+        case TABLE:     depthToSpare = 1; break; // for '../' columns
+        default:        return nodetools.getYAMLScanner().load( _inreader );
+        }
+        final org.ASUX.yaml.CmdLineArgsRegExp claRegExp = (org.ASUX.yaml.CmdLineArgsRegExp) _clArgs;
+        final YAMLPath yp = new YAMLPath( _clArgs.verbose, claRegExp.yamlRegExpStr, claRegExp.yamlPatternDelimiter );
+        if (  !  yp.isValid || YAMLPath.ROOTLEVEL.equals( yp.getRaw() ) )
+            return nodetools.getYAMLScanner().load( _inreader ); // let processCommand() deal with it
+        final CompiledYAMLPath cyp = CompiledYAMLPath.compile( yp );
+        if ( _clArgs.verbose ) System.out.println( CLASSNAME +": loadInputFor("+ _clArgs.cmdType +"): filtering the input by the first "+ ( cyp.length() - depthToSpare ) +" element(s) of "+ yp );
+        return nodetools.getYAMLScanner().load( _inreader, cyp, cyp.length() - depthToSpare );
+    }
+
     //==============================================================================
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
     //==============================================================================
@@ -0,0 +1,208 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package org.ASUX.YAML.NodeImpl;
+
+import org.ASUX.yaml.YAMLPath;
+
+import java.util.regex.Pattern;
+
+/** <p>This class "compiles" a {@link YAMLPath} - ONCE per search - into an array of pre-built matchers (one per YAML-Path-element).</p>
+ *  <p>Without this class, {@link AbstractYamlEntryProcessor#recursiveSearch} ended up invoking java.util.regex.Pattern.compile() for every MappingNode it visited, and String.matches() (which also compiles a RegExp) for every item within every SequenceNode.</p>
+ *  <p>Each YAML-Path-element is classified ONCE as one of:-</p>
+ *  <ol><li>'**' (greedy wildcard)</li><li>'*' (match any single path-element)</li><li>a plain literal (like 'paths' or '200') - which is compared using String.equals()</li><li>a genuine RegExp - for which the java.util.regex.Pattern is compiled once and cached here</li></ol>
+ *  <p>In addition, if the YAML-Path-element looks like an array-index (like '3' '[3]' or '[0-3]') SequenceNode items are matched without any RegExp - but, with the very same results as the RegExp.  A plain number like '3' is compared as an int.  A bracketed one like '[12]' or '[0-3]' is a RegExp character-class (which matches a SINGLE digit: '[12]' matches items 1 and 2), so it is tried ONCE against the digits 0-9 and remembered as a bit-mask.</p>
+ *  @see org.ASUX.YAML.NodeImpl.AbstractYamlEntryProcessor
+ */
+public final class CompiledYAMLPath {
+
+    public static final String CLASSNAME = CompiledYAMLPath.class.getName();
+
+    public static final String GREEDYWILDCARD = "**";
+
+    private static final Pattern INDEXPATTERN = Pattern.compile( "\\[?[0-9]+\\]?" );
+    private static final Pattern PLAININDEXPATTERN = Pattern.compile( "0|[1-9][0-9]{0,8}" );
+    private static final Pattern CHARCLASSINDEXPATTERN = Pattern.compile( "\\[[0-9-]+\\]" );
+    private static final Pattern EXACTINDEXPATTERN = Pattern.compile( "\\[([0-9]+)\\]" );
+
+    /** <p>What kind of a matcher is needed for a single YAML-Path-element</p>
+     */
+    public enum Kind { GREEDYWILDCARD, MATCHANY, LITERAL, REGEXP };
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** <p>The pre-built matcher for a SINGLE YAML-Path-element.  Immutable.  So, safe to share across recursion-levels.</p>
+     */
+    public static final class ElemMatcher {
+
+        public final String raw;
+        public final Kind kind;
+
+        /** Only NOT-null, if this.kind is NOT LITERAL */
+        private final Pattern pattern;
+
+        /** Whether this YAML-Path-element looks like an array-index like '3' '[3]' or '[0-3]' */
+        private final boolean index;
+        /** if this YAML-Path-element is a plain number like '3' (no leading zeros), then this is 3.  Otherwise -1 */
+        private final int plainIndex;
+        /** if this YAML-Path-element is a RegExp character-class of digits like '[12]' or '[0-3]', then bit N is set if the digit N matches.  Otherwise -1 */
+        private final int digitMask;
+
+        /** if this YAML-Path-element is precisely a specific index like '[28]', then this is 28.  Otherwise -1 */
+        public final int exactBracketedIndex;
+
+        private ElemMatcher( final String _raw ) {
+            this.raw = _raw;
+            if ( GREEDYWILDCARD.equals( _raw ) ) {
+                this.kind = Kind.GREEDYWILDCARD;
+                this.pattern = Pattern.compile( ".*" );
+            } else if ( YAMLPath.MATCHANYSINGLEPATHELEMENT.equals( _raw ) ) {
+                this.kind = Kind.MATCHANY;
+                this.pattern = Pattern.compile( _raw ); // This should Not throw, per precautions in YAMLPath class
+            } else if ( isLiteral( _raw ) ) {
+                this.kind = Kind.LITERAL;
+                this.pattern = null;
+            } else {
+                this.kind = Kind.REGEXP;
+                this.pattern = Pattern.compile( _raw ); // This should Not throw, per precautions in YAMLPath class
+            }
+
+            //-------------------
+            this.plainIndex = PLAININDEXPATTERN.matcher( _raw ).matches() ? Integer.parseInt( _raw ) : -1;
+            int mask = -1;
+            if ( CHARCLASSINDEXPATTERN.matcher( _raw ).matches() ) {
+                mask = 0;
+                for ( int digit = 0; digit <= 9; digit ++ )
+                    if ( this.pattern.matcher( Integer.toString( digit ) ).matches() )
+                        mask |= 1 << digit;
+            }
+            this.digitMask = mask;
+            this.index = this.digitMask >= 0 || INDEXPATTERN.matcher( _raw ).matches();
+            final java.util.regex.Matcher exactM = EXACTINDEXPATTERN.matcher( _raw );
+            this.exactBracketedIndex = exactM.matches() ? Integer.parseInt( exactM.group(1) ) : -1;
+        }
+
+        /** @return true if this YAML-Path-element is '**' */
+        public boolean isGreedyWildcard() { return this.kind == Kind.GREEDYWILDCARD; }
+
+        /** @return true if this YAML-Path-element is '*' (a.k.a. YAMLPath.MATCHANYSINGLEPATHELEMENT) */
+        public boolean isMatchAny() { return this.kind == Kind.MATCHANY; }
+
+        /** @return true if this YAML-Path-element looks like an array-index like '3' '[3]' or '[0-3]' */
+        public boolean isIndex() { return this.index; }
+
+        /** <p>Equivalent to <code>java.util.regex.Pattern.compile(raw).matcher(_s).matches()</code> .. but without the compilation.</p>
+         *  @param _s the key or scalar-value to check (null will return false)
+         *  @return true if it's a match
+         */
+        public boolean matches( final String _s ) {
+            if ( _s == null ) return false;
+            if ( this.kind == Kind.LITERAL )
+                return this.raw.equals( _s );
+            else
+                return this.pattern.matcher( _s ).matches();
+        }
+
+        /** <p>Whether an item of a SequenceNode (at index _ix) matches this YAML-Path-element.</p>
+         *  <p>Always the same result as matching the RegExp against the index (as a string).  But, for a plain number like '3' or a character-class like '[0-3]' without the RegExp.</p>
+         *  @param _ix index of the item in a SequenceNode
+         *  @return true if it's a match
+         */
+        public boolean matchesIndex( final int _ix ) {
+            if ( this.plainIndex >= 0 )
+                return _ix == this.plainIndex;
+            else if ( this.digitMask >= 0 )
+                return 0 <= _ix && _ix <= 9 && ( this.digitMask & ( 1 << _ix ) ) != 0;
+            else
+                return this.matches( Integer.toString( _ix ) );
+        }
+
+        public String toString() { return this.raw; }
+
+        /** @return true if the YAML-Path-element has NO RegExp special characters whatsoever */
+        private static boolean isLiteral( final String _s ) {
+            for ( int ix = 0; ix < _s.length(); ix ++ ) {
+                if ( "\\^$.|?*+()[]{}".indexOf( _s.charAt(ix) ) >= 0 )
+                    return false;
+            }
+            return true;
+        }
+    } // class ElemMatcher
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    private final String[] source;
+    private final ElemMatcher[] matchers;
+
+    /** <p>Use the static {@link #compile(YAMLPath)} method instead.</p>
+     *  @param _yamlPath NotNull, and must be valid (_yamlPath.isValid)
+     */
+    private CompiledYAMLPath( final YAMLPath _yamlPath ) {
+        this.source = _yamlPath.yamlElemArr;
+        this.matchers = new ElemMatcher[ this.source.length ];
+        for ( int ix = 0; ix < this.source.length; ix ++ )
+            this.matchers[ix] = new ElemMatcher( this.source[ix] );
+    }
+
+    /** <p>Compile all the YAML-Path-elements of the YAML-Path provided.</p>
+     *  @param _yamlPath NotNull, and must be valid (_yamlPath.isValid)
+     *  @return a NotNull instance
+     *  @throws java.util.regex.PatternSyntaxException - if any YAML-Path-element is NOT java.util.Pattern compatible.  This should Not happen, per precautions in YAMLPath class
+     */
+    public static CompiledYAMLPath compile( final YAMLPath _yamlPath ) throws java.util.regex.PatternSyntaxException {
+        return new CompiledYAMLPath( _yamlPath );
+    }
+
+    /** <p>Whether this instance was compiled from the YAML-Path provided (or a deepclone of that YAML-Path)</p>
+     *  @param _yamlPath can be null
+     *  @return true if the YAML-Path-elements are identical
+     */
+    public boolean isCompiledFrom( final YAMLPath _yamlPath ) {
+        if ( _yamlPath == null ) return false;
+        return this.source == _yamlPath.yamlElemArr || java.util.Arrays.equals( this.source, _yamlPath.yamlElemArr );
+    }
+
+    /** @return the # of YAML-Path-elements */
+    public int length() { return this.matchers.length; }
+
+    /** @param _ix 0 &lt;= _ix &lt; length()
+     *  @return the matcher for the YAML-Path-element at position _ix */
+    public ElemMatcher get( final int _ix ) { return this.matchers[ _ix ]; }
+
+    public String toString() { return java.util.Arrays.toString( this.source ); }
+
+}
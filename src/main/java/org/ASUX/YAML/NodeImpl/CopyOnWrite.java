@@ -0,0 +1,128 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.ASUX.YAML.NodeImpl;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+
+/** <p>Copy-on-write sharing of org.yaml.snakeyaml.nodes.Node trees.</p>
+ *  <p>Previously, the READ command deep-cloned every matched value into its output, only to protect the input from a LATER mutation.  Most of the time, no such mutation ever happens.  The same goes for YAML saved into memory (see {@link InputsOutputs#saveDataIntoReference}), which is now shared too.</p>
+ *  <p>Note: {@link BatchCmdProcessor#deepClone(Node)} is invoked by the parent org.ASUX.yaml library - which may rely on getting a brand-new copy.  So, that one still deep-clones.</p>
+ *  <p>SnakeYAML's Node classes are concrete, and their getValue() hands out the live java.util.List.  So, a wrapper-layer over Nodes is NOT feasible.  Instead, the root of every subtree that is handed out (without copying) is marked via {@link #share(Node)}.  Every command that alters the YAML (see {@link AbstractYamlEntryProcessor#altersYAML()}) first invokes {@link #writable(Node)}, which deep-clones its input ONLY if any part of it has been shared.</p>
+ *  <p>Note: A mark is never removed.  So, once a subtree has been shared, every subsequent alteration of any tree containing it, will make a private copy.  That's no worse than the eager deep-clones this replaces.</p>
+ *  <p>To avoid walking the whole tree before EVERY altering command, {@link #isShared(Node)} remembers the roots it found NOT shared, until the next {@link #share(Node)}.  That's sound ONLY as long as a Node becomes referenced from a 2nd place exclusively via share().  Hence, {@link InsertYamlEntry} shares the new content it inserts.</p>
+ *  <p>The marks are held weakly (by identity, as SnakeYAML's Node.equals() is identity-based).  So, they do NOT keep a YAML-tree from being garbage-collected.</p>
+ */
+public final class CopyOnWrite {
+
+    public static final String CLASSNAME = CopyOnWrite.class.getName();
+
+    /** Nodes that are referenced from more than one place (for example: the input YAML and the output of a READ command) */
+    private static final Set<Node> SHARED = Collections.synchronizedSet( Collections.newSetFromMap( new WeakHashMap<Node,Boolean>() ) );
+
+    /** Incremented by every {@link #share(Node)}.  A Node can become shared ONLY via share().  So, a tree that {@link #isShared(Node)} found NOT shared, stays that way until the next share(). */
+    private static final AtomicLong EPOCH = new AtomicLong();
+
+    /** The roots that {@link #isShared(Node)} found NOT shared - and the EPOCH at that time.  So that repeated checks of the same tree (one per altering command, within a Batch-file) do NOT walk it again & again. */
+    private static final Map<Node,Long> UNSHARED = Collections.synchronizedMap( new WeakHashMap<Node,Long>() );
+
+    private CopyOnWrite() {} // static methods only
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** <p>Use this instead of {@link NodeTools#deepClone(Node)}, whenever _node is about to be referenced from a 2nd place, and is deep-cloned ONLY to protect against a later alteration.</p>
+     *  @param _node can be null
+     *  @return _node itself (NOT a copy)
+     */
+    public static Node share( final Node _node ) {
+        if ( _node != null ) {
+            SHARED.add( _node );
+            EPOCH.incrementAndGet();
+        }
+        return _node;
+    }
+
+    /** @param _root can be null
+     *  @return true if _root or ANY Node within it, was passed to {@link #share(Node)}
+     */
+    public static boolean isShared( final Node _root ) {
+        if ( _root == null || SHARED.isEmpty() ) return false; // fast-path: nothing was ever shared
+        final long epoch = EPOCH.get(); // BEFORE the walk.  So, a share() during the walk invalidates what's recorded below.
+        final Long unsharedAt = UNSHARED.get( _root );
+        if ( unsharedAt != null && unsharedAt == epoch ) return false; // fast-path: found NOT shared before, and nothing was shared since
+        final IdentityHashMap<Node,Boolean> visited = new IdentityHashMap<>(); // YAML-aliases can make it a DAG (or even cyclic)
+        final ArrayDeque<Node> stack = new ArrayDeque<>();
+        stack.push( _root );
+        while ( ! stack.isEmpty() ) {
+            final Node n = stack.pop();
+            if ( visited.put( n, Boolean.TRUE ) != null ) continue;
+            if ( SHARED.contains( n ) ) return true;
+            if ( n instanceof MappingNode ) {
+                for ( NodeTuple kv: ((MappingNode) n).getValue() ) {
+                    stack.push( kv.getKeyNode() );
+                    stack.push( kv.getValueNode() );
+                }
+            } else if ( n instanceof SequenceNode ) {
+                for ( Node item: ((SequenceNode) n).getValue() )
+                    stack.push( item );
+            }
+        }
+        UNSHARED.put( _root, epoch );
+        return false;
+    }
+
+    /** <p>To be invoked BEFORE altering _root (or anything within it) in place.</p>
+     *  @param _root can be null
+     *  @return _root itself, if nothing within it was shared.  Otherwise, a private deep-clone (see {@link NodeTools#deepClone(Node)}) - that the caller must alter (and return) instead.
+     *  @throws Exception See {@link NodeTools#deepClone(Node)}
+     */
+    public static Node writable( final Node _root ) throws Exception {
+        if (  !  isShared( _root ) ) return _root;
+        final Node clone = NodeTools.deepClone( _root );
+        UNSHARED.put( clone, EPOCH.get() ); // brand-new.  So, NOT shared.
+        return clone;
+    }
+
+}
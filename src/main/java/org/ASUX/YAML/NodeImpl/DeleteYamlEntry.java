@@ -67,6 +67,8 @@ public class DeleteYamlEntry extends AbstractYamlEntryProcessor {
 
     protected final LinkedList< Tuple< Node, Object> > keys2bRemoved = new LinkedList<>();
 
+    protected Node output = null;
+
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
     /** The only Constructor.
      *  @param _verbose Whether you want deluge of debug-output onto System.out
@@ -85,6 +87,7 @@ public class DeleteYamlEntry extends AbstractYamlEntryProcessor {
     @Override
     public void reset() {
         this.keys2bRemoved.clear();
+        this.output = null;
     }
 
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
@@ -93,7 +96,7 @@ public class DeleteYamlEntry extends AbstractYamlEntryProcessor {
     /** This function will be called when a partial match of a YAML path-expression happens.
      * See details and warnings in @see org.ASUX.yaml.AbstractYamlEntryProcessor#onPartialMatch()
      */
-    protected boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final LinkedList<String> _end2EndPaths )
+    protected boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final Breadcrumbs _end2EndPaths )
     {    
         // Do Nothing for "delete YAML-entry command"
         return true;
@@ -103,7 +106,7 @@ public class DeleteYamlEntry extends AbstractYamlEntryProcessor {
     /** This function will be called when a full/end2end match of a YAML path-expression happens.
      * See details and warnings in @see org.ASUX.yaml.AbstractYamlEntryProcessor#onEnd2EndMatch()
      */
-    protected boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final LinkedList<String> _end2EndPaths )
+    protected boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final Breadcrumbs _end2EndPaths )
     {
         if ( this.verbose )
             System.out.print("onEnd2EndMatch: _end2EndPaths =");
@@ -121,11 +124,46 @@ public class DeleteYamlEntry extends AbstractYamlEntryProcessor {
     /** This function will be called whenever the YAML path-expression fails to match.
      * See details and warnings in @see org.ASUX.yaml.AbstractYamlEntryProcessor#onMatchFail()
      */
-    protected void onMatchFail( final YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final LinkedList<String> _end2EndPaths )
+    protected void onMatchFail( final YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final Breadcrumbs _end2EndPaths )
     {    
         // Do Nothing for "delete YAML-entry command"
     }
 
+    //-------------------------------------
+    // The original (java.util.LinkedList) signatures of the callbacks above - which every sub-class of AbstractYamlEntryProcessor must implement.
+    // They are NOT invoked by AbstractYamlEntryProcessor (as the Breadcrumbs-variants above are overridden).  They're here for any code that still invokes them directly.
+
+    /** See {@link AbstractYamlEntryProcessor#onPartialMatch(Node, org.ASUX.yaml.YAMLPath, String, Node, java.util.LinkedList)} */
+    protected boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final java.util.LinkedList<String> _end2EndPaths ) throws Exception {
+        return this.onPartialMatch( _node, _yamlPath, _keyStr, _parentNode, toBreadcrumbs( _end2EndPaths ) );
+    }
+
+    /** See {@link AbstractYamlEntryProcessor#onEnd2EndMatch(org.ASUX.yaml.YAMLPath, Object, Node, Node, Node, java.util.LinkedList)} */
+    protected boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final java.util.LinkedList<String> _end2EndPaths ) throws Exception {
+        return this.onEnd2EndMatch( _yamlPath, _key, _keyNode, _valNode, _parentNode, toBreadcrumbs( _end2EndPaths ) );
+    }
+
+    /** See {@link AbstractYamlEntryProcessor#onMatchFail(org.ASUX.yaml.YAMLPath, Node, Node, Object, java.util.LinkedList)} */
+    protected void onMatchFail( final YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final java.util.LinkedList<String> _end2EndPaths ) throws Exception {
+        this.onMatchFail( _yamlPath, _parentNode, _nodeNoMatch, _key, toBreadcrumbs( _end2EndPaths ) );
+    }
+
+    /** The "delete YAML-entry command" ignores onPartialMatch() and onMatchFail().  So, large MappingNodes can be searched via hash-lookups.
+     *  See details in {@link org.ASUX.YAML.NodeImpl.AbstractYamlEntryProcessor#getCallbackSubscriptions()}
+     */
+    @Override
+    protected int getCallbackSubscriptions() {
+        return CALLBACKS_NONE;
+    }
+
+    /** The "delete YAML-entry command" alters the YAML in place.  So, if any part of the input is shared, a private copy is altered instead (and returned via {@link #getOutput()}).
+     *  See details in {@link org.ASUX.YAML.NodeImpl.AbstractYamlEntryProcessor#altersYAML()}
+     */
+    @Override
+    protected boolean altersYAML() {
+        return true;
+    }
+
     //-------------------------------------
     /** This function will be called when processing has ended.
      * After this function returns, the AbstractYamlEntryProcessor class is done!
@@ -136,6 +174,7 @@ public class DeleteYamlEntry extends AbstractYamlEntryProcessor {
     protected void atEndOfInput( final Node _node, final YAMLPath _yamlPath ) throws Exception
     {   final String HDR = CLASSNAME +" atEndOfInput("+_yamlPath+"): ";
         if ( this.verbose ) System.out.println( HDR +"count=" + this.keys2bRemoved.size() );
+        this.output = _node; // Not necessarily the Node passed to searchYamlForPattern().  See altersYAML()
         for ( Tuple< Node, Object> tpl: this.keys2bRemoved ) {
             final Node parentN = tpl.key;
             // final String rhsStr = tpl.val.toString();
@@ -165,8 +204,9 @@ public class DeleteYamlEntry extends AbstractYamlEntryProcessor {
                     }
                 } // INNERMOST for loop
 
-                if ( bFound )
+                if ( bFound ) {
                     tuples.remove( ix );
+                }
 
             } else if ( tpl.val instanceof Integer && parentN instanceof SequenceNode ) {
                 final Integer ix = (Integer) tpl.val;
@@ -191,4 +231,13 @@ public class DeleteYamlEntry extends AbstractYamlEntryProcessor {
 
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
 
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+
+    /**
+     * @return the YAML (after the deletions).  If any part of the input was shared, this is a private copy of it.  See {@link org.ASUX.YAML.NodeImpl.CopyOnWrite}
+     */
+    public Node getOutput() {
+        return this.output;
+    }
+
 }
@@ -0,0 +1,447 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.ASUX.YAML.NodeImpl;
+
+import org.ASUX.yaml.YAMLPath;
+
+import java.util.ArrayList;
+
+import org.yaml.snakeyaml.composer.Composer;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.resolver.Resolver;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.DumperOptions;
+
+import static org.junit.Assert.*;
+
+/** <p>Runs a READ or LIST command straight off SnakeYAML's stream of parser-events - WITHOUT ever composing the entire input into a Node-tree.</p>
+ *  <p>{@link GenericYAMLScanner#load(java.io.Reader)} followed by {@link AbstractYamlEntryProcessor#searchYamlForPattern(Node, String, String)} holds the whole input in memory, even if the YAML-Path matches just a handful of small subtrees.  Instead, this class tracks the current key-path against the compiled YAML-Path as the events go by.  A Node is composed ONLY for the value of an end2end match (for LIST, not even that - only the breadcrumbs are needed).  Everything else is skipped, event by event.  So, peak memory is proportional to the size of the matches - not the size of the input.</p>
+ *  <p>Each processor sees exactly the same onEnd2EndMatch() and onEnd2EndMatchNewIndex() callbacks, with the same breadcrumbs, in the same sequence as {@link AbstractYamlEntryProcessor#searchYamlForPattern(Node, String, String)} would have invoked.  Except: the _parentNode (and _parentSeqNode) passed to them is always null, as the parent was never composed.</p>
+ *  <p>YAML-aliases: Anchored Nodes (<code>&amp;anchor</code>) are always composed (and retained till the end), so that the aliases that refer to them can be resolved.  If an anchored MappingNode or SequenceNode (or an alias to one) lies on a partial match, it is searched via {@link AbstractYamlEntryProcessor#recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)} as usual.</p>
+ *  <p>Limitations:</p>
+ *  <ul>
+ *  <li>Only processors for which {@link #isSupported(AbstractYamlEntryProcessor)} is true - that is, READ (without --projection, which needs the parent Node) and LIST.</li>
+ *  <li>Only a single YAML-document.  Multiple documents result in the same Exception as {@link GenericYAMLScanner#load(java.io.Reader)}.</li>
+ *  <li>Once the limit set via {@link AbstractYamlEntryProcessor#setMaxMatches(int)} is reached, the rest of the input is NOT even read.  So, unlike load(), any syntax-errors after that point go unreported.</li>
+ *  <li>The input is NOT interned (see {@link GenericYAMLScanner#setInternScalars(boolean)}), as there's no Node-tree to shrink.  Marks are loaded per {@link GenericYAMLScanner#setLoadMarks(MarkStrippingParser.Mode)}.</li>
+ *  </ul>
+ *  <p>Example:</p>
+ *  <pre>
+ *      final EventDrivenSearch eds = new EventDrivenSearch( verbose, nodetools.getYAMLScanner() );
+ *      eds.searchYamlForPattern( listcmd, filereader, "paths.**.description", "." );
+ *      final Node output = listcmd.getOutput();
+ *  </pre>
+ *  <p>Not thread-safe.  An instance can be re-used (one search at a time).</p>
+ */
+public final class EventDrivenSearch {
+
+    public static final String CLASSNAME = EventDrivenSearch.class.getName();
+
+    private final boolean verbose;
+    private final GenericYAMLScanner scanner;
+
+    // The state of the current search ONLY.  See searchYamlForPattern()
+    private AbstractYamlEntryProcessor processor;
+    private boolean needsValues;
+    private Parser parser;
+    private SubtreeComposer composer;
+    private final ArrayList<Level> stack = new ArrayList<>();
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** @param _verbose Whether you want deluge of debug-output onto System.out
+     *  @param _scanner NotNull.  Its {@link GenericYAMLScanner#setLoadMarks(MarkStrippingParser.Mode)} setting is honored.
+     */
+    public EventDrivenSearch( final boolean _verbose, final GenericYAMLScanner _scanner ) {
+        this.verbose = _verbose;
+        this.scanner = _scanner;
+    }
+
+    /** @param _processor can be null
+     *  @return true if _processor can be used with {@link #searchYamlForPattern(AbstractYamlEntryProcessor, java.io.Reader, String, String)}
+     */
+    public static boolean isSupported( final AbstractYamlEntryProcessor _processor ) {
+        if ( _processor instanceof ListYamlEntry )
+            return true;
+        if ( _processor instanceof ReadYamlEntry )
+            return ( (ReadYamlEntry) _processor ).cmdLineArgs.projectionPath == null; // --projection needs the parent Node
+        return false;
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** <p>The equivalent of <code>_processor.searchYamlForPattern( scanner.load( _inreader ), _yamlPathStr, _delim )</code>.  The output is available from _processor (as usual) once this returns.</p>
+     *  @param _processor NotNull.  See {@link #isSupported(AbstractYamlEntryProcessor)}
+     *  @param _inreader either a StringReader or a FileReader.  It is NOT closed by this method.
+     *  @param _yamlPathStr See {@link AbstractYamlEntryProcessor#searchYamlForPattern(Node, String, String)}
+     *  @param _delim See {@link AbstractYamlEntryProcessor#searchYamlForPattern(Node, String, String)}
+     *  @return true = whether at least one match happened.  Also true, if the YAML-Path pattern is the ROOT-ELEM (nothing to search).
+     *  @throws YAMLPath.YAMLPathException if Pattern for YAML-Path provided is either semantically empty or is NOT java.util.Pattern compatible.
+     *  @throws org.yaml.snakeyaml.error.YAMLException if the YAML is invalid
+     *  @throws Exception if the input has multiple YAML-documents, or any errors/troubles noted from within _processor
+     */
+    public boolean searchYamlForPattern( final AbstractYamlEntryProcessor _processor, final java.io.Reader _inreader, final String _yamlPathStr, final String _delim )
+                    throws YAMLPath.YAMLPathException, Exception
+    {
+        final String HDR = CLASSNAME +": searchYamlForPattern("+ _yamlPathStr +"): ";
+        if (  !  isSupported( _processor ) )
+            throw new IllegalArgumentException( HDR +_processor.getClass().getName() +" needs the entire Node-tree.  Use AbstractYamlEntryProcessor.searchYamlForPattern() instead." );
+
+        this.processor = _processor;
+        this.needsValues = ! ( _processor instanceof ListYamlEntry ); // LIST needs just the breadcrumbs
+        this.parser = this.scanner.newParser( _inreader );
+        this.composer = new SubtreeComposer( this.parser );
+        try {
+            final YAMLPathCursor startingCursor = _processor.beginSearch( _yamlPathStr, _delim );
+            final Node root; // null, if streamed (that is, NOT composed)
+            boolean retval = true;
+
+            this.parser.getEvent(); // StreamStart
+            if ( this.parser.checkEvent( Event.ID.StreamEnd ) ) {
+                // Same as what GenericYAMLScanner.load() returns for an empty YAML
+                root = new ScalarNode( Tag.NULL, "null", null, null, DumperOptions.ScalarStyle.PLAIN );
+                if ( startingCursor != null )
+                    retval = _processor.recursiveSearch( root, startingCursor, null, Breadcrumbs.EMPTY );
+            } else {
+                this.parser.getEvent(); // DocumentStart
+                if ( startingCursor == null ) {
+                    root = null;
+                    this.skipNode();
+                } else if ( isStreamable( this.parser.peekEvent() ) ) {
+                    root = null;
+                    this.stack.add( this.beginLevel( startingCursor, Breadcrumbs.EMPTY ) );
+                    retval = this.searchLevels();
+                } else {
+                    // A Scalar (or an anchored collection) at the very top.  Just search it as usual.
+                    root = this.composer.composeValue();
+                    retval = _processor.recursiveSearch( root, startingCursor, null, Breadcrumbs.EMPTY );
+                }
+                if (  !  _processor.isMatchLimitReached() ) {
+                    this.parser.getEvent(); // DocumentEnd
+                    if (  !  this.parser.checkEvent( Event.ID.StreamEnd ) )
+                        throw new Exception( CLASSNAME +" searchYamlForPattern(): we have more than 1 document within a single YAML file.  Use "+ Cmd.PERDOCUMENT +" on the command-line (or, GenericYAMLScanner.loadDocuments() within java code), to process them one document at a time." );
+                } else {
+                    if ( this.verbose ) System.out.println( HDR +"stopped reading the input, as "+ _processor.getMaxMatches() +" matches were found." );
+                }
+            }
+
+            _processor.endSearch( root );
+            return retval;
+        } finally {
+            // So that this instance does NOT hold on to any Nodes (especially, if an Exception was thrown)
+            this.processor = null;
+            this.parser = null;
+            this.composer = null;
+            this.stack.clear();
+        }
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** <p>ALL the state of ONE level of nesting - a MappingNode or SequenceNode that was NOT composed (see {@link #isStreamable(Event)}).</p>
+     *  <p>Mirrors the Frame within {@link AbstractYamlEntryProcessor} - field by field, where applicable.</p>
+     */
+    private static final class Level {
+        boolean isMapping;
+        YAMLPathCursor cursor;
+        Breadcrumbs end2EndPaths;
+        Boolean aMatchFound = null;
+
+        // The following are for SequenceNodes only
+        YAMLPathCursor lookForwardYAMLPath;
+        YAMLPathCursor nonStarLookFwdYAMLPath;
+        boolean bWildcard;
+        boolean bMatchAny;
+        boolean bLetsIterate;
+        CompiledYAMLPath.ElemMatcher upcomingMatcher;
+        int ix = 0; // # of items seen so far
+    }
+
+    /** @return true if _e starts a MappingNode or a SequenceNode that can be searched WITHOUT composing it.  Anchored ones are always composed (as aliases may refer to them).  */
+    private static boolean isStreamable( final Event _e ) {
+        return ( _e.is( Event.ID.MappingStart ) || _e.is( Event.ID.SequenceStart ) ) && ( (NodeEvent) _e ).getAnchor() == null;
+    }
+
+    //==============================================================================
+
+    /** <p>The equivalent of AbstractYamlEntryProcessor.beginNode() - for the MappingNode or SequenceNode whose start-event is next.  That start-event is consumed.</p>
+     *  @param _cursor See {@link AbstractYamlEntryProcessor#recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @param _breadcrumbs See {@link AbstractYamlEntryProcessor#recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     *  @return a NotNull new Level, to be pushed onto this.stack
+     */
+    private Level beginLevel( final YAMLPathCursor _cursor, final Breadcrumbs _breadcrumbs )
+    {
+        final Event e = this.parser.getEvent();
+        final Level lvl = new Level();
+        lvl.isMapping = e.is( Event.ID.MappingStart );
+        lvl.cursor = _cursor;
+        lvl.end2EndPaths = _breadcrumbs;
+        if ( lvl.isMapping ) return lvl;
+
+        assertTrue( _cursor.hasNext );
+        lvl.lookForwardYAMLPath = _cursor;
+        if ( _cursor.wildcardPrefix ) {
+            lvl.nonStarLookFwdYAMLPath = _cursor;
+            lvl.upcomingMatcher = _cursor.matcher();
+            lvl.bWildcard = true;
+            lvl.bLetsIterate = true;
+        } else if ( _cursor.matcher().isMatchAny() ) {
+            lvl.nonStarLookFwdYAMLPath = _cursor.next();
+            lvl.upcomingMatcher = lvl.nonStarLookFwdYAMLPath.matcher(); // null, if there's NO next YAML-Path-element
+            lvl.bMatchAny = true;
+            lvl.bLetsIterate = true;
+        } else if ( _cursor.matcher().isIndex() ) { // like '3' '[3]' or '[0-3]'
+            lvl.nonStarLookFwdYAMLPath = _cursor.next();
+            lvl.upcomingMatcher = _cursor.matcher();
+            lvl.bLetsIterate = true;
+        } // else: No point looping thru the array.
+        return lvl;
+    }
+
+    //==============================================================================
+
+    /** <p>The equivalent of AbstractYamlEntryProcessor.iterativeSearch() - for this.stack (which has the top-most Level already).</p>
+     *  @return true = whether at least one match happened.
+     *  @throws Exception See {@link AbstractYamlEntryProcessor#recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     */
+    private boolean searchLevels() throws Exception
+    {
+        while ( true ) {
+            if ( this.processor.isMatchLimitReached() ) return true; // See setMaxMatches().  Leave the rest of the input unread.
+            final Level lvl = this.stack.get( this.stack.size() - 1 );
+            if ( this.parser.checkEvent( Event.ID.MappingEnd ) || this.parser.checkEvent( Event.ID.SequenceEnd ) ) {
+                this.parser.getEvent();
+                this.stack.remove( this.stack.size() - 1 );
+                final boolean aMatchFound = this.endLevel( lvl );
+                if ( this.stack.isEmpty() ) return aMatchFound;
+                this.childDone( this.stack.get( this.stack.size() - 1 ), aMatchFound );
+            } else if ( lvl.isMapping ) {
+                this.nextTuple( lvl );
+            } else {
+                this.nextItem( lvl );
+            }
+        }
+    }
+
+    //==============================================================================
+
+    /** <p>The equivalent of ONE iteration of AbstractYamlEntryProcessor.nextTuple().  Either the tuple is fully consumed, or a Level is pushed for its value.</p>
+     *  @param _lvl the current Level (a MappingNode)
+     *  @throws Exception See {@link AbstractYamlEntryProcessor#recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     */
+    private void nextTuple( final Level _lvl ) throws Exception
+    {
+        final YAMLPathCursor _cursor = _lvl.cursor;
+        final Node keyNode = this.composer.composeKey();
+        assertTrue( keyNode instanceof ScalarNode );
+        final String keyAsStr = ( (ScalarNode) keyNode ).getValue();
+
+        final CompiledYAMLPath.ElemMatcher yamlPElemMatcher = _cursor.matcher();
+        final boolean hasThisKeyEntryMatched;
+        final boolean hasThisYamlLineLiterallyMatched;
+        if ( yamlPElemMatcher.isGreedyWildcard() ) {
+            hasThisYamlLineLiterallyMatched = false;
+            hasThisKeyEntryMatched = true;
+        } else if ( yamlPElemMatcher.matches( keyAsStr ) ) {
+            hasThisYamlLineLiterallyMatched = true;
+            hasThisKeyEntryMatched = true;
+        } else {
+            hasThisYamlLineLiterallyMatched = false;
+            hasThisKeyEntryMatched = _cursor.wildcardPrefix;
+        }
+        if (  !  hasThisKeyEntryMatched ) {
+            this.skipNode();
+            return;
+        }
+
+        _lvl.end2EndPaths = _lvl.end2EndPaths.push( keyAsStr );
+        final YAMLPathCursor lookForwardYAMLPath = (  hasThisYamlLineLiterallyMatched ||  !  _cursor.wildcardPrefix ) ? _cursor.next() : _cursor;
+
+        if ( ! lookForwardYAMLPath.hasNext ) {
+            // end2end match (location #1).  Note: the breadcrumbs are popped TWICE - exactly like nextTuple() does.
+            _lvl.aMatchFound = Boolean.TRUE;
+            final Node valNode = this.needsValues ? this.composer.composeValue() : this.skipNode();
+            this.fireEnd2EndMatch( _cursor, keyAsStr, keyNode, valNode, _lvl.end2EndPaths );
+            _lvl.end2EndPaths = _lvl.end2EndPaths.pop();
+        } else if ( isStreamable( this.parser.peekEvent() ) ) {
+            this.stack.add( this.beginLevel( lookForwardYAMLPath, _lvl.end2EndPaths ) ); // see childDone()
+            return;
+        } else if ( this.parser.checkEvent( Event.ID.Scalar ) && ( (NodeEvent) this.parser.peekEvent() ).getAnchor() == null ) {
+            this.skipNode(); // a partial match, that can NOT go any deeper
+        } else {
+            final Node valNode = this.composer.composeValue(); // an alias, or an anchored Node
+            if ( valNode instanceof MappingNode || valNode instanceof SequenceNode ) {
+                this.childDone( _lvl, this.processor.recursiveSearch( valNode, lookForwardYAMLPath, null, _lvl.end2EndPaths ) );
+                return;
+            }
+        }
+
+        if ( _lvl.end2EndPaths.size() > 0 )
+            _lvl.end2EndPaths = _lvl.end2EndPaths.pop();
+    }
+
+    /** <p>The equivalent of ONE iteration of AbstractYamlEntryProcessor.nextItem().  Either the item is fully consumed, or a Level is pushed for it.</p>
+     *  @param _lvl the current Level (a SequenceNode)
+     *  @throws Exception See {@link AbstractYamlEntryProcessor#recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     */
+    private void nextItem( final Level _lvl ) throws Exception
+    {
+        final int ix = _lvl.ix ++;
+        if (  !  _lvl.bLetsIterate || ! ( _lvl.bWildcard || _lvl.bMatchAny || _lvl.upcomingMatcher.matchesIndex(ix) ) ) {
+            this.skipNode();
+            return;
+        }
+
+        final Breadcrumbs withIndex = _lvl.end2EndPaths.push( "["+ix+"]" ); // _lvl.end2EndPaths is NOT altered.
+        if (  !  _lvl.nonStarLookFwdYAMLPath.hasNext ) {
+            // end2end match (location #2)
+            final Node valNode = this.needsValues ? this.composer.composeValue() : this.skipNode();
+            if ( this.fireEnd2EndMatch( _lvl.lookForwardYAMLPath, ix, null, valNode, withIndex ) )
+                _lvl.aMatchFound = Boolean.TRUE;
+            return;
+        }
+
+        final Event e = this.parser.peekEvent();
+        if ( isStreamable( e ) && e.is( Event.ID.MappingStart ) ) {
+            this.stack.add( this.beginLevel( _lvl.nonStarLookFwdYAMLPath, withIndex ) ); // see childDone()
+        } else if ( isStreamable( e ) ) {
+            this.skipNode();
+            printArrayOfArrays( _lvl.cursor );
+        } else if ( e.is( Event.ID.Scalar ) && ( (NodeEvent) e ).getAnchor() == null ) {
+            this.skipNode(); // can't be a match, as it's a simple Scalar
+        } else {
+            final Node seqItemNode = this.composer.composeValue(); // an alias, or an anchored Node
+            if ( seqItemNode instanceof MappingNode )
+                this.childDone( _lvl, this.processor.recursiveSearch( seqItemNode, _lvl.nonStarLookFwdYAMLPath, null, withIndex ) );
+            else if ( seqItemNode instanceof SequenceNode )
+                printArrayOfArrays( _lvl.cursor );
+        }
+    }
+
+    /** Same complaint as AbstractYamlEntryProcessor.nextItem(), re: a SequenceNode within a SequenceNode */
+    private static void printArrayOfArrays( final YAMLPathCursor _cursor ) {
+        System.err.println( AbstractYamlEntryProcessor.CLASSNAME +" recursiveSearch("+_cursor+"): "+" incomplete code: WTF? YAML-Array consisting of Arrays??? Let me think about it .. on how to implement this! w Node-type sequence and className='"+ SequenceNode.class.getName() +"'" );
+    }
+
+    //==============================================================================
+
+    /** <p>The equivalent of AbstractYamlEntryProcessor.childDone()</p>
+     *  @param _lvl the Level, whose child was just searched
+     *  @param _childMatchFound what that search returned
+     */
+    private void childDone( final Level _lvl, final boolean _childMatchFound )
+    {
+        _lvl.aMatchFound = _childMatchFound;
+        if ( _lvl.isMapping && _lvl.end2EndPaths.size() > 0 )
+            _lvl.end2EndPaths = _lvl.end2EndPaths.pop();
+    }
+
+    /** <p>The equivalent of AbstractYamlEntryProcessor.endNode()</p>
+     *  @param _lvl the Level, whose end-event was just consumed
+     *  @return true = whether at least one match happened.
+     *  @throws Exception See {@link AbstractYamlEntryProcessor#recursiveSearch(Node, YAMLPathCursor, Node, Breadcrumbs)}
+     */
+    private boolean endLevel( final Level _lvl ) throws Exception
+    {
+        if (  !  _lvl.isMapping && _lvl.upcomingMatcher != null && _lvl.upcomingMatcher.exactBracketedIndex >= 0 ) {
+            final int newIndex = _lvl.upcomingMatcher.exactBracketedIndex;
+            if ( _lvl.ix <= newIndex ) {
+                if (  !  this.processor.isMatchLimitReached() )
+                    this.processor.countMatch( this.processor.onEnd2EndMatchNewIndex( _lvl.lookForwardYAMLPath, newIndex, null, _lvl.end2EndPaths.push( "["+newIndex+"]" ) ) );
+                _lvl.aMatchFound = Boolean.TRUE;
+            }
+        }
+        return ( _lvl.aMatchFound != null ) && _lvl.aMatchFound;
+    }
+
+    /** Same as what AbstractYamlEntryProcessor.fireEnd2EndMatch() does, for the single-threaded traversal */
+    private boolean fireEnd2EndMatch( final YAMLPathCursor _cursor, final Object _key, final Node _keyNode, final Node _valNode, final Breadcrumbs _end2EndPaths ) throws Exception {
+        if ( this.processor.isMatchLimitReached() ) return false;
+        return this.processor.countMatch( this.processor.onEnd2EndMatch( _cursor, _key, _keyNode, _valNode, null, _end2EndPaths ) );
+    }
+
+    //==============================================================================
+
+    /** <p>Consumes ALL the events of the next Node (the entire subtree), WITHOUT composing it.  Except: anchored Nodes and aliases within it are composed, so that the Composer knows of every anchor (and complains about undefined aliases) - just as load() would.</p>
+     *  @return null, always (for convenience of the invoker)
+     */
+    private Node skipNode()
+    {
+        int depth = 0;
+        do {
+            final Event e = this.parser.peekEvent();
+            if ( e instanceof NodeEvent && ( (NodeEvent) e ).getAnchor() != null ) { // an anchored Node, or an alias
+                this.composer.composeValue();
+            } else {
+                this.parser.getEvent();
+                if ( e.is( Event.ID.MappingStart ) || e.is( Event.ID.SequenceStart ) )
+                    depth ++;
+                else if ( e.is( Event.ID.MappingEnd ) || e.is( Event.ID.SequenceEnd ) )
+                    depth --;
+            }
+        } while ( depth > 0 );
+        return null;
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** <p>A SnakeYAML Composer, that composes ONE Node (subtree) at a time - starting wherever the Parser currently is.  So, the Nodes are identical to what {@link GenericYAMLScanner#load(java.io.Reader)} would have composed (incl. the YAML-aliases, which share the anchored Node).</p> */
+    private static final class SubtreeComposer extends Composer {
+        SubtreeComposer( final Parser _parser ) {
+            super( _parser, new Resolver() );
+        }
+        /** @return the NotNull key of a MappingNode's tuple, whose events are next */
+        Node composeKey() {
+            return super.composeKeyNode( null );
+        }
+        /** @return the NotNull Node, whose events are next */
+        Node composeValue() {
+            return super.composeValueNode( null );
+        }
+    }
+
+}
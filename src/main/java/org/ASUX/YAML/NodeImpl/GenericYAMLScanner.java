@@ -69,7 +69,21 @@ import org.yaml.snakeyaml.DumperOptions;
 public class GenericYAMLScanner {
 
     public static final String CLASSNAME = GenericYAMLScanner.class.getName();
+
+    /** <p>Set this java System-property to true (as in: <code>-Dorg.ASUX.YAML.NodeImpl.internScalars=true</code>) to de-duplicate the Strings within ScalarNodes while loading.  See {@link #setInternScalars(boolean)}</p> */
+    public static final String INTERN_SCALARS_PROPERTY = "org.ASUX.YAML.NodeImpl.internScalars";
+
+    /** <p>Set this java System-property to 'lines' or 'none' (as in: <code>-Dorg.ASUX.YAML.NodeImpl.loadMarks=none</code>) to NOT retain the full start/end Marks of every loaded Node.  See {@link #setLoadMarks(MarkStrippingParser.Mode)}</p> */
+    public static final String LOAD_MARKS_PROPERTY = "org.ASUX.YAML.NodeImpl.loadMarks";
+
+    /** <p>Set this java System-property to false (as in: <code>-Dorg.ASUX.YAML.NodeImpl.filteredLoad=false</code>) to ALWAYS compose the entire YAML, even when given a YAML-Path.  See {@link #setFilteredLoad(boolean)}</p> */
+    public static final String FILTERED_LOAD_PROPERTY = "org.ASUX.YAML.NodeImpl.filteredLoad";
+
     private boolean verbose;
+    private boolean showStats = false;
+    private boolean internScalars = Boolean.getBoolean( INTERN_SCALARS_PROPERTY );
+    private MarkStrippingParser.Mode loadMarks = defaultLoadMarks();
+    private boolean filteredLoad = ! "false".equalsIgnoreCase( System.getProperty( FILTERED_LOAD_PROPERTY ) );
 
     private YAML_Libraries sYAMLLibrary = YAML_Libraries.ASUXYAML_Library;
 
@@ -102,6 +116,79 @@ public class GenericYAMLScanner {
         this.sYAMLLibrary = _l;
     }
 
+    /**
+     * @param _showStats Whether you want a summary onto console / System.out, after every {@link #load(java.io.Reader)} (currently: how many bytes {@link #setInternScalars(boolean)} saved, and how much {@link #setFilteredLoad(boolean)} skipped)
+     */
+    public void setShowStats( final boolean _showStats ) {
+        this.showStats = _showStats;
+    }
+
+    /** @return See {@link #setShowStats(boolean)} */
+    public boolean isShowStats() {
+        return this.showStats;
+    }
+
+    /**
+     * <p>Whether {@link #load(java.io.Reader)} should de-duplicate the Strings within ScalarNodes (that is, repeated keys and short values), as the Nodes are composed.  See {@link InterningComposer}</p>
+     * <p>By default, false - unless the java System-property {@value #INTERN_SCALARS_PROPERTY} is set to true.</p>
+     * @param _intern true to enable
+     */
+    public void setInternScalars( final boolean _intern ) {
+        this.internScalars = _intern;
+    }
+
+    /** @return See {@link #setInternScalars(boolean)} */
+    public boolean isInternScalars() {
+        return this.internScalars;
+    }
+
+    /**
+     * <p>How much of the start/end Marks (the position within the input, used ONLY within error messages) should be retained within every Node that {@link #load(java.io.Reader)} creates.  See {@link MarkStrippingParser}</p>
+     * <p>By default, {@link MarkStrippingParser.Mode#FULL} - unless the java System-property {@value #LOAD_MARKS_PROPERTY} says otherwise.  Batch and long-running processes are better off with LINES or NONE.</p>
+     * @param _mode NotNull
+     */
+    public void setLoadMarks( final MarkStrippingParser.Mode _mode ) {
+        this.loadMarks = _mode;
+    }
+
+    /** @return See {@link #setLoadMarks(MarkStrippingParser.Mode)} */
+    public MarkStrippingParser.Mode getLoadMarks() {
+        return this.loadMarks;
+    }
+
+    /**
+     * <p>Whether {@link #load(java.io.Reader, CompiledYAMLPath, int)} should skip composing those parts of the YAML, that can NOT match the YAML-Path.  See {@link PathFilteringComposer}</p>
+     * <p>By default, true - unless the java System-property {@value #FILTERED_LOAD_PROPERTY} is set to false.</p>
+     * @param _filtered false to always compose the entire YAML
+     */
+    public void setFilteredLoad( final boolean _filtered ) {
+        this.filteredLoad = _filtered;
+    }
+
+    /** @return See {@link #setFilteredLoad(boolean)} */
+    public boolean isFilteredLoad() {
+        return this.filteredLoad;
+    }
+
+    /** @return what {@value #LOAD_MARKS_PROPERTY} says (FULL, if it's not set - or - if it's not a legal value) */
+    private static MarkStrippingParser.Mode defaultLoadMarks() {
+        try {
+            return parseLoadMarks( System.getProperty( LOAD_MARKS_PROPERTY, "full" ) );
+        } catch ( IllegalArgumentException e ) {
+            System.err.println( CLASSNAME +": ignoring -D"+ LOAD_MARKS_PROPERTY +"="+ System.getProperty( LOAD_MARKS_PROPERTY ) +".  Must be one of: full, lines or none." );
+            return MarkStrippingParser.Mode.FULL;
+        }
+    }
+
+    /**
+     * @param _s one of 'full', 'lines' or 'none' (case-insensitive)
+     * @return the corresponding value
+     * @throws IllegalArgumentException if _s is none of the above
+     */
+    public static MarkStrippingParser.Mode parseLoadMarks( final String _s ) {
+        return MarkStrippingParser.Mode.valueOf( _s.trim().toUpperCase() );
+    }
+
     //=================================================================================
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
     //=================================================================================
@@ -133,6 +220,20 @@ See ALPHA_S inside https://bitbucket.org/asomov/snakeyaml/src/default/src/main/j
      * @throws Exception if the YAML libraries have any issues with ERRORs inthe YAML or other issues.
      */
     public Node load( final java.io.Reader _inreader ) throws Exception
+    {
+        return this.load( _inreader, null, 0 );
+    }
+
+    /**
+     * <p>Same as {@link #load(java.io.Reader)} - but composes ONLY the slice of the YAML that _filter can possibly match (see {@link PathFilteringComposer}).  All of the YAML is still parsed (that is, syntax-errors are still detected).</p>
+     * <p>Use this ONLY for commands that do NOT output the entire YAML (READ, LIST and TABLE).  NOT for INSERT, REPLACE or DELETE.</p>
+     * @param _inreader either a StringReader or a FileReader
+     * @param _filter the compiled YAML-Path that the returned Node will be searched with.  If null, the entire YAML is composed (same as {@link #load(java.io.Reader)}).
+     * @param _depth how many of the leading YAML-Path-elements of _filter to filter by.  Use fewer than _filter.length(), if the search will look at ancestors of the matches (for example, '../' columns of a TABLE command).
+     * @return See {@link #load(java.io.Reader)}
+     * @throws Exception See {@link #load(java.io.Reader)}
+     */
+    public Node load( final java.io.Reader _inreader, final CompiledYAMLPath _filter, final int _depth ) throws Exception
     {
         if (this.verbose) System.out.println( CLASSNAME + ": load(java.io.Reader): this.getYAMLLibrary()="+ this.getYAMLLibrary() );
 
@@ -145,8 +246,7 @@ See ALPHA_S inside https://bitbucket.org/asomov/snakeyaml/src/default/src/main/j
                 // https://yaml.org/spec/1.2/spec.html#id2762107
                 // per https://bitbucket.org/asomov/snakeyaml/src/tip/src/test/java/examples/CustomMapExampleTest.java
                 // See also https://bitbucket.org/asomov/snakeyaml/wiki/Documentation#markdown-header-collections
-                final org.yaml.snakeyaml.reader.StreamReader snkrdr = new org.yaml.snakeyaml.reader.StreamReader( _inreader );
-                final Composer composer = new Composer( new org.yaml.snakeyaml.parser.ParserImpl(snkrdr), new org.yaml.snakeyaml.resolver.Resolver() ); // last/2nd CANNOT be null.  Resolver.class instance is required.
+                final Composer composer = this.newComposer( _inreader, _filter, _depth );
 
                 // final Node rootNode = composer.getSingleNode();
 
@@ -167,12 +267,14 @@ See ALPHA_S inside https://bitbucket.org/asomov/snakeyaml/src/default/src/main/j
                     docuArray.add( outputObj );
                 } // while
 
+                this.printStats( composer );
+
                 if ( numOfYamlDocuments <= 0 ) {
                     return new ScalarNode( Tag.NULL, "null", null, null, DumperOptions.ScalarStyle.PLAIN ); // This should be representing an empty YAML.  I hope!
                 } else if ( numOfYamlDocuments == 1 ) {
                     return outputObj;
                 } else {
-                    throw new Exception( CLASSNAME +" load(): we have "+ numOfYamlDocuments + " documents within a single YAML file.  org.ASUX.YAML libraries are currently not sophisticated to handle multiple YAML in a single file." );
+                    throw new Exception( CLASSNAME +" load(): we have "+ numOfYamlDocuments + " documents within a single YAML file.  Use "+ Cmd.PERDOCUMENT +" on the command-line (or, loadDocuments() within java code), to process them one document at a time." );
                 }
                 // break;
 
@@ -188,8 +290,108 @@ See ALPHA_S inside https://bitbucket.org/asomov/snakeyaml/src/default/src/main/j
         // return null;
     } //function
 
+    //==============================================================================
+
+    /**
+     * <p>Like {@link #load(java.io.Reader)}, but for a stream of YAML-documents (separated by '---' lines - like Kubernetes manifests or log-style YAML).</p>
+     * <p>The documents are composed lazily, one per invocation of next().  So, as long as the caller does NOT hold on to the previous documents, memory is bounded by the largest single document - rather than the entire input.</p>
+     * @param _inreader either a StringReader or a FileReader.  It is NOT closed by this method.
+     * @return a NotNull iterator.  hasNext() and next() throw org.yaml.snakeyaml.error.YAMLException (a RuntimeException) if the YAML is invalid.
+     * @throws Exception if the YAML library is NOT SnakeYAML
+     */
+    public java.util.Iterator<Node> loadDocuments( final java.io.Reader _inreader ) throws Exception
+    {
+        switch ( this.getYAMLLibrary() ) {
+            case NodeImpl_Library:
+            case ORGSNAKEYAML_Library:
+            case SNAKEYAML_Library:
+                break;
+            default:
+                final String es = CLASSNAME + ": loadDocuments(): Unimplemented YAML-Library: " + this.getYAMLLibrary();
+                System.err.println( es );
+                throw new Exception( es );
+        }
+
+        final Composer composer = this.newComposer( _inreader );
+        return new java.util.Iterator<Node>() {
+            private int count = 0;
+            private boolean done = false;
+            public boolean hasNext() {
+                if ( this.done ) return false;
+                if ( composer.checkNode() ) return true; // Check if further documents are available.
+                this.done = true;
+                printStats( composer );
+                return false;
+            }
+            public Node next() {
+                if ( ! this.hasNext() ) throw new java.util.NoSuchElementException( CLASSNAME +": loadDocuments(): only "+ this.count +" documents" );
+                final Node n = composer.getNode(); // Reads and composes the next document.
+                if ( verbose ) System.out.println( CLASSNAME +" loadDocuments(): document # "+ this.count + " is of type "+ n.getNodeId() +" " );
+                this.count ++;
+                return n;
+            }
+        };
+    }
+
+    /**
+     * <p>Same as {@link #loadDocuments(java.io.Reader)}, as a sequential java.util.stream.Stream.  Closing the Stream closes _inreader.</p>
+     * @param _inreader either a StringReader or a FileReader
+     * @return a NotNull, ordered &amp; lazy Stream
+     * @throws Exception See {@link #loadDocuments(java.io.Reader)}
+     */
+    public java.util.stream.Stream<Node> streamDocuments( final java.io.Reader _inreader ) throws Exception
+    {
+        final java.util.Iterator<Node> docs = this.loadDocuments( _inreader );
+        return java.util.stream.StreamSupport.stream(
+                    java.util.Spliterators.spliteratorUnknownSize( docs, java.util.Spliterator.ORDERED | java.util.Spliterator.NONNULL ), false )
+                .onClose( () -> {
+                    try { _inreader.close(); } catch ( java.io.IOException e ) { throw new java.io.UncheckedIOException( e ); }
+                } );
+    }
+
     //==============================================================================
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
     //==============================================================================
 
+    /** @return a NotNull SnakeYAML Parser (the stream of YAML-events) over _inreader - per {@link #setLoadMarks(MarkStrippingParser.Mode)}.  Also used by {@link EventDrivenSearch} */
+    org.yaml.snakeyaml.parser.Parser newParser( final java.io.Reader _inreader ) {
+        final org.yaml.snakeyaml.reader.StreamReader snkrdr = new org.yaml.snakeyaml.reader.StreamReader( _inreader );
+        return ( this.loadMarks == MarkStrippingParser.Mode.FULL ) // See setLoadMarks()
+                    ? new org.yaml.snakeyaml.parser.ParserImpl(snkrdr)
+                    : new MarkStrippingParser( new org.yaml.snakeyaml.parser.ParserImpl(snkrdr), this.loadMarks );
+    }
+
+    /** @return a NotNull SnakeYAML Composer over _inreader - per {@link #setLoadMarks(MarkStrippingParser.Mode)} and {@link #setInternScalars(boolean)} */
+    private Composer newComposer( final java.io.Reader _inreader ) {
+        final org.yaml.snakeyaml.parser.Parser parser = this.newParser( _inreader );
+        return this.internScalars // See setInternScalars()
+                    ? new InterningComposer( parser, new org.yaml.snakeyaml.resolver.Resolver(), InterningComposer.DEFAULT_MAX_ENTRIES )
+                    : new Composer( parser, new org.yaml.snakeyaml.resolver.Resolver() ); // last/2nd CANNOT be null.  Resolver.class instance is required.
+    }
+
+    /** @return Same as {@link #newComposer(java.io.Reader)} - except, per {@link #setFilteredLoad(boolean)}, a {@link PathFilteringComposer} if _filter is NOT null.  Scalars are still interned per {@link #setInternScalars(boolean)}. */
+    private Composer newComposer( final java.io.Reader _inreader, final CompiledYAMLPath _filter, final int _depth ) {
+        if ( _filter == null || ! this.filteredLoad || _depth <= 0 )
+            return this.newComposer( _inreader );
+        final InterningComposer.Pool internPool = this.internScalars ? new InterningComposer.Pool( InterningComposer.DEFAULT_MAX_ENTRIES ) : null; // See setInternScalars()
+        return new PathFilteringComposer( this.newParser( _inreader ), new org.yaml.snakeyaml.resolver.Resolver(), _filter, _depth, internPool );
+    }
+
+    /** See {@link #setShowStats(boolean)}
+     *  @param _composer what {@link #newComposer(java.io.Reader)} returned, after ALL documents have been read from it
+     */
+    private void printStats( final Composer _composer ) {
+        if ( this.showStats && _composer instanceof InterningComposer ) {
+            final InterningComposer ic = (InterningComposer) _composer;
+            System.out.println( "interned scalars="+ ic.getHits() +" distinct="+ ic.getPoolSize() +" bytes-saved~="+ ic.getBytesSaved() );
+        }
+        if ( this.showStats && _composer instanceof PathFilteringComposer ) {
+            final PathFilteringComposer pfc = (PathFilteringComposer) _composer;
+            final InterningComposer.Pool ip = pfc.getInternPool();
+            if ( ip != null )
+                System.out.println( "interned scalars="+ ip.getHits() +" distinct="+ ip.getPoolSize() +" bytes-saved~="+ ip.getBytesSaved() );
+            System.out.println( "filtered load: mapping-entries skipped="+ pfc.getDroppedCount() );
+        }
+    }
+
 }
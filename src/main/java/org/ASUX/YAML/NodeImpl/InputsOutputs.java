@@ -132,6 +132,18 @@ public class InputsOutputs {
         if ( _src.startsWith("@") ) {
             final boolean isNoFailCommand = _src.charAt(1) == '?'; // example:  @?./perhaps/nonexistent/file.yaml
             final String srcFile = _src.substring( isNoFailCommand ? 2 : 1 ); // get rid of the '@' and any optional '?' a the beginning
+
+            // Batch-files tend to reference the same files over & over.  So, re-use what was parsed already - unless the file was altered since.  See ParsedFileCache
+            final String cacheKey = ParsedFileCache.keyFor( new java.io.File( srcFile ),
+                            srcFile.endsWith(".json") ? "json:"+ _dumperopt.getDefaultScalarStyle() +":"+ _dumperopt.getDefaultFlowStyle() : "" );
+            if ( cacheKey != null ) {
+                final Object cached = ParsedFileCache.get( cacheKey );
+                if ( cached != null ) {
+                    if ( _verbose ) System.out.println( HDR +" re-using what was parsed earlier. "+ ParsedFileCache.getStats() );
+                    return cached;
+                }
+            }
+
             InputStream fs = null;
             try {
                 fs = new FileInputStream( srcFile );
@@ -143,16 +155,11 @@ public class InputsOutputs {
             }
             if ( srcFile.endsWith(".json") ) {
                 if ( _verbose ) System.out.println( HDR +" detected a JSON-file provided via '@'." );
-                // http://tutorials.jenkov.com/java-json/jackson-objectmapper.html#read-map-from-json-string 
-                com.fasterxml.jackson.databind.ObjectMapper objMapper = new com.fasterxml.jackson.databind.ObjectMapper();
-                objMapper.configure( com.fasterxml.jackson.core.JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES, true );
-                objMapper.configure( com.fasterxml.jackson.core.JsonParser.Feature.ALLOW_SINGLE_QUOTES, true);
-                final com.fasterxml.jackson.databind.type.MapType type = objMapper.getTypeFactory().constructMapType( LinkedHashMap.class, String.class, Object.class );
-                final LinkedHashMap<String, Object> retMap2 = objMapper.readValue( fs, new com.fasterxml.jackson.core.type.TypeReference< LinkedHashMap<String,Object> >(){}  );
+                // Nodes are built straight from Jackson's streaming JsonParser.  No more ObjectMapper + NodeTools.Map2Node() (2 full copies of the JSON in memory)
+                final Node retNode = NodeJSONReader.read( fs, _dumperopt );
                 fs.close();
-                if ( _verbose ) System.out.println( HDR +" jsonMap loaded BY OBJECTMAPPER into tempOutputMap =" + retMap2 );
-                final Node retNode = NodeTools.Map2Node( _verbose, retMap2, _dumperopt );
-                return retNode;
+                if ( _verbose ) System.out.println( HDR +" JSON loaded into retNode =" + retNode );
+                return ParsedFileCache.put( cacheKey, retNode );
 
             } else if ( srcFile.endsWith(".yaml") ) {
                 if ( _verbose ) System.out.println( HDR +" detected a YAML-file provided via '@'." );
@@ -160,12 +167,13 @@ public class InputsOutputs {
                 final Node output = _YAMLScanner.load( reader1 );
                 reader1.close(); // automatically includes fs.close();
                 if ( _verbose ) System.out.println( HDR +" YAML loaded into tempOutputMap =" + output );
-                return output;
+                return ParsedFileCache.put( cacheKey, output );
 
             } else if ( srcFile.endsWith(".properties") || srcFile.endsWith(".txt") ) {
                 final Properties properties = new Properties();
                 properties.load( fs );
-                return properties;
+                fs.close();
+                return ParsedFileCache.put( cacheKey, properties );
 
             } else if ( "/dev/null".equals(srcFile) ) {
                 return new Properties(); // an empty Properties file.  /dev/null ==> by definition, we CANNOT TELL if its JSON or YAML.  So, Properties it is!
@@ -286,18 +294,11 @@ public class InputsOutputs {
         if ( _dest.startsWith("@") ) {
             if ( _verbose ) System.out.println( HDR +" saveDataIntoReference("+ _dest +"): detected a JSON-file provided via '@'." );
             final String destFile = _dest.substring(1);  // remove '@' as the 1st character in the file-name provided
+            ParsedFileCache.invalidate( new java.io.File( destFile ) ); // in case it was read (and cached) earlier
             if ( destFile.endsWith(".json") ) {
-                // http://tutorials.jenkov.com/java-json/jackson-objectmapper.html#read-map-from-json-string 
-                final com.fasterxml.jackson.databind.ObjectMapper objMapper = new com.fasterxml.jackson.databind.ObjectMapper();
-                // final InputStream fs = new FileInputStream( destFile );
-                final java.io.FileWriter filewr = new java.io.FileWriter( destFile );
                 @SuppressWarnings("unchecked")
                 final Node topNode = (Node) _input;
-                final org.ASUX.common.Output.Object<?> inputObj = NodeTools.Node2Map( _verbose, topNode ); // Can't use SnakeYaml Nodes.
-                assertTrue( inputObj.getMap() != null );
-                objMapper.writeValue( filewr, inputObj.getMap() ); // objMapper only takes a Collection as input, and CANNOT process SnakeYAML Nodes.
-                filewr.close();
-                // fs.close();
+                NodeJSONWriter.write( topNode, destFile ); // streamed straight from the Node-tree.  No more NodeTools.Node2Map() + ObjectMapper (a 2nd full copy of the YAML in memory)
                 if ( _verbose ) System.out.println( HDR +" JSON written was =" + _input );
                 return;
 
@@ -321,6 +322,7 @@ public class InputsOutputs {
             final String saveToMapName = _dest.startsWith("!") ?  _dest.substring(1) : _dest;
             if ( _memoryAndContext != null ) {
                 // This can happen only within a BatchYaml-file context.  It only makes any sense (and will only work) within a BatchYaml-file context.
+                if ( _input instanceof Node ) CopyOnWrite.share( (Node) _input ); // the same YAML is now referenced from memory too.  See CopyOnWrite
                 _memoryAndContext.saveDataIntoMemory( saveToMapName, _input );  // remove '!' as the 1st character in the destination-reference provided
                 if (_verbose) System.out.println( HDR +" saved into 'memoryAndContext'=" + _input );
             }
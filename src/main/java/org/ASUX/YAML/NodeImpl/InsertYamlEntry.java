@@ -38,7 +38,6 @@ import org.ASUX.common.Tuple;
 import org.ASUX.common.Triple;
 
 import java.util.List;
-import java.util.LinkedList;
 import java.util.ArrayList;
 
 
@@ -155,7 +154,7 @@ public class InsertYamlEntry extends AbstractYamlEntryProcessor {
     /** This function will be called when a partial match of a YAML path-expression happens.
      * See details and warnings in {@link org.ASUX.YAML.NodeImpl.AbstractYamlEntryProcessor#onPartialMatch}
      */
-    protected boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final LinkedList<String> _end2EndPaths )
+    protected boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final Breadcrumbs _end2EndPaths )
     {   // Do Nothing for "Insert YAML-entry command"
         return true;
     }
@@ -164,7 +163,7 @@ public class InsertYamlEntry extends AbstractYamlEntryProcessor {
     /** This function will be called when a full/end2end match of a YAML path-expression happens.
      * See details and warnings in {@link org.ASUX.YAML.NodeImpl.AbstractYamlEntryProcessor#onEnd2EndMatch}
      */
-    protected boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final LinkedList<String> _end2EndPaths )
+    protected boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final Breadcrumbs _end2EndPaths )
     {
         final String HDR = CLASSNAME +": onEnd2EndMatch(): ";
         if ( this.verbose )
@@ -188,7 +187,7 @@ public class InsertYamlEntry extends AbstractYamlEntryProcessor {
      * See details and warnings in {@link org.ASUX.YAML.NodeImpl.AbstractYamlEntryProcessor#onEnd2EndMatchNewIndex}
      */
     @Override
-    protected boolean onEnd2EndMatchNewIndex( final YAMLPath _yamlPath, final int _newIndex, final SequenceNode _parentSeqNode, final LinkedList<String> _end2EndPaths ) throws Exception {
+    protected boolean onEnd2EndMatchNewIndex( final YAMLPath _yamlPath, final int _newIndex, final SequenceNode _parentSeqNode, final Breadcrumbs _end2EndPaths ) throws Exception {
         final String HDR = CLASSNAME +" onEnd2EndMatchNewIndex("+ _yamlPath +","+ _newIndex +",_parentSeqNode,"+ _end2EndPaths +"): ";
         if (  _parentSeqNode == null || _newIndex <= 0 ) {
             if ( this.verbose ) System.out.println( HDR +" Returning immediately for _parentNode=\n"+ NodeTools.Node2YAMLString(_parentSeqNode) );
@@ -204,7 +203,7 @@ public class InsertYamlEntry extends AbstractYamlEntryProcessor {
     /** This function will be called whenever the YAML path-expression fails to match.
      * See details and warnings in {@link org.ASUX.YAML.NodeImpl.AbstractYamlEntryProcessor#onMatchFail}
      */
-    protected void onMatchFail( final YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final LinkedList<String> _end2EndPaths )
+    protected void onMatchFail( final YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final Breadcrumbs _end2EndPaths )
     {
         final String HDR = CLASSNAME +": onMatchFail(): ";
         if ( this.verbose ) System.out.println( HDR +">>>>>>>>>>>> _yamlPath="+ _yamlPath );
@@ -219,6 +218,41 @@ public class InsertYamlEntry extends AbstractYamlEntryProcessor {
         this.newPaths2bCreated.add( tuple );
     }
 
+    //-------------------------------------
+    // The original (java.util.LinkedList) signatures of the callbacks above - which every sub-class of AbstractYamlEntryProcessor must implement.
+    // They are NOT invoked by AbstractYamlEntryProcessor (as the Breadcrumbs-variants above are overridden).  They're here for any code that still invokes them directly.
+
+    /** See {@link AbstractYamlEntryProcessor#onPartialMatch(Node, org.ASUX.yaml.YAMLPath, String, Node, java.util.LinkedList)} */
+    protected boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final java.util.LinkedList<String> _end2EndPaths ) throws Exception {
+        return this.onPartialMatch( _node, _yamlPath, _keyStr, _parentNode, toBreadcrumbs( _end2EndPaths ) );
+    }
+
+    /** See {@link AbstractYamlEntryProcessor#onEnd2EndMatch(org.ASUX.yaml.YAMLPath, Object, Node, Node, Node, java.util.LinkedList)} */
+    protected boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final java.util.LinkedList<String> _end2EndPaths ) throws Exception {
+        return this.onEnd2EndMatch( _yamlPath, _key, _keyNode, _valNode, _parentNode, toBreadcrumbs( _end2EndPaths ) );
+    }
+
+    /** See {@link AbstractYamlEntryProcessor#onMatchFail(org.ASUX.yaml.YAMLPath, Node, Node, Object, java.util.LinkedList)} */
+    protected void onMatchFail( final YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final java.util.LinkedList<String> _end2EndPaths ) throws Exception {
+        this.onMatchFail( _yamlPath, _parentNode, _nodeNoMatch, _key, toBreadcrumbs( _end2EndPaths ) );
+    }
+
+    /** The "insert YAML-entry command" needs onMatchFail() (to create the missing YAML-Path - like 'mkdir -p'), but ignores onPartialMatch().
+     *  See details in {@link org.ASUX.YAML.NodeImpl.AbstractYamlEntryProcessor#getCallbackSubscriptions()}
+     */
+    @Override
+    protected int getCallbackSubscriptions() {
+        return CALLBACK_MATCH_FAIL;
+    }
+
+    /** The "insert YAML-entry command" alters the YAML in place.  So, if any part of the input is shared, a private copy is altered instead (and returned via {@link #getOutput()}).
+     *  See details in {@link org.ASUX.YAML.NodeImpl.AbstractYamlEntryProcessor#altersYAML()}
+     */
+    @Override
+    protected boolean altersYAML() {
+        return true;
+    }
+
     //==============================================================================
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
     //==============================================================================
@@ -230,6 +264,7 @@ public class InsertYamlEntry extends AbstractYamlEntryProcessor {
     protected void atEndOfInput( final Node _topmostNode, final YAMLPath _yamlPath ) throws Exception
     {
         final String HDR = CLASSNAME + ": atEndOfInput(): ";
+        this.shareNewContent();
         //------------------------------------------------
         this.output = _topmostNode; // this should handle all scenarios - except when '/' is the YAML path.
 
@@ -282,6 +317,12 @@ public class InsertYamlEntry extends AbstractYamlEntryProcessor {
         if ( this.verbose ) this.deepestNewPaths2bCreated.forEach( tpl -> System.out.println(tpl.key) );
     }
 
+    /** <p>The new content is about to be referenced from within the YAML (perhaps from many places within it) - as well as by whoever provided it (for example: {@link ParsedFileCache}).  So, it's marked via {@link CopyOnWrite#share(Node)}.  That also tells {@link CopyOnWrite#isShared(Node)} that the YAML must be checked afresh.</p> */
+    protected void shareNewContent() {
+        if ( this.newData2bInserted instanceof Node )
+            CopyOnWrite.share( (Node) this.newData2bInserted );
+    }
+
     //==============================================================================
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
     //==============================================================================
@@ -502,14 +543,14 @@ public class InsertYamlEntry extends AbstractYamlEntryProcessor {
                 // !!!!!!!!!!!!!! ATTENTION !!!!!!!!!!!!!! This iterator / for-loop counts DOWN.
                 if ( yp.yamlElemArr[ix].matches("\\[[0-9][0-9]*\\]") ) { // If .. a 1-2 digit number between square-brackets .. ..
                     // we'll ignore the actual value of the 1-2 digit number.  Assumes it's === [0]
-                    final java.util.LinkedList<Node> seqs = new java.util.LinkedList<>();
+                    final java.util.List<Node> seqs = new java.util.ArrayList<>( 1 );
                     seqs.add( prevchildelem );
                     final SequenceNode seqN = new SequenceNode( Tag.SEQ, false, seqs,  null, null, this.dumperoptions.getDefaultFlowStyle() ); // DumperOptions.FlowStyle.BLOCK
                     if ( this.verbose ) System.out.println( HDR +": added the NEW ARRAY-ELEMENT @ depth="+ ix +" yp.yamlElemArr[ix]="+ yp.yamlElemArr[ix] +"]" );
                     prevchildelem = seqN;
                 } else {
                     final ScalarNode keySN = new ScalarNode( Tag.STR,     yp.yamlElemArr[ix],     null, null, this.dumperoptions.getDefaultScalarStyle() ); // DumperOptions.ScalarStyle.SINGLE_QUOTED
-                    final List<NodeTuple> nt = new LinkedList<>();
+                    final List<NodeTuple> nt = new java.util.ArrayList<>( 1 );
                     nt.add ( new NodeTuple( keySN, prevchildelem ) ); // Even if 'prevchildelem' is 'EmptyYAML' this is OK.
                     final Node newMN = new MappingNode( Tag.MAP, false,    nt,    null, null, this.dumperoptions.getDefaultFlowStyle() ); // DumperOptions.FlowStyle.BLOCK
                     if ( this.verbose ) System.out.println( HDR +": added the NEW MAPPING-Node path @ depth="+ ix +" yp.yamlElemArr[ix]="+ yp.yamlElemArr[ix] +"  newMN= ["+ newMN +"]" );
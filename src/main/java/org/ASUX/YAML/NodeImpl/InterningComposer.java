@@ -0,0 +1,172 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.ASUX.YAML.NodeImpl;
+
+import java.util.HashMap;
+
+import org.yaml.snakeyaml.composer.Composer;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.resolver.Resolver;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+
+/** <p>A SnakeYAML Composer that de-duplicates the Strings within ScalarNodes - as the Nodes are composed.</p>
+ *  <p>Large YAML files (like OpenAPI specs and Kubernetes bundles) repeat the same keys (<code>type</code>, <code>description</code>, <code>name</code>, <code>apiVersion</code>..) and short values, hundreds of thousands of times.  Without this, each one is a separate java.lang.String that's retained for as long as the Node-tree is.</p>
+ *  <p>The dedup-table is scoped to a single instance (that is, to a single {@link GenericYAMLScanner#load(java.io.Reader)}), and is bounded: keys up to {@value #MAX_KEY_LENGTH} chars and values up to {@value #MAX_VALUE_LENGTH} chars are pooled, and no more than {@value #DEFAULT_MAX_ENTRIES} distinct Strings.  Once full, Strings already in the table are still de-duplicated.  Unlike String.intern(), nothing outlives the load.</p>
+ *  <p>An anchored ScalarNode (<code>&amp;anchor</code>) is left as-is, as the Composer has already registered that very instance for its aliases.</p>
+ */
+public final class InterningComposer extends Composer {
+
+    public static final String CLASSNAME = InterningComposer.class.getName();
+
+    /** Keys longer than this are NOT pooled */
+    public static final int MAX_KEY_LENGTH = 128;
+
+    /** Values longer than this are NOT pooled */
+    public static final int MAX_VALUE_LENGTH = 32;
+
+    /** The maximum # of distinct Strings in the dedup-table */
+    public static final int DEFAULT_MAX_ENTRIES = 65536;
+
+    private final Pool pool;
+
+    private boolean inKey = false;
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** @param _parser See org.yaml.snakeyaml.composer.Composer
+     *  @param _resolver See org.yaml.snakeyaml.composer.Composer
+     *  @param _maxEntries the maximum # of distinct Strings in the dedup-table (for example: {@link #DEFAULT_MAX_ENTRIES})
+     */
+    public InterningComposer( final Parser _parser, final Resolver _resolver, final int _maxEntries ) {
+        super( _parser, _resolver );
+        this.pool = new Pool( _maxEntries );
+    }
+
+    //==============================================================================
+
+    @Override
+    protected Node composeKeyNode( final MappingNode _node ) {
+        this.inKey = true;
+        try {
+            return super.composeKeyNode( _node );
+        } finally {
+            this.inKey = false;
+        }
+    }
+
+    @Override
+    protected Node composeScalarNode( final String _anchor ) {
+        return this.pool.intern( super.composeScalarNode( _anchor ), _anchor, this.inKey );
+    }
+
+    //==============================================================================
+
+    /** @return the # of ScalarNodes that now share a pooled String (instead of their own copy) */
+    public long getHits() { return this.pool.getHits(); }
+
+    /** @return the approximate # of bytes NOT retained (see {@link #getHits()}) */
+    public long getBytesSaved() { return this.pool.getBytesSaved(); }
+
+    /** @return the # of distinct Strings in the dedup-table */
+    public int getPoolSize() { return this.pool.getPoolSize(); }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** <p>The bounded dedup-table itself - so that other Composers (like {@link PathFilteringComposer}) can intern scalars too.  See {@link InterningComposer}</p> */
+    static final class Pool {
+
+        private final HashMap<String,String> pool = new HashMap<>();
+        private final int maxEntries;
+
+        private long hits = 0;
+        private long bytesSaved = 0;
+
+        /** @param _maxEntries the maximum # of distinct Strings in the dedup-table (for example: {@link InterningComposer#DEFAULT_MAX_ENTRIES}) */
+        Pool( final int _maxEntries ) {
+            this.maxEntries = _maxEntries;
+        }
+
+        /** @param _n what org.yaml.snakeyaml.composer.Composer's composeScalarNode() returned
+         *  @param _anchor the anchor of _n (can be null)
+         *  @param _isKey whether _n is the key of a tuple
+         *  @return _n itself, or an identical ScalarNode whose value is the pooled String
+         */
+        Node intern( final Node _n, final String _anchor, final boolean _isKey ) {
+            if ( _anchor != null )
+                return _n; // Composer has already registered this very instance, for any aliases to it.
+            final ScalarNode sn = (ScalarNode) _n;
+            final String v = sn.getValue();
+            final String pooled = this.pooled( v, _isKey );
+            if ( pooled == v )
+                return _n;
+            // ScalarNode's value is final.  So, a new ScalarNode (that's identical, except for the String-instance)
+            return new ScalarNode( sn.getTag(), NodeTools.isResolved( sn ), pooled, sn.getStartMark(), sn.getEndMark(), sn.getScalarStyle() );
+        }
+
+        /** @return the pooled String that equals _s (if any).  Otherwise, _s itself (which is added to the pool, if it's NOT full) */
+        private String pooled( final String _s, final boolean _isKey ) {
+            if ( _s.length() > ( _isKey ? MAX_KEY_LENGTH : MAX_VALUE_LENGTH ) )
+                return _s;
+            final String prev = this.pool.get( _s );
+            if ( prev != null ) {
+                this.hits ++;
+                this.bytesSaved += estimatedSize( prev );
+                return prev;
+            }
+            if ( this.pool.size() < this.maxEntries )
+                this.pool.put( _s, _s );
+            return _s;
+        }
+
+        /** @return the approximate heap-footprint of _s (a 64-bit JVM w/ compressed-oops and compact-strings): the String object + its byte-array */
+        private static long estimatedSize( final String _s ) {
+            boolean bLatin1 = true;
+            for ( int ix = 0; ix < _s.length() && bLatin1; ix ++ )
+                bLatin1 = _s.charAt( ix ) <= 0xFF;
+            final long arr = 16 + ( bLatin1 ? _s.length() : 2L * _s.length() );
+            return 24 + ( ( arr + 7 ) & ~7L );
+        }
+
+        long getHits() { return this.hits; }
+        long getBytesSaved() { return this.bytesSaved; }
+        int getPoolSize() { return this.pool.size(); }
+
+    }
+
+}
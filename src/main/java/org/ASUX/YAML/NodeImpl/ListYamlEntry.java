@@ -34,7 +34,6 @@ package org.ASUX.YAML.NodeImpl;
 
 import org.ASUX.yaml.YAMLPath;
 
-import java.util.LinkedList;
 
 // https://yaml.org/spec/1.2/spec.html#id2762107
 import org.yaml.snakeyaml.Yaml;
@@ -84,10 +83,26 @@ public class ListYamlEntry extends AbstractYamlEntryProcessor {
     @Override
     public void reset() {
         this.count = 0;
-        this.output = new SequenceNode( Tag.SEQ, false, new java.util.LinkedList<Node>(),  null, null, this.dumperoptions.getDefaultFlowStyle() ); // DumperOptions.FlowStyle.BLOCK
+        this.output = new SequenceNode( Tag.SEQ, false, new java.util.ArrayList<Node>(),  null, null, this.dumperoptions.getDefaultFlowStyle() ); // DumperOptions.FlowStyle.BLOCK
         // this.yamlPatternPRINTDelimiter <-- MUST ONLY be set/reset via Constructor, as it's private-instance-variable
     }
 
+    /** The "list YAML-entry command" does NOT alter the YAML, and it's callbacks always return true.  So, it's safe to traverse in parallel.
+     *  See details in @see org.ASUX.YAML.NodeImpl.AbstractYamlEntryProcessor#setParallelTraversal()
+     */
+    @Override
+    protected boolean supportsParallelTraversal() {
+        return true;
+    }
+
+    /** The "list YAML-entries command" ignores onPartialMatch() and onMatchFail().  So, large MappingNodes can be searched via hash-lookups, and a YAML-subtree that is reachable via many YAML-aliases is searched just once.
+     *  See details in {@link org.ASUX.YAML.NodeImpl.AbstractYamlEntryProcessor#getCallbackSubscriptions()}
+     */
+    @Override
+    protected int getCallbackSubscriptions() {
+        return CALLBACKS_NONE;
+    }
+
 
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
@@ -95,7 +110,7 @@ public class ListYamlEntry extends AbstractYamlEntryProcessor {
     /** This function will be called when a partial match of a YAML path-expression happens.
      * See details and warnings in @see org.ASUX.yaml.AbstractYamlEntryProcessor#onPartialMatch()
      */
-    protected boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final java.util.LinkedList<String> _end2EndPaths )
+    protected boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final Breadcrumbs _end2EndPaths )
     {    
         // Do Nothing for "delete YAML-entry command"
         return true;
@@ -105,7 +120,7 @@ public class ListYamlEntry extends AbstractYamlEntryProcessor {
     /** This function will be called when a full/end2end match of a YAML path-expression happens.
      * See details and warnings in @see org.ASUX.yaml.AbstractYamlEntryProcessor#onEnd2EndMatch()
      */
-    protected boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final LinkedList<String> _end2EndPaths )
+    protected boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final Breadcrumbs _end2EndPaths )
     {    
         this.count ++;
 
@@ -134,11 +149,30 @@ public class ListYamlEntry extends AbstractYamlEntryProcessor {
     /** This function will be called whenever the YAML path-expression fails to match.
      * See details and warnings in @see org.ASUX.yaml.AbstractYamlEntryProcessor#onMatchFail()
      */
-    protected void onMatchFail( final YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final LinkedList<String> _end2EndPaths )
+    protected void onMatchFail( final YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final Breadcrumbs _end2EndPaths )
     {    
         // Do Nothing for "delete YAML-entry command"
     }
 
+    //-------------------------------------
+    // The original (java.util.LinkedList) signatures of the callbacks above - which every sub-class of AbstractYamlEntryProcessor must implement.
+    // They are NOT invoked by AbstractYamlEntryProcessor (as the Breadcrumbs-variants above are overridden).  They're here for any code that still invokes them directly.
+
+    /** See {@link AbstractYamlEntryProcessor#onPartialMatch(Node, org.ASUX.yaml.YAMLPath, String, Node, java.util.LinkedList)} */
+    protected boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final java.util.LinkedList<String> _end2EndPaths ) throws Exception {
+        return this.onPartialMatch( _node, _yamlPath, _keyStr, _parentNode, toBreadcrumbs( _end2EndPaths ) );
+    }
+
+    /** See {@link AbstractYamlEntryProcessor#onEnd2EndMatch(org.ASUX.yaml.YAMLPath, Object, Node, Node, Node, java.util.LinkedList)} */
+    protected boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final java.util.LinkedList<String> _end2EndPaths ) throws Exception {
+        return this.onEnd2EndMatch( _yamlPath, _key, _keyNode, _valNode, _parentNode, toBreadcrumbs( _end2EndPaths ) );
+    }
+
+    /** See {@link AbstractYamlEntryProcessor#onMatchFail(org.ASUX.yaml.YAMLPath, Node, Node, Object, java.util.LinkedList)} */
+    protected void onMatchFail( final YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final java.util.LinkedList<String> _end2EndPaths ) throws Exception {
+        this.onMatchFail( _yamlPath, _parentNode, _nodeNoMatch, _key, toBreadcrumbs( _end2EndPaths ) );
+    }
+
     //-------------------------------------
     /** This function will be called when processing has ended.
      * After this function returns, the AbstractYamlEntryProcessor class is done!
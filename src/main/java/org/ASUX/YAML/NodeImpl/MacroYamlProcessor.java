@@ -34,6 +34,7 @@ package org.ASUX.YAML.NodeImpl;
 
 import org.ASUX.yaml.YAMLPath;
 
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.Properties;
 
@@ -73,6 +74,10 @@ public class MacroYamlProcessor {
      */
     private final boolean verbose;
 
+    /** <p>Lazy debug-output sink, derived from {@link #verbose}.  Message-strings are only built when verbose is on.</p>
+     */
+    private final Tracer trace;
+
     /** <p>Whether you want a final SHORT SUMMARY onto System.out.</p><p>a summary of how many matches happened, or how many entries were affected or even a short listing of those affected entries.</p>
      */
 	public final boolean showStats;
@@ -87,6 +92,7 @@ public class MacroYamlProcessor {
      */
     public MacroYamlProcessor(boolean _verbose, final boolean _showStats) {
 		this.verbose = _verbose;
+        this.trace = Tracer.get( _verbose );
         this.showStats = _showStats;
         this.reset();
     }
@@ -113,11 +119,12 @@ public class MacroYamlProcessor {
                                     final Properties _props, final LinkedHashMap<String,Properties> _allProps )
                                     throws Exception
     {
-        final String HDR = CLASSNAME + ": macroEval("+_s+"): ";
+        // This is invoked for every scalar in the YAML; so, do NOT build the HDR-string unless verbose.
+        final Tracer trace = Tracer.get( _verbose );
         final String v1 = org.ASUX.common.Macros.eval( _verbose, _s, _props );
-        if ( _verbose ) System.out.println( HDR +" lookup #1 on Properties = ["+ v1 + "]" );
+        trace.println( () -> CLASSNAME + ": macroEval("+_s+"): " +" lookup #1 on Properties = ["+ v1 + "]" );
         final String v2 = org.ASUX.common.Macros.eval( _verbose, v1, _allProps );
-        if ( _verbose ) System.out.println( HDR +" lookup #2 for LinkedHashMap<String,Properties> = ["+ v2 + "]" );
+        trace.println( () -> CLASSNAME + ": macroEval("+_s+"): " +" lookup #2 for LinkedHashMap<String,Properties> = ["+ v2 + "]" );
         return v2;
     }
 
@@ -127,6 +134,7 @@ public class MacroYamlProcessor {
     /** <p>This is a RECURSIVE-FUNCTION.  Make sure to pass in the right parameters.</p>
      *  <p>Note: this function expects you to pass in an empty org.yaml.snakeyaml.nodes.Node as the 2nd parameter.  It will be 'filled' when function returns.</p>
      *  <p>This function returns true, if ANY occurance of ${ASUX::__} was detected and evaluated. If false, _input and _outMap will be identical when function returns</p>
+     *  <p>SHARED-INSTANCE CONTRACT: if _input has a <code>&amp;anchor</code> that is referred to by one or more <code>*alias</code>es, then ALL those places in the returned tree refer to the very same NEW Node (exactly like SnakeYAML does for _input).  So, the output is dumped with the anchor + aliases intact; but, if you edit the returned tree at one alias-site, every other alias-site (and the anchor) changes too.  If you need independent copies, use {@link NodeTools#deepClone(Node)} on that sub-tree first.</p>
      *  @param _input A org.yaml.snakeyaml.nodes.Node (created by SnakeYAML library) containing the entire Tree representing the YAML file.
      *  @param _props can be null, otherwise an instance of {@link java.util.Properties}
      *  @param _allProps can be null, otherwise an instance of LinkedHashMap&lt;String,Properties&gt;
@@ -140,6 +148,26 @@ public class MacroYamlProcessor {
             final Properties _props,
             final LinkedHashMap<String,Properties> _allProps
     ) throws MacroYamlProcessor.MacroException, Exception
+    {
+        return this.recursiveSearch( _input, _props, _allProps, new IdentityHashMap<Node,Node>() );
+    }
+
+    /** <p>This is the REAL RECURSIVE-FUNCTION.  See {@link #recursiveSearch(Node, Properties, LinkedHashMap)}.</p>
+     *  <p>SnakeYAML resolves every <code>*alias</code> to the very same Node as the anchor.  So, each anchored MappingNode/SequenceNode is processed just ONCE: every alias to it, gets the very same NEW Node (which is output as an alias as well - see the shared-instance contract in {@link #recursiveSearch(Node, Properties, LinkedHashMap)}).  The NEW Node is registered BEFORE its contents are processed, so that a recursive alias (a Node that contains an alias to itself) is reproduced as-is - instead of never ending.</p>
+     *  @param _input See {@link #recursiveSearch(Node, Properties, LinkedHashMap)}
+     *  @param _props See {@link #recursiveSearch(Node, Properties, LinkedHashMap)}
+     *  @param _allProps See {@link #recursiveSearch(Node, Properties, LinkedHashMap)}
+     *  @param _done NotNull.  The anchored Nodes within _input processed so far, and the NEW Node that each was replaced with.
+     *  @return See {@link #recursiveSearch(Node, Properties, LinkedHashMap)}
+	 *  @throws MacroYamlProcessor.MacroException See {@link #recursiveSearch(Node, Properties, LinkedHashMap)}
+	 *  @throws Exception See {@link #recursiveSearch(Node, Properties, LinkedHashMap)}
+     */
+    private Node recursiveSearch(
+            final Node _input,
+            final Properties _props,
+            final LinkedHashMap<String,Properties> _allProps,
+            final IdentityHashMap<Node,Node> _done
+    ) throws MacroYamlProcessor.MacroException, Exception
     {
         final String HDR = CLASSNAME + ": recursiveSearch(): ";
         // if ( (_input == null) || (_output==null) ) return false;
@@ -147,25 +175,35 @@ public class MacroYamlProcessor {
 
         // public enum org.yaml.snakeyaml.nodes.NodeId = scalar, sequence, mapping, anchor
         final NodeId nid = _input.getNodeId(); // https://bitbucket.org/asomov/snakeyaml/src/default/src/main/java/org/yaml/snakeyaml/nodes/NodeId.java
-        if ( this.verbose ) System.out.println( HDR +" @top, node-id = ["+ nid + "]" );
+        this.trace.println( () -> HDR +" @top, node-id = ["+ nid + "]" );
 
         this.reset();
 
+        final Node alreadyDone = _done.get( _input );
+        if ( alreadyDone != null ) {
+            this.trace.println( () -> HDR +" YAML-alias *"+ _input.getAnchor() +" was already processed.  Re-using the same NEW Node." );
+            return alreadyDone;
+        }
+
         //--------------------------
         if ( _input instanceof MappingNode ) {
 			final MappingNode mapNode = (MappingNode) _input;
 
 			final java.util.List<NodeTuple> tuples = mapNode.getValue();
-			final java.util.List<NodeTuple> newtuples = new java.util.LinkedList<NodeTuple>();
+			final java.util.List<NodeTuple> newtuples = new java.util.ArrayList<NodeTuple>( tuples.size() );
+			// newtuples is filled in below.  MappingNode does NOT copy it.
+			final MappingNode newmap = new MappingNode(  mapNode.getTag(), false, newtuples, mapNode.getStartMark(), mapNode.getEndMark(), mapNode.getFlowStyle() ) ;
+            // MappingNode(Tag ignore, boolean resolved, List<NodeTuple> value, Mark startMark, Mark endMark, DumperOptions.FlowStyle flowStyle)
+			if ( AliasTracker.isAnchored( mapNode ) ) _done.put( mapNode, newmap );
 
-			if ( this.verbose ) System.out.println( HDR +" Mapping-node has value/tuples= ["+ tuples + "]" );
+			this.trace.println( () -> HDR +" Mapping-node has value/tuples= ["+ tuples + "]" );
 
             for( NodeTuple kv: tuples ) {
                 final Node key = kv.getKeyNode();
                 assertTrue( key.getNodeId() == NodeId.scalar ); // if ass-ert fails, what scenario does that represent?
                 final ScalarNode scalarKey = (ScalarNode) key;
                 final String keytag = scalarKey.getTag().getValue();  //tag:yaml.org,2002:str   --or--  !XYZ
-                if ( this.verbose ) System.out.println( HDR +" found LHS, keyTag & RHS = ["+ key + "] !"+ keytag + " : "+ kv.getValueNode() + " ;" );
+                this.trace.println( () -> HDR +" found LHS, keyTag & RHS = ["+ key + "] !"+ keytag + " : "+ kv.getValueNode() + " ;" );
 
 				final String keyNM = macroEval( this.verbose, scalarKey.getValue(), _props, _allProps );
 				final String keytagNM = macroEval( this.verbose, keytag, _props, _allProps );
@@ -186,26 +224,28 @@ public class MacroYamlProcessor {
 					// v += scalarVal.getValue();
 					final NodeTuple newtuple = new NodeTuple( newkeynode, newvalnode );
                     newtuples.add( newtuple );
-                    if ( this.verbose ) System.out.println( HDR +" >>>>>>>>>>> ADDED SCALAR KV-pair= "+ newtuple + " " );
+                    this.trace.println( () -> HDR +" >>>>>>>>>>> ADDED SCALAR KV-pair= "+ newtuple + " " );
 
                 } else {
-                    if ( this.verbose ) System.out.println( HDR +" recursing.. ..= ["+ valNode.getNodeId() + "]" );
-					final NodeTuple newtuple = new NodeTuple( newkeynode, recursiveSearch( valNode, _props, _allProps ) );
+                    this.trace.println( () -> HDR +" recursing.. ..= ["+ valNode.getNodeId() + "]" );
+					final NodeTuple newtuple = new NodeTuple( newkeynode, recursiveSearch( valNode, _props, _allProps, _done ) );
 					newtuples.add( newtuple );
                 }
             } // for
-			final MappingNode newmap = new MappingNode(  mapNode.getTag(), false, newtuples, mapNode.getStartMark(), mapNode.getEndMark(), mapNode.getFlowStyle() ) ;
-            // MappingNode(Tag ignore, boolean resolved, List<NodeTuple> value, Mark startMark, Mark endMark, DumperOptions.FlowStyle flowStyle)
-            if ( this.verbose ) System.out.println( HDR +" function-returning a NEW MappingNODE with Tag="+ newmap.getTag() + " replicating-Tag="+ _input.getTag() +" = "+ newmap +" " );
+            this.trace.println( () -> HDR +" function-returning a NEW MappingNODE with Tag="+ newmap.getTag() + " replicating-Tag="+ _input.getTag() +" = "+ newmap +" " );
             return newmap;
 
         } else if ( _input instanceof SequenceNode ) {
             // https://bitbucket.org/asomov/snakeyaml/src/default/src/main/java/org/yaml/snakeyaml/nodes/SequenceNode.java
             final SequenceNode seqNode = (SequenceNode) _input;
-            if ( this.verbose ) System.out.println( HDR +" SEQUENCE-node-id = ["+ seqNode.getNodeId() + "]" );
+            this.trace.println( () -> HDR +" SEQUENCE-node-id = ["+ seqNode.getNodeId() + "]" );
 
             final java.util.List<Node> seqs = seqNode.getValue();
-			final java.util.List<Node> newseqs = new java.util.LinkedList<Node>();
+			final java.util.List<Node> newseqs = new java.util.ArrayList<Node>( seqs.size() );
+			// newseqs is filled in below.  SequenceNode does NOT copy it.
+			final SequenceNode newseqNode = new SequenceNode(  seqNode.getTag(), false, newseqs, seqNode.getStartMark(), seqNode.getEndMark(), seqNode.getFlowStyle() ) ;
+            // SequenceNode(Tag tag, boolean resolved, List<Node> value, Mark startMark, Mark endMark, DumperOptions.FlowStyle flowStyle)
+			if ( AliasTracker.isAnchored( seqNode ) ) _done.put( seqNode, newseqNode );
             for( Node valNode: seqs ) {
                 if ( valNode.getNodeId() == NodeId.scalar) {
                     final ScalarNode scalarVal = (ScalarNode) valNode;
@@ -217,16 +257,14 @@ public class MacroYamlProcessor {
                     // String v = (scalarVal.getTag().getValue().startsWith("!")) ? (scalarVal.getTag().getValue()+" ") : "";
 					// v += scalarVal.getValue();
                     newseqs.add( newvalnode );
-                    if ( this.verbose ) System.out.println( HDR +" >>>>>>>>>>> ADDED SCALAR into Array: "+ newvalnode + " " );
+                    this.trace.println( () -> HDR +" >>>>>>>>>>> ADDED SCALAR into Array: "+ newvalnode + " " );
 
                 } else {
-                    if ( this.verbose ) System.out.println( HDR +" recursing.. ..= ["+ valNode.getNodeId() + "]" );
-					newseqs.add( recursiveSearch( valNode, _props, _allProps ) );
+                    this.trace.println( () -> HDR +" recursing.. ..= ["+ valNode.getNodeId() + "]" );
+					newseqs.add( recursiveSearch( valNode, _props, _allProps, _done ) );
                 }
             } // for
-			final SequenceNode newseqNode = new SequenceNode(  seqNode.getTag(), false, newseqs, seqNode.getStartMark(), seqNode.getEndMark(), seqNode.getFlowStyle() ) ;
-            // SequenceNode(Tag tag, boolean resolved, List<Node> value, Mark startMark, Mark endMark, DumperOptions.FlowStyle flowStyle)
-            if ( this.verbose ) System.out.println( HDR +" function-returning a NEW SequenceNODE with Tag="+ newseqNode.getTag() + " replicating-Tag="+ _input.getTag() +" = "+ newseqNode +" " );
+            this.trace.println( () -> HDR +" function-returning a NEW SequenceNODE with Tag="+ newseqNode.getTag() + " replicating-Tag="+ _input.getTag() +" = "+ newseqNode +" " );
             return newseqNode;
 
         } else if ( _input instanceof ScalarNode ) {
@@ -242,7 +280,7 @@ public class MacroYamlProcessor {
             if (   !    scalarVal.getValue().equals(valNM)  ||  ( valtagNM != null &&   !   valtagNM.equals(scalarVal.getTag())   )  ) this.changesMade ++;
 
             // boolean scalarVal.isPlain()
-            if ( this.verbose ) System.out.println( HDR +" >>>>>>>>>>> returning a SCALAR !! = ["+ newvalnode + "]" );
+            this.trace.println( () -> HDR +" >>>>>>>>>>> returning a SCALAR !! = ["+ newvalnode + "]" );
             return newvalnode;
 
         } else {
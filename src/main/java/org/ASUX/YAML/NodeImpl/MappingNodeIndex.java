@@ -0,0 +1,166 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package org.ASUX.YAML.NodeImpl;
+
+import java.util.HashMap;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+
+/** <p>A side-index from a MappingNode to a hash-map of its keys (key-string to the position of its tuple).  Built lazily - the first time a MappingNode (with at least {@link #MIN_TUPLES_TO_INDEX} tuples) is looked up within a {@link Scope}.</p>
+ *  <p>SnakeYAML's MappingNode is just a java.util.List of NodeTuples.  So, looking up a literal key (like 'paths' or '/pet') is a linear-scan of ALL the tuples, for every lookup.  For large MappingNodes (thousands of keys), that's what dominates {@link AbstractYamlEntryProcessor#recursiveSearch}.</p>
+ *  <p>org.yaml.snakeyaml.nodes.Node's equals() and hashCode() are final &amp; identity-based.  So, the index is identity-keyed (two different MappingNodes with identical content have separate indexes).</p>
+ *  <p>The indexes live ONLY as long as their {@link Scope} - one per traversal (see {@link AbstractYamlEntryProcessor#recursiveSearch}).  The YAML is NOT altered during a traversal (the Insert, Replace and Delete commands alter it afterwards, within atEndOfInput()).  Even so, an index is discarded if the MappingNode's list of tuples is replaced or has changed in size - and every hit is re-validated against the list (a same-size in-place edit falls back to a linear-scan).</p>
+ */
+public final class MappingNodeIndex {
+
+    public static final String CLASSNAME = MappingNodeIndex.class.getName();
+
+    /** MappingNodes with fewer tuples than this are NOT indexed (a linear-scan is faster than building a java.util.HashMap) */
+    public static final int MIN_TUPLES_TO_INDEX = 16;
+
+    /** <p>The indexes built during ONE traversal.  Thread-safe (the ForkJoin-tasks of a parallel traversal share it).  Once the traversal is done, it's dropped - along with all the indexes.</p> */
+    public static final class Scope {
+        private final ConcurrentHashMap<MappingNode, MappingNodeIndex> indexes = new ConcurrentHashMap<>();
+
+        /** <p>Get (building it lazily, if needed) the index for _mapnode.</p>
+         *  @param _mapnode NotNull
+         *  @return null, if _mapnode is too small to be worth indexing (see {@link #MIN_TUPLES_TO_INDEX}), if any of its keys are Not ScalarNodes, or if its list of tuples is NOT a java.util.RandomAccess list.  Caller must then do a linear-scan.
+         */
+        public MappingNodeIndex get( final MappingNode _mapnode ) {
+            final java.util.List<NodeTuple> tuples = _mapnode.getValue();
+            if ( tuples == null || tuples.size() < MIN_TUPLES_TO_INDEX || ! ( tuples instanceof RandomAccess ) )
+                return null;
+            MappingNodeIndex idx = this.indexes.get( _mapnode );
+            if ( idx == null || idx.isStale( _mapnode ) ) {
+                idx = new MappingNodeIndex( tuples ); // if 2 threads race here, both build identical indexes.  No harm.
+                this.indexes.put( _mapnode, idx );
+            }
+            return idx.allKeysAreScalar ? idx : null;
+        }
+    }
+
+    /** the list of tuples that was indexed.  Used to detect staleness */
+    private final java.util.List<NodeTuple> tuples;
+    private final int numTuples;
+
+    /** for each key, the position (within tuples) of the FIRST tuple (in document order) with that key */
+    private final HashMap<String, Integer> firstPosByKey;
+
+    /** YAML-files do have duplicate keys (SnakeYAML allows them, by default) */
+    private final boolean hasDuplicateKeys;
+
+    /** false if any key/LHS is NOT a ScalarNode (in which case, this index can NOT be used) */
+    private final boolean allKeysAreScalar;
+
+    /** set once a hit fails re-validation.  See {@link #getFirst(String)} */
+    private volatile boolean invalid = false;
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    private MappingNodeIndex( final java.util.List<NodeTuple> _tuples ) {
+        this.tuples = _tuples;
+        this.numTuples = _tuples.size();
+        this.firstPosByKey = new HashMap<>( Math.max( 16, (int) (this.numTuples / 0.75f) + 1 ) );
+        boolean dups = false;
+        boolean scalars = true;
+        for ( int ix = 0; ix < this.numTuples; ix ++ ) {
+            final String key = keyOf( _tuples.get( ix ) );
+            if ( key == null ) {
+                scalars = false;
+                break;
+            }
+            if ( this.firstPosByKey.putIfAbsent( key, ix ) != null )
+                dups = true;
+        }
+        this.hasDuplicateKeys = dups;
+        this.allKeysAreScalar = scalars;
+    }
+
+    private boolean isStale( final MappingNode _mapnode ) {
+        final java.util.List<NodeTuple> current = _mapnode.getValue();
+        return this.invalid || current != this.tuples || current.size() != this.numTuples;
+    }
+
+    /** @return the key of _kv as a string, or null if it's NOT a ScalarNode */
+    private static String keyOf( final NodeTuple _kv ) {
+        final Node keyN = _kv.getKeyNode();
+        return ( keyN instanceof ScalarNode ) ? ((ScalarNode) keyN).getValue() : null;
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** <p>The hit is re-validated: the tuple at the indexed position must still have the key _keyStr.  If NOT (the tuples were altered in-place, without changing their number), this falls back to a linear-scan - and the index is rebuilt by the next {@link Scope#get(MappingNode)}.</p>
+     *  @param _keyStr the LHS to lookup
+     *  @return the FIRST tuple (in document order) whose key is _keyStr, or null
+     */
+    public NodeTuple getFirst( final String _keyStr ) {
+        final int pos = this.getFirstPos( _keyStr );
+        return ( pos < 0 ) ? null : this.tuples.get( pos );
+    }
+
+    /** <p>Same as {@link #getFirst(String)}, but returns the position of that tuple (within the MappingNode's tuples).</p>
+     *  @param _keyStr the LHS to lookup
+     *  @return the position of the FIRST tuple (in document order) whose key is _keyStr, or -1
+     */
+    public int getFirstPos( final String _keyStr ) {
+        final Integer pos = this.firstPosByKey.get( _keyStr );
+        if ( pos == null )
+            return -1;
+        if ( pos < this.tuples.size() ) {
+            final NodeTuple kv = this.tuples.get( pos );
+            if ( _keyStr.equals( keyOf( kv ) ) )
+                return pos;
+        }
+        this.invalid = true;
+        for ( int ix = 0; ix < this.tuples.size(); ix ++ )
+            if ( _keyStr.equals( keyOf( this.tuples.get( ix ) ) ) )
+                return ix;
+        return -1;
+    }
+
+    /** @return true if at least 2 tuples have the same key.  If so, {@link #getFirst(String)} is NOT the only tuple with that key */
+    public boolean hasDuplicateKeys() {
+        return this.hasDuplicateKeys;
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package org.ASUX.YAML.NodeImpl;
+
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.error.Mark;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.MappingEndEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+import org.yaml.snakeyaml.events.SequenceEndEvent;
+import org.yaml.snakeyaml.events.AliasEvent;
+
+/** <p>Sits between SnakeYAML's ParserImpl and its Composer, and replaces the start/end Marks of the events that become Nodes.</p>
+ *  <p>Every Mark created by SnakeYAML's StreamReader holds a reference to the int[] data-window it was reading at the time.  So, a loaded Node-tree ends up retaining 2 Marks per Node, and (via those Marks) a 4-bytes-per-char copy of the entire input-file.  Only error-messages ever look at them.</p>
+ *  <p>{@link Mode#LINES} keeps just the name, line &amp; column (so, messages still say <code>line 12, column 5</code> - without the snippet).  {@link Mode#NONE} drops the Marks altogether (null).  Syntax errors detected by the parser itself are NOT affected, as those are raised before any event reaches here.</p>
+ */
+public final class MarkStrippingParser implements Parser {
+
+    public static final String CLASSNAME = MarkStrippingParser.class.getName();
+
+    /** What {@link GenericYAMLScanner#load(java.io.Reader)} keeps, of the Marks of every Node */
+    public enum Mode { FULL, LINES, NONE };
+
+    /** Shared by all the Marks created in {@link Mode#LINES} mode.  Mark.get_snippet() needs a non-null buffer */
+    private static final int[] NOBUFFER = new int[0];
+
+    private final Parser parser;
+    private final Mode mode;
+
+    /** The (already replaced) event returned by peekEvent(), that the next getEvent() must return */
+    private Event peeked = null;
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** @param _parser NotNull (typically, an org.yaml.snakeyaml.parser.ParserImpl)
+     *  @param _mode either {@link Mode#LINES} or {@link Mode#NONE} (for {@link Mode#FULL}, just use _parser as-is)
+     */
+    public MarkStrippingParser( final Parser _parser, final Mode _mode ) {
+        this.parser = _parser;
+        this.mode = _mode;
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    public boolean checkEvent( final Event.ID _choice ) {
+        return this.parser.checkEvent( _choice );
+    }
+
+    public Event peekEvent() {
+        if ( this.peeked == null ) {
+            final Event e = this.parser.peekEvent();
+            this.peeked = ( e == null ) ? null : this.strip( e );
+        }
+        return this.peeked;
+    }
+
+    public Event getEvent() {
+        if ( this.peeked != null ) {
+            final Event e = this.peeked;
+            this.peeked = null;
+            this.parser.getEvent(); // consume the very same event that was peeked at.
+            return e;
+        }
+        final Event e = this.parser.getEvent();
+        return ( e == null ) ? null : this.strip( e );
+    }
+
+    //==============================================================================
+
+    private Mark mark( final Mark _m ) {
+        if ( _m == null || this.mode == Mode.NONE ) return null;
+        if ( this.mode == Mode.FULL ) return _m;
+        return new Mark( _m.getName(), _m.getIndex(), _m.getLine(), _m.getColumn(), NOBUFFER, 0 );
+    }
+
+    /** Only the events that the Composer turns into (or onto) Nodes are replaced.  Stream &amp; Document events are passed on as-is.
+     *  @param _e NotNull
+     *  @return a NotNull event, identical to _e other than its Marks
+     */
+    private Event strip( final Event _e ) {
+        if ( _e.is( Event.ID.Scalar ) ) {
+            final ScalarEvent se = (ScalarEvent) _e;
+            return new ScalarEvent( se.getAnchor(), se.getTag(), se.getImplicit(), se.getValue(), this.mark( se.getStartMark() ), this.mark( se.getEndMark() ), se.getScalarStyle() );
+        } else if ( _e.is( Event.ID.MappingStart ) ) {
+            final MappingStartEvent mse = (MappingStartEvent) _e;
+            return new MappingStartEvent( mse.getAnchor(), mse.getTag(), mse.getImplicit(), this.mark( mse.getStartMark() ), this.mark( mse.getEndMark() ), mse.getFlowStyle() );
+        } else if ( _e.is( Event.ID.SequenceStart ) ) {
+            final SequenceStartEvent sse = (SequenceStartEvent) _e;
+            return new SequenceStartEvent( sse.getAnchor(), sse.getTag(), sse.getImplicit(), this.mark( sse.getStartMark() ), this.mark( sse.getEndMark() ), sse.getFlowStyle() );
+        } else if ( _e.is( Event.ID.MappingEnd ) ) {
+            return new MappingEndEvent( this.mark( _e.getStartMark() ), this.mark( _e.getEndMark() ) );
+        } else if ( _e.is( Event.ID.SequenceEnd ) ) {
+            return new SequenceEndEvent( this.mark( _e.getStartMark() ), this.mark( _e.getEndMark() ) );
+        } else if ( _e.is( Event.ID.Alias ) ) {
+            return new AliasEvent( ((AliasEvent) _e).getAnchor(), this.mark( _e.getStartMark() ), this.mark( _e.getEndMark() ) );
+        } else {
+            return _e;
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.ASUX.YAML.NodeImpl;
+
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+
+import java.util.ArrayList;
+
+/** <p>An ordered buffer of callbacks (onPartialMatch(), onEnd2EndMatch(), onEnd2EndMatchNewIndex() and onMatchFail()) - that {@link AbstractYamlEntryProcessor#recursiveSearch} would have invoked.</p>
+ *  <p>Used ONLY for parallel traversal (see {@link AbstractYamlEntryProcessor#setParallelTraversal(boolean, int)}).  Each ForkJoin-task gets its own buffer.  The buffers are appended to each other in document order.  Finally, {@link #replay(AbstractYamlEntryProcessor)} invokes all the callbacks on the invoking thread.</p>
+ *  <p>Each buffer also carries its ForkJoin-task's own {@link AliasTracker} (see {@link AliasTracker#forkPath()}) - so that recursive YAML-aliases are detected in parallel mode, just as in the single-threaded traversal.</p>
+ *  <p>Not thread-safe.  Each instance is used by a single ForkJoin-task at a time.</p>
+ */
+public final class MatchBuffer {
+
+    public static final String CLASSNAME = MatchBuffer.class.getName();
+
+    private enum Kind { PARTIALMATCH, END2ENDMATCH, END2ENDMATCHNEWINDEX, MATCHFAIL };
+
+    /** One buffered callback.  Not all fields are relevant for each Kind */
+    private static final class Event {
+        final Kind kind;
+        final YAMLPathCursor cursor;
+        final Object key;
+        final Node node;      // _node (partial) / _keyNode (end2end) / _nodeNoMatch (matchfail)
+        final Node valNode;
+        final Node parentNode;
+        final int newIndex;
+        final Breadcrumbs end2EndPaths;
+
+        Event( final Kind _kind, final YAMLPathCursor _cursor, final Object _key, final Node _node, final Node _valNode, final Node _parentNode, final int _newIndex, final Breadcrumbs _end2EndPaths ) {
+            this.kind = _kind;
+            this.cursor = _cursor;
+            this.key = _key;
+            this.node = _node;
+            this.valNode = _valNode;
+            this.parentNode = _parentNode;
+            this.newIndex = _newIndex;
+            this.end2EndPaths = _end2EndPaths;
+        }
+    }
+
+    private final ArrayList<Event> events = new ArrayList<>();
+
+    private final AliasTracker aliases;
+
+    /** @param _aliases NotNull.  The AliasTracker of the ForkJoin-task that fills this buffer */
+    MatchBuffer( final AliasTracker _aliases ) {
+        this.aliases = _aliases;
+    }
+
+    /** @return NotNull.  See {@link #MatchBuffer(AliasTracker)} */
+    AliasTracker getAliasTracker() { return this.aliases; }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    void addPartialMatch( final Node _node, final YAMLPathCursor _cursor, final String _keyStr, final Node _parentNode, final Breadcrumbs _end2EndPaths ) {
+        this.events.add( new Event( Kind.PARTIALMATCH, _cursor, _keyStr, _node, null, _parentNode, -1, _end2EndPaths ) );
+    }
+
+    void addEnd2EndMatch( final YAMLPathCursor _cursor, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final Breadcrumbs _end2EndPaths ) {
+        this.events.add( new Event( Kind.END2ENDMATCH, _cursor, _key, _keyNode, _valNode, _parentNode, -1, _end2EndPaths ) );
+    }
+
+    void addEnd2EndMatchNewIndex( final YAMLPathCursor _cursor, final int _newIndex, final SequenceNode _parentSeqNode, final Breadcrumbs _end2EndPaths ) {
+        this.events.add( new Event( Kind.END2ENDMATCHNEWINDEX, _cursor, null, null, null, _parentSeqNode, _newIndex, _end2EndPaths ) );
+    }
+
+    void addMatchFail( final YAMLPathCursor _cursor, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final Breadcrumbs _end2EndPaths ) {
+        this.events.add( new Event( Kind.MATCHFAIL, _cursor, _key, _nodeNoMatch, null, _parentNode, -1, _end2EndPaths ) );
+    }
+
+    /** @param _other can be null.  All it's callbacks are appended (in order) to this buffer */
+    void append( final MatchBuffer _other ) {
+        if ( _other != null )
+            this.events.addAll( _other.events );
+    }
+
+    /** @return # of callbacks buffered */
+    public int size() { return this.events.size(); }
+
+    //==============================================================================
+
+    /** <p>Invokes all the buffered callbacks (in the order they were added) on the processor provided.  The return-values of the callbacks are ignored.</p>
+     *  @param _processor NotNull
+     *  @throws Exception whatever the callbacks throw
+     */
+    public void replay( final AbstractYamlEntryProcessor _processor ) throws Exception {
+        for ( Event e: this.events ) {
+            switch( e.kind ) {
+                case PARTIALMATCH:          _processor.onPartialMatch( e.node, e.cursor, (String) e.key, e.parentNode, e.end2EndPaths );   break;
+                case END2ENDMATCH:          _processor.onEnd2EndMatch( e.cursor, e.key, e.node, e.valNode, e.parentNode, e.end2EndPaths );   break;
+                case END2ENDMATCHNEWINDEX:  _processor.onEnd2EndMatchNewIndex( e.cursor, e.newIndex, (SequenceNode) e.parentNode, e.end2EndPaths );   break;
+                case MATCHFAIL:             _processor.onMatchFail( e.cursor, e.parentNode, e.node, e.key, e.end2EndPaths );   break;
+            } // switch
+        } // for
+    }
+
+}
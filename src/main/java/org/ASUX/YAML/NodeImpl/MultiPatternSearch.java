@@ -0,0 +1,267 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package org.ASUX.YAML.NodeImpl;
+
+import org.ASUX.yaml.YAMLPath;
+
+import java.util.ArrayList;
+
+import org.yaml.snakeyaml.nodes.Node;
+
+import static org.junit.Assert.*;
+
+/** <p>Searches the SAME YAML for MANY YAML-Path patterns (each with its own {@link AbstractYamlEntryProcessor} - like READ, LIST and TABLE commands) in a single traversal.</p>
+ *  <p>Invoking {@link AbstractYamlEntryProcessor#searchYamlForPattern(Node, String, String)} N times, walks the entire YAML N times.  Instead, this class walks the YAML once.  The combined state, at each Node, is the set of patterns (each with its own position within its YAML-Path) that can still match beneath that Node.  Each child-Node is entered just ONCE - together with ALL the patterns that need to search it.</p>
+ *  <p>Each pattern is driven by the very same per-Node steps as the single-threaded traversal of {@link AbstractYamlEntryProcessor} (see {@link AbstractYamlEntryProcessor#nextChild}).  So, each processor sees exactly the same callbacks, in exactly the same sequence, as {@link AbstractYamlEntryProcessor#searchYamlForPattern(Node, String, String)} would have invoked - including the protection against recursive YAML-aliases and the budget for expanding them (see {@link AliasTracker}).  Only, callbacks for different patterns are interleaved.  The indexes of large MappingNodes (see {@link MappingNodeIndex}) are shared by all the patterns.</p>
+ *  <p>Limitation: Only processors that do NOT alter the YAML (see {@link AbstractYamlEntryProcessor#supportsParallelTraversal()}) can be added.  Parallel-traversal is NOT used here.  A limit set via {@link AbstractYamlEntryProcessor#setMaxMatches(int)} is honored per processor.</p>
+ *  <p>Example:</p>
+ *  <pre>
+ *      final MultiPatternSearch mps = new MultiPatternSearch( verbose );
+ *      mps.add( readcmd1, "paths.*.get.responses.200", "." );
+ *      mps.add( listcmd2, "paths.**.description", "." );
+ *      mps.searchYamlForPatterns( inputNode );
+ *      ... readcmd1.getOutput() ... listcmd2.getOutput() ...
+ *  </pre>
+ */
+public final class MultiPatternSearch {
+
+    public static final String CLASSNAME = MultiPatternSearch.class.getName();
+
+    private final Tracer trace;
+
+    private final ArrayList<AbstractYamlEntryProcessor> processors = new ArrayList<>();
+    private final ArrayList<String> yamlPathStrs = new ArrayList<>();
+    private final ArrayList<String> delimiters = new ArrayList<>();
+
+    /** <p>ONE level of the traversal: a Node, and the processors (a.k.a. lanes) searching it.  Re-used across levels and across Nodes.</p> */
+    private static final class Level {
+        /** for each lane: the index of its processor (within this.processors) */
+        final int[] proc;
+        /** for each lane: the index of the lane (of the same processor) within the parent Level */
+        final int[] parentLane;
+        /** for each lane: its frame.  See AbstractYamlEntryProcessor.Frame */
+        final AbstractYamlEntryProcessor.Frame[] frames;
+        /** for each lane: whether frames[ix].childNode is set, and is waiting to be searched */
+        final boolean[] pending;
+        /** for each lane: whether AbstractYamlEntryProcessor.nextChild() returned false */
+        final boolean[] exhausted;
+        int size = 0;
+
+        Level( final int _maxLanes ) {
+            this.proc = new int[ _maxLanes ];
+            this.parentLane = new int[ _maxLanes ];
+            this.frames = new AbstractYamlEntryProcessor.Frame[ _maxLanes ];
+            this.pending = new boolean[ _maxLanes ];
+            this.exhausted = new boolean[ _maxLanes ];
+        }
+
+        void add( final int _proc, final int _parentLane, final AbstractYamlEntryProcessor.Frame _frame ) {
+            this.proc[ this.size ] = _proc;
+            this.parentLane[ this.size ] = _parentLane;
+            this.frames[ this.size ] = _frame;
+            this.pending[ this.size ] = false;
+            this.exhausted[ this.size ] = false;
+            this.size ++;
+        }
+
+        /** So that the re-used levels do NOT hold on to any frames (and so, Nodes) */
+        void clear() {
+            java.util.Arrays.fill( this.frames, 0, this.size, null );
+            this.size = 0;
+        }
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** The only Constructor.
+     *  @param _verbose Whether you want deluge of debug-output onto System.out
+     */
+    public MultiPatternSearch( final boolean _verbose ) {
+        this.trace = Tracer.get( _verbose );
+    }
+
+    /** <p>Add one more pattern (and the processor to receive its callbacks).</p>
+     *  @param _processor NotNull, and NOT already added.  Example: an instance of {@link ReadYamlEntry}, {@link ListYamlEntry} or {@link TableYamlQuery}
+     *  @param _yamlPathStr Example: "<code>paths.*.*.responses.200</code>" - <b>ATTENTION: This is a human readable pattern, NOT a proper RegExp-pattern</b>
+     *  @param _delim pass in a value like '.'  '\t'   ','   .. such a character as a string-parameter
+     *  @throws IllegalArgumentException if the processor alters the YAML (such processors must use {@link AbstractYamlEntryProcessor#searchYamlForPattern(Node, String, String)} instead)
+     */
+    public void add( final AbstractYamlEntryProcessor _processor, final String _yamlPathStr, final String _delim ) {
+        assertNotNull( _processor );
+        if ( ! _processor.supportsParallelTraversal() )
+            throw new IllegalArgumentException( CLASSNAME +": add(): "+ _processor.getClass().getName() +" may alter the YAML.  It can NOT share a traversal with other patterns." );
+        if ( this.processors.contains( _processor ) )
+            throw new IllegalArgumentException( CLASSNAME +": add(): the same instance of "+ _processor.getClass().getName() +" was added twice (for '"+ _yamlPathStr +"')." );
+        this.processors.add( _processor );
+        this.yamlPathStrs.add( _yamlPathStr );
+        this.delimiters.add( _delim );
+    }
+
+    /** @return # of patterns added so far */
+    public int size() {
+        return this.processors.size();
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** <p>The equivalent of invoking {@link AbstractYamlEntryProcessor#searchYamlForPattern(Node, String, String)} for each of the patterns added - but with a single traversal of _node.</p>
+     *  <p>Each processor is reset() first, and its atEndOfInput() is invoked at the end (in the order the patterns were added).</p>
+     *  @param _node the topmost Node of the YAML to be searched.  It is NOT altered.
+     *  @throws YAMLPath.YAMLPathException if any of the patterns is either semantically empty or is NOT java.util.Pattern compatible.
+     *  @throws AliasTracker.AliasBudgetExceededException if any of the patterns used up its budget for expanding YAML-aliases (see {@link AbstractYamlEntryProcessor#setAliasExpansionBudget(int)})
+     *  @throws Exception any errors/troubles noted from within the processors, especially TableCmdProcessor.java
+     */
+    public void searchYamlForPatterns( final Node _node ) throws YAMLPath.YAMLPathException, Exception
+    {
+        final int numProcessors = this.processors.size();
+        final YAMLPathCursor[] cursors = new YAMLPathCursor[ numProcessors ];
+        for ( int p = 0; p < numProcessors; p ++ )
+            cursors[ p ] = this.processors.get( p ).beginSearch( this.yamlPathStrs.get( p ), this.delimiters.get( p ) ); // null implies the ROOT-ELEM pattern, which needs NO searching
+
+        final MappingNodeIndex.Scope indexes = new MappingNodeIndex.Scope();
+        for ( AbstractYamlEntryProcessor processor: this.processors )
+            processor.beginSharedTraversal( indexes );
+        try {
+            this.search( _node, cursors );
+        } finally {
+            for ( AbstractYamlEntryProcessor processor: this.processors )
+                processor.endSharedTraversal();
+        }
+
+        for ( AbstractYamlEntryProcessor processor: this.processors )
+            processor.endSearch( _node );
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** <p>The iterative traversal - with an explicit stack of {@link Level}s.  Within each Level, the lanes take turns: the child (of the Level's Node) that comes first in document order, is entered next - with ALL the lanes that are waiting for that very child.</p>
+     *  @param _node the topmost Node
+     *  @param _cursors for each processor: its starting position within its YAML-Path (null, if nothing to search)
+     *  @throws Exception any errors/troubles noted from within the processors
+     */
+    private void search( final Node _node, final YAMLPathCursor[] _cursors ) throws Exception
+    {
+        final int numProcessors = this.processors.size();
+        // for each processor, its frames (one per depth).  Each processor is at the same depth as the Level it's in.
+        final ArrayList<ArrayList<AbstractYamlEntryProcessor.Frame>> frameStacks = new ArrayList<>( numProcessors );
+        for ( int p = 0; p < numProcessors; p ++ )
+            frameStacks.add( new ArrayList<>() );
+        final ArrayList<Level> levels = new ArrayList<>();
+
+        int top = 0;
+        Level level = getLevel( levels, top, numProcessors );
+        for ( int p = 0; p < numProcessors; p ++ ) {
+            if ( _cursors[ p ] == null ) continue;
+            final AbstractYamlEntryProcessor.Frame frame = AbstractYamlEntryProcessor.getFrame( frameStacks.get( p ), top );
+            if ( this.processors.get( p ).enterTopmost( frame, _node, _cursors[ p ] ) == null )
+                level.add( p, -1, frame );
+        }
+        this.trace.println( () -> CLASSNAME +": search(): "+ levels.get( 0 ).size +" of "+ numProcessors +" patterns to be searched in one traversal." );
+        if ( level.size == 0 ) return;
+
+        try {
+            while ( true ) {
+                level = levels.get( top );
+                // every lane that's NOT yet waiting on a child, moves on to its next child
+                int first = -1;
+                for ( int lane = 0; lane < level.size; lane ++ ) {
+                    if ( ! level.pending[ lane ] && ! level.exhausted[ lane ] ) {
+                        if ( this.processors.get( level.proc[ lane ] ).nextChild( level.frames[ lane ] ) )
+                            level.pending[ lane ] = true;
+                        else
+                            level.exhausted[ lane ] = true;
+                    }
+                    if ( level.pending[ lane ] && ( first < 0 || level.frames[ lane ].childPos < level.frames[ first ].childPos ) )
+                        first = lane;
+                }
+
+                if ( first >= 0 ) {
+                    // the equivalent of the recursion call - ONCE for all the lanes waiting for the same child
+                    final int childPos = level.frames[ first ].childPos;
+                    final Level child = getLevel( levels, top + 1, numProcessors );
+                    for ( int lane = first; lane < level.size; lane ++ ) {
+                        if ( ! level.pending[ lane ] || level.frames[ lane ].childPos != childPos ) continue;
+                        final AbstractYamlEntryProcessor processor = this.processors.get( level.proc[ lane ] );
+                        final AbstractYamlEntryProcessor.Frame childFrame = AbstractYamlEntryProcessor.getFrame( frameStacks.get( level.proc[ lane ] ), top + 1 );
+                        final Boolean skipped = processor.enterChild( childFrame, level.frames[ lane ] );
+                        if ( skipped != null ) {
+                            level.pending[ lane ] = false;
+                            processor.childDone( level.frames[ lane ], skipped );
+                        } else {
+                            child.add( level.proc[ lane ], lane, childFrame );
+                        }
+                    }
+                    if ( child.size > 0 ) top ++;
+                } else {
+                    // the equivalent of returning from the recursion call - for ALL the lanes at this level
+                    final Level parent = ( top > 0 ) ? levels.get( top - 1 ) : null;
+                    for ( int lane = 0; lane < level.size; lane ++ ) {
+                        final AbstractYamlEntryProcessor processor = this.processors.get( level.proc[ lane ] );
+                        final boolean aMatchFound = processor.endNode( level.frames[ lane ] );
+                        level.frames[ lane ].clear();
+                        if ( parent != null ) {
+                            final int parentLane = level.parentLane[ lane ];
+                            parent.pending[ parentLane ] = false;
+                            processor.childDone( parent.frames[ parentLane ], aMatchFound );
+                        }
+                    }
+                    level.clear();
+                    if ( top == 0 ) return;
+                    top --;
+                }
+            } // while
+        } finally {
+            // So that NOTHING holds on to any Nodes (especially, if an Exception was thrown)
+            for ( ArrayList<AbstractYamlEntryProcessor.Frame> frames: frameStacks )
+                for ( AbstractYamlEntryProcessor.Frame frame: frames )
+                    frame.clear();
+            for ( Level lvl: levels )
+                lvl.clear();
+        }
+    }
+
+    /** @return the Level at _depth within _levels (creating it, upon first use) */
+    private static Level getLevel( final ArrayList<Level> _levels, final int _depth, final int _maxLanes ) {
+        if ( _depth == _levels.size() )
+            _levels.add( new Level( _maxLanes ) );
+        return _levels.get( _depth );
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.ASUX.YAML.NodeImpl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import org.yaml.snakeyaml.DumperOptions; // https://bitbucket.org/asomov/snakeyaml/src/default/src/main/java/org/yaml/snakeyaml/DumperOptions.java
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+
+/** <p>Builds a org.yaml.snakeyaml.nodes.Node tree - straight from a Jackson JsonParser (streaming).  The reverse of {@link NodeJSONWriter}.</p>
+ *  <p>Previously, JSON was first loaded into a LinkedHashMap/ArrayList hierarchy (by a Jackson ObjectMapper), which was then converted by {@link NodeTools#Map2Node(boolean, java.util.LinkedHashMap, DumperOptions)}.  That's two full copies of the JSON in memory.  Also, Map2Node() rejected a JSON-array (or a number, or null) at the top-level and within arrays.</p>
+ *  <p>Any JSON value is accepted (at any level).  The Nodes are the same as what Map2Node() created: strings, numbers and booleans are all tagged !!str, with the default scalar-style of the DumperOptions (as are the keys).  A number's value is what the ObjectMapper made of it (example: <code>1e3</code> becomes <code>1000.0</code>).  So, existing scripts see the very same output.  Only null - which Map2Node() failed on - is tagged !!null (PLAIN).  If an object has duplicate keys, the key is kept once (at its 1st position) with the value of its last occurrence - just like a LinkedHashMap would.</p>
+ *  <p>Nesting is handled via an explicit stack (NOT recursion).  So, deeply nested JSON will NOT overflow the java-stack.</p>
+ */
+public final class NodeJSONReader {
+
+    public static final String CLASSNAME = NodeJSONReader.class.getName();
+
+    /** Thread-safe, once configured.  Same leniency as the ObjectMapper that InputsOutputs.getDataFromReference() used for '@file.json' */
+    private static final JsonFactory JSONFACTORY = new JsonFactory()
+                    .enable( JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES )
+                    .enable( JsonParser.Feature.ALLOW_SINGLE_QUOTES );
+
+    private static final int BUFSIZE = 64 * 1024;
+
+    /** One per JSON object/array that's still open.  See {@link #read(JsonParser, DumperOptions)} */
+    private static final class Frame {
+        final ArrayList<NodeTuple> tuples; // null for a JSON-array
+        final ArrayList<Node> items; // null for a JSON-object
+        final Node node;
+        String key = null; // the field-name whose value is being read
+        HashMap<String,Integer> keyIndex = null; // key -> index within tuples.  Created lazily (only for objects with 2+ keys), to detect duplicate keys
+
+        Frame( final Node _node, final ArrayList<NodeTuple> _tuples, final ArrayList<Node> _items ) {
+            this.node = _node;
+            this.tuples = _tuples;
+            this.items = _items;
+        }
+    }
+
+    private NodeJSONReader() {} // static methods only
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** @param _jsonString NotNull.  Must contain exactly ONE JSON value (object, array, string, number, boolean or null)
+     *  @param _dumperoptions NotNull.  Provides the default scalar-style and flow-style for the new Nodes
+     *  @return NotNull
+     *  @throws java.io.IOException if _jsonString is NOT valid JSON
+     *  @throws Exception See {@link #read(JsonParser, DumperOptions)}
+     */
+    public static Node read( final String _jsonString, final DumperOptions _dumperoptions ) throws java.io.IOException, Exception
+    {
+        try ( final JsonParser parser = JSONFACTORY.createParser( _jsonString ) ) {
+            return read( parser, _dumperoptions );
+        }
+    }
+
+    /** @param _is NotNull.  Must contain exactly ONE JSON value.  It is read via a buffer, and is NOT closed.
+     *  @param _dumperoptions NotNull.  Provides the default scalar-style and flow-style for the new Nodes
+     *  @return NotNull
+     *  @throws java.io.IOException if _is can NOT be read, or is NOT valid JSON
+     *  @throws Exception See {@link #read(JsonParser, DumperOptions)}
+     */
+    public static Node read( final java.io.InputStream _is, final DumperOptions _dumperoptions ) throws java.io.IOException, Exception
+    {
+        try ( final JsonParser parser = JSONFACTORY.createParser( new java.io.BufferedInputStream( _is, BUFSIZE ) ) ) {
+            parser.disable( JsonParser.Feature.AUTO_CLOSE_SOURCE );
+            return read( parser, _dumperoptions );
+        }
+    }
+
+    /** <p>Reads exactly ONE JSON value from _parser, and builds the Node tree - as it goes.</p>
+     *  @param _parser NotNull.  Positioned before (or at) the 1st token of the JSON value.
+     *  @param _dumperoptions NotNull.  Provides the default scalar-style and flow-style for the new Nodes
+     *  @return NotNull
+     *  @throws java.io.IOException if _parser has trouble reading the JSON
+     *  @throws Exception if there is no JSON value, or if anything other than whitespace follows the JSON value
+     */
+    public static Node read( final JsonParser _parser, final DumperOptions _dumperoptions ) throws java.io.IOException, Exception
+    {
+        final String HDR = CLASSNAME +": read(): ";
+        final DumperOptions.ScalarStyle scalarStyle = _dumperoptions.getDefaultScalarStyle();
+        final DumperOptions.FlowStyle flowStyle = _dumperoptions.getDefaultFlowStyle();
+        final ArrayDeque<Frame> stack = new ArrayDeque<>();
+        Node root = null;
+
+        JsonToken tok = ( _parser.currentToken() != null ) ? _parser.currentToken() : _parser.nextToken();
+        if ( tok == null )
+            throw new Exception( HDR +"No JSON content found." );
+
+        for ( ; tok != null; tok = ( root != null ) ? null : _parser.nextToken() ) {
+            final Frame top = stack.peek();
+            Node n; // the value just completed, if any
+            switch ( tok ) {
+                case FIELD_NAME:
+                    top.key = _parser.getCurrentName();
+                    continue;
+                case START_OBJECT: {
+                    final ArrayList<NodeTuple> tuples = new ArrayList<>();
+                    stack.push( new Frame( new MappingNode( Tag.MAP, false, tuples, null, null, flowStyle ), tuples, null ) );
+                    continue;
+                }
+                case START_ARRAY: {
+                    final ArrayList<Node> items = new ArrayList<>();
+                    stack.push( new Frame( new SequenceNode( Tag.SEQ, false, items, null, null, flowStyle ), null, items ) );
+                    continue;
+                }
+                case END_OBJECT:
+                    top.tuples.trimToSize();
+                    n = stack.pop().node;
+                    break;
+                case END_ARRAY:
+                    top.items.trimToSize();
+                    n = stack.pop().node;
+                    break;
+                case VALUE_STRING:          n = new ScalarNode( Tag.STR,   _parser.getText(), null, null, scalarStyle );  break;
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:    n = new ScalarNode( Tag.STR,   _parser.getNumberValue().toString(), null, null, scalarStyle );  break; // Integer, Long, BigInteger or Double - exactly as the ObjectMapper had it
+                case VALUE_TRUE:            n = new ScalarNode( Tag.STR,   "true",            null, null, scalarStyle );  break;
+                case VALUE_FALSE:           n = new ScalarNode( Tag.STR,   "false",           null, null, scalarStyle );  break;
+                case VALUE_NULL:            n = new ScalarNode( Tag.NULL,  "null",            null, null, DumperOptions.ScalarStyle.PLAIN );  break; // Map2Node() could NOT handle null at all
+                default:
+                    throw new Exception( HDR +"Unexpected JSON-token "+ tok +" @ "+ _parser.getCurrentLocation() );
+            }
+
+            // a value was just completed.  Add it to the enclosing object/array (if any)
+            final Frame parent = stack.peek();
+            if ( parent == null ) {
+                root = n; // ends the for-loop
+            } else if ( parent.items != null ) {
+                parent.items.add( n );
+            } else {
+                add( parent, n, scalarStyle );
+            }
+        } // for
+
+        if ( _parser.nextToken() != null )
+            throw new Exception( HDR +"Unexpected content after the JSON value @ "+ _parser.getCurrentLocation() );
+        return root;
+    }
+
+    //==============================================================================
+
+    /** Adds the key-value pair (_frame.key : _val) to the JSON object represented by _frame.  Takes care of duplicate keys (see {@link NodeJSONReader}). */
+    private static void add( final Frame _frame, final Node _val, final DumperOptions.ScalarStyle _scalarStyle )
+    {
+        final NodeTuple kv = new NodeTuple( new ScalarNode( Tag.STR, _frame.key, null, null, _scalarStyle ), _val );
+        if ( _frame.tuples.isEmpty() ) {
+            _frame.tuples.add( kv );
+            return;
+        }
+        if ( _frame.keyIndex == null ) {
+            _frame.keyIndex = new HashMap<>();
+            _frame.keyIndex.put( ((ScalarNode) _frame.tuples.get(0).getKeyNode()).getValue(), 0 );
+        }
+        final Integer prev = _frame.keyIndex.putIfAbsent( _frame.key, _frame.tuples.size() );
+        if ( prev == null )
+            _frame.tuples.add( kv );
+        else
+            _frame.tuples.set( prev, kv ); // duplicate key: 1st position, last value
+    }
+
+}
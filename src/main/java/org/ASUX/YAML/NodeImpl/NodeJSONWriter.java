@@ -0,0 +1,197 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.ASUX.YAML.NodeImpl;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+
+/** <p>Writes a org.yaml.snakeyaml.nodes.Node tree as JSON - straight into a Jackson JsonGenerator (streaming).</p>
+ *  <p>Previously, the entire tree was first converted into a LinkedHashMap/ArrayList hierarchy (see {@link NodeTools#Node2Map(boolean, Node)}) - only so that a Jackson ObjectMapper could write it out.  That's a full 2nd copy of the YAML in memory.  This writes the very same JSON, without any intermediate java.util.Map.</p>
+ *  <p>Same conversion as {@link NodeTools#Node2Map(boolean, Node)}: Every ScalarNode is written as a JSON-String (prefixed by its tag, if it's a custom '!' tag).  If a MappingNode has duplicate keys, the key is written once (at its 1st position) with the value of its last occurrence - just like a LinkedHashMap would.  A recursive YAML-alias (a Node that contains an alias to itself) can NOT be written as JSON, and is reported as an Exception.</p>
+ */
+public final class NodeJSONWriter {
+
+    public static final String CLASSNAME = NodeJSONWriter.class.getName();
+
+    /** Thread-safe, once configured.  Same defaults as a new com.fasterxml.jackson.databind.ObjectMapper */
+    private static final JsonFactory JSONFACTORY = new JsonFactory();
+
+    private static final int BUFSIZE = 64 * 1024;
+
+    private NodeJSONWriter() {} // static methods only
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** <p>Writes _node as UTF-8 JSON into a (new) file.</p>
+     *  @param _node NotNull
+     *  @param _fileName NotNull.  Overwritten if it exists.
+     *  @throws java.io.IOException if the file can NOT be written to
+     *  @throws Exception See {@link #write(Node, JsonGenerator)}
+     */
+    public static void write( final Node _node, final String _fileName ) throws java.io.IOException, Exception
+    {
+        try ( final java.io.OutputStream os = new java.io.BufferedOutputStream( new java.io.FileOutputStream( _fileName ), BUFSIZE );
+              final JsonGenerator jgen = JSONFACTORY.createGenerator( os, JsonEncoding.UTF8 ) ) {
+            write( _node, jgen );
+        }
+    }
+
+    /** <p>Writes _node as JSON into _javawriter.  _javawriter is flushed, but NOT closed.</p>
+     *  @param _node NotNull
+     *  @param _javawriter NotNull.  Example: the StringWriter that's a surrogate for stdout (See {@link Cmd#go(org.ASUX.yaml.CmdLineArgsCommon)})
+     *  @throws java.io.IOException if _javawriter can NOT be written to
+     *  @throws Exception See {@link #write(Node, JsonGenerator)}
+     */
+    public static void write( final Node _node, final java.io.Writer _javawriter ) throws java.io.IOException, Exception
+    {
+        final JsonGenerator jgen = JSONFACTORY.createGenerator( _javawriter );
+        jgen.disable( JsonGenerator.Feature.AUTO_CLOSE_TARGET );
+        write( _node, jgen );
+        jgen.close(); // flushes.  But, does NOT close _javawriter
+    }
+
+    /** <p>Writes _node into _jgen, as a single JSON value.  _jgen is Not flushed or closed.</p>
+     *  @param _node NotNull
+     *  @param _jgen NotNull
+     *  @throws java.io.IOException if _jgen can NOT be written to
+     *  @throws Exception if _node contains a recursive YAML-alias, or an unimplemented Node-type
+     */
+    public static void write( final Node _node, final JsonGenerator _jgen ) throws java.io.IOException, Exception
+    {
+        write( _node, _jgen, new IdentityHashMap<Node,Boolean>() );
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** <p>This is the REAL RECURSIVE-FUNCTION.  See {@link #write(Node, JsonGenerator)}.</p>
+     *  @param _node NotNull
+     *  @param _jgen NotNull
+     *  @param _inProgress NotNull.  The anchored Nodes (enclosing _node) being written right now.  An alias to any of them, is a recursive YAML-alias.
+     *  @throws Exception See {@link #write(Node, JsonGenerator)}
+     */
+    private static void write( final Node _node, final JsonGenerator _jgen, final IdentityHashMap<Node,Boolean> _inProgress ) throws java.io.IOException, Exception
+    {
+        if ( _node instanceof ScalarNode ) {
+            _jgen.writeString( scalarAsString( (ScalarNode) _node ) );
+            return;
+        }
+
+        final boolean bAnchored = AliasTracker.isAnchored( _node );
+        if ( bAnchored && _inProgress.put( _node, Boolean.TRUE ) != null )
+            throw new Exception( CLASSNAME +" write(): recursive YAML-alias *"+ _node.getAnchor() +" (it contains an alias to itself) can NOT be written as JSON." );
+
+        if ( _node instanceof MappingNode ) {
+            final java.util.List<NodeTuple> tuples = ((MappingNode) _node).getValue();
+            _jgen.writeStartObject();
+            final Map<String,Node> deduped = dedupe( tuples );
+            if ( deduped == null ) {
+                for ( NodeTuple kv: tuples ) {
+                    _jgen.writeFieldName( keyAsString( kv.getKeyNode() ) );
+                    write( kv.getValueNode(), _jgen, _inProgress ); // recursion
+                }
+            } else {
+                for ( Map.Entry<String,Node> e: deduped.entrySet() ) {
+                    _jgen.writeFieldName( e.getKey() );
+                    write( e.getValue(), _jgen, _inProgress ); // recursion
+                }
+            }
+            _jgen.writeEndObject();
+
+        } else if ( _node instanceof SequenceNode ) {
+            _jgen.writeStartArray();
+            for ( Node val: ((SequenceNode) _node).getValue() )
+                write( val, _jgen, _inProgress ); // recursion
+            _jgen.writeEndArray();
+
+        } else {
+            final String erms = CLASSNAME +" write(): Unimplemented SnakeYaml Node-type: " + _node.getNodeId() +" = ["+ _node.toString() +"]";
+            System.err.println( erms );
+            throw new Exception( erms );
+        }
+
+        if ( bAnchored ) _inProgress.remove( _node );
+    }
+
+    //==============================================================================
+
+    /** @return null if NONE of the keys are repeated (the typical case).  Otherwise, the same as what a LinkedHashMap would hold: each key at its 1st position, with the value of its last occurrence.
+     *  @throws Exception if a key is NOT a ScalarNode
+     */
+    private static Map<String,Node> dedupe( final java.util.List<NodeTuple> _tuples ) throws Exception
+    {
+        if ( _tuples.size() < 2 ) return null;
+        final HashSet<String> keys = new HashSet<>( _tuples.size() * 4 / 3 + 1 );
+        for ( NodeTuple kv: _tuples )
+            if ( ! keys.add( keyAsString( kv.getKeyNode() ) ) ) {
+                final LinkedHashMap<String,Node> lhm = new LinkedHashMap<>();
+                for ( NodeTuple kv2: _tuples )
+                    lhm.put( keyAsString( kv2.getKeyNode() ), kv2.getValueNode() );
+                return lhm;
+            }
+        return null;
+    }
+
+    /** @return same as the key that {@link NodeTools#Node2Map(boolean, Node)} puts into its LinkedHashMap
+     *  @throws Exception if _keyNode is NOT a ScalarNode
+     */
+    private static String keyAsString( final Node _keyNode ) throws Exception
+    {
+        if ( _keyNode.getNodeId() != NodeId.scalar || ! ( _keyNode instanceof ScalarNode ) )
+            throw new Exception( CLASSNAME +" write(): a key of a MappingNode is NOT a Scalar (JSON allows ONLY strings as keys): ["+ _keyNode +"]" );
+        return scalarAsString( (ScalarNode) _keyNode );
+    }
+
+    /** @return the value of _scalar, prefixed by its tag (and a space) - ONLY if it's a custom '!' tag.  Same as {@link NodeTools#Node2Map(boolean, Node)}. */
+    private static String scalarAsString( final ScalarNode _scalar )
+    {
+        return _scalar.getTag().startsWith("!") ? ( _scalar.getTag() +" "+ _scalar.getValue() ) : _scalar.getValue();
+    }
+
+}
@@ -33,12 +33,11 @@
 package org.ASUX.YAML.NodeImpl;
 
 import org.ASUX.yaml.Enums;
-import org.ASUX.yaml.JSONTools;
 import org.ASUX.yaml.YAML_Libraries;
 
 import java.util.List;
-import java.util.LinkedList;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 
 // https://yaml.org/spec/1.2/spec.html#id2762107
@@ -399,7 +398,7 @@ public class NodeTools extends org.ASUX.yaml.YAMLImplementation<Node>
      *  I need such a function, as I learned the hard way that libraries do NOT work 100% well.  Only file-formats are the workaorund/ way out.
      *  I definitely "fgool-proof" method to ensure 'valid' YAML, for error-free processing by the entire org.ASUX.yaml library to work without any issues
      *  @param _verbose Whether you want deluge of debug-output onto System.out.
-     *  @param _jsonString a java.lang.String object
+     *  @param _jsonString a java.lang.String object.  Any JSON value (not just a JSON-object) is accepted.  See {@link NodeJSONReader}
      *  @param _dumperoptions important to pass in a non-null object.  This option is most valuable when you'll EVER save this new MappingNode into a file (or dump it to Stdout)
      *  @return a org.yaml.snakeyaml.nodes.Node object that's definitely "kosher" for the entire org.ASUX.yaml library to work without any issues
      * @throws java.io.IOException if any error using java.io.StringReader and java.io.StringWriter
@@ -408,12 +407,13 @@ public class NodeTools extends org.ASUX.yaml.YAMLImplementation<Node>
     public static org.yaml.snakeyaml.nodes.Node  JSONString2Node( final boolean _verbose, final String  _jsonString, final DumperOptions _dumperoptions )
                     throws java.io.IOException, Exception
     {
-        final LinkedHashMap<String, Object> map = JSONTools.JSONString2Map( _verbose, _jsonString );
+        // Previously: JSONTools.JSONString2Map() and then Map2Node().  That is, 2 full copies of the JSON in memory.  See NodeJSONReader
+        final Node n = NodeJSONReader.read( _jsonString, _dumperoptions );
         if ( _verbose ) System.out.println( ">>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>" );
         if ( _verbose ) System.out.println( "_dumperoptions = "+ _dumperoptions.getDefaultScalarStyle() +" "+ _dumperoptions.getDefaultFlowStyle() );
-        if ( _verbose ) System.out.println( map );
+        if ( _verbose ) System.out.println( n );
         if ( _verbose ) System.out.println( "<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<" );
-        return /* final org.yaml.snakeyaml.nodes.Node n = */ NodeTools.Map2Node( _verbose, map, _dumperoptions );
+        return n;
     }
     //==============================================================================
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
@@ -529,11 +529,12 @@ public class NodeTools extends org.ASUX.yaml.YAMLImplementation<Node>
     // *  @param _bIgnoreContentCheck true if you want to IGNORE the CONTENT of the 1st argument (perhaps it's SEMANTICALLY 'empty', but this argument is set to true, no attempt will be made to check content)
     /**
      *  If any of the Read/List/Replace/Table/Batch commands returned "Empty YAML" (assuming the code retured {@link #getEmptyYAML()}), this is your SIMPLEST way of checking if the YAML is empty.
+     *  <p>Previously, any Node other than {@link #getEmptyYAML()} itself was serialized (see {@link #isEmptyNodeYAMLViaText(Node)}) - so, a huge YAML was fully emitted, just to learn that it is NOT empty.</p>
+     *  <p>Instead, this is a structural check, that agrees with that string-based definition.  MappingNodes and SequenceNodes (even empty ones, which are emitted as '{}' and '[]') are never empty.  A ScalarNode is empty, only if its value is an empty-string, its tag is !!str and its style is either PLAIN or SINGLE_QUOTED (all of which are emitted as <code>''</code>).  Its anchor does Not matter, as a lone ScalarNode is emitted without one.</p>
      *  @param _n Nullable value
      *  @return true if the YAML is empty (specifically, if it is the same as what's returned by {@link #getEmptyYAML()})
      */
     protected static boolean isEmptyNodeYAML( final Node _n ) {
-        final String HDR = CLASSNAME +": isEmptyYAML(_n): ";
         if ( _n == null )
             return true;
 
@@ -541,11 +542,27 @@ public class NodeTools extends org.ASUX.yaml.YAMLImplementation<Node>
         if ( _n == NodeTools.defaultEmptyYAML ) // as in, the memory addresses are the same!
             return true;
 
-        // if ( _bIgnoreContentCheck )
-        //     return false;
+        // if someone else created the empty YAML, let's do a structural check (See isEmptyNodeYAMLViaText() for the definition).
+        if ( _n.getNodeId() != NodeId.scalar || ! ( _n instanceof ScalarNode ) )
+            return false; // even an empty MappingNode or SequenceNode is emitted as '{}' or '[]'
+        final ScalarNode scalarN = (ScalarNode) _n;
+        if ( ! scalarN.getValue().isEmpty() || ! Tag.STR.equals( scalarN.getTag() ) )
+            return false;
+        final DumperOptions.ScalarStyle style = scalarN.getScalarStyle();
+        return style == DumperOptions.ScalarStyle.PLAIN || style == DumperOptions.ScalarStyle.SINGLE_QUOTED;
+    }
+
+    /**
+     *  <p>The original (string-based) definition of {@link #isEmptyNodeYAML(Node)}.  That is, whether _n is emitted as the same YAML as {@link #getEmptyYAML()}.  Kept ONLY for cross-checking {@link #isEmptyNodeYAML(Node)}, as this emits the entire YAML.</p>
+     *  @param _n Nullable value
+     *  @return true if the YAML is empty
+     */
+    static boolean isEmptyNodeYAMLViaText( final Node _n ) {
+        final String HDR = CLASSNAME +": isEmptyNodeYAMLViaText(_n): ";
+        if ( _n == null )
+            return true;
 
-            // if someone else created the empty YAML, let's do a String-level check.
-        // final String s = _n.toString(); // will Not be null.
+        NodeTools.initDefaultEmptyYAML();
         try {
             final String s = NodeTools.Node2YAMLString( _n );
             return ( defaultEmptyYAMLAsString.equals( s ) );
@@ -573,7 +590,7 @@ public class NodeTools extends org.ASUX.yaml.YAMLImplementation<Node>
         final ScalarNode keyN = new ScalarNode( Tag.STR, _key, null, null, _dumperoptions.getDefaultScalarStyle() ); // DumperOptions.ScalarStyle.PLAIN
         final ScalarNode valN = new ScalarNode( Tag.STR, _val, null, null, _dumperoptions.getDefaultScalarStyle() ); // DumperOptions.ScalarStyle.PLAIN
         final NodeTuple tuple = new NodeTuple( keyN, valN );
-        final java.util.List<NodeTuple> tuples = new LinkedList<>();
+        final java.util.List<NodeTuple> tuples = new ArrayList<>( 1 );
         tuples.add( tuple );
         return /*final MappingNode mapN = */ new MappingNode ( Tag.MAP, false, tuples, null, null, _dumperoptions.getDefaultFlowStyle() ); // DumperOptions.FlowStyle.BLOCK
     }
@@ -678,6 +695,10 @@ public class NodeTools extends org.ASUX.yaml.YAMLImplementation<Node>
 
         newobj.YAMLScanner = new GenericYAMLScanner( origObj.verbose );
         newobj.YAMLScanner.setYAMLLibrary( origObj.getYAMLScanner().getYAMLLibrary() );
+        newobj.YAMLScanner.setShowStats( origObj.getYAMLScanner().isShowStats() );
+        newobj.YAMLScanner.setInternScalars( origObj.getYAMLScanner().isInternScalars() );
+        newobj.YAMLScanner.setFilteredLoad( origObj.getYAMLScanner().isFilteredLoad() );
+        newobj.YAMLScanner.setLoadMarks( origObj.getYAMLScanner().getLoadMarks() );
 
         newobj.YAMLWriter = new GenericYAMLWriter( origObj.verbose );
         newobj.YAMLWriter.setYAMLLibrary( origObj.getYAMLWriter().getYAMLLibrary() );
@@ -716,14 +737,143 @@ public class NodeTools extends org.ASUX.yaml.YAMLImplementation<Node>
     //=================================================================================
 
 
-    /** Takes YAML input - as a org.yaml.snakeyaml.nodes.Node instance - and deep-clones it (by writing as a String-YAML and reading it back using {@link GenericYAMLScanner})
+    /** <p>Name of the Java system-property, to validate every {@link #deepClone(Node)} against {@link #deepCloneViaText(Node)}.  Example: <code>-Dorg.ASUX.YAML.NodeImpl.validateDeepClone=true</code></p>
+     *  <p>Meant for troubleshooting only.  It's slower than the old (text-based) deepClone() ever was.</p>
+     */
+    public static final String DEEPCLONE_VALIDATION_PROPERTY = "org.ASUX.YAML.NodeImpl.validateDeepClone";
+
+    private static final boolean DEEPCLONE_VALIDATION = Boolean.getBoolean( DEEPCLONE_VALIDATION_PROPERTY );
+
+    /** <p>Takes YAML input - as a org.yaml.snakeyaml.nodes.Node instance - and deep-clones it, by copying the MappingNodes, SequenceNodes and ScalarNodes directly (tags, scalar-styles, flow-styles, anchors and Marks included).</p>
+     *  <p>Previously, this wrote _orig as a YAML-String and read it back (see {@link #deepCloneViaText(Node)}) - for every single READ-match and every single insertion-point.</p>
+     *  <p>A Node that appears more than once within _orig (example: a YAML-alias) is cloned just once - and the clone appears at all those places (exactly as writing-and-reading-back would have done).  Recursive YAML-aliases are cloned as-is as well.</p>
+     *  <p>If the Java system-property {@link #DEEPCLONE_VALIDATION_PROPERTY} is true, every clone is validated against {@link #deepCloneViaText(Node)}.</p>
      *  @param _orig a org.yaml.snakeyaml.nodes.Node object, as generated by SnakeYAML library
      *  @return a new org.yaml.snakeyaml.nodes.Node object that has Nothing in common with _orig
-     *  @throws Exception Any issue whatsoever when dealing with convering YAML/JSON content into Strings and back (as part of lintremoval)
+     *  @throws Exception if any unimplemented Node-type is encountered (or, if the validation fails)
      */
     public static Node deepClone( final Node _orig ) throws Exception // !!!!!!!!!!! ATTENTION !!!!!!!!!!! No need for any DumperOptions parameter here!
     {
-        final String HDR = CLASSNAME + ": deepClone(Node): ";
+        if ( _orig == null ) return null;
+        final Node clone = deepClone( _orig, new IdentityHashMap<Node,Node>() );
+        if ( DEEPCLONE_VALIDATION ) {
+            final Node expected = deepCloneViaText( _orig );
+            if (   !   isSameStructure( clone, expected, new IdentityHashMap<Node,Node>() ) )
+                throw new Exception( CLASSNAME +": deepClone(Node): Validation failed.  The clone is:\n"+ Node2YAMLString( clone ) +"\nInstead of:\n"+ Node2YAMLString( expected ) );
+        }
+        return clone;
+    }
+
+    /** <p>Used to validate {@link #deepClone(Node)}.  Compares the tags, values and scalar-styles - and, whether the very same Nodes appear at the very same places (example: YAML-aliases).  The names of the anchors and the Marks are NOT compared.</p>
+     *  <p>Nor are the flow-styles compared: writing-and-reading-back can NOT preserve them (a block-style Node within a flow-style Node - say, via a YAML-alias - comes back as flow-style).</p>
+     *  @param _a NotNull
+     *  @param _b NotNull
+     *  @param _seen NotNull.  The Nodes within _a compared so far, and the Node within _b that each was compared with.
+     *  @return true if _a and _b are identical (other than the names of anchors and the Marks)
+     */
+    private static boolean isSameStructure( final Node _a, final Node _b, final IdentityHashMap<Node,Node> _seen )
+    {
+        final Node seenB = _seen.get( _a );
+        if ( seenB != null ) return seenB == _b;
+        _seen.put( _a, _b );
+        if ( _a.getNodeId() != _b.getNodeId() || ! _a.getTag().equals( _b.getTag() ) ) return false;
+
+        if ( _a instanceof ScalarNode ) {
+            final ScalarNode sa = (ScalarNode) _a;
+            final ScalarNode sb = (ScalarNode) _b;
+            return sa.getValue().equals( sb.getValue() ) && sa.getScalarStyle() == sb.getScalarStyle();
+
+        } else if ( _a instanceof MappingNode ) {
+            final java.util.List<NodeTuple> ta = ((MappingNode) _a).getValue();
+            final java.util.List<NodeTuple> tb = ((MappingNode) _b).getValue();
+            if ( ta.size() != tb.size() ) return false;
+            for ( int ix = 0; ix < ta.size(); ix ++ )
+                if ( ! isSameStructure( ta.get(ix).getKeyNode(), tb.get(ix).getKeyNode(), _seen ) || ! isSameStructure( ta.get(ix).getValueNode(), tb.get(ix).getValueNode(), _seen ) )
+                    return false;
+            return true;
+
+        } else if ( _a instanceof SequenceNode ) {
+            final java.util.List<Node> la = ((SequenceNode) _a).getValue();
+            final java.util.List<Node> lb = ((SequenceNode) _b).getValue();
+            if ( la.size() != lb.size() ) return false;
+            for ( int ix = 0; ix < la.size(); ix ++ )
+                if ( ! isSameStructure( la.get(ix), lb.get(ix), _seen ) )
+                    return false;
+            return true;
+        }
+        return false;
+    }
+
+    /** <p>SnakeYAML deprecated Node.isResolved() - but, has NOT (yet) deprecated the constructors that take that very flag.  Nor is there any other way to read it.</p>
+     *  <p>The flag is what Node.useClassConstructor() checks.  So, a copy of a Node that does NOT carry it over, is NOT a faithful copy.  Hence, this is the ONLY place (within this library) that reads it.</p>
+     *  @param _node NotNull
+     *  @return _node.isResolved()
+     */
+    @SuppressWarnings("deprecation")
+    static boolean isResolved( final Node _node ) {
+        return _node.isResolved();
+    }
+
+    /** <p>This is the REAL RECURSIVE-FUNCTION.  See {@link #deepClone(Node)}.</p>
+     *  @param _orig NotNull
+     *  @param _done NotNull.  The Nodes within _orig cloned so far, and the clone of each.
+     *  @return the clone of _orig
+     *  @throws Exception if any unimplemented Node-type is encountered
+     */
+    private static Node deepClone( final Node _orig, final IdentityHashMap<Node,Node> _done ) throws Exception
+    {
+        final Node alreadyDone = _done.get( _orig );
+        if ( alreadyDone != null ) return alreadyDone;
+
+        if ( _orig instanceof ScalarNode ) {
+            final ScalarNode scalar = (ScalarNode) _orig;
+            // Tag and Mark are immutable.  So, those are shared.
+            final ScalarNode newscalar = new ScalarNode( scalar.getTag(), isResolved( scalar ), scalar.getValue(), scalar.getStartMark(), scalar.getEndMark(), scalar.getScalarStyle() );
+            newscalar.setAnchor( scalar.getAnchor() );
+            _done.put( _orig, newscalar );
+            return newscalar;
+
+        } else if ( _orig instanceof MappingNode ) {
+            final MappingNode map = (MappingNode) _orig;
+            final java.util.List<NodeTuple> tuples = map.getValue();
+            final java.util.List<NodeTuple> newtuples = new ArrayList<>( tuples.size() );
+            // newtuples is filled in below.  MappingNode does NOT copy it.
+            final MappingNode newmap = new MappingNode( map.getTag(), isResolved( map ), newtuples, map.getStartMark(), map.getEndMark(), map.getFlowStyle() );
+            newmap.setMerged( map.isMerged() );
+            newmap.setAnchor( map.getAnchor() );
+            _done.put( _orig, newmap ); // BEFORE the recursion, in case of a recursive YAML-alias
+            for( NodeTuple kv: tuples )
+                newtuples.add( new NodeTuple( deepClone( kv.getKeyNode(), _done ), deepClone( kv.getValueNode(), _done ) ) ); // recursion
+            return newmap;
+
+        } else if ( _orig instanceof SequenceNode ) {
+            final SequenceNode seq = (SequenceNode) _orig;
+            final java.util.List<Node> lst = seq.getValue();
+            final java.util.List<Node> newlst = new ArrayList<>( lst.size() );
+            // newlst is filled in below.  SequenceNode does NOT copy it.
+            final SequenceNode newseq = new SequenceNode( seq.getTag(), isResolved( seq ), newlst, seq.getStartMark(), seq.getEndMark(), seq.getFlowStyle() );
+            newseq.setAnchor( seq.getAnchor() );
+            _done.put( _orig, newseq ); // BEFORE the recursion, in case of a recursive YAML-alias
+            for( Node val: lst )
+                newlst.add( deepClone( val, _done ) ); // recursion
+            return newseq;
+
+        } else {
+            final String erms = CLASSNAME + ": deepClone(Node): Unimplemented SnakeYaml Node-type: " + _orig.getNodeId() +" = ["+ _orig.toString() +"]";
+            System.err.println( erms );
+            throw new Exception( erms );
+        }
+    }
+
+    /** <p>Takes YAML input - as a org.yaml.snakeyaml.nodes.Node instance - and deep-clones it (by writing as a String-YAML and reading it back using {@link GenericYAMLScanner})</p>
+     *  <p>This is MUCH slower than {@link #deepClone(Node)}.  Use it ONLY to validate {@link #deepClone(Node)} (see {@link #DEEPCLONE_VALIDATION_PROPERTY}).</p>
+     *  @param _orig a org.yaml.snakeyaml.nodes.Node object, as generated by SnakeYAML library
+     *  @return a new org.yaml.snakeyaml.nodes.Node object that has Nothing in common with _orig
+     *  @throws Exception Any issue whatsoever when dealing with convering YAML/JSON content into Strings and back (as part of lintremoval)
+     */
+    public static Node deepCloneViaText( final Node _orig ) throws Exception // !!!!!!!!!!! ATTENTION !!!!!!!!!!! No need for any DumperOptions parameter here!
+    {
+        final String HDR = CLASSNAME + ": deepCloneViaText(Node): ";
 
         try {
             final GenericYAMLScanner yamlscanner = new GenericYAMLScanner( false );
@@ -744,11 +894,11 @@ public class NodeTools extends org.ASUX.yaml.YAMLImplementation<Node>
             return yamlscanner.load( strrdr );
 
         } catch (java.io.IOException e) {
-            e.printStackTrace(System.err); // No 'verbose' variable present in deepClone(Node). printStackTrace() happens even if user did NOT ask for --verbose
+            e.printStackTrace(System.err); // No 'verbose' variable present in deepCloneViaText(Node). printStackTrace() happens even if user did NOT ask for --verbose
             System.err.println( HDR +"Failure to read/write the contents: '" + _orig +"'." );
             throw e;
         } catch (Exception e) {
-            e.printStackTrace(System.err); // No 'verbose' variable present in deepClone(Node). printStackTrace() happens even if user did NOT ask for --verbose
+            e.printStackTrace(System.err); // No 'verbose' variable present in deepCloneViaText(Node). printStackTrace() happens even if user did NOT ask for --verbose
             System.err.println( HDR +"Unknown Internal error re: '" + _orig +"'." );
             throw e;
         }
@@ -772,7 +922,7 @@ public class NodeTools extends org.ASUX.yaml.YAMLImplementation<Node>
     public static org.yaml.snakeyaml.nodes.SequenceNode ArrayList2Node( final boolean _verbose, final java.util.ArrayList<?> _yamlArr, final DumperOptions _dumperoptions ) throws Exception
     {
         final String HDR = CLASSNAME + ": ArrayList2Node(): ";
-        final java.util.LinkedList<Node> seqs = new java.util.LinkedList<>();
+        final java.util.List<Node> seqs = new ArrayList<>( _yamlArr.size() );
         final SequenceNode seqN = new SequenceNode( Tag.SEQ, false,     seqs,               null, null, _dumperoptions.getDefaultFlowStyle() );
 
         for ( Object o: _yamlArr ) {
@@ -806,13 +956,13 @@ public class NodeTools extends org.ASUX.yaml.YAMLImplementation<Node>
     public static org.yaml.snakeyaml.nodes.Node Map2Node( final boolean _verbose, final LinkedHashMap<String, Object> _yaml, final DumperOptions _dumperoptions ) throws Exception
     {
         final String HDR = CLASSNAME + ": Map2Node(): ";
-        final List<NodeTuple> nodetuple = new LinkedList<>();
+        final Tracer trace = Tracer.get( _verbose );
+        final List<NodeTuple> nodetuple = new ArrayList<>( _yaml.size() );
         //--------------------------
         for (String key : _yaml.keySet()) {
 
             final ScalarNode keySN = new ScalarNode( Tag.STR,     key,                null, null, _dumperoptions.getDefaultScalarStyle() );
             final Object rhs = _yaml.get(key);
-            final String rhsStr = rhs.toString(); // to make verbose logging code simplified
 
             //--------------------------------------------------------
             // if we are here, we've only a PARTIAL match.
@@ -822,7 +972,7 @@ public class NodeTools extends org.ASUX.yaml.YAMLImplementation<Node>
                 final LinkedHashMap<String, Object> omap = (LinkedHashMap<String, Object>) rhs;
                 final NodeTuple nnt = new NodeTuple( keySN, Map2Node( _verbose, omap, _dumperoptions ) );
                 nodetuple.add ( nnt );
-                if ( _verbose ) System.out.println( HDR +": added NodeTuple= ["+ nnt +"]" );
+                trace.println( () -> HDR +": added NodeTuple= ["+ nnt +"]" );
 
             } else if ( rhs instanceof java.util.ArrayList ) {
                 @SuppressWarnings("unchecked")
@@ -830,16 +980,16 @@ public class NodeTools extends org.ASUX.yaml.YAMLImplementation<Node>
                 final SequenceNode seqN = NodeTools.ArrayList2Node( _verbose, arr, _dumperoptions );
                 final NodeTuple nnt = new NodeTuple( keySN, seqN );
                 nodetuple.add ( nnt );
-                if ( _verbose ) System.out.println( HDR +": added SequenceNode= ["+ seqN +"]" );
+                trace.println( () -> HDR +": added SequenceNode= ["+ seqN +"]" );
 
             } else if ( (rhs instanceof java.lang.String) || (rhs instanceof java.lang.Number) || (rhs instanceof java.lang.Boolean) ) {
                 final ScalarNode valSN = new ScalarNode( Tag.STR,     rhs.toString(),     null, null, _dumperoptions.getDefaultScalarStyle() );
                 final NodeTuple nnt = new NodeTuple( keySN, valSN );
                 nodetuple.add ( nnt );
-                if ( _verbose ) System.out.println( HDR +": added SIMPLE-node= ["+ nnt +"]" );
+                trace.println( () -> HDR +": added SIMPLE-node= ["+ nnt +"]" );
 
             } else {
-                if ( _verbose ) System.out.println ( "\n"+ HDR +": "+ key +": "+ rhsStr.substring(0, Math.min( rhsStr.length(), 360 ) ) );
+                trace.println( () -> "\n"+ HDR +": "+ key +": "+ Tracer.abbreviate( rhs ) );
                 throw new Exception( HDR +": incomplete code: Unable to handle rhs of type '"+ rhs.getClass().getName() +"'" );
             } // if-else   rhs instanceof   Map/Array/String/.. ..
 
@@ -861,6 +1011,22 @@ public class NodeTools extends org.ASUX.yaml.YAMLImplementation<Node>
      *  @throws Exception if any invalid Node object hierarchy, or if unimplemented scenarios.
      */
     public static org.ASUX.common.Output.Object<?> Node2Map( final boolean _verbose, final Node _node ) throws Exception
+    {
+        return Node2Map( _verbose, _node, new IdentityHashMap<Node,Object>() );
+    }
+
+    /** Marks the anchored Nodes, that {@link #Node2Map(boolean, Node, IdentityHashMap)} is converting right now */
+    private static final Object NODE2MAP_IN_PROGRESS = new Object();
+
+    /** <p>This is the REAL RECURSIVE-FUNCTION.  See {@link #Node2Map(boolean, Node)}.</p>
+     *  <p>SnakeYAML resolves every <code>*alias</code> to the very same Node as the anchor.  So, each anchored MappingNode/SequenceNode is converted just ONCE: every alias to it, gets its OWN copy of that LinkedHashMap/ArrayList (see {@link #Node2MapCopy(Object)}) - so that a caller editing one alias-site does NOT silently edit all the others.  A recursive alias (a Node that contains an alias to itself) can NOT be converted (JSON has no aliases), and is reported as an Exception.</p>
+     *  @param _verbose Whether you want deluge of debug-output onto System.out.
+     *  @param _node an instance of org.yaml.snakeyaml.nodes.Node
+     *  @param _done NotNull.  The anchored Nodes within _node converted so far, and what each was converted into (see org.ASUX.common.Output.Object.getJavaObject())
+     *  @return instance of {@link org.ASUX.common.Output.Object} which will contain the appropriate object.
+     *  @throws Exception if any invalid Node object hierarchy, or if unimplemented scenarios.
+     */
+    private static org.ASUX.common.Output.Object<?> Node2Map( final boolean _verbose, final Node _node, final IdentityHashMap<Node,Object> _done ) throws Exception
     {
         final String HDR = CLASSNAME +" Node2Map(): ";
         org.ASUX.common.Output.Object<?> outputObj;
@@ -868,6 +1034,8 @@ public class NodeTools extends org.ASUX.yaml.YAMLImplementation<Node>
         // public enum org.yaml.snakeyaml.nodes.NodeId = scalar, sequence, mapping, anchor
         final NodeId nid = _node.getNodeId(); // https://bitbucket.org/asomov/snakeyaml/src/default/src/main/java/org/yaml/snakeyaml/nodes/NodeId.java
         if ( _verbose ) System.out.println( HDR +"@top, node-id = ["+ nid + "]" );
+        final boolean bAnchored = AliasTracker.isAnchored( _node );
+        if ( bAnchored ) _done.put( _node, NODE2MAP_IN_PROGRESS );
 
         if ( _node instanceof MappingNode ) {
             // https://yaml.org/spec/1.2/spec.html#id2762107
@@ -898,13 +1066,13 @@ public class NodeTools extends org.ASUX.yaml.YAMLImplementation<Node>
 
                 } else {
                     if ( _verbose ) System.out.println( HDR +"recursing.. ..= ["+ val.getNodeId() + "]" );
-                    final org.ASUX.common.Output.Object<?> asuxobj = Node2Map( _verbose, val ); // recursion
-                    lhm.put( kstr, asuxobj.getJavaObject() );
+                    lhm.put( kstr, Node2MapAlias( _verbose, val, _done ) ); // recursion
                 }
             } // for
             if ( _verbose ) System.out.println( HDR +"function-returning a LinkedHashMap = ["+ lhm + "]" );
             outputObj = new org.ASUX.common.Output.Object<String>();
             outputObj.setMap( lhm );
+            if ( bAnchored ) _done.put( _node, lhm );
             return outputObj;
 
         } else if ( _node instanceof SequenceNode ) {
@@ -927,8 +1095,7 @@ public class NodeTools extends org.ASUX.yaml.YAMLImplementation<Node>
                     if ( _verbose ) System.out.println( HDR +">>>>>>>>>>> ADDED SCALAR into Array = ["+ scalarVal.getValue() + "]" );
                 } else {
                     if ( _verbose ) System.out.println( HDR +"recursing.. ..= ["+ val.getNodeId() + "]" );
-                    final org.ASUX.common.Output.Object<?> asuxobj = Node2Map( _verbose, val );  // recursion
-                    arrObj.add( asuxobj.getJavaObject() );
+                    arrObj.add( Node2MapAlias( _verbose, val, _done ) );  // recursion
                     bNonScalarsDetected = true;
                 }
             } // for
@@ -942,6 +1109,7 @@ public class NodeTools extends org.ASUX.yaml.YAMLImplementation<Node>
                 outputObj = o3;
             }
             if ( _verbose ) System.out.println( HDR +"function-returning something = ["+ outputObj + "]" );
+            if ( bAnchored ) _done.put( _node, bNonScalarsDetected ? arrObj : arrStr );
             return outputObj;
 
         } else if ( _node instanceof ScalarNode ) {
@@ -964,6 +1132,44 @@ public class NodeTools extends org.ASUX.yaml.YAMLImplementation<Node>
         } // if-else-if-else
     } // function
 
+    /** @return same as <code>Node2Map( _verbose, _node, _done ).getJavaObject()</code> - except that a YAML-alias (to a Node converted before) is NOT converted again
+     *  @throws Exception if _node is a recursive YAML-alias.  Otherwise, See {@link #Node2Map(boolean, Node, IdentityHashMap)}
+     */
+    private static Object Node2MapAlias( final boolean _verbose, final Node _node, final IdentityHashMap<Node,Object> _done ) throws Exception
+    {
+        final Object alreadyDone = _done.get( _node );
+        if ( alreadyDone == null )
+            return Node2Map( _verbose, _node, _done ).getJavaObject();
+        if ( alreadyDone == NODE2MAP_IN_PROGRESS )
+            throw new Exception( CLASSNAME +" Node2Map(): recursive YAML-alias *"+ _node.getAnchor() +" (it contains an alias to itself) can NOT be converted into JSON/java.util.Map." );
+        if ( _verbose ) System.out.println( CLASSNAME +" Node2Map(): YAML-alias *"+ _node.getAnchor() +" was already converted.  Copying it." );
+        return Node2MapCopy( alreadyDone );
+    }
+
+    /** <p>Copying the already-converted LinkedHashMap/ArrayList is far cheaper than converting the aliased Node all over again (no tag-checks, no String-concatenation); and there can NOT be any cycles, as recursive aliases are rejected above.</p>
+     *  @param _obj a LinkedHashMap, ArrayList or String - as put into <code>_done</code> by {@link #Node2Map(boolean, Node, IdentityHashMap)}
+     *  @return a deep copy of _obj (Strings are immutable, and are NOT copied)
+     */
+    @SuppressWarnings("unchecked")
+    private static Object Node2MapCopy( final Object _obj )
+    {
+        if ( _obj instanceof LinkedHashMap ) {
+            final LinkedHashMap<String,Object> src = (LinkedHashMap<String,Object>) _obj;
+            final LinkedHashMap<String,Object> lhm = new LinkedHashMap<>( (int) (src.size() / 0.75f) + 1 );
+            for( java.util.Map.Entry<String,Object> e: src.entrySet() )
+                lhm.put( e.getKey(), Node2MapCopy( e.getValue() ) );
+            return lhm;
+        } else if ( _obj instanceof ArrayList ) {
+            final ArrayList<Object> src = (ArrayList<Object>) _obj;
+            final ArrayList<Object> arr = new ArrayList<>( src.size() );
+            for( Object o: src )
+                arr.add( Node2MapCopy( o ) );
+            return arr;
+        } else {
+            return _obj;
+        }
+    }
+
     //==============================================================================
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
     //==============================================================================
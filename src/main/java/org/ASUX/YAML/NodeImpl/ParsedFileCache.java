@@ -0,0 +1,193 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.ASUX.YAML.NodeImpl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.yaml.snakeyaml.nodes.Node;
+
+/** <p>A bounded LRU cache of what {@link InputsOutputs#getDataFromReference} parsed out of '@file.yaml', '@file.json' and '@file.properties' references.  Batch-files tend to reference the same (shared) files over and over again - for example, within a FOREACH loop.</p>
+ *  <p>An entry is keyed by the canonical path of the file, PLUS its size and last-modified time.  So, a file that was altered (for example: by a 'saveTo' earlier within the same Batch-file) is parsed afresh.</p>
+ *  <p>What's handed out can NOT corrupt the cache: Nodes are handed out via {@link CopyOnWrite#share(Node)} (so, any command that alters them, alters a private copy instead), and java.util.Properties are cloned.</p>
+ *  <p>Thread-safe.  Static methods only (as InputsOutputs is).</p>
+ */
+public final class ParsedFileCache {
+
+    public static final String CLASSNAME = ParsedFileCache.class.getName();
+
+    /** <p>Set this java System-property to the max # of parsed files to cache (as in: <code>-Dorg.ASUX.YAML.NodeImpl.parsedFileCacheSize=256</code>).  0 disables the cache.  See {@link #setMaxEntries(int)}</p> */
+    public static final String MAX_ENTRIES_PROPERTY = "org.ASUX.YAML.NodeImpl.parsedFileCacheSize";
+
+    public static final int DEFAULT_MAX_ENTRIES = 64;
+
+    private static int maxEntries = Integer.getInteger( MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES );
+
+    private static final LinkedHashMap<String,Object> LRU = new LinkedHashMap<String,Object>( 16, 0.75f, true ) { // access-order
+        private static final long serialVersionUID = 1L;
+        @Override
+        protected boolean removeEldestEntry( final Map.Entry<String,Object> _eldest ) {
+            return this.size() > maxEntries;
+        }
+    };
+
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    private ParsedFileCache() {} // static methods only
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** @param _max the max # of parsed files to cache.  0 disables the cache (and, empties it).  By default, {@value #DEFAULT_MAX_ENTRIES} - unless the java System-property {@value #MAX_ENTRIES_PROPERTY} says otherwise. */
+    public static void setMaxEntries( final int _max ) {
+        synchronized( LRU ) {
+            maxEntries = Math.max( 0, _max );
+            if ( maxEntries == 0 ) {
+                LRU.clear();
+            } else {
+                final java.util.Iterator<String> it = LRU.keySet().iterator(); // eldest first
+                while ( LRU.size() > maxEntries ) { it.next(); it.remove(); }
+            }
+        }
+    }
+
+    /** @return See {@link #setMaxEntries(int)} */
+    public static int getMaxEntries() { return maxEntries; }
+
+    /**
+     * @param _file the file that is about to be parsed
+     * @param _variant anything else (besides the file's contents) that the parsed result depends on - for example: "yaml" or the default scalar-style for JSON files
+     * @return null if _file is NOT a regular file (for example: /dev/null or a named pipe) or does NOT exist, or if the cache is disabled.  Otherwise, the key to use with {@link #get(String)} and {@link #put(String, Object)}
+     */
+    public static String keyFor( final java.io.File _file, final String _variant ) {
+        if ( maxEntries <= 0 ) return null;
+        try {
+            final java.nio.file.Path path = _file.toPath().toRealPath();
+            final java.nio.file.attribute.BasicFileAttributes attrs = java.nio.file.Files.readAttributes( path, java.nio.file.attribute.BasicFileAttributes.class );
+            if (  !  attrs.isRegularFile() ) return null;
+            return path +"\0"+ attrs.size() +"\0"+ attrs.lastModifiedTime().to( TimeUnit.NANOSECONDS ) +"\0"+ _variant;
+        } catch ( java.io.IOException | SecurityException e ) {
+            return null; // let the caller run into the same trouble, while opening _file
+        }
+    }
+
+    /**
+     * @param _key NotNull - what {@link #keyFor} returned
+     * @return null if NOT cached.  Otherwise, what the caller can freely use (See {@link ParsedFileCache})
+     */
+    public static Object get( final String _key ) {
+        final Object cached;
+        synchronized( LRU ) {
+            cached = LRU.get( _key );
+        }
+        if ( cached == null ) {
+            MISSES.incrementAndGet();
+            return null;
+        }
+        HITS.incrementAndGet();
+        return handout( cached );
+    }
+
+    /**
+     * @param _key can be null (that is, what {@link #keyFor} returned for a file that can NOT be cached)
+     * @param _parsed the result of parsing the file.  If null, nothing is cached.
+     * @return what the caller can freely use, in lieu of _parsed (See {@link ParsedFileCache})
+     */
+    public static Object put( final String _key, final Object _parsed ) {
+        if ( _key == null || _parsed == null ) return _parsed;
+        if (  !  ( _parsed instanceof Node || _parsed instanceof Properties ) ) return _parsed; // Don't know how to protect it.  So, NOT cached.
+        synchronized( LRU ) {
+            if ( maxEntries > 0 )
+                LRU.put( _key, _parsed );
+        }
+        return handout( _parsed );
+    }
+
+    /** <p>Forgets whatever was cached for _file (regardless of its size and last-modified time).  For use whenever _file is written to - as the last-modified time is NOT always fine-grained enough to detect a quick re-write.</p>
+     *  @param _file NotNull
+     */
+    public static void invalidate( final java.io.File _file ) {
+        final String prefix;
+        try {
+            prefix = _file.toPath().toRealPath() +"\0";
+        } catch ( java.io.IOException | SecurityException e ) {
+            return; // can NOT be in the cache
+        }
+        synchronized( LRU ) {
+            LRU.keySet().removeIf( k -> k.startsWith( prefix ) );
+        }
+    }
+
+    private static Object handout( final Object _cached ) {
+        if ( _cached instanceof Node )
+            return CopyOnWrite.share( (Node) _cached );
+        return ( (Properties) _cached ).clone();
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** @return # of {@link #get(String)} invocations that found a cached entry */
+    public static long getHits() { return HITS.get(); }
+
+    /** @return # of {@link #get(String)} invocations that did NOT */
+    public static long getMisses() { return MISSES.get(); }
+
+    /** @return # of files cached currently */
+    public static int size() {
+        synchronized( LRU ) {
+            return LRU.size();
+        }
+    }
+
+    /** Empties the cache, and resets the hit/miss counters */
+    public static void clear() {
+        synchronized( LRU ) {
+            LRU.clear();
+        }
+        HITS.set( 0 );
+        MISSES.set( 0 );
+    }
+
+    /** @return a one-line summary of the hits/misses so far */
+    public static String getStats() {
+        return "parsed-file cache: hits="+ getHits() +" misses="+ getMisses() +" cached="+ size() +"/"+ maxEntries;
+    }
+
+}
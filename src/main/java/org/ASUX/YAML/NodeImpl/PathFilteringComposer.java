@@ -0,0 +1,188 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.ASUX.YAML.NodeImpl;
+
+import org.yaml.snakeyaml.composer.Composer;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.resolver.Resolver;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+
+/** <p>A SnakeYAML Composer that composes ONLY the slice of the input, that a YAML-Path can possibly match.</p>
+ *  <p>Each YAML-Path-element (before the first '**') corresponds to exactly one level of nesting.  So, at the MappingNode N levels deep, any key that does NOT match the N'th YAML-Path-element can NOT lead to a match.  Such a tuple is dropped: the parser-events of its value are consumed (so, the syntax is still fully validated) - but NO Nodes are created for them.  Beyond those levels, everything is composed as usual.</p>
+ *  <p>SequenceNodes are never filtered (so that the indices of the items do NOT change).  Anchored Nodes (<code>&amp;anchor</code>) - even within a dropped tuple - are always composed in full, as aliases anywhere else may refer to them.</p>
+ *  <p>Scalars are interned (just like {@link InterningComposer} does) - if an {@link InterningComposer.Pool} is passed to the constructor.</p>
+ *  <p>The resulting Node-tree is fine for READ, LIST and TABLE commands (for the very same YAML-Path).  It is NOT for commands that output the entire YAML (like INSERT, REPLACE and DELETE).  See {@link GenericYAMLScanner#load(java.io.Reader, CompiledYAMLPath, int)}</p>
+ */
+public final class PathFilteringComposer extends Composer {
+
+    public static final String CLASSNAME = PathFilteringComposer.class.getName();
+
+    private final CompiledYAMLPath filter;
+    private final int filterDepth;
+    private final InterningComposer.Pool internPool; // null = do NOT intern scalars
+
+    private int depth = 0;      // # of MappingNodes/SequenceNodes being composed (that is, the current level of nesting)
+    private int unfiltered = 0; // > 0, while composing an anchored Node (or its contents)
+    private long dropped = 0;
+    private boolean inKey = false;
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** @param _parser See org.yaml.snakeyaml.composer.Composer
+     *  @param _resolver See org.yaml.snakeyaml.composer.Composer
+     *  @param _filter NotNull compiled YAML-Path
+     *  @param _filterDepth how many of the leading YAML-Path-elements of _filter to use (at most).  The elements from the first '**' onwards are never used.
+     */
+    public PathFilteringComposer( final Parser _parser, final Resolver _resolver, final CompiledYAMLPath _filter, final int _filterDepth ) {
+        this( _parser, _resolver, _filter, _filterDepth, null );
+    }
+
+    /** @param _parser See org.yaml.snakeyaml.composer.Composer
+     *  @param _resolver See org.yaml.snakeyaml.composer.Composer
+     *  @param _filter NotNull compiled YAML-Path
+     *  @param _filterDepth See {@link #PathFilteringComposer(Parser, Resolver, CompiledYAMLPath, int)}
+     *  @param _internPool can be null (scalars are NOT interned then).  Otherwise, the dedup-table to intern the composed scalars into.  See {@link InterningComposer}
+     */
+    PathFilteringComposer( final Parser _parser, final Resolver _resolver, final CompiledYAMLPath _filter, final int _filterDepth, final InterningComposer.Pool _internPool ) {
+        super( _parser, _resolver );
+        this.filter = _filter;
+        this.internPool = _internPool;
+        int d = 0;
+        while ( d < _filterDepth && d < _filter.length() && ! _filter.get( d ).isGreedyWildcard() )
+            d ++;
+        this.filterDepth = d;
+    }
+
+    //==============================================================================
+
+    @Override
+    protected Node composeSequenceNode( final String _anchor ) {
+        this.enter( _anchor );
+        try {
+            return super.composeSequenceNode( _anchor );
+        } finally {
+            this.exit( _anchor );
+        }
+    }
+
+    @Override
+    protected Node composeMappingNode( final String _anchor ) {
+        this.enter( _anchor );
+        try {
+            return super.composeMappingNode( _anchor );
+        } finally {
+            this.exit( _anchor );
+        }
+    }
+
+    @Override
+    protected Node composeKeyNode( final MappingNode _node ) {
+        this.inKey = true;
+        try {
+            return super.composeKeyNode( _node );
+        } finally {
+            this.inKey = false;
+        }
+    }
+
+    @Override
+    protected Node composeScalarNode( final String _anchor ) {
+        final Node n = super.composeScalarNode( _anchor );
+        return ( this.internPool == null ) ? n : this.internPool.intern( n, _anchor, this.inKey );
+    }
+
+    private void enter( final String _anchor ) {
+        this.depth ++;
+        if ( _anchor != null ) this.unfiltered ++;
+    }
+
+    private void exit( final String _anchor ) {
+        this.depth --;
+        if ( _anchor != null ) this.unfiltered --;
+    }
+
+    /** Same as org.yaml.snakeyaml.composer.Composer's - except that the tuple is dropped, if its key can NOT lead to a match */
+    @Override
+    protected void composeMappingChildren( final java.util.List<NodeTuple> _children, final MappingNode _node ) {
+        final int level = this.depth - 1; // the level of _node
+        if ( this.unfiltered > 0 || level >= this.filterDepth ) {
+            super.composeMappingChildren( _children, _node );
+            return;
+        }
+        final Node keyNode = this.composeKeyNode( _node );
+        if ( keyNode.getTag().equals( Tag.MERGE ) )
+            _node.setMerged( true );
+        if ( keyNode instanceof ScalarNode && ! this.filter.get( level ).matches( ( (ScalarNode) keyNode ).getValue() ) ) {
+            this.dropped ++;
+            this.skipValue( _node );
+        } else {
+            _children.add( new NodeTuple( keyNode, this.composeValueNode( _node ) ) );
+        }
+    }
+
+    /** <p>Consumes ALL the events of the next Node (the entire subtree), WITHOUT composing it.  Except: anchored Nodes and aliases within it are composed - so that the anchors are known (for aliases elsewhere), and undefined aliases are complained about.</p>
+     *  @param _parentNode the MappingNode, whose tuple is being dropped
+     */
+    private void skipValue( final MappingNode _parentNode ) {
+        int d = 0;
+        do {
+            final Event e = this.parser.peekEvent();
+            if ( e instanceof NodeEvent && ( (NodeEvent) e ).getAnchor() != null ) { // an anchored Node, or an alias
+                this.composeValueNode( _parentNode );
+            } else {
+                this.parser.getEvent();
+                if ( e.is( Event.ID.MappingStart ) || e.is( Event.ID.SequenceStart ) )
+                    d ++;
+                else if ( e.is( Event.ID.MappingEnd ) || e.is( Event.ID.SequenceEnd ) )
+                    d --;
+            }
+        } while ( d > 0 );
+    }
+
+    //==============================================================================
+
+    /** @return the # of tuples (of MappingNodes) that were NOT composed */
+    public long getDroppedCount() { return this.dropped; }
+
+    /** @return the dedup-table passed to the constructor (can be null) */
+    InterningComposer.Pool getInternPool() { return this.internPool; }
+
+}
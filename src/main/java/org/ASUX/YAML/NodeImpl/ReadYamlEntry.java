@@ -34,11 +34,12 @@ package org.ASUX.YAML.NodeImpl;
 
 import org.ASUX.yaml.YAMLPath;
 
-import java.util.LinkedList;
 
 // https://yaml.org/spec/1.2/spec.html#id2762107
+import org.yaml.snakeyaml.nodes.MappingNode;
 import org.yaml.snakeyaml.nodes.Node;
 import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.NodeTuple;
 import org.yaml.snakeyaml.nodes.SequenceNode;
 import org.yaml.snakeyaml.nodes.Tag;
 import org.yaml.snakeyaml.DumperOptions; // https://bitbucket.org/asomov/snakeyaml/src/default/src/main/java/org/yaml/snakeyaml/DumperOptions.java
@@ -60,6 +61,7 @@ public class ReadYamlEntry extends AbstractYamlEntryProcessor {
     protected org.ASUX.yaml.CmdLineArgsReadCmd cmdLineArgs;
     private int count;
     private SequenceNode output;
+    private java.util.IdentityHashMap<Node,Boolean> nodesInOutput; // every Node reachable from this.output.  See addToOutput()
 
      // *  @param _verbose Whether you want deluge of debug-output onto System.out
      // *  @param _showStats Whether you want a final summary onto console / System.out
@@ -81,7 +83,54 @@ public class ReadYamlEntry extends AbstractYamlEntryProcessor {
     @Override
     public void reset() {
         this.count = 0;
-        this.output = new SequenceNode( Tag.SEQ, false, new java.util.LinkedList<>(),  null, null, this.dumperoptions.getDefaultFlowStyle() ); // DumperOptions.FlowStyle.BLOCK
+        this.output = new SequenceNode( Tag.SEQ, false, new java.util.ArrayList<>(),  null, null, this.dumperoptions.getDefaultFlowStyle() ); // DumperOptions.FlowStyle.BLOCK
+        this.nodesInOutput = new java.util.IdentityHashMap<>();
+    }
+
+    /** <p>Adds _node to the output - shared with the input (NOT deep-cloned).  See {@link CopyOnWrite}.</p>
+     *  <p>But, if _node (or any Node within it) is already part of the output - as in: the same Node matched twice, via YAML-aliases - a deep-clone is added instead.  Otherwise, the YAML-writer would output the 2nd occurrence as an alias (like <code>*id001</code>) of the 1st, instead of expanding it (as it always did).</p>
+     *  @param _node NotNull
+     *  @throws Exception See {@link NodeTools#deepClone(Node)}
+     */
+    private void addToOutput( final Node _node ) throws Exception {
+        final java.util.IdentityHashMap<Node,Boolean> visited = new java.util.IdentityHashMap<>(); // YAML-aliases can make it a DAG (or even cyclic)
+        final java.util.ArrayDeque<Node> stack = new java.util.ArrayDeque<>();
+        stack.push( _node );
+        while ( ! stack.isEmpty() ) {
+            final Node n = stack.pop();
+            if ( visited.put( n, Boolean.TRUE ) != null ) continue;
+            if ( this.nodesInOutput.containsKey( n ) ) {
+                this.output.getValue().add( NodeTools.deepClone( _node ) ); // a brand-new copy.  So, NOTHING within it can be part of the output already.
+                return;
+            }
+            if ( n instanceof MappingNode ) {
+                for ( NodeTuple kv: ((MappingNode) n).getValue() ) {
+                    stack.push( kv.getKeyNode() );
+                    stack.push( kv.getValueNode() );
+                }
+            } else if ( n instanceof SequenceNode ) {
+                for ( Node item: ((SequenceNode) n).getValue() )
+                    stack.push( item );
+            }
+        }
+        this.nodesInOutput.putAll( visited );
+        this.output.getValue().add( CopyOnWrite.share( _node ) ); // could be a string or a complex-Node
+    }
+
+    /** The "read YAML-entry command" does NOT alter the YAML, and it's callbacks always return true.  So, it's safe to traverse in parallel.
+     *  See details in @see org.ASUX.YAML.NodeImpl.AbstractYamlEntryProcessor#setParallelTraversal()
+     */
+    @Override
+    protected boolean supportsParallelTraversal() {
+        return true;
+    }
+
+    /** The "read YAML-entry command" ignores onPartialMatch() and onMatchFail().  So, large MappingNodes can be searched via hash-lookups, and a YAML-subtree that is reachable via many YAML-aliases is searched just once.
+     *  See details in {@link org.ASUX.YAML.NodeImpl.AbstractYamlEntryProcessor#getCallbackSubscriptions()}
+     */
+    @Override
+    protected int getCallbackSubscriptions() {
+        return CALLBACKS_NONE;
     }
 
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
@@ -90,7 +139,7 @@ public class ReadYamlEntry extends AbstractYamlEntryProcessor {
     /** This function will be called when a partial match of a YAML path-expression happens.
      * See details and warnings in @see org.ASUX.yaml.AbstractYamlEntryProcessor#onPartialMatch()
      */
-    protected boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final java.util.LinkedList<String> _end2EndPaths )
+    protected boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final Breadcrumbs _end2EndPaths )
     {
         // Do Nothing for "read YAML-entry command"
         return true;
@@ -100,7 +149,7 @@ public class ReadYamlEntry extends AbstractYamlEntryProcessor {
     /** This function will be called when a full/end2end match of a YAML path-expression happens.
      * See details and warnings in @see org.ASUX.yaml.AbstractYamlEntryProcessor#onEnd2EndMatch()
      */
-    protected boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final LinkedList<String> _end2EndPaths ) throws Exception
+    protected boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final Breadcrumbs _end2EndPaths ) throws Exception
     {   final String HDR = CLASSNAME +": onEnd2EndMatch(): ";
 
         this.count ++; // keep count of # of matches
@@ -112,7 +161,7 @@ public class ReadYamlEntry extends AbstractYamlEntryProcessor {
         }
 
         if ( this.cmdLineArgs.projectionPath == null ) {
-            this.output.getValue().add( NodeTools.deepClone( _valNode ) ); // could be a string or a complex-Node;
+            this.addToOutput( _valNode ); // could be a string or a complex-Node;  Shared with the input (NOT deep-cloned).  See CopyOnWrite
             return true; // <<--------------- !!
         }
 
@@ -122,7 +171,7 @@ public class ReadYamlEntry extends AbstractYamlEntryProcessor {
 
         if ( yp.yamlElemArr.length == 1 && "..".equals( yp.yamlElemArr[0] ) ) {
             // very simple this.cmdLineArgs.projectionPath.  Get the parent node!
-            this.output.getValue().add( _parentNode );
+            this.addToOutput( _parentNode );
             return true; // <<--------------- !!
         }
 
@@ -139,7 +188,7 @@ public class ReadYamlEntry extends AbstractYamlEntryProcessor {
 
         } else {
             // the complex this.cmdLineArgs.projectionPath does _NOT_ begin with '..'
-            readYE.recursiveSearch( _valNode, yp, null, new LinkedList<>());
+            readYE.recursiveSearch( _valNode, yp, null, Breadcrumbs.EMPTY);
         }
 
         final Node n1 = readYE.getOutput();
@@ -157,12 +206,11 @@ public class ReadYamlEntry extends AbstractYamlEntryProcessor {
                 throw new org.ASUX.yaml.InvalidCmdLineArgumentException( errMsg + "].\n\tAt that location canNOT find anything at '" + this.cmdLineArgs.projectionPath + "' provided via the --projection cmd-line argument." );
             } else {
                 for ( Node n : seqN1.getValue() ) {
-                    final Node newN = NodeTools.deepClone( n );
-                    this.output.getValue().add( newN );
+                    this.addToOutput( n );
                 } // for-loop
             } // if-else (above 11 lines)
         } else {
-            this.output.getValue().add( n1 );
+            this.addToOutput( n1 );
         }
 
         return true;
@@ -172,11 +220,30 @@ public class ReadYamlEntry extends AbstractYamlEntryProcessor {
     /** This function will be called whenever the YAML path-expression fails to match.
      * See details and warnings in @see org.ASUX.yaml.AbstractYamlEntryProcessor#onMatchFail()
      */
-    protected void onMatchFail( final YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final LinkedList<String> _end2EndPaths )
+    protected void onMatchFail( final YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final Breadcrumbs _end2EndPaths )
     {
             // Do Nothing for "read YAML-entry command"
     }
 
+    //-------------------------------------
+    // The original (java.util.LinkedList) signatures of the callbacks above - which every sub-class of AbstractYamlEntryProcessor must implement.
+    // They are NOT invoked by AbstractYamlEntryProcessor (as the Breadcrumbs-variants above are overridden).  They're here for any code that still invokes them directly.
+
+    /** See {@link AbstractYamlEntryProcessor#onPartialMatch(Node, org.ASUX.yaml.YAMLPath, String, Node, java.util.LinkedList)} */
+    protected boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final java.util.LinkedList<String> _end2EndPaths ) throws Exception {
+        return this.onPartialMatch( _node, _yamlPath, _keyStr, _parentNode, toBreadcrumbs( _end2EndPaths ) );
+    }
+
+    /** See {@link AbstractYamlEntryProcessor#onEnd2EndMatch(org.ASUX.yaml.YAMLPath, Object, Node, Node, Node, java.util.LinkedList)} */
+    protected boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final java.util.LinkedList<String> _end2EndPaths ) throws Exception {
+        return this.onEnd2EndMatch( _yamlPath, _key, _keyNode, _valNode, _parentNode, toBreadcrumbs( _end2EndPaths ) );
+    }
+
+    /** See {@link AbstractYamlEntryProcessor#onMatchFail(org.ASUX.yaml.YAMLPath, Node, Node, Object, java.util.LinkedList)} */
+    protected void onMatchFail( final YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final java.util.LinkedList<String> _end2EndPaths ) throws Exception {
+        this.onMatchFail( _yamlPath, _parentNode, _nodeNoMatch, _key, toBreadcrumbs( _end2EndPaths ) );
+    }
+
     //-------------------------------------
     /** This function will be called when processing has ended.
      * After this function returns, the AbstractYamlEntryProcessor class is done!
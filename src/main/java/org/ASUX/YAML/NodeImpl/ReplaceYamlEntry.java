@@ -34,7 +34,6 @@ package org.ASUX.YAML.NodeImpl;
 
 import org.ASUX.yaml.YAMLPath;
 
-import java.util.LinkedList;
 
 // https://yaml.org/spec/1.2/spec.html#id2762107
 // import org.yaml.snakeyaml.nodes.NodeTuple;
@@ -91,7 +90,7 @@ public class ReplaceYamlEntry extends InsertYamlEntry {
     /** This function will be called when a partial match of a YAML path-expression happens.
      * See details and warnings in {@link org.ASUX.YAML.NodeImpl.AbstractYamlEntryProcessor#onPartialMatch}
      */
-    protected boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final LinkedList<String> _end2EndPaths )
+    protected boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final Breadcrumbs _end2EndPaths )
     {   // Do Nothing for "Replace YAML-entry command"
         return true;
     }
@@ -100,7 +99,7 @@ public class ReplaceYamlEntry extends InsertYamlEntry {
     /** This function will be called when a full/end2end match of a YAML path-expression happens.
      * See details and warnings in {@link org.ASUX.YAML.NodeImpl.AbstractYamlEntryProcessor#onEnd2EndMatch}
      */
-    protected boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final LinkedList<String> _end2EndPaths )
+    protected boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final Breadcrumbs _end2EndPaths )
     {   return super.onEnd2EndMatch(_yamlPath, _key, _keyNode, _valNode, _parentNode, _end2EndPaths);
     }
 
@@ -108,12 +107,20 @@ public class ReplaceYamlEntry extends InsertYamlEntry {
     /** This function will be called whenever the YAML path-expression fails to match.
      * See details and warnings in {@link org.ASUX.YAML.NodeImpl.AbstractYamlEntryProcessor#onMatchFail}
      */
-    protected void onMatchFail( final YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final LinkedList<String> _end2EndPaths )
+    protected void onMatchFail( final YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final Breadcrumbs _end2EndPaths )
     {   // OVERRIDE  !!!!!!!!!!!!!!!!!!! ATTENTION !!!!!!!!!!!!!!!!!!!!!!!
         // OVERRIDE what is default for InsertYamlEntry.java
         // OVERRIDE - to Do Nothing for "Replace YAML-entry command"
     }
 
+    /** The "replace YAML-entry command" ignores onPartialMatch() and onMatchFail().  So, large MappingNodes can be searched via hash-lookups.
+     *  See details in {@link org.ASUX.YAML.NodeImpl.AbstractYamlEntryProcessor#getCallbackSubscriptions()}
+     */
+    @Override
+    protected int getCallbackSubscriptions() {
+        return CALLBACKS_NONE;
+    }
+
     //==============================================================================
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
     //==============================================================================
@@ -128,6 +135,7 @@ public class ReplaceYamlEntry extends InsertYamlEntry {
     protected void atEndOfInput( final Node _topmostNode, final YAMLPath _yamlPath ) throws Exception
     {
         final String HDR = CLASSNAME + ": atEndOfInput(): ";
+        super.shareNewContent();
         //------------------------------------------------
         this.output = _topmostNode;
         // UNLIKE InsertCommand, we do NOT allow '/' as the YAML path - for a REPLACE command.
@@ -0,0 +1,169 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package org.ASUX.YAML.NodeImpl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import org.yaml.snakeyaml.nodes.Node;
+
+/** <p>Memoization of (Node, position within YAML-Path) for a single search - so that each such state is expanded (searched) at most ONCE per search.</p>
+ *  <p>Each Node is visited once per visit of its parent.  So, for a plain tree, no state is ever repeated - NOT even for '**'.  But YAML-aliases (like <code>*default</code>) make the same Node reachable from many places.  Nested aliases multiply that.  And a pattern like <code>**.description</code> has to search the aliased Node again &amp; again, at the very same position within the YAML-Path.</p>
+ *  <p>Given the same Node and YAML-Path position, the search (and every end2end match) is exactly the same - only the breadcrumbs differ.  So, the end2end matches of the 1st search are logged here, and for each repeat, they're replayed in the same order - after adjusting the breadcrumbs (see {@link Breadcrumbs#rebase(Breadcrumbs, Breadcrumbs)}).  The depth of the breadcrumbs is part of the key, as the traversal does check whether the breadcrumbs are empty.</p>
+ *  <p>Only anchored Nodes (those that YAML-aliases refer to) are memoized.  Only for sub-classes that do NOT need onPartialMatch() and onMatchFail() (as those are NOT replayed) - see {@link AbstractYamlEntryProcessor#getCallbackSubscriptions()}.</p>
+ *  <p>Not thread-safe.  Used ONLY by the single-threaded traversal.</p>
+ */
+final class SubtreeMemo {
+
+    public static final String CLASSNAME = SubtreeMemo.class.getName();
+
+    /** One logged end2end match: either onEnd2EndMatch() - or - onEnd2EndMatchNewIndex() if newIndex &gt;= 0 */
+    static final class Event {
+        final YAMLPathCursor cursor;
+        final Object key;
+        final Node keyNode;
+        final Node valNode;
+        final Node parentNode;
+        final int newIndex;
+        final Breadcrumbs end2EndPaths;
+
+        Event( final YAMLPathCursor _cursor, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final int _newIndex, final Breadcrumbs _end2EndPaths ) {
+            this.cursor = _cursor;
+            this.key = _key;
+            this.keyNode = _keyNode;
+            this.valNode = _valNode;
+            this.parentNode = _parentNode;
+            this.newIndex = _newIndex;
+            this.end2EndPaths = _end2EndPaths;
+        }
+    }
+
+    /** The outcome of searching a Node: events [from, to) of the log - and what that search returned */
+    static final class Entry {
+        final Breadcrumbs base;
+        final int from;
+        final int to;
+        final boolean aMatchFound;
+
+        private Entry( final Breadcrumbs _base, final int _from, final int _to, final boolean _aMatchFound ) {
+            this.base = _base;
+            this.from = _from;
+            this.to = _to;
+            this.aMatchFound = _aMatchFound;
+        }
+    }
+
+    /** org.yaml.snakeyaml.nodes.Node's equals() and hashCode() are final &amp; identity-based.  YAMLPathCursor's positions are shared instances (one per position).  So, both are compared by identity. */
+    private static final class Key {
+        final Node node;
+        final YAMLPathCursor cursor;
+        final int depth;
+
+        Key( final Node _node, final YAMLPathCursor _cursor, final int _depth ) {
+            this.node = _node;
+            this.cursor = _cursor;
+            this.depth = _depth;
+        }
+
+        @Override
+        public boolean equals( final Object _o ) {
+            if ( ! ( _o instanceof Key ) ) return false;
+            final Key other = (Key) _o;
+            return this.node == other.node && this.cursor == other.cursor && this.depth == other.depth;
+        }
+
+        @Override
+        public int hashCode() {
+            return ( System.identityHashCode( this.node ) * 31 + System.identityHashCode( this.cursor ) ) * 31 + this.depth;
+        }
+    }
+
+    /** ALL the end2end matches of this search, in the order the callbacks were invoked (including the replayed ones) */
+    private final ArrayList<Event> log = new ArrayList<>();
+
+    private final HashMap<Key, Entry> entries = new HashMap<>();
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** @param _node can be null
+     *  @return true if _node is worth memoizing: that is, an anchored MappingNode or SequenceNode (that YAML-aliases may refer to)
+     */
+    static boolean isMemoizable( final Node _node ) {
+        return _node != null && _node.getAnchor() != null && ! ( _node instanceof org.yaml.snakeyaml.nodes.ScalarNode );
+    }
+
+    void logEnd2EndMatch( final YAMLPathCursor _cursor, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final Breadcrumbs _end2EndPaths ) {
+        this.log.add( new Event( _cursor, _key, _keyNode, _valNode, _parentNode, -1, _end2EndPaths ) );
+    }
+
+    void logEnd2EndMatchNewIndex( final YAMLPathCursor _cursor, final int _newIndex, final Node _parentSeqNode, final Breadcrumbs _end2EndPaths ) {
+        this.log.add( new Event( _cursor, null, null, null, _parentSeqNode, _newIndex, _end2EndPaths ) );
+    }
+
+    /** @return # of end2end matches logged so far.  Use this as the _from parameter of {@link #put} */
+    int logSize() {
+        return this.log.size();
+    }
+
+    /** @param _ix index within the log
+     *  @return NotNull event */
+    Event event( final int _ix ) {
+        return this.log.get( _ix );
+    }
+
+    //==============================================================================
+
+    /** @param _node NotNull
+     *  @param _cursor NotNull
+     *  @param _breadcrumbs NotNull, the breadcrumbs when the search of _node began
+     *  @return null, if _node was NOT (fully) searched at this position, during this search
+     */
+    Entry get( final Node _node, final YAMLPathCursor _cursor, final Breadcrumbs _breadcrumbs ) {
+        return this.entries.get( new Key( _node, _cursor, _breadcrumbs.size() ) );
+    }
+
+    /** Remember the outcome of fully searching _node
+     *  @param _node NotNull
+     *  @param _cursor NotNull
+     *  @param _breadcrumbs NotNull, the breadcrumbs when the search of _node began
+     *  @param _from {@link #logSize()} when the search of _node began
+     *  @param _aMatchFound what the search of _node returned
+     */
+    void put( final Node _node, final YAMLPathCursor _cursor, final Breadcrumbs _breadcrumbs, final int _from, final boolean _aMatchFound ) {
+        this.entries.put( new Key( _node, _cursor, _breadcrumbs.size() ), new Entry( _breadcrumbs, _from, this.log.size(), _aMatchFound ) );
+    }
+
+}
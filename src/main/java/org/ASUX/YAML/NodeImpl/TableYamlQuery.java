@@ -136,10 +136,26 @@ public class TableYamlQuery extends AbstractYamlEntryProcessor {
     public void reset() {
         this.count = 0;
         this.outputAsStrings = new LinkedList<>();
-        this.output = new SequenceNode( Tag.SEQ, false, new LinkedList<>(),  null, null, this.dumperoptions.getDefaultFlowStyle() ); // DumperOptions.FlowStyle.BLOCK
+        this.output = new SequenceNode( Tag.SEQ, false, new ArrayList<>(),  null, null, this.dumperoptions.getDefaultFlowStyle() ); // DumperOptions.FlowStyle.BLOCK
         // this.tableColumns <-- can ONLY be changed via Constructor, as it's NOT publicly accesible instance-variable, and currently NO setter() exists.
     }
 
+    /** The "table YAML-entry command" does NOT alter the YAML, and it's callbacks always return true.  So, it's safe to traverse in parallel.
+     *  See details in @see org.ASUX.YAML.NodeImpl.AbstractYamlEntryProcessor#setParallelTraversal()
+     */
+    @Override
+    protected boolean supportsParallelTraversal() {
+        return true;
+    }
+
+    /** The "table YAML-query command" ignores onPartialMatch() and onMatchFail().  So, large MappingNodes can be searched via hash-lookups, and a YAML-subtree that is reachable via many YAML-aliases is searched just once.
+     *  See details in {@link org.ASUX.YAML.NodeImpl.AbstractYamlEntryProcessor#getCallbackSubscriptions()}
+     */
+    @Override
+    protected int getCallbackSubscriptions() {
+        return CALLBACKS_NONE;
+    }
+
     //=================================================================================
     //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
     //=================================================================================
@@ -147,7 +163,7 @@ public class TableYamlQuery extends AbstractYamlEntryProcessor {
     /** This function will be called when a partial match of a YAML path-expression happens.
      * See details and warnings in @see org.ASUX.yaml.AbstractYamlEntryProcessor#onPartialMatch()
      */
-    protected boolean onPartialMatch( final Node _node, final org.ASUX.yaml.YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final LinkedList<String> _end2EndPaths )
+    protected boolean onPartialMatch( final Node _node, final org.ASUX.yaml.YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final Breadcrumbs _end2EndPaths )
     {    
         // Do Nothing for "Table YAML-entry command"
         return true;
@@ -157,7 +173,7 @@ public class TableYamlQuery extends AbstractYamlEntryProcessor {
     /** This function will be called when a full/end2end match of a YAML path-expression happens.
      * See details and warnings in @see org.ASUX.yaml.AbstractYamlEntryProcessor#onEnd2EndMatch()
      */
-    protected boolean onEnd2EndMatch( final org.ASUX.yaml.YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final LinkedList<String> _end2EndPaths ) throws Exception
+    protected boolean onEnd2EndMatch( final org.ASUX.yaml.YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final Breadcrumbs _end2EndPaths ) throws Exception
     {
         final String HDR = CLASSNAME +": onEnd2EndMatch(): ";
         if ( this.verbose ) {
@@ -182,7 +198,7 @@ public class TableYamlQuery extends AbstractYamlEntryProcessor {
             public void go( final MappingNode _mapnode, final String[] _tableColumns, final String _errmsg ) throws Exception {
                 final String HDR2 = HDR +": PullTableElemsFromMap.go() ";
                 final ArrayList<String> tableRow = new ArrayList<>();
-                final java.util.List<Node> tableRowNodeObjs = new LinkedList<>();
+                final java.util.List<Node> tableRowNodeObjs = new ArrayList<>( _tableColumns.length );
                 final java.util.List<NodeTuple> tuples = _mapnode.getValue();
                 // !!!!!!!! ATTENTION !!!!!!! The outermost for-loop must be over _tableColumns.  That is the ONLY way we can throw an Exception stating: canNOT find column
                 // OUTER FOR LOOP:
@@ -246,7 +262,7 @@ public class TableYamlQuery extends AbstractYamlEntryProcessor {
 
                             // the YAML-path denoted by 'col' does _NOT_ begin with '..'
                             if ( verbose ) System.out.println( "_mapnode = "+ NodeTools.Node2YAMLString( _mapnode ) + "\n" );
-                            readYE.recursiveSearch( _mapnode,   yp,  null,  new LinkedList<>() );
+                            readYE.recursiveSearch( _mapnode,   yp,  null,  Breadcrumbs.EMPTY );
                             final Node n2 = readYE.getOutput();
                             if ( verbose ) System.out.println( "yp = '" + yp + "'\nn2 = " + NodeTools.Node2YAMLString( n2 ) + "\n" );
 
@@ -363,11 +379,30 @@ public class TableYamlQuery extends AbstractYamlEntryProcessor {
     /** This function will be called whenever the YAML path-expression fails to match.
      * See details and warnings in @see org.ASUX.yaml.AbstractYamlEntryProcessor#onMatchFail()
      */
-    protected void onMatchFail( final org.ASUX.yaml.YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final LinkedList<String> _end2EndPaths )
+    protected void onMatchFail( final org.ASUX.yaml.YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final Breadcrumbs _end2EndPaths )
     {    
             // Do Nothing for "Table YAML-entry command"
     }
 
+    //-------------------------------------
+    // The original (java.util.LinkedList) signatures of the callbacks above - which every sub-class of AbstractYamlEntryProcessor must implement.
+    // They are NOT invoked by AbstractYamlEntryProcessor (as the Breadcrumbs-variants above are overridden).  They're here for any code that still invokes them directly.
+
+    /** See {@link AbstractYamlEntryProcessor#onPartialMatch(Node, org.ASUX.yaml.YAMLPath, String, Node, java.util.LinkedList)} */
+    protected boolean onPartialMatch( final Node _node, final org.ASUX.yaml.YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final java.util.LinkedList<String> _end2EndPaths ) throws Exception {
+        return this.onPartialMatch( _node, _yamlPath, _keyStr, _parentNode, toBreadcrumbs( _end2EndPaths ) );
+    }
+
+    /** See {@link AbstractYamlEntryProcessor#onEnd2EndMatch(org.ASUX.yaml.YAMLPath, Object, Node, Node, Node, java.util.LinkedList)} */
+    protected boolean onEnd2EndMatch( final org.ASUX.yaml.YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final java.util.LinkedList<String> _end2EndPaths ) throws Exception {
+        return this.onEnd2EndMatch( _yamlPath, _key, _keyNode, _valNode, _parentNode, toBreadcrumbs( _end2EndPaths ) );
+    }
+
+    /** See {@link AbstractYamlEntryProcessor#onMatchFail(org.ASUX.yaml.YAMLPath, Node, Node, Object, java.util.LinkedList)} */
+    protected void onMatchFail( final org.ASUX.yaml.YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final java.util.LinkedList<String> _end2EndPaths ) throws Exception {
+        this.onMatchFail( _yamlPath, _parentNode, _nodeNoMatch, _key, toBreadcrumbs( _end2EndPaths ) );
+    }
+
     //-------------------------------------
     /** This function will be called when processing has ended.
      * After this function returns, the AbstractYamlEntryProcessor class is done!
@@ -0,0 +1,118 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package org.ASUX.YAML.NodeImpl;
+
+import java.util.function.Supplier;
+
+/** <p>A tiny tracing facade for the hot-paths of this library (the recursive traversals within {@link AbstractYamlEntryProcessor}, {@link NodeTools}, {@link BatchCmdProcessor} and {@link MacroYamlProcessor}).</p>
+ *  <p>The debug-output of those classes used to be assembled eagerly.  For example, <code>tuples.toString()</code> of every MappingNode (and substrings thereof) was computed even when --verbose was NOT provided on the command-line.</p>
+ *  <p>Instead, pass in a java.util.function.Supplier (typically a lambda).  The message-string is built ONLY if tracing is enabled.  When tracing is off, absolutely no strings are built.</p>
+ *  <p>Instances are immutable (and hence thread-safe).  Use {@link #get(boolean)} to avoid creating new instances.</p>
+ */
+public final class Tracer {
+
+    public static final String CLASSNAME = Tracer.class.getName();
+
+    /** The # of characters of large YAML-content that is shown, when tracing.  See {@link #abbreviate(Object)} */
+    public static final int ABBREVIATE_LENGTH = 360;
+
+    /** Shared instance, for when the user did NOT ask for --verbose */
+    public static final Tracer OFF = new Tracer( false );
+
+    /** Shared instance, for when the user asked for --verbose */
+    public static final Tracer ON = new Tracer( true );
+
+    /** <p>Whether this instance will output anything at all.</p><p>It's read-only (final data-attribute).</p>
+     */
+    public final boolean enabled;
+
+    private Tracer( final boolean _enabled ) {
+        this.enabled = _enabled;
+    }
+
+    /** @param _verbose Whether you want deluge of debug-output onto System.out
+     *  @return one of the 2 shared instances {@link #ON} and {@link #OFF}
+     */
+    public static Tracer get( final boolean _verbose ) {
+        return _verbose ? ON : OFF;
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** <p>Prints the message (to System.out) ONLY if tracing is enabled.  The Supplier is invoked ONLY if tracing is enabled.</p>
+     *  @param _msg a lambda (or any other java.util.function.Supplier) that builds the debug-message
+     */
+    public void println( final Supplier<String> _msg ) {
+        if ( this.enabled ) System.out.println( _msg.get() );
+    }
+
+    /** <p>Prints the message (to System.out) - prefixed by the header - ONLY if tracing is enabled.</p>
+     *  @param _hdr typically the 'HDR' constant (name of class and method) - that you'd otherwise concatenate with the message
+     *  @param _msg a lambda (or any other java.util.function.Supplier) that builds the debug-message
+     */
+    public void println( final String _hdr, final Supplier<String> _msg ) {
+        if ( this.enabled ) System.out.println( _hdr + _msg.get() );
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** <p>Convenience function to show just the first {@link #ABBREVIATE_LENGTH} characters of the toString() of large YAML-content.</p>
+     *  <p>Only invoke this from WITHIN the lambda passed to {@link #println(Supplier)} - as toString() of a SnakeYAML Node can be HUGE.</p>
+     *  @param _o can be null
+     *  @return a Not-Null string
+     */
+    public static String abbreviate( final Object _o ) {
+        final String s = String.valueOf( _o );
+        return s.length() > ABBREVIATE_LENGTH ? s.substring( 0, ABBREVIATE_LENGTH ) : s;
+    }
+
+    /** <p>Same as {@link NodeTools#Node2YAMLString(Node)}, but without the checked-exception - so that it can be invoked from WITHIN the lambda passed to {@link #println(Supplier)}.</p>
+     *  @param _node can be null
+     *  @return a Not-Null string (the exception-message, if conversion to YAML failed)
+     */
+    public static String toYAMLString( final org.yaml.snakeyaml.nodes.Node _node ) {
+        try {
+            return NodeTools.Node2YAMLString( _node );
+        } catch ( Exception e ) {
+            return "(Failed to convert to YAML: "+ e +")";
+        }
+    }
+
+    public String toString() { return CLASSNAME +"(enabled="+ this.enabled +")"; }
+
+}
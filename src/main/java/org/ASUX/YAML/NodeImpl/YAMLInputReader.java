@@ -0,0 +1,226 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.ASUX.YAML.NodeImpl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/** <p>The input of {@link Cmd#go(org.ASUX.yaml.CmdLineArgsCommon)}: a java.io.Reader that decodes the input as UTF-8 (explicitly - NOT the platform's default charset).</p>
+ *  <ul>
+ *  <li>A regular file of at least {@value #MMAP_THRESHOLD_PROPERTY} bytes (default: {@value #DEFAULT_MMAP_THRESHOLD}) is memory-mapped (via java.nio.channels.FileChannel), {@value #MAP_REGION_SIZE} bytes at a time.  The bytes are decoded straight out of the mapped region - no copying into (nor re-filling of) a heap byte-buffer.</li>
+ *  <li>Everything else (System.in, pipes, small files) is read thru a {@value #BUFFER_SIZE}-byte buffer.</li>
+ *  </ul>
+ *  <p>Either way, {@link #getBytesRead()} and {@link #getStats()} tell how fast the input was read (which includes the time taken to parse it, as the parser pulls the input).</p>
+ *  <p>Example: <code>nodetools.getYAMLScanner().load( YAMLInputReader.open( "/tmp/huge.yaml" ) )</code></p>
+ */
+public final class YAMLInputReader extends java.io.Reader {
+
+    public static final String CLASSNAME = YAMLInputReader.class.getName();
+
+    /** <p>Set this java System-property to the minimum size (in bytes) of a file, for it to be memory-mapped (as in: <code>-Dorg.ASUX.YAML.NodeImpl.mmapThreshold=1048576</code>).  Use a negative value to never memory-map.</p> */
+    public static final String MMAP_THRESHOLD_PROPERTY = "org.ASUX.YAML.NodeImpl.mmapThreshold";
+
+    public static final long DEFAULT_MMAP_THRESHOLD = 8L * 1024 * 1024;
+
+    /** How much of a file is mapped at a time (so that files larger than 2GB - the limit for a single java.nio.MappedByteBuffer - can be read too) */
+    public static final int MAP_REGION_SIZE = 256 * 1024 * 1024;
+
+    /** Size (in bytes) of the buffer used for streaming (non-mapped) input */
+    public static final int BUFFER_SIZE = 256 * 1024;
+
+    private final String source;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                                                .onMalformedInput( CodingErrorAction.REPLACE )      // same as what java.io.InputStreamReader does
+                                                .onUnmappableCharacter( CodingErrorAction.REPLACE );
+
+    // for memory-mapped input.  Otherwise, null
+    private final FileChannel channel;
+    private final long size;
+    private long regionStart = 0;
+
+    // for streaming input.  Otherwise, null
+    private final java.io.InputStream stream;
+
+    private ByteBuffer bytes; // memory-mapped region - or - the buffer that this.stream is read into
+    private final CharBuffer spill = CharBuffer.allocate( 2 ); // for when the caller asks for fewer chars than a surrogate-pair
+    private long bytesRead = 0; // for streaming input only
+    private boolean endOfInput = false;
+    private boolean flushed = false;
+
+    private final long startNanos = System.nanoTime();
+    private long endNanos = 0;
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    private YAMLInputReader( final String _source, final FileChannel _channel, final long _size, final java.io.InputStream _stream ) {
+        this.source = _source;
+        this.channel = _channel;
+        this.size = _size;
+        this.stream = _stream;
+        this.spill.limit( 0 );
+        if ( _stream != null ) {
+            this.bytes = ByteBuffer.allocate( BUFFER_SIZE );
+            this.bytes.limit( 0 );
+        }
+    }
+
+    /**
+     * @param _inputFilePath "-" for System.in.  Otherwise, a file (or a named pipe, or /dev/stdin ..)
+     * @return a NotNull instance - memory-mapped if _inputFilePath is a regular file of at least {@value #MMAP_THRESHOLD_PROPERTY} bytes
+     * @throws java.io.FileNotFoundException if _inputFilePath does NOT exist (or is NOT readable)
+     * @throws IOException if the file can NOT be opened
+     */
+    public static YAMLInputReader open( final String _inputFilePath ) throws IOException {
+        if ( "-".equals( _inputFilePath ) )
+            return new YAMLInputReader( "stdin", null, -1, System.in );
+
+        final Path path = Paths.get( _inputFilePath );
+        final long threshold = Long.getLong( MMAP_THRESHOLD_PROPERTY, DEFAULT_MMAP_THRESHOLD );
+        if ( threshold >= 0 && Files.isRegularFile( path ) && Files.size( path ) >= threshold ) {
+            final FileChannel ch = FileChannel.open( path, StandardOpenOption.READ );
+            return new YAMLInputReader( _inputFilePath, ch, ch.size(), null );
+        }
+        return new YAMLInputReader( _inputFilePath, null, -1, new java.io.FileInputStream( _inputFilePath ) ); // FileNotFoundException, same as before
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    @Override
+    public int read( final char[] _cbuf, final int _off, final int _len ) throws IOException {
+        if ( _len <= 0 ) return 0;
+        if ( this.spill.hasRemaining() ) {
+            _cbuf[ _off ] = this.spill.get();
+            return 1;
+        }
+        if ( _len < 2 ) { // a single char.  Decode into this.spill, in case the next char is a surrogate-pair
+            this.spill.clear();
+            final int n = this.decode( this.spill );
+            this.spill.flip();
+            if ( n <= 0 ) return n;
+            _cbuf[ _off ] = this.spill.get();
+            return 1;
+        }
+        return this.decode( CharBuffer.wrap( _cbuf, _off, _len ) );
+    }
+
+    /** @return # of chars decoded into _out (at least 1), or -1 at the end of input */
+    private int decode( final CharBuffer _out ) throws IOException {
+        final int before = _out.position();
+        while ( true ) {
+            if ( this.flushed ) { // the end of input was reached (and, everything handed out) already
+                if ( this.endNanos == 0 ) this.endNanos = System.nanoTime();
+                return -1;
+            }
+            if ( this.bytes == null || ( ! this.bytes.hasRemaining() && ! this.endOfInput ) )
+                this.fill();
+            final CoderResult cr = this.decoder.decode( this.bytes, _out, this.endOfInput );
+            if ( cr.isError() ) cr.throwException();
+            if ( this.endOfInput && cr.isUnderflow() ) {
+                if ( this.decoder.flush( _out ).isUnderflow() )
+                    this.flushed = true;
+            } else if ( cr.isUnderflow() ) { // whatever remains is an incomplete UTF-8 sequence
+                this.fill();
+            }
+            if ( _out.position() > before )
+                return _out.position() - before;
+        }
+    }
+
+    /** Makes more bytes available within this.bytes - keeping whatever was NOT yet decoded.  Sets this.endOfInput if there are NO more. */
+    private void fill() throws IOException {
+        if ( this.channel != null ) {
+            final long pos = ( this.bytes == null ) ? 0 : this.regionStart + this.bytes.position();
+            final long len = Math.min( MAP_REGION_SIZE, this.size - pos );
+            final MappedByteBuffer region = this.channel.map( FileChannel.MapMode.READ_ONLY, pos, len );
+            this.regionStart = pos;
+            this.bytes = region;
+            this.endOfInput = ( pos + len >= this.size );
+        } else {
+            this.bytes.compact();
+            final int n = this.stream.read( this.bytes.array(), this.bytes.position(), this.bytes.remaining() );
+            if ( n < 0 ) {
+                this.endOfInput = true;
+            } else {
+                this.bytes.position( this.bytes.position() + n );
+                this.bytesRead += n;
+            }
+            this.bytes.flip();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if ( this.endNanos == 0 ) this.endNanos = System.nanoTime();
+        if ( this.channel != null ) this.channel.close();
+        if ( this.stream != null && this.stream != System.in ) this.stream.close();
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** @return true if the input is memory-mapped (See {@value #MMAP_THRESHOLD_PROPERTY}) */
+    public boolean isMemoryMapped() { return this.channel != null; }
+
+    /** @return # of bytes read so far (for memory-mapped input: decoded so far) */
+    public long getBytesRead() {
+        if ( this.channel != null )
+            return ( this.bytes == null ) ? 0 : this.regionStart + this.bytes.position();
+        return this.bytesRead;
+    }
+
+    /** @return a one-line summary of how many bytes were read, and how fast (from when this was opened, until the end of the input was reached - or until now) */
+    public String getStats() {
+        final long nanos = Math.max( 1, ( ( this.endNanos != 0 ) ? this.endNanos : System.nanoTime() ) - this.startNanos );
+        final long numBytes = this.getBytesRead();
+        final double mbPerSec = ( numBytes / ( 1024.0 * 1024.0 ) ) / ( nanos / 1e9 );
+        return String.format( "input %s: bytes=%d in %d ms => %.1f MB/sec (%s)", this.source, numBytes, nanos / 1000000, mbPerSec,
+                                this.isMemoryMapped() ? "memory-mapped" : "buffered" );
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.ASUX.YAML.NodeImpl;
+
+import org.ASUX.yaml.YAMLPath;
+
+import java.util.ArrayList;
+
+/** <p>An IMMUTABLE "position" within a {@link CompiledYAMLPath}.  This is what {@link AbstractYamlEntryProcessor#recursiveSearch} passes down (and across) recursion-levels.</p>
+ *  <p>Previously, every matched key (and every item of every SequenceNode) resulted in a YAMLPath.deepClone() - just so that next() could be invoked on the copy without affecting the caller.</p>
+ *  <p>Instead, ALL the positions reachable from the starting YAML-Path (by repeatedly invoking next()) are computed ONCE per search.  Each position is one instance of this class, all sharing the same chain.  So, {@link #next()} is just an array-lookup and never allocates.</p>
+ *  <p>Compatibility: for each position, a read-only {@link YAMLPath} snapshot is also kept (see {@link #asYAMLPath()}).  That is what gets passed to the YAMLPath-based callbacks (like onPartialMatch() and onEnd2EndMatch()) of existing sub-classes.  As always, sub-classes must NOT alter it (deepclone it, if need be).</p>
+ *  @see org.ASUX.YAML.NodeImpl.CompiledYAMLPath
+ */
+public final class YAMLPathCursor {
+
+    public static final String CLASSNAME = YAMLPathCursor.class.getName();
+
+    /** the pre-compiled YAML-Path-elements, shared by ALL positions */
+    public final CompiledYAMLPath compiled;
+
+    /** same as YAMLPath.index() for this position */
+    public final int position;
+
+    /** same as YAMLPath.hasWildcardPrefix() for this position (that is, the preceding YAML-Path-element was '**') */
+    public final boolean wildcardPrefix;
+
+    /** same as YAMLPath.hasNext() for this position */
+    public final boolean hasNext;
+
+    /** same as YAMLPath.get() for this position.  Null, if the YAML-Path has ended */
+    public final String elem;
+
+    private final YAMLPath snapshot;
+    private final YAMLPathCursor[] chain;
+    private final int step;
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    private YAMLPathCursor( final CompiledYAMLPath _compiled, final YAMLPath _snapshot, final YAMLPathCursor[] _chain, final int _step ) {
+        this.compiled = _compiled;
+        this.snapshot = _snapshot;
+        this.chain = _chain;
+        this.step = _step;
+        this.position = _snapshot.index();
+        this.wildcardPrefix = _snapshot.hasWildcardPrefix();
+        this.hasNext = _snapshot.hasNext();
+        this.elem = this.hasNext ? _snapshot.get() : null;
+    }
+
+    /** <p>Builds the entire chain of positions, starting with the CURRENT position of _yamlPath.  The _yamlPath provided is NOT altered.</p>
+     *  <p>The YAMLPath class itself determines what next() means (including how '**' is handled).  This method simply records the outcome of each next() ONCE.</p>
+     *  @param _yamlPath NotNull, and must be valid (_yamlPath.isValid)
+     *  @param _compiled NotNull, and must have been compiled from _yamlPath (see {@link CompiledYAMLPath#isCompiledFrom(YAMLPath)})
+     *  @return a NotNull instance, representing the current position of _yamlPath
+     */
+    public static YAMLPathCursor start( final YAMLPath _yamlPath, final CompiledYAMLPath _compiled ) {
+        final ArrayList<YAMLPath> snapshots = new ArrayList<>( _compiled.length() + 1 );
+        YAMLPath yp = YAMLPath.deepClone( _yamlPath );
+        snapshots.add( yp );
+        // there can NOT be more positions than YAML-Path-elements (plus the "ended" position)
+        while ( yp.hasNext() && snapshots.size() <= _compiled.length() ) {
+            yp = YAMLPath.deepClone( yp );
+            yp.next();
+            snapshots.add( yp );
+        }
+
+        final YAMLPathCursor[] chain = new YAMLPathCursor[ snapshots.size() ];
+        for ( int ix = 0; ix < chain.length; ix ++ )
+            chain[ix] = new YAMLPathCursor( _compiled, snapshots.get(ix), chain, ix );
+        return chain[0];
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    /** <p>Equivalent of deepcloning a YAMLPath and invoking next() on the clone.  This object is NOT altered.</p>
+     *  @return the position right after this one.  If the YAML-Path has already ended ( ! hasNext ), returns this
+     */
+    public YAMLPathCursor next() {
+        return ( this.step + 1 < this.chain.length ) ? this.chain[ this.step + 1 ] : this;
+    }
+
+    /** @return the pre-compiled matcher for the YAML-Path-element at this position.  Null, if the YAML-Path has ended */
+    public CompiledYAMLPath.ElemMatcher matcher() {
+        return this.hasNext ? this.compiled.get( this.position ) : null;
+    }
+
+    /** <p>Compatibility adapter, for sub-classes that work with {@link YAMLPath}.  No allocation.</p>
+     *  <p>Do NOT alter the returned object.  It's shared by all recursion-levels.  If you need to alter it, then use YAMLPath.deepClone().</p>
+     *  @return a NotNull YAMLPath, whose index() and hasWildcardPrefix() match this position
+     */
+    public YAMLPath asYAMLPath() {
+        return this.snapshot;
+    }
+
+    /** <p>Whether this chain of positions begins at the current position of _yamlPath (useful for re-using a chain across multiple searches)</p>
+     *  @param _yamlPath can be null
+     *  @return true if this chain was started (see {@link #start(YAMLPath, CompiledYAMLPath)}) using an equivalent YAML-Path
+     */
+    public boolean isStartOf( final YAMLPath _yamlPath ) {
+        if ( _yamlPath == null ) return false;
+        final YAMLPathCursor first = this.chain[0];
+        return this.compiled.isCompiledFrom( _yamlPath ) && first.position == _yamlPath.index() && first.wildcardPrefix == _yamlPath.hasWildcardPrefix()
+                && first.snapshot.isValid == _yamlPath.isValid;
+    }
+
+    public String toString() { return this.snapshot.toString(); }
+
+}
@@ -0,0 +1,131 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package org.ASUX.YAML.NodeImpl;
+
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.DumperOptions;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/** <p>{@link AliasTracker}, as used by the single-threaded traversal (See {@link AbstractYamlEntryProcessor#setAliasExpansionBudget(int)}).</p>
+ *  <ul>
+ *  <li>Thousands of entries that are each an alias to the same Node (a flat re-use) must be processed fine - by the commands that can NOT replay from {@link SubtreeMemo} (Delete, Replace).</li>
+ *  <li>Aliases nested within aliases (whose cost doubles with each level) must fail with {@link AliasTracker.AliasBudgetExceededException}.</li>
+ *  <li>A recursive alias (a Node that contains an alias to itself) is searched just once - by both the iterative and the recursive traversals.</li>
+ *  </ul>
+ */
+public class AliasTrackerTest {
+
+    public static final String CLASSNAME = AliasTrackerTest.class.getName();
+
+    private static Node load( final String _yaml ) throws Exception {
+        final GenericYAMLScanner scanner = new GenericYAMLScanner( false );
+        scanner.setYAMLLibrary( org.ASUX.yaml.YAML_Libraries.SNAKEYAML_Library );
+        return scanner.load( new java.io.StringReader( _yaml ) );
+    }
+
+    /** defaults: &amp;d {x: 1, y: 2} -- followed by _count entries like 'eN: *d' */
+    private static String flat( final int _count ) {
+        final StringBuilder buf = new StringBuilder( "defaults: &d {x: 1, y: 2}\nitems:\n" );
+        for ( int ix = 0; ix < _count; ix ++ )
+            buf.append( "  e" ).append( ix ).append( ": *d\n" );
+        return buf.toString();
+    }
+
+    /** Each level is a map of 2 aliases to the previous level.  So, level _levels has 2^_levels paths to level 0 */
+    private static String nested( final int _levels ) {
+        final StringBuilder buf = new StringBuilder( "l0: &l0 {x: 1}\n" );
+        for ( int ix = 1; ix <= _levels; ix ++ )
+            buf.append( "l" ).append( ix ).append( ": &l" ).append( ix ).append( " { a: *l" ).append( ix - 1 ).append( ", b: *l" ).append( ix - 1 ).append( " }\n" );
+        return buf.toString();
+    }
+
+    private static ReadYamlEntry reader() {
+        final org.ASUX.yaml.CmdLineArgsReadCmd cmd = new org.ASUX.yaml.CmdLineArgsReadCmd();
+        cmd.yamlPatternDelimiter = ".";
+        return new ReadYamlEntry( cmd, NodeTools.getDefaultDumperOptions() );
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    @Test
+    public void flatAliasesDoNotUseUpTheBudget() throws Exception {
+        final int count = 3 * AliasTracker.DEFAULT_BUDGET;
+        final DumperOptions dopt = NodeTools.getDefaultDumperOptions();
+
+        final DeleteYamlEntry del = new DeleteYamlEntry( false, false, dopt );
+        del.searchYamlForPattern( load( flat( count ) ), "items.*.x", "." );
+        assertNotNull( del.getOutput() );
+
+        final Node replacement = new ScalarNode( Tag.STR, "new", null, null, DumperOptions.ScalarStyle.PLAIN );
+        final ReplaceYamlEntry rep = new ReplaceYamlEntry( false, false, dopt, replacement );
+        rep.searchYamlForPattern( load( flat( count ) ), "items.*.x", "." );
+        assertNotNull( rep.getOutput() );
+    }
+
+    @Test( expected = AliasTracker.AliasBudgetExceededException.class )
+    public void nestedAliasesUseUpTheBudget() throws Exception {
+        new DeleteYamlEntry( false, false, NodeTools.getDefaultDumperOptions() ).searchYamlForPattern( load( nested( 30 ) ), "**.x", "." );
+    }
+
+    @Test
+    public void budgetCanBeRaised() throws Exception {
+        final ReadYamlEntry r = reader();
+        r.setAliasExpansionBudget( 1 << 12 );
+        assertEquals( 1 << 12, r.getAliasExpansionBudget() );
+        r.searchYamlForPattern( load( nested( 8 ) ), "l8.**.x", "." );
+        assertEquals( 1 << 8, r.getCount() );
+    }
+
+    @Test
+    public void recursiveAliasIsSearchedOnce() throws Exception {
+        for ( boolean iterative: new boolean[] { true, false } ) {
+            final ReadYamlEntry r = reader();
+            r.setIterativeTraversal( iterative );
+            r.searchYamlForPattern( load( "a: &A {x: 1, self: *A}" ), "**.x", "." );
+            assertEquals( "iterative="+ iterative, 1, r.getCount() );
+
+            final DeleteYamlEntry del = new DeleteYamlEntry( false, false, NodeTools.getDefaultDumperOptions() );
+            del.setIterativeTraversal( iterative );
+            del.searchYamlForPattern( load( "a: &A {x: 1, self: *A}\nb: *A" ), "**.x", "." );
+            assertNotNull( del.getOutput() );
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package org.ASUX.YAML.NodeImpl;
+
+import org.ASUX.yaml.YAMLPath;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/** <p>{@link CompiledYAMLPath.ElemMatcher#matchesIndex(int)} must give the very same result as the RegExp did, before YAML-Paths were compiled: <code>Integer.toString(ix).matches(yamlPathElem)</code>.</p>
+ *  <p>In particular, a bracketed YAML-Path-element like '[12]' is a RegExp character-class - which matches the items 1 and 2 (NOT the item 12).</p>
+ */
+public class CompiledYAMLPathTest {
+
+    public static final String CLASSNAME = CompiledYAMLPathTest.class.getName();
+
+    private static final String[] ELEMS = { "0", "3", "12", "03", "[3]", "[12]", "[0-3]", "[10-12]", "[28]", "1[0-2]", "[0-9]+", "1.*", "3]" };
+
+    private static CompiledYAMLPath.ElemMatcher matcher( final String _elem ) throws Exception {
+        return CompiledYAMLPath.compile( new YAMLPath( false, _elem, "," ) ).get( 0 );
+    }
+
+    private static ReadYamlEntry reader() {
+        final org.ASUX.yaml.CmdLineArgsReadCmd cmd = new org.ASUX.yaml.CmdLineArgsReadCmd();
+        cmd.yamlPatternDelimiter = ".";
+        return new ReadYamlEntry( cmd, NodeTools.getDefaultDumperOptions() );
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    @Test
+    public void matchesIndexLikeTheRegExp() throws Exception {
+        for ( String elem: ELEMS ) {
+            final CompiledYAMLPath.ElemMatcher m = matcher( elem );
+            for ( int ix = 0; ix < 150; ix ++ )
+                assertEquals( elem +" vs. "+ ix, Integer.toString( ix ).matches( elem ), m.matchesIndex( ix ) );
+        }
+    }
+
+    @Test
+    public void bracketedIndexIsACharacterClass() throws Exception {
+        final StringBuilder yaml = new StringBuilder( "items:\n" );
+        for ( int ix = 0; ix < 15; ix ++ )
+            yaml.append( "  - {x: " ).append( ix ).append( "}\n" );
+        final GenericYAMLScanner scanner = new GenericYAMLScanner( false );
+        scanner.setYAMLLibrary( org.ASUX.yaml.YAML_Libraries.SNAKEYAML_Library );
+        final org.yaml.snakeyaml.nodes.Node doc = scanner.load( new java.io.StringReader( yaml.toString() ) );
+
+        final String[] patterns = { "items.[12].x", "items.12.x", "items.[0-3].x", "items.03.x" };
+        final int[] expected = { 2, 1, 4, 0 };
+        for ( int ix = 0; ix < patterns.length; ix ++ ) {
+            final ReadYamlEntry r = reader();
+            r.searchYamlForPattern( doc, patterns[ix], "." );
+            assertEquals( patterns[ix], expected[ix], r.getCount() );
+        }
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package org.ASUX.YAML.NodeImpl;
+
+import java.util.IdentityHashMap;
+
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.DumperOptions;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/** <p>{@link NodeTools#deepClone(Node)} must produce the same Nodes as the old, text-based {@link NodeTools#deepCloneViaText(Node)} - other than the names of anchors, the Marks and the flow-styles (See NodeTools.isSameStructure()).</p>
+ *  <p>The clone must also share NO Node with the original, while still re-using a single clone wherever the original re-uses a Node (YAML-aliases).</p>
+ */
+public class DeepCloneTest {
+
+    public static final String CLASSNAME = DeepCloneTest.class.getName();
+
+    private static final String[] DOCS = {
+        "a: 1",
+        "a: 'single'\nb: \"double\"\nc: plain\nd: |\n  literal\ne: >\n  folded\n",
+        "- 1\n- [2, 3]\n- {x: y}\n- ~\n- ''\n",
+        "top:\n  mid:\n    - k: v\n      l: [a, b, {c: d}]\n",
+        "defaults: &d {x: 1, y: 2}\nfirst: *d\nsecond: *d\n",
+        "base: &b\n  x: 1\nderived:\n  <<: *b\n  y: 2\n",
+        "i: !!int 1\nf: !!float 1.5\nb: !!bool true\n",
+        "{}",
+        "[]",
+    };
+
+    private static Node load( final String _yaml ) throws Exception {
+        final GenericYAMLScanner scanner = new GenericYAMLScanner( false );
+        scanner.setYAMLLibrary( org.ASUX.yaml.YAML_Libraries.SNAKEYAML_Library );
+        return scanner.load( new java.io.StringReader( _yaml ) );
+    }
+
+    /** @return a description of the first difference between _a and _b (tags, values, scalar-styles and the re-use of Nodes), or null if there is none */
+    private static String diff( final Node _a, final Node _b, final IdentityHashMap<Node,Node> _seen, final String _path ) {
+        if ( _seen.containsKey( _a ) )
+            return ( _seen.get( _a ) == _b ) ? null : _path +": NOT the same re-used Node";
+        _seen.put( _a, _b );
+        if ( _a.getNodeId() != _b.getNodeId() ) return _path +": "+ _a.getNodeId() +" vs. "+ _b.getNodeId();
+        if ( ! _a.getTag().equals( _b.getTag() ) ) return _path +": "+ _a.getTag() +" vs. "+ _b.getTag();
+
+        if ( _a instanceof ScalarNode ) {
+            final ScalarNode sa = (ScalarNode) _a;
+            final ScalarNode sb = (ScalarNode) _b;
+            if ( ! sa.getValue().equals( sb.getValue() ) ) return _path +": '"+ sa.getValue() +"' vs. '"+ sb.getValue() +"'";
+            return ( sa.getScalarStyle() == sb.getScalarStyle() ) ? null : _path +": "+ sa.getScalarStyle() +" vs. "+ sb.getScalarStyle();
+
+        } else if ( _a instanceof MappingNode ) {
+            final java.util.List<NodeTuple> ta = ((MappingNode) _a).getValue();
+            final java.util.List<NodeTuple> tb = ((MappingNode) _b).getValue();
+            if ( ta.size() != tb.size() ) return _path +": "+ ta.size() +" vs. "+ tb.size() +" entries";
+            for ( int ix = 0; ix < ta.size(); ix ++ ) {
+                String d = diff( ta.get(ix).getKeyNode(), tb.get(ix).getKeyNode(), _seen, _path +"/key"+ ix );
+                if ( d == null ) d = diff( ta.get(ix).getValueNode(), tb.get(ix).getValueNode(), _seen, _path +"/"+ ix );
+                if ( d != null ) return d;
+            }
+            return null;
+
+        } else {
+            final java.util.List<Node> la = ((SequenceNode) _a).getValue();
+            final java.util.List<Node> lb = ((SequenceNode) _b).getValue();
+            if ( la.size() != lb.size() ) return _path +": "+ la.size() +" vs. "+ lb.size() +" items";
+            for ( int ix = 0; ix < la.size(); ix ++ ) {
+                final String d = diff( la.get(ix), lb.get(ix), _seen, _path +"["+ ix +"]" );
+                if ( d != null ) return d;
+            }
+            return null;
+        }
+    }
+
+    /** Collects every Node within _node (each just once) */
+    private static IdentityHashMap<Node,Node> allNodes( final Node _node, final IdentityHashMap<Node,Node> _all ) {
+        if ( _all.put( _node, _node ) != null ) return _all;
+        if ( _node instanceof MappingNode ) {
+            for ( NodeTuple kv: ((MappingNode) _node).getValue() ) { allNodes( kv.getKeyNode(), _all ); allNodes( kv.getValueNode(), _all ); }
+        } else if ( _node instanceof SequenceNode ) {
+            for ( Node n: ((SequenceNode) _node).getValue() ) allNodes( n, _all );
+        }
+        return _all;
+    }
+
+    private static void assertShareNothing( final String _msg, final Node _orig, final Node _clone ) {
+        final IdentityHashMap<Node,Node> orig = allNodes( _orig, new IdentityHashMap<Node,Node>() );
+        for ( Node n: allNodes( _clone, new IdentityHashMap<Node,Node>() ).keySet() )
+            assertFalse( _msg +": clone shares "+ n, orig.containsKey( n ) );
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    @Test
+    public void sameAsViaText() throws Exception {
+        for ( String doc: DOCS ) {
+            final Node orig = load( doc );
+            final Node clone = NodeTools.deepClone( orig );
+            assertNull( doc, diff( orig, clone, new IdentityHashMap<Node,Node>(), "" ) );
+            assertNull( doc, diff( NodeTools.deepCloneViaText( orig ), clone, new IdentityHashMap<Node,Node>(), "" ) );
+            assertShareNothing( doc, orig, clone );
+        }
+    }
+
+    @Test
+    public void aliasesAreClonedOnce() throws Exception {
+        final MappingNode orig = (MappingNode) load( DOCS[4] );
+        final MappingNode clone = (MappingNode) NodeTools.deepClone( orig );
+        assertSame( clone.getValue().get(0).getValueNode(), clone.getValue().get(1).getValueNode() );
+        assertSame( clone.getValue().get(1).getValueNode(), clone.getValue().get(2).getValueNode() );
+        assertEquals( "d", clone.getValue().get(0).getValueNode().getAnchor() );
+        assertNotSame( orig.getValue().get(0).getValueNode(), clone.getValue().get(0).getValueNode() );
+    }
+
+    @Test
+    public void recursiveAlias() throws Exception {
+        final MappingNode orig = (MappingNode) load( "a: &A {x: 1, self: *A}" );
+        final MappingNode clone = (MappingNode) NodeTools.deepClone( orig );
+        final MappingNode a = (MappingNode) clone.getValue().get(0).getValueNode();
+        assertSame( a, a.getValue().get(1).getValueNode() );
+        assertNull( diff( orig, clone, new IdentityHashMap<Node,Node>(), "" ) );
+        assertShareNothing( "recursive", orig, clone );
+    }
+
+    @Test
+    public void cloneIsIndependent() throws Exception {
+        final Node orig = load( DOCS[3] );
+        final MappingNode clone = (MappingNode) NodeTools.deepClone( orig );
+        clone.getValue().add( new NodeTuple( new ScalarNode( Tag.STR, "extra", null, null, DumperOptions.ScalarStyle.PLAIN ), new ScalarNode( Tag.STR, "v", null, null, DumperOptions.ScalarStyle.PLAIN ) ) );
+        assertEquals( 1, ((MappingNode) orig).getValue().size() );
+        assertNull( diff( orig, load( DOCS[3] ), new IdentityHashMap<Node,Node>(), "" ) );
+        assertNull( NodeTools.deepClone( (Node) null ) );
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package org.ASUX.YAML.NodeImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/** <p>Cross-checks the structural {@link NodeTools#isEmptyNodeYAML(Node)} against the original, string-based {@link NodeTools#isEmptyNodeYAMLViaText(Node)}.</p>
+ *  <p>The matrix: ScalarNodes for every combination of value, tag, scalar-style and anchor - empty and non-empty MappingNodes and SequenceNodes for every combination of tag and flow-style - and Nodes composed by SnakeYAML from small YAML documents.</p>
+ */
+public class EmptyYAMLTest {
+
+    public static final String CLASSNAME = EmptyYAMLTest.class.getName();
+
+    private static void check( final Node _n ) {
+        assertEquals( String.valueOf( _n ), NodeTools.isEmptyNodeYAMLViaText( _n ), NodeTools.isEmptyNodeYAML( _n ) );
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    @Test
+    public void emptyYAML() {
+        check( null );
+        check( NodeTools.getEmptyYAML( NodeTools.getDefaultDumperOptions() ) );
+        assertTrue( NodeTools.isEmptyNodeYAML( NodeTools.getEmptyYAML( NodeTools.getDefaultDumperOptions() ) ) );
+    }
+
+    @Test
+    public void scalarNodes() {
+        final String[] values = { "", " ", "x", "null", "~", "''", "\n", "\"\"", "{}", "[]" };
+        final Tag[] scalarTags = { Tag.STR, Tag.NULL, Tag.INT, new Tag( "!foo" ), Tag.BINARY, Tag.BOOL, Tag.FLOAT, Tag.MAP, Tag.SEQ };
+        for ( String v: values )
+            for ( Tag t: scalarTags )
+                for ( DumperOptions.ScalarStyle st: DumperOptions.ScalarStyle.values() )
+                    for ( String anchor: new String[] { null, "a" } ) {
+                        final ScalarNode sn = new ScalarNode( t, v, null, null, st );
+                        sn.setAnchor( anchor );
+                        check( sn );
+                    }
+    }
+
+    @Test
+    public void collectionNodes() {
+        final ScalarNode emptyStr = new ScalarNode( Tag.STR, "", null, null, DumperOptions.ScalarStyle.PLAIN );
+        final Tag[] collectionTags = { Tag.MAP, Tag.SEQ, new Tag( "!foo" ), Tag.SET, Tag.OMAP };
+        for ( DumperOptions.FlowStyle fs: DumperOptions.FlowStyle.values() )
+            for ( Tag t: collectionTags ) {
+                check( new MappingNode( t, new ArrayList<NodeTuple>(), fs ) );
+                check( new SequenceNode( t, new ArrayList<Node>(), fs ) );
+                check( new MappingNode( t, new ArrayList<>( Arrays.asList( new NodeTuple( emptyStr, emptyStr ) ) ), fs ) );
+                check( new SequenceNode( t, new ArrayList<>( Arrays.asList( (Node) emptyStr ) ), fs ) );
+            }
+    }
+
+    @Test
+    public void composedNodes() {
+        final Yaml yaml = new Yaml();
+        for ( String doc: new String[] { "''", "\"\"", "", "~", "null", "!!str", "!!str ''", "{}", "[]", "a: ''", "- ''", "|-\n", ">-\n", "&x ''", "!!binary ''" } ) {
+            final Node n = yaml.compose( new java.io.StringReader( doc ) );
+            if ( n != null ) check( n );
+        }
+    }
+
+}
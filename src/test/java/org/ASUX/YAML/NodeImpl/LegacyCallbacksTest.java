@@ -0,0 +1,125 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package org.ASUX.YAML.NodeImpl;
+
+import org.ASUX.yaml.YAMLPath;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.yaml.snakeyaml.nodes.Node;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/** <p>Sub-classes written before {@link Breadcrumbs} implement ONLY the java.util.LinkedList variants of the callbacks.  They must continue to work as-is - including when NOTHING matches (where onMatchFail() gets a null "stack of matches").</p>
+ */
+public class LegacyCallbacksTest {
+
+    public static final String CLASSNAME = LegacyCallbacksTest.class.getName();
+
+    /** Implements ONLY the original (java.util.LinkedList) signatures */
+    private static class LegacyProcessor extends AbstractYamlEntryProcessor {
+        final List<String> hits = new ArrayList<>();
+        final List<String> partials = new ArrayList<>();
+        int matchFails = 0;
+        int nullMatchFails = 0;
+
+        LegacyProcessor() { super( false, false, NodeTools.getDefaultDumperOptions() ); }
+
+        public void reset() { this.hits.clear(); this.partials.clear(); this.matchFails = this.nullMatchFails = 0; }
+
+        protected boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final LinkedList<String> _end2EndPaths ) {
+            this.partials.add( _end2EndPaths.toString() );
+            return true;
+        }
+
+        protected boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final LinkedList<String> _end2EndPaths ) {
+            this.hits.add( _end2EndPaths.toString() );
+            return true;
+        }
+
+        protected void onMatchFail( final YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final LinkedList<String> _end2EndPaths ) {
+            this.matchFails ++;
+            if ( _end2EndPaths == null ) this.nullMatchFails ++;
+        }
+
+        protected void atEndOfInput( final Node _TopmostNode, final YAMLPath _yamlPath ) {}
+    }
+
+    private static Node compose( final String _yaml ) {
+        return new org.yaml.snakeyaml.Yaml().compose( new java.io.StringReader( _yaml ) );
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    @Test
+    public void end2EndMatchesReachTheLinkedListCallbacks() throws Exception {
+        final LegacyProcessor p = new LegacyProcessor();
+        p.searchYamlForPattern( compose( "a: {b: 1, c: {b: 2}}\nx: [ {b: 3} ]" ), "**.b", "." );
+        assertEquals( "[[a, b], [c, b], [x, [0], b]]", p.hits.toString() );
+    }
+
+    @Test
+    public void partialMatchesReachTheLinkedListCallbacks() throws Exception {
+        final LegacyProcessor p = new LegacyProcessor();
+        p.searchYamlForPattern( compose( "a: {b: {c: 1}}" ), "a.b.c", "." );
+        assertEquals( "[[a], [a, b]]", p.partials.toString() );
+        assertEquals( "[[a, b, c]]", p.hits.toString() );
+    }
+
+    /** Regression: "location #11" passes a null "stack of matches" - which used to be converted into a LinkedList, and throw a NullPointerException. */
+    @Test
+    public void searchWithoutAnyMatchPassesNullToOnMatchFail() throws Exception {
+        final LegacyProcessor p = new LegacyProcessor();
+        p.searchYamlForPattern( compose( "a: {b: 1}\nc: [ {d: 2} ]" ), "zzz.b", "." );
+        assertTrue( p.hits.isEmpty() );
+        assertTrue( p.matchFails > 0 );
+        assertTrue( p.nullMatchFails > 0 );
+    }
+
+    @Test
+    public void recursiveTraversalBehavesTheSame() throws Exception {
+        final LegacyProcessor p = new LegacyProcessor();
+        p.setIterativeTraversal( false );
+        p.searchYamlForPattern( compose( "a: {b: 1}\nc: [ {d: 2} ]" ), "zzz.b", "." );
+        assertTrue( p.nullMatchFails > 0 );
+        p.searchYamlForPattern( compose( "a: {b: 1, c: {b: 2}}\nx: [ {b: 3} ]" ), "**.b", "." );
+        assertEquals( "[[a, b], [c, b], [x, [0], b]]", p.hits.toString() );
+    }
+
+}
@@ -0,0 +1,209 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package org.ASUX.YAML.NodeImpl;
+
+import org.ASUX.yaml.YAMLPath;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/** <p>{@link MultiPatternSearch} must invoke - for each pattern - exactly the same callbacks, in exactly the same sequence, as {@link AbstractYamlEntryProcessor#searchYamlForPattern(Node, String, String)} does for that pattern alone.</p>
+ */
+public class MultiPatternSearchTest {
+
+    public static final String CLASSNAME = MultiPatternSearchTest.class.getName();
+
+    private static final String YAML =
+          "defaults: &d {x: 1, y: {z: 2}}\n"
+        + "paths:\n"
+        + "  /pet: {get: {responses: {200: ok, 404: nf}, description: pet}, x: 3}\n"
+        + "  /store: {put: {responses: {200: fine}}, description: store}\n"
+        + "items: [ {x: 5, y: 6}, *d, {q: [1, 2]}, scalar, {x: 7} ]\n"
+        + "more: {a: *d, b: *d}\n";
+
+    private static final String[] PATTERNS = {
+        "paths.*.*.responses.200", "**.x", "paths./pet", "items.[1].x", "items.[0-3]", "**.description", "more.*.y.z", "zzz.b", "paths.**", "items.*.x"
+    };
+
+    /** Records every callback (in sequence) as a String */
+    private static class Recorder extends AbstractYamlEntryProcessor {
+        final List<String> log = new ArrayList<>();
+        private final int subscriptions;
+
+        Recorder( final int _subscriptions ) {
+            super( false, false, NodeTools.getDefaultDumperOptions() );
+            this.subscriptions = _subscriptions;
+        }
+
+        public void reset() { this.log.clear(); }
+        protected boolean supportsParallelTraversal() { return true; }
+        protected int getCallbackSubscriptions() { return this.subscriptions; }
+
+        protected boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final Breadcrumbs _end2EndPaths ) {
+            this.log.add( "P "+ _keyStr +" "+ _end2EndPaths );
+            return true;
+        }
+        protected boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final Breadcrumbs _end2EndPaths ) {
+            this.log.add( "E "+ _key +" "+ _end2EndPaths +" "+ System.identityHashCode( _valNode ) );
+            return true;
+        }
+        protected boolean onEnd2EndMatchNewIndex( final YAMLPath _yamlPath, final int _newIndex, final SequenceNode _parentSeqNode, final Breadcrumbs _end2EndPaths ) {
+            this.log.add( "N "+ _newIndex +" "+ _end2EndPaths );
+            return true;
+        }
+        protected void onMatchFail( final YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final Breadcrumbs _end2EndPaths ) {
+            this.log.add( "F "+ _key +" "+ _end2EndPaths );
+        }
+        protected boolean onPartialMatch( final Node _node, final YAMLPath _yamlPath, final String _keyStr, final Node _parentNode, final LinkedList<String> _end2EndPaths ) { throw new AssertionError(); }
+        protected boolean onEnd2EndMatch( final YAMLPath _yamlPath, final Object _key, final Node _keyNode, final Node _valNode, final Node _parentNode, final LinkedList<String> _end2EndPaths ) { throw new AssertionError(); }
+        protected void onMatchFail( final YAMLPath _yamlPath, final Node _parentNode, final Node _nodeNoMatch, final Object _key, final LinkedList<String> _end2EndPaths ) { throw new AssertionError(); }
+        protected void atEndOfInput( final Node _TopmostNode, final YAMLPath _yamlPath ) { this.log.add( "END" ); }
+    }
+
+    private static Node compose( final String _yaml ) {
+        return new org.yaml.snakeyaml.Yaml().compose( new java.io.StringReader( _yaml ) );
+    }
+
+    /** each pattern searched alone - and then, all of them together */
+    private static void assertSameCallbacks( final String _yaml, final String[] _patterns, final int _subscriptions, final int _maxMatches ) throws Exception {
+        final Node node = compose( _yaml );
+        final List<List<String>> expected = new ArrayList<>();
+        for ( String pattern: _patterns ) {
+            final Recorder solo = new Recorder( _subscriptions );
+            solo.setMaxMatches( _maxMatches );
+            solo.searchYamlForPattern( node, pattern, "." );
+            expected.add( new ArrayList<>( solo.log ) );
+        }
+
+        final MultiPatternSearch mps = new MultiPatternSearch( false );
+        final List<Recorder> recorders = new ArrayList<>();
+        for ( String pattern: _patterns ) {
+            final Recorder r = new Recorder( _subscriptions );
+            r.setMaxMatches( _maxMatches );
+            mps.add( r, pattern, "." );
+            recorders.add( r );
+        }
+        mps.searchYamlForPatterns( node );
+        for ( int ix = 0; ix < _patterns.length; ix ++ )
+            assertEquals( _patterns[ ix ], expected.get( ix ), recorders.get( ix ).log );
+    }
+
+    /** Each level is a map of 2 aliases to the previous level.  So, level _levels has 2^_levels paths to level 0 */
+    private static String nested( final int _levels ) {
+        final StringBuilder buf = new StringBuilder( "l0: &l0 {x: 1}\n" );
+        for ( int ix = 1; ix <= _levels; ix ++ )
+            buf.append( "l" ).append( ix ).append( ": &l" ).append( ix ).append( " { a: *l" ).append( ix - 1 ).append( ", b: *l" ).append( ix - 1 ).append( " }\n" );
+        return buf.toString();
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    @Test
+    public void allCallbacksAreIdentical() throws Exception {
+        assertSameCallbacks( YAML, PATTERNS, AbstractYamlEntryProcessor.CALLBACKS_ALL, 0 );
+    }
+
+    @Test
+    public void end2EndCallbacksAreIdenticalWhenMemoized() throws Exception {
+        assertSameCallbacks( YAML, PATTERNS, AbstractYamlEntryProcessor.CALLBACKS_NONE, 0 );
+    }
+
+    @Test
+    public void matchLimitIsPerPattern() throws Exception {
+        assertSameCallbacks( YAML, PATTERNS, AbstractYamlEntryProcessor.CALLBACKS_ALL, 1 );
+        assertSameCallbacks( YAML, PATTERNS, AbstractYamlEntryProcessor.CALLBACKS_NONE, 2 );
+    }
+
+    @Test
+    public void largeMappingNodesAreIndexed() throws Exception {
+        final StringBuilder buf = new StringBuilder( "top:\n" );
+        for ( int ix = 0; ix < 3 * MappingNodeIndex.MIN_TUPLES_TO_INDEX; ix ++ )
+            buf.append( "  k" ).append( ix ).append( ": {x: " ).append( ix ).append( "}\n" );
+        final String[] patterns = { "top.k7.x", "top.k40.x", "top.*.x", "top.k7", "top.k99.x" };
+        assertSameCallbacks( buf.toString(), patterns, AbstractYamlEntryProcessor.CALLBACKS_NONE, 0 );
+        assertSameCallbacks( buf.toString(), patterns, AbstractYamlEntryProcessor.CALLBACKS_ALL, 0 );
+    }
+
+    @Test
+    public void recursiveAliasIsNotSearchedAgain() throws Exception {
+        assertSameCallbacks( "a: &A {x: 1, self: *A}\nb: [ *A, {x: 2} ]", new String[] { "**.x", "a.self.x", "**" }, AbstractYamlEntryProcessor.CALLBACKS_ALL, 0 );
+    }
+
+    @Test( expected = AliasTracker.AliasBudgetExceededException.class )
+    public void aliasBudgetIsEnforced() throws Exception {
+        final MultiPatternSearch mps = new MultiPatternSearch( false );
+        final Recorder r = new Recorder( AbstractYamlEntryProcessor.CALLBACKS_ALL );
+        r.setAliasExpansionBudget( 100 );
+        mps.add( r, "**.x", "." );
+        mps.add( new Recorder( AbstractYamlEntryProcessor.CALLBACKS_ALL ), "l0.x", "." );
+        mps.searchYamlForPatterns( compose( nested( 12 ) ) );
+    }
+
+    @Test
+    public void readCommandsShareOneTraversal() throws Exception {
+        final Node node = compose( YAML );
+        final MultiPatternSearch mps = new MultiPatternSearch( false );
+        final List<ReadYamlEntry> readers = new ArrayList<>();
+        for ( String pattern: PATTERNS ) {
+            final org.ASUX.yaml.CmdLineArgsReadCmd cmd = new org.ASUX.yaml.CmdLineArgsReadCmd();
+            cmd.yamlPatternDelimiter = ".";
+            final ReadYamlEntry r = new ReadYamlEntry( cmd, NodeTools.getDefaultDumperOptions() );
+            mps.add( r, pattern, "." );
+            readers.add( r );
+        }
+        mps.searchYamlForPatterns( node );
+        for ( int ix = 0; ix < PATTERNS.length; ix ++ ) {
+            final org.ASUX.yaml.CmdLineArgsReadCmd cmd = new org.ASUX.yaml.CmdLineArgsReadCmd();
+            cmd.yamlPatternDelimiter = ".";
+            final ReadYamlEntry solo = new ReadYamlEntry( cmd, NodeTools.getDefaultDumperOptions() );
+            solo.searchYamlForPattern( node, PATTERNS[ ix ], "." );
+            assertEquals( PATTERNS[ ix ], solo.getCount(), readers.get( ix ).getCount() );
+        }
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void processorsThatAlterTheYAMLAreRejected() throws Exception {
+        new MultiPatternSearch( false ).add( new DeleteYamlEntry( false, false, NodeTools.getDefaultDumperOptions() ), "a.b", "." );
+    }
+
+}
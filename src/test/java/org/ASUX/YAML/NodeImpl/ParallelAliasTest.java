@@ -0,0 +1,103 @@
+/*
+ BSD 3-Clause License
+ 
+ Copyright (c) 2019, Udaybhaskar Sarma Seetamraju
+ All rights reserved.
+ 
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ 
+ * Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer.
+ 
+ * Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution.
+ 
+ * Neither the name of the copyright holder nor the names of its
+ contributors may be used to endorse or promote products derived from
+ this software without specific prior written permission.
+ 
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package org.ASUX.YAML.NodeImpl;
+
+import org.yaml.snakeyaml.nodes.Node;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/** <p>Parallel traversal (See {@link AbstractYamlEntryProcessor#setParallelTraversal(boolean, int)}) must protect against recursive YAML-aliases and alias-explosions, exactly like the single-threaded traversal does.</p>
+ */
+public class ParallelAliasTest {
+
+    public static final String CLASSNAME = ParallelAliasTest.class.getName();
+
+    private static final String RECURSIVE = "a: &A {x: 1, self: *A}";
+    private static final String RECURSIVE_WITHIN_SEQ = "a: &A {x: 1, l: [ {q: 1}, {q: 2}, {q: 3}, *A, {x: 5} ], m: {n: *A}}\nb: *A";
+
+    private static Node compose( final String _yaml ) {
+        return new org.yaml.snakeyaml.Yaml().compose( new java.io.StringReader( _yaml ) );
+    }
+
+    /** @param _threshold 0 means single-threaded */
+    private static ReadYamlEntry reader( final int _threshold ) {
+        final org.ASUX.yaml.CmdLineArgsReadCmd cmd = new org.ASUX.yaml.CmdLineArgsReadCmd();
+        cmd.yamlPatternDelimiter = ".";
+        final ReadYamlEntry r = new ReadYamlEntry( cmd, NodeTools.getDefaultDumperOptions() );
+        if ( _threshold > 0 )
+            r.setParallelTraversal( true, _threshold );
+        return r;
+    }
+
+    private static int count( final String _yaml, final String _yamlPath, final int _threshold ) throws Exception {
+        final ReadYamlEntry r = reader( _threshold );
+        r.searchYamlForPattern( compose( _yaml ), _yamlPath, "." );
+        return r.getCount();
+    }
+
+    /** Each level is a map of 2 aliases to the previous level.  So, level _levels has 2^_levels paths to level 0 */
+    private static String nested( final int _levels ) {
+        final StringBuilder buf = new StringBuilder( "l0: &l0 {x: 1}\n" );
+        for ( int ix = 1; ix <= _levels; ix ++ )
+            buf.append( "l" ).append( ix ).append( ": &l" ).append( ix ).append( " { a: *l" ).append( ix - 1 ).append( ", b: *l" ).append( ix - 1 ).append( " }\n" );
+        return buf.toString();
+    }
+
+    //==============================================================================
+    //@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+    //==============================================================================
+
+    @Test
+    public void recursiveAliasIsNotSearchedAgain() throws Exception {
+        for ( int threshold = 1; threshold <= 2; threshold ++ )
+            assertEquals( "threshold="+ threshold, count( RECURSIVE, "**.x", 0 ), count( RECURSIVE, "**.x", threshold ) );
+    }
+
+    @Test
+    public void recursiveAliasWithinForkedSequence() throws Exception {
+        final int expected = count( RECURSIVE_WITHIN_SEQ, "**.x", 0 );
+        assertEquals( 4, expected );
+        for ( int threshold = 1; threshold <= 3; threshold ++ )
+            assertEquals( "threshold="+ threshold, expected, count( RECURSIVE_WITHIN_SEQ, "**.x", threshold ) );
+    }
+
+    @Test( expected = AliasTracker.AliasBudgetExceededException.class )
+    public void budgetIsSharedAcrossForkJoinTasks() throws Exception {
+        final ReadYamlEntry r = reader( 1 );
+        r.setAliasExpansionBudget( 100 );
+        r.searchYamlForPattern( compose( nested( 12 ) ), "**.x", "." );
+    }
+
+}